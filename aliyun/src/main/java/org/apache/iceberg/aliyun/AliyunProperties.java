@@ -20,6 +20,7 @@ package org.apache.iceberg.aliyun;
 
 import java.io.Serializable;
 import java.util.Map;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.util.PropertyUtil;
 
@@ -65,10 +66,58 @@ public class AliyunProperties implements Serializable {
    */
   public static final String OSS_STAGING_DIRECTORY = "oss.staging-dir";
 
+  /**
+   * The size of a single part of a multipart upload, in bytes. Files that are larger than one part
+   * are uploaded as a multipart upload, with parts uploaded while the file is still being written.
+   * OSS requires every part except the last one to be at least 100 KB.
+   */
+  public static final String OSS_MULTIPART_SIZE = "oss.multipart.part-size-bytes";
+
+  public static final int OSS_MULTIPART_SIZE_DEFAULT = 32 * 1024 * 1024;
+
+  public static final int OSS_MULTIPART_SIZE_MIN = 100 * 1024;
+
+  /**
+   * Number of threads to use for uploading parts to OSS (shared across all output streams), default
+   * to {@link Runtime#availableProcessors()}
+   */
+  public static final String OSS_MULTIPART_UPLOAD_THREADS = "oss.multipart.num-threads";
+
+  /**
+   * Max number of bytes of completed parts that are staged on local disk while waiting to be
+   * uploaded (shared across all output streams). Writers block until parts are uploaded when the
+   * limit is reached. The part that is currently written is not counted.
+   */
+  public static final String OSS_MULTIPART_MAX_STAGED_BYTES = "oss.multipart.max-staged-bytes";
+
+  public static final long OSS_MULTIPART_MAX_STAGED_BYTES_DEFAULT = 1024L * 1024 * 1024;
+
+  /** Configure the batch size used when deleting multiple files from a given OSS bucket. */
+  public static final String OSS_DELETE_BATCH_SIZE = "oss.delete.batch-size";
+
+  /**
+   * Max possible batch size for deletion. Currently, a max of 1000 keys can be deleted in one
+   * batch. https://www.alibabacloud.com/help/doc-detail/31983.htm
+   */
+  public static final int OSS_DELETE_BATCH_SIZE_MAX = 1000;
+
+  public static final int OSS_DELETE_BATCH_SIZE_DEFAULT = OSS_DELETE_BATCH_SIZE_MAX;
+
+  /**
+   * Number of threads to use for deleting batches of OSS objects, default to {@link
+   * Runtime#availableProcessors()}
+   */
+  public static final String OSS_DELETE_THREADS = "oss.delete.num-threads";
+
   private final String ossEndpoint;
   private final String accessKeyId;
   private final String accessKeySecret;
   private final String ossStagingDirectory;
+  private final int ossMultipartSize;
+  private final int ossMultipartUploadThreads;
+  private final long ossMultipartMaxStagedBytes;
+  private final int ossDeleteBatchSize;
+  private final int ossDeleteThreads;
 
   public AliyunProperties() {
     this(ImmutableMap.of());
@@ -83,6 +132,35 @@ public class AliyunProperties implements Serializable {
     this.ossStagingDirectory =
         PropertyUtil.propertyAsString(
             properties, OSS_STAGING_DIRECTORY, System.getProperty("java.io.tmpdir"));
+
+    this.ossMultipartSize =
+        PropertyUtil.propertyAsInt(properties, OSS_MULTIPART_SIZE, OSS_MULTIPART_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        ossMultipartSize >= OSS_MULTIPART_SIZE_MIN,
+        "Minimum multipart upload part size is %s bytes",
+        OSS_MULTIPART_SIZE_MIN);
+    this.ossMultipartUploadThreads =
+        PropertyUtil.propertyAsInt(
+            properties, OSS_MULTIPART_UPLOAD_THREADS, Runtime.getRuntime().availableProcessors());
+    this.ossMultipartMaxStagedBytes =
+        PropertyUtil.propertyAsLong(
+            properties, OSS_MULTIPART_MAX_STAGED_BYTES, OSS_MULTIPART_MAX_STAGED_BYTES_DEFAULT);
+    Preconditions.checkArgument(
+        ossMultipartMaxStagedBytes >= ossMultipartSize,
+        "Invalid max staged bytes: %s (must be >= part size %s)",
+        ossMultipartMaxStagedBytes,
+        ossMultipartSize);
+
+    this.ossDeleteBatchSize =
+        PropertyUtil.propertyAsInt(
+            properties, OSS_DELETE_BATCH_SIZE, OSS_DELETE_BATCH_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        ossDeleteBatchSize > 0 && ossDeleteBatchSize <= OSS_DELETE_BATCH_SIZE_MAX,
+        "Deletion batch size must be between 1 and %s",
+        OSS_DELETE_BATCH_SIZE_MAX);
+    this.ossDeleteThreads =
+        PropertyUtil.propertyAsInt(
+            properties, OSS_DELETE_THREADS, Runtime.getRuntime().availableProcessors());
   }
 
   public String ossEndpoint() {
@@ -100,4 +178,24 @@ public class AliyunProperties implements Serializable {
   public String ossStagingDirectory() {
     return ossStagingDirectory;
   }
+
+  public int ossMultipartSize() {
+    return ossMultipartSize;
+  }
+
+  public int ossMultipartUploadThreads() {
+    return ossMultipartUploadThreads;
+  }
+
+  public long ossMultipartMaxStagedBytes() {
+    return ossMultipartMaxStagedBytes;
+  }
+
+  public int ossDeleteBatchSize() {
+    return ossDeleteBatchSize;
+  }
+
+  public int ossDeleteThreads() {
+    return ossDeleteThreads;
+  }
 }
@@ -19,17 +19,38 @@
 package org.apache.iceberg.aliyun.oss;
 
 import com.aliyun.oss.OSS;
+import com.aliyun.oss.model.DeleteObjectsRequest;
+import com.aliyun.oss.model.DeleteObjectsResult;
+import com.aliyun.oss.model.ListObjectsRequest;
+import com.aliyun.oss.model.OSSObjectSummary;
+import com.aliyun.oss.model.ObjectListing;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.iceberg.aliyun.AliyunClientFactories;
 import org.apache.iceberg.aliyun.AliyunClientFactory;
 import org.apache.iceberg.aliyun.AliyunProperties;
 import org.apache.iceberg.common.DynConstructors;
+import org.apache.iceberg.io.BulkDeletionFailureException;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.FileInfo;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.SupportsBulkOperations;
+import org.apache.iceberg.io.SupportsPrefixOperations;
 import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.collect.Streams;
 import org.apache.iceberg.util.SerializableSupplier;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,10 +61,11 @@ import org.slf4j.LoggerFactory;
  * scheme https are also treated as oss file paths. Using this FileIO with other schemes with result
  * in {@link org.apache.iceberg.exceptions.ValidationException}
  */
-public class OSSFileIO implements FileIO {
+public class OSSFileIO implements FileIO, SupportsBulkOperations, SupportsPrefixOperations {
   private static final Logger LOG = LoggerFactory.getLogger(OSSFileIO.class);
   private static final String DEFAULT_METRICS_IMPL =
       "org.apache.iceberg.hadoop.HadoopMetricsContext";
+  private static volatile ExecutorService executorService;
 
   private SerializableSupplier<OSS> oss;
   private AliyunProperties aliyunProperties;
@@ -67,8 +89,21 @@ public class OSSFileIO implements FileIO {
    * @param oss oss supplier
    */
   public OSSFileIO(SerializableSupplier<OSS> oss) {
+    this(oss, new AliyunProperties());
+  }
+
+  /**
+   * Constructor with custom oss supplier and aliyun properties.
+   *
+   * <p>Calling {@link OSSFileIO#initialize(Map)} will overwrite information set in this
+   * constructor.
+   *
+   * @param oss oss supplier
+   * @param aliyunProperties aliyun properties
+   */
+  public OSSFileIO(SerializableSupplier<OSS> oss, AliyunProperties aliyunProperties) {
     this.oss = oss;
-    this.aliyunProperties = new AliyunProperties();
+    this.aliyunProperties = aliyunProperties;
   }
 
   @Override
@@ -87,6 +122,111 @@ public class OSSFileIO implements FileIO {
     client().deleteObject(location.bucket(), location.key());
   }
 
+  /**
+   * Deletes the given paths in a batched manner.
+   *
+   * <p>The paths are grouped by bucket, and deletion is triggered when we either reach the
+   * configured batch size or have a final remainder batch for each bucket. Batches are deleted in
+   * parallel using OSS DeleteObjects requests.
+   *
+   * @param paths paths to delete
+   */
+  @Override
+  public void deleteFiles(Iterable<String> paths) throws BulkDeletionFailureException {
+    // keys are mapped to the caller's locations so that failures are reported as passed in
+    Map<String, Map<String, String>> bucketToObjects = Maps.newHashMap();
+    List<Future<List<String>>> deletionTasks = Lists.newArrayList();
+    OSS deleteClient = client();
+    for (String path : paths) {
+      OSSURI location = new OSSURI(path);
+      String bucket = location.bucket();
+      Map<String, String> keyToLocation =
+          bucketToObjects.computeIfAbsent(bucket, ignored -> Maps.newHashMap());
+      keyToLocation.put(location.key(), path);
+      if (keyToLocation.size() == aliyunProperties.ossDeleteBatchSize()) {
+        deletionTasks.add(
+            executorService().submit(() -> deleteBatch(deleteClient, bucket, keyToLocation)));
+        bucketToObjects.remove(bucket);
+      }
+    }
+
+    // Delete the remainder
+    for (Map.Entry<String, Map<String, String>> bucketToObjectsEntry : bucketToObjects.entrySet()) {
+      String bucket = bucketToObjectsEntry.getKey();
+      Map<String, String> keyToLocation = bucketToObjectsEntry.getValue();
+      deletionTasks.add(
+          executorService().submit(() -> deleteBatch(deleteClient, bucket, keyToLocation)));
+    }
+
+    int totalFailedDeletions = 0;
+
+    for (Future<List<String>> deletionTask : deletionTasks) {
+      try {
+        List<String> failedDeletions = deletionTask.get();
+        failedDeletions.forEach(path -> LOG.warn("Failed to delete object at path {}", path));
+        totalFailedDeletions += failedDeletions.size();
+      } catch (ExecutionException e) {
+        LOG.warn("Caught unexpected exception during batch deletion: ", e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        deletionTasks.stream().filter(task -> !task.isDone()).forEach(task -> task.cancel(true));
+        throw new RuntimeException("Interrupted when waiting for deletions to complete", e);
+      }
+    }
+
+    if (totalFailedDeletions > 0) {
+      throw new BulkDeletionFailureException(totalFailedDeletions);
+    }
+  }
+
+  private List<String> deleteBatch(
+      OSS deleteClient, String bucket, Map<String, String> keyToLocation) {
+    DeleteObjectsRequest request =
+        new DeleteObjectsRequest(bucket)
+            .withKeys(Lists.newArrayList(keyToLocation.keySet()))
+            .withQuiet(false);
+    Set<String> failedKeys = Sets.newHashSet(keyToLocation.keySet());
+    try {
+      // OSS reports the keys that were deleted; missing keys are reported as deleted
+      DeleteObjectsResult result = deleteClient.deleteObjects(request);
+      result.getDeletedObjects().forEach(failedKeys::remove);
+    } catch (Exception e) {
+      LOG.warn("Encountered failure when deleting batch", e);
+    }
+
+    List<String> failures = Lists.newArrayList();
+    failedKeys.forEach(key -> failures.add(keyToLocation.get(key)));
+    return failures;
+  }
+
+  @Override
+  public Iterable<FileInfo> listPrefix(String prefix) {
+    OSSURI uri = new OSSURI(prefix);
+    String scheme = prefix.substring(0, prefix.indexOf("://"));
+    return () ->
+        Streams.stream(new ObjectSummaryIterator(client(), uri.bucket(), uri.key()))
+            .map(
+                summary ->
+                    new FileInfo(
+                        String.format("%s://%s/%s", scheme, uri.bucket(), summary.getKey()),
+                        summary.getSize(),
+                        summary.getLastModified().getTime()))
+            .iterator();
+  }
+
+  /**
+   * This method provides a "best-effort" to delete all objects under the given prefix.
+   *
+   * <p>Bulk delete operations are used and no reattempt is made for deletes if they fail, but will
+   * log any individual objects that are not deleted as part of the bulk operation.
+   *
+   * @param prefix prefix to delete
+   */
+  @Override
+  public void deletePrefix(String prefix) {
+    deleteFiles(() -> Streams.stream(listPrefix(prefix)).map(FileInfo::location).iterator());
+  }
+
   private OSS client() {
     if (client == null) {
       synchronized (this) {
@@ -98,6 +238,20 @@ public class OSSFileIO implements FileIO {
     return client;
   }
 
+  private ExecutorService executorService() {
+    if (executorService == null) {
+      synchronized (OSSFileIO.class) {
+        if (executorService == null) {
+          executorService =
+              ThreadPools.newWorkerPool(
+                  "iceberg-ossfileio-delete", aliyunProperties.ossDeleteThreads());
+        }
+      }
+    }
+
+    return executorService;
+  }
+
   @Override
   public void initialize(Map<String, String> properties) {
     AliyunClientFactory factory = AliyunClientFactories.from(properties);
@@ -130,4 +284,43 @@ public class OSSFileIO implements FileIO {
       }
     }
   }
+
+  /** Iterates over the objects under a prefix, requesting the next page lazily. */
+  private static class ObjectSummaryIterator implements Iterator<OSSObjectSummary> {
+    private final OSS client;
+    private final String bucket;
+    private final String prefix;
+    private Iterator<OSSObjectSummary> page = null;
+    private String nextMarker = null;
+    private boolean truncated = true;
+
+    private ObjectSummaryIterator(OSS client, String bucket, String prefix) {
+      this.client = client;
+      this.bucket = bucket;
+      this.prefix = prefix;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while ((page == null || !page.hasNext()) && truncated) {
+        ObjectListing listing =
+            client.listObjects(
+                new ListObjectsRequest(bucket).withPrefix(prefix).withMarker(nextMarker));
+        this.page = listing.getObjectSummaries().iterator();
+        this.nextMarker = listing.getNextMarker();
+        this.truncated = listing.isTruncated();
+      }
+
+      return page.hasNext();
+    }
+
+    @Override
+    public OSSObjectSummary next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      return page.next();
+    }
+  }
 }
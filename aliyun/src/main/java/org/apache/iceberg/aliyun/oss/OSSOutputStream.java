@@ -19,8 +19,13 @@
 package org.apache.iceberg.aliyun.oss;
 
 import com.aliyun.oss.OSS;
+import com.aliyun.oss.model.AbortMultipartUploadRequest;
+import com.aliyun.oss.model.CompleteMultipartUploadRequest;
+import com.aliyun.oss.model.InitiateMultipartUploadRequest;
 import com.aliyun.oss.model.ObjectMetadata;
+import com.aliyun.oss.model.PartETag;
 import com.aliyun.oss.model.PutObjectRequest;
+import com.aliyun.oss.model.UploadPartRequest;
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -28,9 +33,17 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import org.apache.iceberg.aliyun.AliyunProperties;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.io.FileIOMetricsContext;
@@ -40,34 +53,75 @@ import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.io.CountingOutputStream;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Output stream that stages data in local files and uploads it to OSS.
+ *
+ * <p>Data that fits in a single part is uploaded with one PutObject request on close. Larger files
+ * are uploaded as a multipart upload: each part is uploaded in the background as soon as it is
+ * complete, so that close only waits for the last part.
+ */
 public class OSSOutputStream extends PositionOutputStream {
   private static final Logger LOG = LoggerFactory.getLogger(OSSOutputStream.class);
+
+  private static volatile ExecutorService executorService;
+  private static volatile Semaphore stagedParts;
+
   private final StackTraceElement[] createStack;
 
   private final OSS client;
   private final OSSURI uri;
+  private final String stagingDirectory;
+  private final int partSize;
 
-  private final File currentStagingFile;
-  private final OutputStream stream;
+  private final List<File> stagingFiles = Lists.newArrayList();
+  private final List<CompletableFuture<PartETag>> uploads = Lists.newArrayList();
+  // claimed by the upload task when it starts, or by clean up if the task did not start
+  private final List<AtomicBoolean> uploadClaims = Lists.newArrayList();
+  private File currentStagingFile;
+  private CountingOutputStream stream;
+  private String uploadId = null;
   private long pos = 0;
   private boolean closed = false;
 
   private final Counter writeBytes;
   private final Counter writeOperations;
 
+  @SuppressWarnings("StaticAssignmentInConstructor")
   OSSOutputStream(
       OSS client, OSSURI uri, AliyunProperties aliyunProperties, MetricsContext metrics) {
+    if (executorService == null) {
+      synchronized (OSSOutputStream.class) {
+        if (executorService == null) {
+          executorService =
+              ThreadPools.newWorkerPool(
+                  "iceberg-ossfileio-upload", aliyunProperties.ossMultipartUploadThreads());
+          stagedParts =
+              new Semaphore(
+                  (int)
+                      Math.max(
+                          1,
+                          aliyunProperties.ossMultipartMaxStagedBytes()
+                              / aliyunProperties.ossMultipartSize()));
+        }
+      }
+    }
+
     this.client = client;
     this.uri = uri;
     this.createStack = Thread.currentThread().getStackTrace();
 
-    this.currentStagingFile = newStagingFile(aliyunProperties.ossStagingDirectory());
-    this.stream = newStream(currentStagingFile);
+    this.stagingDirectory = aliyunProperties.ossStagingDirectory();
+    this.partSize = aliyunProperties.ossMultipartSize();
     this.writeBytes = metrics.counter(FileIOMetricsContext.WRITE_BYTES, Unit.BYTES);
     this.writeOperations = metrics.counter(FileIOMetricsContext.WRITE_OPERATIONS);
+
+    newStream();
   }
 
   private static File newStagingFile(String ossStagingDirectory) {
@@ -80,9 +134,10 @@ public class OSSOutputStream extends PositionOutputStream {
     }
   }
 
-  private static OutputStream newStream(File currentStagingFile) {
+  private static CountingOutputStream newStream(File currentStagingFile) {
     try {
-      return new BufferedOutputStream(new FileOutputStream(currentStagingFile));
+      return new CountingOutputStream(
+          new BufferedOutputStream(new FileOutputStream(currentStagingFile)));
     } catch (FileNotFoundException e) {
       throw new NotFoundException(e, "Failed to create file: %s", currentStagingFile);
     }
@@ -110,6 +165,11 @@ public class OSSOutputStream extends PositionOutputStream {
   @Override
   public void write(int b) throws IOException {
     Preconditions.checkState(!closed, "Already closed.");
+    if (stream.getCount() >= partSize) {
+      uploadCurrentPart();
+      newStream();
+    }
+
     stream.write(b);
     pos += 1;
     writeBytes.increment();
@@ -119,12 +179,86 @@ public class OSSOutputStream extends PositionOutputStream {
   @Override
   public void write(byte[] b, int off, int len) throws IOException {
     Preconditions.checkState(!closed, "Already closed.");
-    stream.write(b, off, len);
+    int remaining = len;
+    int relativeOffset = off;
+
+    // fill the current part and start new parts while the write is larger than the part size
+    while (stream.getCount() + remaining > partSize) {
+      int writeSize = partSize - (int) stream.getCount();
+      stream.write(b, relativeOffset, writeSize);
+      remaining -= writeSize;
+      relativeOffset += writeSize;
+
+      uploadCurrentPart();
+      newStream();
+    }
+
+    stream.write(b, relativeOffset, remaining);
     pos += len;
     writeBytes.increment(len);
     writeOperations.increment();
   }
 
+  private void newStream() {
+    this.currentStagingFile = newStagingFile(stagingDirectory);
+    this.stream = newStream(currentStagingFile);
+    stagingFiles.add(currentStagingFile);
+  }
+
+  /** Closes the current part and uploads it in the background. */
+  private void uploadCurrentPart() throws IOException {
+    stream.close();
+
+    if (uploadId == null) {
+      this.uploadId =
+          client
+              .initiateMultipartUpload(new InitiateMultipartUploadRequest(uri.bucket(), uri.key()))
+              .getUploadId();
+    }
+
+    File part = currentStagingFile;
+    int partNumber = uploads.size() + 1;
+    try {
+      // bound the staged parts that wait for upload
+      stagedParts.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for part uploads", e);
+    }
+
+    AtomicBoolean claim = new AtomicBoolean(false);
+    CompletableFuture<PartETag> upload =
+        CompletableFuture.supplyAsync(() -> uploadPart(part, partNumber, claim), executorService)
+            .whenComplete(
+                (result, thrown) -> {
+                  if (thrown != null) {
+                    LOG.error("Failed to upload part {} of {}", partNumber, uri, thrown);
+                  }
+                });
+    uploads.add(upload);
+    uploadClaims.add(claim);
+  }
+
+  private PartETag uploadPart(File part, int partNumber, AtomicBoolean claim) {
+    if (!claim.compareAndSet(false, true)) {
+      throw new CancellationException(
+          String.format("Upload of part %s of %s was aborted", partNumber, uri));
+    }
+
+    try (InputStream contentStream = uncheckedInputStream(part)) {
+      UploadPartRequest request =
+          new UploadPartRequest(
+              uri.bucket(), uri.key(), uploadId, partNumber, contentStream, part.length());
+      return client.uploadPart(request).getPartETag();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      // release the part even if the upload future is cancelled
+      deleteStagingFile(part);
+      stagedParts.release();
+    }
+  }
+
   @Override
   public void close() throws IOException {
     if (closed) {
@@ -142,26 +276,83 @@ public class OSSOutputStream extends PositionOutputStream {
     }
   }
 
-  private void completeUploads() {
-    long contentLength = currentStagingFile.length();
-    if (contentLength == 0) {
-      LOG.debug("Skipping empty upload to OSS");
+  private void completeUploads() throws IOException {
+    if (uploadId == null) {
+      long contentLength = currentStagingFile.length();
+      if (contentLength == 0) {
+        LOG.debug("Skipping empty upload to OSS");
+        return;
+      }
+
+      LOG.debug("Uploading {} staged bytes to OSS", contentLength);
+      try (InputStream contentStream = uncheckedInputStream(currentStagingFile)) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+
+        PutObjectRequest request =
+            new PutObjectRequest(uri.bucket(), uri.key(), contentStream, metadata);
+        client.putObject(request);
+      }
+
       return;
     }
 
-    LOG.debug("Uploading {} staged bytes to OSS", contentLength);
-    InputStream contentStream = uncheckedInputStream(currentStagingFile);
-    ObjectMetadata metadata = new ObjectMetadata();
-    metadata.setContentLength(contentLength);
+    if (currentStagingFile.length() > 0) {
+      uploadCurrentPart();
+    }
 
-    PutObjectRequest request =
-        new PutObjectRequest(uri.bucket(), uri.key(), contentStream, metadata);
-    client.putObject(request);
+    List<PartETag> parts;
+    try {
+      parts =
+          uploads.stream()
+              .map(CompletableFuture::join)
+              .sorted(Comparator.comparingInt(PartETag::getPartNumber))
+              .collect(Collectors.toList());
+    } catch (CompletionException e) {
+      uploads.forEach(upload -> upload.cancel(true));
+      abortUpload();
+      throw e;
+    }
+
+    try {
+      client.completeMultipartUpload(
+          new CompleteMultipartUploadRequest(uri.bucket(), uri.key(), uploadId, parts));
+    } catch (RuntimeException e) {
+      LOG.error("Failed to complete multipart upload {} of {}", uploadId, uri, e);
+      abortUpload();
+      throw e;
+    }
+  }
+
+  private void abortUpload() {
+    try {
+      client.abortMultipartUpload(
+          new AbortMultipartUploadRequest(uri.bucket(), uri.key(), uploadId));
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to abort multipart upload {} of {}", uploadId, uri, e);
+    }
   }
 
   private void cleanUpStagingFiles() {
-    if (!currentStagingFile.delete()) {
-      LOG.warn("Failed to delete staging file: {}", currentStagingFile);
+    // parts that started uploading are deleted when the upload finishes; parts that were submitted
+    // but did not start, for example because their future was cancelled, are claimed here so that
+    // they are never uploaded
+    int submitted = uploads.size();
+    for (int i = 0; i < submitted; i += 1) {
+      if (uploadClaims.get(i).compareAndSet(false, true)) {
+        deleteStagingFile(stagingFiles.get(i));
+        stagedParts.release();
+      }
+    }
+
+    stagingFiles
+        .subList(submitted, stagingFiles.size())
+        .forEach(OSSOutputStream::deleteStagingFile);
+  }
+
+  private static void deleteStagingFile(File file) {
+    if (file.exists() && !file.delete()) {
+      LOG.warn("Failed to delete staging file: {}", file);
     }
   }
 
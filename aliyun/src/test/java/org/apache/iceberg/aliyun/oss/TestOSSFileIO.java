@@ -18,31 +18,40 @@
  */
 package org.apache.iceberg.aliyun.oss;
 
+import com.aliyun.oss.ClientException;
 import com.aliyun.oss.OSS;
 import com.aliyun.oss.OSSClient;
 import com.aliyun.oss.OSSClientBuilder;
+import com.aliyun.oss.model.DeleteObjectsRequest;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.List;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.CatalogUtil;
+import org.apache.iceberg.aliyun.AliyunProperties;
+import org.apache.iceberg.io.BulkDeletionFailureException;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.FileInfo;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
 import org.apache.iceberg.util.SerializableSupplier;
 import org.apache.iceberg.util.SerializationUtil;
+import org.assertj.core.api.Assertions;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 public class TestOSSFileIO extends AliyunOSSTestBase {
   private static final String OSS_IMPL_CLASS = OSSFileIO.class.getName();
@@ -111,6 +120,76 @@ public class TestOSSFileIO extends AliyunOSSTestBase {
     Assert.assertFalse("OSS file should not exist", fileIO().newInputFile(location).exists());
   }
 
+  @Test
+  public void testDeleteFiles() throws IOException {
+    // use a small batch size so that the files are deleted in several batches
+    OSSFileIO io =
+        new OSSFileIO(
+            ossClient(),
+            new AliyunProperties(ImmutableMap.of(AliyunProperties.OSS_DELETE_BATCH_SIZE, "3")));
+    List<String> locations = Lists.newArrayList();
+    for (int i = 0; i < 10; i += 1) {
+      String location = randomLocation();
+      writeOSSData(io.newOutputFile(location), randomData(16));
+      locations.add(location);
+    }
+
+    io.deleteFiles(locations);
+    for (String location : locations) {
+      Assert.assertFalse("OSS file should not exist", io.newInputFile(location).exists());
+    }
+
+    // deleting files that do not exist is not a failure
+    io.deleteFiles(locations);
+  }
+
+  @Test
+  public void testDeleteFilesReportsFailures() {
+    OSS client = Mockito.mock(OSS.class);
+    Mockito.when(client.deleteObjects(Mockito.any(DeleteObjectsRequest.class)))
+        .thenThrow(new ClientException("injected failure"));
+    OSSFileIO io =
+        new OSSFileIO(
+            () -> client,
+            new AliyunProperties(ImmutableMap.of(AliyunProperties.OSS_DELETE_BATCH_SIZE, "3")));
+    List<String> locations = Lists.newArrayList();
+    for (int i = 0; i < 10; i += 1) {
+      locations.add(randomLocation());
+    }
+
+    Assertions.assertThatThrownBy(() -> io.deleteFiles(locations))
+        .isInstanceOf(BulkDeletionFailureException.class)
+        .hasMessage("Failed to delete 10 files");
+  }
+
+  @Test
+  public void testPrefixOperations() throws IOException {
+    OSSFileIO io = new OSSFileIO(ossClient());
+    String prefix = location("prefix-ops/");
+    int numFiles = 150;
+    for (int i = 0; i < numFiles; i += 1) {
+      writeOSSData(io.newOutputFile(String.format("%s%03d.dat", prefix, i)), randomData(i + 1));
+    }
+
+    String otherLocation = location("prefix-other.dat");
+    writeOSSData(io.newOutputFile(otherLocation), randomData(8));
+
+    List<FileInfo> files = Lists.newArrayList(io.listPrefix(prefix));
+    Assert.assertEquals("Should list all files under the prefix", numFiles, files.size());
+    for (int i = 0; i < numFiles; i += 1) {
+      FileInfo file = files.get(i);
+      Assert.assertEquals(
+          "Should have expected location", String.format("%s%03d.dat", prefix, i), file.location());
+      Assert.assertEquals("Should have expected size", i + 1, file.size());
+      Assert.assertTrue("Should have creation time", file.createdAtMillis() > 0);
+    }
+
+    io.deletePrefix(prefix);
+    Assert.assertFalse("Should delete all files", io.listPrefix(prefix).iterator().hasNext());
+    Assert.assertTrue(
+        "Should not delete files outside of the prefix", io.newInputFile(otherLocation).exists());
+  }
+
   @Test
   public void testLoadFileIO() {
     FileIO file = CatalogUtil.loadFileIO(OSS_IMPL_CLASS, ImmutableMap.of(), conf);
@@ -20,20 +20,32 @@ package org.apache.iceberg.aliyun.oss;
 
 import static org.mockito.AdditionalAnswers.delegatesTo;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.aliyun.oss.ClientException;
 import com.aliyun.oss.OSS;
+import com.aliyun.oss.model.UploadPartRequest;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Field;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import org.apache.iceberg.aliyun.AliyunProperties;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
@@ -45,6 +57,7 @@ import org.slf4j.LoggerFactory;
 
 public class TestOSSOutputStream extends AliyunOSSTestBase {
   private static final Logger LOG = LoggerFactory.getLogger(TestOSSOutputStream.class);
+  private static final int PART_SIZE = 128 * 1024;
 
   private final OSS ossClient = ossClient().get();
   private final OSS ossMock = mock(OSS.class, delegatesTo(ossClient));
@@ -56,6 +69,14 @@ public class TestOSSOutputStream extends AliyunOSSTestBase {
       new AliyunProperties(
           ImmutableMap.of(AliyunProperties.OSS_STAGING_DIRECTORY, tmpDir.toString()));
 
+  private final AliyunProperties multipartProps =
+      new AliyunProperties(
+          ImmutableMap.of(
+              AliyunProperties.OSS_STAGING_DIRECTORY,
+              tmpDir.toString(),
+              AliyunProperties.OSS_MULTIPART_SIZE,
+              String.valueOf(PART_SIZE)));
+
   public TestOSSOutputStream() throws IOException {}
 
   @Test
@@ -76,8 +97,129 @@ public class TestOSSOutputStream extends AliyunOSSTestBase {
     }
   }
 
+  @Test
+  public void testMultipartUpload() throws IOException {
+    for (int i = 0; i < 2; i++) {
+      boolean arrayWrite = i % 2 == 0;
+      // Write a file that fits in a single part.
+      writeAndVerify(ossMock, randomURI(), randomData(PART_SIZE), arrayWrite, multipartProps);
+      verify(ossMock, times(1)).putObject(any());
+      verify(ossMock, never()).initiateMultipartUpload(any());
+      reset(ossMock);
+
+      // Write a file with a smaller last part.
+      writeAndVerify(
+          ossMock, randomURI(), randomData(5 * PART_SIZE + 123), arrayWrite, multipartProps);
+      verify(ossMock, never()).putObject(any());
+      verify(ossMock, times(1)).initiateMultipartUpload(any());
+      verify(ossMock, times(6)).uploadPart(any());
+      verify(ossMock, times(1)).completeMultipartUpload(any());
+      reset(ossMock);
+
+      // Write a file that is a multiple of the part size.
+      writeAndVerify(ossMock, randomURI(), randomData(3 * PART_SIZE), arrayWrite, multipartProps);
+      verify(ossMock, times(3)).uploadPart(any());
+      verify(ossMock, times(1)).completeMultipartUpload(any());
+      reset(ossMock);
+    }
+  }
+
+  @Test
+  public void testAbortFailedMultipartUpload() throws IOException {
+    OSSURI uri = randomURI();
+    doThrow(new ClientException("Failed to upload part")).when(ossMock).uploadPart(any());
+
+    OSSOutputStream out =
+        new OSSOutputStream(ossMock, uri, multipartProps, MetricsContext.nullMetrics());
+    out.write(randomData(3 * PART_SIZE));
+    Assert.assertThrows(CompletionException.class, out::close);
+
+    verify(ossMock, times(1)).abortMultipartUpload(any());
+    verify(ossMock, never()).completeMultipartUpload(any());
+    Assert.assertFalse(
+        "OSS object should not exist", ossClient.doesObjectExist(uri.bucket(), uri.key()));
+    Assert.assertEquals(
+        "Staging files should clean up",
+        0,
+        Files.list(Paths.get(multipartProps.ossStagingDirectory())).count());
+  }
+
+  @Test
+  public void testAbortReleasesQueuedParts() throws Exception {
+    CountDownLatch blockUploads = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              UploadPartRequest request = invocation.getArgument(0);
+              if (request.getPartNumber() > 1) {
+                blockUploads.await(30, TimeUnit.SECONDS);
+              }
+
+              throw new ClientException("Failed to upload part");
+            })
+        .when(ossMock)
+        .uploadPart(any());
+
+    OSSOutputStream out =
+        new OSSOutputStream(ossMock, randomURI(), multipartProps, MetricsContext.nullMetrics());
+    Semaphore stagedParts = staticField("stagedParts");
+    ExecutorService executor = staticField("executorService");
+    int permits = stagedParts.availablePermits();
+
+    // keep all upload threads but one busy so that parts after the second are queued
+    int busyThreads = multipartProps.ossMultipartUploadThreads() - 1;
+    CountDownLatch busy = new CountDownLatch(busyThreads);
+    for (int i = 0; i < busyThreads; i += 1) {
+      executor.submit(
+          () -> {
+            busy.countDown();
+            blockUploads.await(30, TimeUnit.SECONDS);
+            return null;
+          });
+    }
+
+    busy.await();
+
+    try {
+      out.write(randomData(4 * PART_SIZE));
+      Assert.assertThrows(CompletionException.class, out::close);
+      Assert.assertTrue(
+          "Should release queued parts without waiting for uploads",
+          stagedParts.availablePermits() >= permits - 1);
+    } finally {
+      blockUploads.countDown();
+    }
+
+    verify(ossMock, times(1)).abortMultipartUpload(any());
+    verify(ossMock, atMost(2)).uploadPart(any());
+
+    // the part that was uploading is released when its upload finishes
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (stagedParts.availablePermits() != permits && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+
+    Assert.assertEquals("Should release all staged parts", permits, stagedParts.availablePermits());
+    Assert.assertEquals(
+        "Staging files should clean up",
+        0,
+        Files.list(Paths.get(multipartProps.ossStagingDirectory())).count());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T staticField(String name) throws ReflectiveOperationException {
+    Field field = OSSOutputStream.class.getDeclaredField(name);
+    field.setAccessible(true);
+    return (T) field.get(null);
+  }
+
   private void writeAndVerify(OSS mock, OSSURI uri, byte[] data, boolean arrayWrite)
       throws IOException {
+    writeAndVerify(mock, uri, data, arrayWrite, props);
+  }
+
+  private void writeAndVerify(
+      OSS mock, OSSURI uri, byte[] data, boolean arrayWrite, AliyunProperties properties)
+      throws IOException {
     LOG.info(
         "Write and verify for arguments uri: {}, data length: {}, arrayWrite: {}",
         uri,
@@ -85,7 +227,7 @@ public class TestOSSOutputStream extends AliyunOSSTestBase {
         arrayWrite);
 
     try (OSSOutputStream out =
-        new OSSOutputStream(mock, uri, props, MetricsContext.nullMetrics())) {
+        new OSSOutputStream(mock, uri, properties, MetricsContext.nullMetrics())) {
       if (arrayWrite) {
         out.write(data);
         Assert.assertEquals("OSSOutputStream position", data.length, out.getPos());
@@ -111,7 +253,7 @@ public class TestOSSOutputStream extends AliyunOSSTestBase {
     Assert.assertEquals(
         "Staging files should clean up",
         0,
-        Files.list(Paths.get(props.ossStagingDirectory())).count());
+        Files.list(Paths.get(properties.ossStagingDirectory())).count());
   }
 
   private OSSURI randomURI() {
@@ -24,6 +24,7 @@ import static org.springframework.http.HttpStatus.PARTIAL_CONTENT;
 import static org.springframework.http.HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE;
 
 import com.aliyun.oss.OSSErrorCode;
+import com.aliyun.oss.common.utils.DateUtil;
 import com.aliyun.oss.model.Bucket;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
@@ -32,10 +33,16 @@ import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.StringReader;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import javax.xml.parsers.DocumentBuilderFactory;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,11 +53,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
 
 @RestController
 public class AliyunOSSMockLocalController {
@@ -83,6 +95,185 @@ public class AliyunOSSMockLocalController {
     localStore.deleteBucket(bucketName);
   }
 
+  @RequestMapping(value = "/{bucketName}", method = RequestMethod.GET, produces = "application/xml")
+  public ResponseEntity<String> listObjects(
+      @PathVariable String bucketName,
+      @RequestParam(value = "prefix", required = false) String prefix,
+      @RequestParam(value = "marker", required = false) String marker,
+      @RequestParam(value = "max-keys", required = false, defaultValue = "100") int maxKeys)
+      throws IOException {
+    verifyBucketExistence(bucketName);
+
+    StringBuilder contents = new StringBuilder();
+    String nextMarker = null;
+    boolean truncated = false;
+    int count = 0;
+    for (Map.Entry<String, ObjectMetadata> entry :
+        localStore.listObjects(bucketName, prefix).entrySet()) {
+      String key = entry.getKey();
+      if (marker != null && !marker.isEmpty() && key.compareTo(marker) <= 0) {
+        continue;
+      }
+
+      if (count >= maxKeys) {
+        truncated = true;
+        break;
+      }
+
+      ObjectMetadata metadata = entry.getValue();
+      contents
+          .append("<Contents>")
+          .append(element("Key", key))
+          .append(
+              element(
+                  "LastModified",
+                  DateUtil.formatIso8601Date(new Date(metadata.getLastModificationDate()))))
+          .append(element("ETag", "\"" + metadata.getContentMD5() + "\""))
+          .append(element("Type", "Normal"))
+          .append(element("Size", String.valueOf(metadata.getContentLength())))
+          .append(element("StorageClass", "Standard"))
+          .append("<Owner>")
+          .append(element("ID", "oss-mock"))
+          .append(element("DisplayName", "oss-mock"))
+          .append("</Owner>")
+          .append("</Contents>");
+      nextMarker = key;
+      count += 1;
+    }
+
+    StringBuilder result = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+    result
+        .append("<ListBucketResult>")
+        .append(element("Name", bucketName))
+        .append(element("Prefix", prefix))
+        .append(element("Marker", marker))
+        .append(element("MaxKeys", String.valueOf(maxKeys)))
+        .append(element("Delimiter", null))
+        .append(element("IsTruncated", String.valueOf(truncated)));
+    if (truncated) {
+      result.append(element("NextMarker", nextMarker));
+    }
+
+    result.append(contents).append("</ListBucketResult>");
+
+    return new ResponseEntity<>(result.toString(), OK);
+  }
+
+  @RequestMapping(
+      value = "/{bucketName}",
+      method = RequestMethod.POST,
+      params = "delete",
+      produces = "application/xml")
+  public ResponseEntity<String> deleteObjects(
+      @PathVariable String bucketName, @RequestBody String body) throws Exception {
+    verifyBucketExistence(bucketName);
+
+    NodeList keys = parse(body).getElementsByTagName("Key");
+
+    StringBuilder result = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+    result.append("<DeleteResult>");
+    for (int i = 0; i < keys.getLength(); i += 1) {
+      String key = keys.item(i).getTextContent();
+      localStore.deleteObject(bucketName, key);
+      result.append("<Deleted>").append(element("Key", key)).append("</Deleted>");
+    }
+
+    result.append("</DeleteResult>");
+
+    return new ResponseEntity<>(result.toString(), OK);
+  }
+
+  private static Document parse(String xml) throws Exception {
+    return DocumentBuilderFactory.newInstance()
+        .newDocumentBuilder()
+        .parse(new InputSource(new StringReader(xml)));
+  }
+
+  private static String element(String name, String value) {
+    String escaped =
+        value == null ? "" : value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    return String.format("<%s>%s</%s>", name, escaped, name);
+  }
+
+  @RequestMapping(
+      value = "/{bucketName:.+}/**",
+      method = RequestMethod.POST,
+      params = "uploads",
+      produces = "application/xml")
+  public ResponseEntity<String> initiateMultipartUpload(
+      @PathVariable String bucketName, HttpServletRequest request) {
+    verifyBucketExistence(bucketName);
+
+    String result =
+        "<InitiateMultipartUploadResult>"
+            + element("Bucket", bucketName)
+            + element("Key", filenameFrom(bucketName, request))
+            + element("UploadId", localStore.initiateMultipartUpload())
+            + "</InitiateMultipartUploadResult>";
+    return new ResponseEntity<>(result, OK);
+  }
+
+  @RequestMapping(
+      value = "/{bucketName:.+}/**",
+      method = RequestMethod.PUT,
+      params = {"partNumber", "uploadId"})
+  public ResponseEntity<String> uploadPart(
+      @PathVariable String bucketName,
+      @RequestParam("partNumber") int partNumber,
+      @RequestParam("uploadId") String uploadId,
+      HttpServletRequest request)
+      throws IOException {
+    verifyBucketExistence(bucketName);
+
+    try (ServletInputStream inputStream = request.getInputStream()) {
+      String md5 = localStore.uploadPart(uploadId, partNumber, inputStream);
+      HttpHeaders responseHeaders = new HttpHeaders();
+      responseHeaders.setETag("\"" + md5 + "\"");
+      return new ResponseEntity<>(responseHeaders, OK);
+    }
+  }
+
+  @RequestMapping(
+      value = "/{bucketName:.+}/**",
+      method = RequestMethod.POST,
+      params = "uploadId",
+      produces = "application/xml")
+  public ResponseEntity<String> completeMultipartUpload(
+      @PathVariable String bucketName,
+      @RequestParam("uploadId") String uploadId,
+      @RequestBody String body,
+      HttpServletRequest request)
+      throws Exception {
+    verifyBucketExistence(bucketName);
+
+    NodeList partNumbers = parse(body).getElementsByTagName("PartNumber");
+    List<Integer> parts = Lists.newArrayList();
+    for (int i = 0; i < partNumbers.getLength(); i += 1) {
+      parts.add(Integer.parseInt(partNumbers.item(i).getTextContent()));
+    }
+
+    String filename = filenameFrom(bucketName, request);
+    ObjectMetadata metadata =
+        localStore.completeMultipartUpload(bucketName, filename, uploadId, parts);
+
+    String result =
+        "<CompleteMultipartUploadResult>"
+            + element("Location", request.getRequestURL().toString())
+            + element("Bucket", bucketName)
+            + element("Key", filename)
+            + element("ETag", "\"" + metadata.getContentMD5() + "\"")
+            + "</CompleteMultipartUploadResult>";
+    return new ResponseEntity<>(result, OK);
+  }
+
+  @RequestMapping(value = "/{bucketName:.+}/**", method = RequestMethod.DELETE, params = "uploadId")
+  public void abortMultipartUpload(
+      @PathVariable String bucketName, @RequestParam("uploadId") String uploadId) {
+    verifyBucketExistence(bucketName);
+
+    localStore.abortMultipartUpload(uploadId);
+  }
+
   @RequestMapping(value = "/{bucketName:.+}/**", method = RequestMethod.PUT)
   public ResponseEntity<String> putObject(
       @PathVariable String bucketName, HttpServletRequest request) {
@@ -21,6 +21,8 @@ package org.apache.iceberg.aliyun.oss.mock;
 import com.aliyun.oss.OSSErrorCode;
 import com.aliyun.oss.model.Bucket;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -37,10 +39,16 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.SortedMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.directory.api.util.Hex;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,6 +67,9 @@ public class AliyunOSSMockLocalStore {
 
   private final ObjectMapper objectMapper = new ObjectMapper();
 
+  // parts of the in-progress multipart uploads, by upload id and part number
+  private final Map<String, SortedMap<Integer, byte[]>> multipartUploads = Maps.newConcurrentMap();
+
   public AliyunOSSMockLocalStore(
       @Value("${" + AliyunOSSMockApp.PROP_ROOT_DIR + ":}") String rootDir) {
     Preconditions.checkNotNull(rootDir, "Root directory cannot be null");
@@ -191,6 +202,79 @@ public class AliyunOSSMockLocalStore {
     return objectMapper.readValue(metaFile, ObjectMetadata.class);
   }
 
+  String initiateMultipartUpload() {
+    String uploadId = UUID.randomUUID().toString();
+    multipartUploads.put(uploadId, new ConcurrentSkipListMap<>());
+    return uploadId;
+  }
+
+  String uploadPart(String uploadId, int partNumber, InputStream dataStream) throws IOException {
+    SortedMap<Integer, byte[]> parts = multipartUploads.get(uploadId);
+    if (parts == null) {
+      throw new AliyunOSSMockLocalController.OssException(
+          404, OSSErrorCode.NO_SUCH_UPLOAD, "The specified upload does not exist.");
+    }
+
+    byte[] data = ByteStreams.toByteArray(dataStream);
+    parts.put(partNumber, data);
+    return md5sum(new ByteArrayInputStream(data));
+  }
+
+  ObjectMetadata completeMultipartUpload(
+      String bucketName, String fileName, String uploadId, List<Integer> partNumbers)
+      throws IOException {
+    SortedMap<Integer, byte[]> parts = multipartUploads.remove(uploadId);
+    if (parts == null) {
+      throw new AliyunOSSMockLocalController.OssException(
+          404, OSSErrorCode.NO_SUCH_UPLOAD, "The specified upload does not exist.");
+    }
+
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    for (int partNumber : partNumbers) {
+      byte[] part = parts.get(partNumber);
+      if (part == null) {
+        throw new AliyunOSSMockLocalController.OssException(
+            400, OSSErrorCode.INVALID_PART, "One or more of the specified parts was not found.");
+      }
+
+      content.write(part);
+    }
+
+    return putObject(
+        bucketName,
+        fileName,
+        new ByteArrayInputStream(content.toByteArray()),
+        null,
+        null,
+        ImmutableMap.of());
+  }
+
+  void abortMultipartUpload(String uploadId) {
+    multipartUploads.remove(uploadId);
+  }
+
+  /** Returns the metadata of the objects under the prefix, sorted by object key. */
+  SortedMap<String, ObjectMetadata> listObjects(String bucketName, String prefix)
+      throws IOException {
+    File bucketDir = new File(root, bucketName);
+    assert bucketDir.exists();
+
+    SortedMap<String, ObjectMetadata> objects = Maps.newTreeMap();
+    try (Stream<Path> walk = Files.walk(bucketDir.toPath())) {
+      List<String> filenames =
+          walk.filter(path -> path.toString().endsWith(DATA_FILE))
+              .map(path -> bucketDir.toPath().relativize(path).toString())
+              .map(path -> path.substring(0, path.length() - DATA_FILE.length()))
+              .filter(filename -> prefix == null || filename.startsWith(prefix))
+              .collect(Collectors.toList());
+      for (String filename : filenames) {
+        objects.put(filename, getObjectMetadata(bucketName, filename));
+      }
+    }
+
+    return objects;
+  }
+
   private List<Bucket> findBucketsByFilter(final DirectoryStream.Filter<Path> filter) {
     List<Bucket> buckets = Lists.newArrayList();
 
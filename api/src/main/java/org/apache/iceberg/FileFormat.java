@@ -27,6 +27,7 @@ public enum FileFormat {
   ORC("orc", true),
   PARQUET("parquet", true),
   AVRO("avro", true),
+  PUFFIN("puffin", false),
   METADATA("metadata.json", false);
 
   private final String ext;
@@ -27,6 +27,8 @@ import org.apache.iceberg.metrics.MetricsContext;
 public interface FileIOMetricsContext extends MetricsContext {
   String READ_BYTES = "read.bytes";
   String READ_OPERATIONS = "read.operations";
+  String READ_SEEKS = "read.seeks";
+  String READ_ABORTS = "read.aborts";
   String WRITE_BYTES = "write.bytes";
   String WRITE_OPERATIONS = "write.operations";
 }
@@ -20,6 +20,9 @@ package org.apache.iceberg.io;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * {@code RangeReadable} is an interface that allows for implementations of {@link InputFile}
@@ -77,4 +80,20 @@ public interface RangeReadable extends Closeable {
   default int readTail(byte[] buffer) throws IOException {
     return readTail(buffer, 0, buffer.length);
   }
+
+  /**
+   * Read a list of ranges from the input source.
+   *
+   * <p>Implementations merge ranges that are close together into fewer reads and may issue the
+   * reads in parallel. Ranges may overlap. The returned buffers must not be modified by the caller.
+   *
+   * <p>The default implementation merges ranges using {@link VectoredReads} and reads them
+   * sequentially with {@link #readFully(long, byte[], int, int)} in the calling thread.
+   *
+   * @param ranges the ranges to read
+   * @return futures of the bytes in each range, in the same order as the ranges
+   */
+  default List<CompletableFuture<ByteBuffer>> readVectored(List<FileRange> ranges) {
+    return VectoredReads.read(ranges, this::readFully, Runnable::run);
+  }
 }
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+
+/**
+ * Helpers to implement {@link RangeReadable#readVectored(List)}.
+ *
+ * <p>Ranges are sorted and ranges that are close together are merged so that a few larger reads are
+ * issued instead of many small reads. Each merged range is read with a single positional read and
+ * the requested ranges are returned as slices of the merged buffer.
+ */
+public class VectoredReads {
+  /** Ranges that are separated by at most this many bytes are merged into one read. */
+  public static final int DEFAULT_MAX_MERGE_GAP = 64 * 1024;
+
+  /** Ranges are not merged into reads that are larger than this many bytes. */
+  public static final int DEFAULT_MAX_MERGED_SIZE = 8 * 1024 * 1024;
+
+  private VectoredReads() {}
+
+  /** A positional read of a byte range, like {@link RangeReadable#readFully(long, byte[])}. */
+  @FunctionalInterface
+  public interface PositionalReader {
+    void readFully(long position, byte[] buffer, int offset, int length) throws IOException;
+  }
+
+  /**
+   * Reads ranges using the given positional reader, running each merged read in the executor.
+   *
+   * @param ranges ranges to read
+   * @param reader a positional reader that is safe to call concurrently if the executor is
+   *     concurrent
+   * @param executor an executor to run the merged reads
+   * @return futures of the bytes in each range, in the same order as the ranges
+   */
+  public static List<CompletableFuture<ByteBuffer>> read(
+      List<FileRange> ranges, PositionalReader reader, Executor executor) {
+    return read(ranges, reader, executor, DEFAULT_MAX_MERGE_GAP, DEFAULT_MAX_MERGED_SIZE);
+  }
+
+  /**
+   * Reads ranges using the given positional reader, running each merged read in the executor.
+   *
+   * @param ranges ranges to read
+   * @param reader a positional reader that is safe to call concurrently if the executor is
+   *     concurrent
+   * @param executor an executor to run the merged reads
+   * @param maxMergeGap the largest number of bytes between ranges that are merged
+   * @param maxMergedSize the largest merged read in bytes
+   * @return futures of the bytes in each range, in the same order as the ranges
+   */
+  public static List<CompletableFuture<ByteBuffer>> read(
+      List<FileRange> ranges,
+      PositionalReader reader,
+      Executor executor,
+      int maxMergeGap,
+      int maxMergedSize) {
+    List<CompletableFuture<ByteBuffer>> futures =
+        ranges.stream()
+            .map(range -> new CompletableFuture<ByteBuffer>())
+            .collect(Collectors.toList());
+
+    for (MergedRange merged : merge(ranges, maxMergeGap, maxMergedSize)) {
+      executor.execute(() -> readMerged(merged, ranges, futures, reader));
+    }
+
+    return futures;
+  }
+
+  private static void readMerged(
+      MergedRange merged,
+      List<FileRange> ranges,
+      List<CompletableFuture<ByteBuffer>> futures,
+      PositionalReader reader) {
+    try {
+      byte[] buffer = new byte[merged.length()];
+      reader.readFully(merged.offset(), buffer, 0, buffer.length);
+      for (int index : merged.indexes()) {
+        FileRange range = ranges.get(index);
+        int start = (int) (range.offset() - merged.offset());
+        futures.get(index).complete(ByteBuffer.wrap(buffer, start, range.length()).slice());
+      }
+    } catch (Exception e) {
+      for (int index : merged.indexes()) {
+        futures.get(index).completeExceptionally(e);
+      }
+    }
+  }
+
+  /**
+   * Merges ranges that are at most {@code maxMergeGap} bytes apart into reads of at most {@code
+   * maxMergedSize} bytes. Ranges that are larger than the max size are read on their own.
+   *
+   * @param ranges ranges to merge
+   * @param maxMergeGap the largest number of bytes between ranges that are merged
+   * @param maxMergedSize the largest merged read in bytes
+   * @return merged ranges, sorted by offset
+   */
+  static List<MergedRange> merge(List<FileRange> ranges, int maxMergeGap, int maxMergedSize) {
+    Preconditions.checkArgument(maxMergeGap >= 0, "Invalid max merge gap: %s", maxMergeGap);
+    Preconditions.checkArgument(maxMergedSize > 0, "Invalid max merged size: %s", maxMergedSize);
+
+    List<Integer> sorted =
+        IntStream.range(0, ranges.size())
+            .boxed()
+            .sorted(Comparator.comparingLong(index -> ranges.get(index).offset()))
+            .collect(Collectors.toList());
+
+    List<MergedRange> merged = Lists.newArrayList();
+    MergedRange current = null;
+    for (int index : sorted) {
+      FileRange range = ranges.get(index);
+      if (current != null
+          && range.offset() <= current.end() + maxMergeGap
+          && Math.max(current.end(), range.end()) - current.offset() <= maxMergedSize) {
+        current.add(index, range);
+      } else {
+        current = new MergedRange(index, range);
+        merged.add(current);
+      }
+    }
+
+    return merged;
+  }
+
+  /** A read that covers one or more requested ranges. */
+  static class MergedRange {
+    private final long offset;
+    private long end;
+    private final List<Integer> indexes = Lists.newArrayList();
+
+    private MergedRange(int index, FileRange range) {
+      this.offset = range.offset();
+      this.end = range.end();
+      indexes.add(index);
+    }
+
+    private void add(int index, FileRange range) {
+      this.end = Math.max(end, range.end());
+      indexes.add(index);
+    }
+
+    long offset() {
+      return offset;
+    }
+
+    long end() {
+      return end;
+    }
+
+    int length() {
+      return (int) (end - offset);
+    }
+
+    /** Returns the indexes of the requested ranges that are covered by this read. */
+    List<Integer> indexes() {
+      return indexes;
+    }
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+public class TestVectoredReads {
+  private static final byte[] DATA = new byte[1024];
+
+  static {
+    for (int i = 0; i < DATA.length; i += 1) {
+      DATA[i] = (byte) i;
+    }
+  }
+
+  @Test
+  public void testMergeCloseRanges() {
+    List<FileRange> ranges =
+        ImmutableList.of(new FileRange(100, 10), new FileRange(0, 10), new FileRange(15, 10));
+
+    List<VectoredReads.MergedRange> merged = VectoredReads.merge(ranges, 5, 1024);
+    assertThat(merged).hasSize(2);
+    assertThat(merged.get(0).offset()).isEqualTo(0);
+    assertThat(merged.get(0).end()).isEqualTo(25);
+    assertThat(merged.get(0).indexes()).containsExactly(1, 2);
+    assertThat(merged.get(1).offset()).isEqualTo(100);
+    assertThat(merged.get(1).end()).isEqualTo(110);
+    assertThat(merged.get(1).indexes()).containsExactly(0);
+  }
+
+  @Test
+  public void testMergeOverlappingRanges() {
+    List<FileRange> ranges =
+        ImmutableList.of(new FileRange(0, 50), new FileRange(10, 10), new FileRange(40, 20));
+
+    List<VectoredReads.MergedRange> merged = VectoredReads.merge(ranges, 0, 1024);
+    assertThat(merged).hasSize(1);
+    assertThat(merged.get(0).offset()).isEqualTo(0);
+    assertThat(merged.get(0).end()).isEqualTo(60);
+    assertThat(merged.get(0).indexes()).containsExactly(0, 1, 2);
+  }
+
+  @Test
+  public void testMergeRespectsMaxSize() {
+    List<FileRange> ranges =
+        ImmutableList.of(new FileRange(0, 40), new FileRange(40, 40), new FileRange(80, 100));
+
+    List<VectoredReads.MergedRange> merged = VectoredReads.merge(ranges, 1024, 80);
+    assertThat(merged).hasSize(2);
+    assertThat(merged.get(0).length()).isEqualTo(80);
+    assertThat(merged.get(0).indexes()).containsExactly(0, 1);
+    assertThat(merged.get(1).length()).isEqualTo(100);
+    assertThat(merged.get(1).indexes()).containsExactly(2);
+  }
+
+  @Test
+  public void testMergeInvalidArguments() {
+    List<FileRange> ranges = ImmutableList.of(new FileRange(0, 10));
+    assertThatThrownBy(() -> VectoredReads.merge(ranges, -1, 1024))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid max merge gap: -1");
+    assertThatThrownBy(() -> VectoredReads.merge(ranges, 0, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid max merged size: 0");
+  }
+
+  @Test
+  public void testInvalidRange() {
+    assertThatThrownBy(() -> new FileRange(-1, 10)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new FileRange(0, -1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testReadReturnsRangesInRequestOrder() {
+    List<FileRange> ranges =
+        ImmutableList.of(
+            new FileRange(900, 100),
+            new FileRange(0, 16),
+            new FileRange(8, 16),
+            new FileRange(500, 1));
+    AtomicInteger reads = new AtomicInteger();
+
+    List<CompletableFuture<ByteBuffer>> futures =
+        VectoredReads.read(
+            ranges,
+            (position, buffer, offset, length) -> {
+              reads.incrementAndGet();
+              System.arraycopy(DATA, (int) position, buffer, offset, length);
+            },
+            Runnable::run,
+            64,
+            1024);
+
+    assertThat(reads.get()).isEqualTo(3);
+    assertThat(futures).hasSize(ranges.size());
+    for (int i = 0; i < ranges.size(); i += 1) {
+      FileRange range = ranges.get(i);
+      ByteBuffer buffer = futures.get(i).join();
+      assertThat(buffer.remaining()).isEqualTo(range.length());
+      assertThat(buffer.position()).isEqualTo(0);
+      for (int pos = 0; pos < range.length(); pos += 1) {
+        assertThat(buffer.get(pos)).isEqualTo(DATA[(int) range.offset() + pos]);
+      }
+    }
+  }
+
+  @Test
+  public void testReadFailure() {
+    List<FileRange> ranges =
+        ImmutableList.of(new FileRange(0, 10), new FileRange(10, 10), new FileRange(800, 10));
+
+    List<CompletableFuture<ByteBuffer>> futures =
+        VectoredReads.read(
+            ranges,
+            (position, buffer, offset, length) -> {
+              if (position >= 800) {
+                throw new IOException("Failed to read");
+              }
+
+              System.arraycopy(DATA, (int) position, buffer, offset, length);
+            },
+            Runnable::run,
+            0,
+            1024);
+
+    assertThat(futures.get(0).join().get(0)).isEqualTo(DATA[0]);
+    assertThat(futures.get(1).join().get(0)).isEqualTo(DATA[10]);
+    assertThatThrownBy(() -> futures.get(2).join())
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(IOException.class)
+        .hasRootCauseMessage("Failed to read");
+  }
+}
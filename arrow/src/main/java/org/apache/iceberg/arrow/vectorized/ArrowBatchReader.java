@@ -18,18 +18,62 @@
  */
 package org.apache.iceberg.arrow.vectorized;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
 
 /**
  * A collection of vectorized readers per column (in the expected read schema) and Arrow Vector
  * holders. This class owns the Arrow vectors and is responsible for closing the Arrow vectors.
+ *
+ * <p>When an {@link ArrowDeleteFilter} is set, deleted rows are skipped using a row id mapping that
+ * is shared by all columns of the returned {@link ColumnarBatch}. Columns that are only read to
+ * apply the deletes are not part of the returned batch.
  */
 class ArrowBatchReader extends BaseBatchReader<ColumnarBatch> {
+  private final int numOutputColumns;
+  private final ArrowDeleteFilter deletes;
+  private long rowStartPosInBatch = 0;
+  private long rowGroupStart = 0;
+  private PrimitiveIterator.OfLong rowIndexes = null;
 
   ArrowBatchReader(List<VectorizedReader<?>> readers) {
+    this(readers, null, readers.size());
+  }
+
+  /**
+   * Create a reader that applies deletes to the rows it reads.
+   *
+   * @param readers readers for the columns of the delete filter's required schema
+   * @param deletes the delete filter to apply, or null if there are no deletes
+   * @param numOutputColumns the number of leading columns to return in each batch
+   */
+  ArrowBatchReader(
+      List<VectorizedReader<?>> readers, ArrowDeleteFilter deletes, int numOutputColumns) {
     super(readers);
+    Preconditions.checkArgument(
+        numOutputColumns <= readers.size(),
+        "Invalid number of output columns: %s (only %s columns are read)",
+        numOutputColumns,
+        readers.size());
+    this.numOutputColumns = numOutputColumns;
+    this.deletes = deletes;
+  }
+
+  @Override
+  public void setRowGroupInfo(
+      PageReadStore pageStore, Map<ColumnPath, ColumnChunkMetaData> metaData, long rowPosition) {
+    super.setRowGroupInfo(pageStore, metaData, rowPosition);
+    this.rowStartPosInBatch = rowPosition;
+    this.rowGroupStart = rowPosition;
+    this.rowIndexes = pageStore.getRowIndexes().orElse(null);
   }
 
   @Override
@@ -41,6 +85,9 @@ class ArrowBatchReader extends BaseBatchReader<ColumnarBatch> {
       closeVectors();
     }
 
+    int[] rowIdMapping = deletes != null ? deletes.newRowIdMapping(numRowsToRead) : null;
+    int numLiveRows = rowIdMapping != null ? applyPosDeletes(rowIdMapping) : numRowsToRead;
+
     ColumnVector[] columnVectors = new ColumnVector[readers.length];
     for (int i = 0; i < readers.length; i += 1) {
       vectorHolders[i] = readers[i].read(vectorHolders[i], numRowsToRead);
@@ -51,8 +98,34 @@ class ArrowBatchReader extends BaseBatchReader<ColumnarBatch> {
           numRowsInVector,
           numRowsToRead);
       // Handle null vector for constant case
-      columnVectors[i] = new ColumnVector(vectorHolders[i]);
+      columnVectors[i] = new ColumnVector(vectorHolders[i], rowIdMapping);
+    }
+
+    if (deletes != null) {
+      numLiveRows = deletes.applyEqDeletes(columnVectors, rowIdMapping, numLiveRows);
     }
-    return new ColumnarBatch(numRowsToRead, columnVectors);
+
+    rowStartPosInBatch += numRowsToRead;
+
+    if (numOutputColumns < columnVectors.length) {
+      columnVectors = Arrays.copyOf(columnVectors, numOutputColumns);
+    }
+
+    if (numLiveRows == numRowsToRead) {
+      // no rows were deleted, expose the vectors as they are
+      return new ColumnarBatch(numRowsToRead, columnVectors);
+    }
+
+    return new ColumnarBatch(numLiveRows, columnVectors, rowIdMapping);
+  }
+
+  private int applyPosDeletes(int[] rowIdMapping) {
+    // rows are not contiguous when only some rows of the row group are read
+    if (rowIndexes != null) {
+      return deletes.applyPosDeletes(rowIdMapping, rowGroupStart, rowIndexes);
+    }
+
+    return deletes.applyPosDeletes(
+        rowIdMapping, rowStartPosInBatch, LongStream.range(0, rowIdMapping.length).iterator());
   }
 }
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.util.PrimitiveIterator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.data.DeleteFilter;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.io.InputFile;
+
+/**
+ * A {@link DeleteFilter} that is applied to rows of a {@link ColumnarBatch}.
+ *
+ * <p>Deleted rows are removed from a row id mapping that is shared by all columns of the batch,
+ * instead of copying the remaining rows into new vectors.
+ */
+class ArrowDeleteFilter extends DeleteFilter<StructLike> {
+  private final Function<String, InputFile> deleteFiles;
+  private ColumnarBatchRow eqDeleteRow = null;
+
+  ArrowDeleteFilter(
+      FileScanTask task,
+      Schema tableSchema,
+      Schema requestedSchema,
+      Function<String, InputFile> deleteFiles) {
+    super(task.file().path().toString(), task.deletes(), tableSchema, requestedSchema);
+    this.deleteFiles = deleteFiles;
+  }
+
+  @Override
+  protected StructLike asStructLike(StructLike row) {
+    return row;
+  }
+
+  @Override
+  protected InputFile getInputFile(String location) {
+    return deleteFiles.apply(location);
+  }
+
+  /** Returns the identity row id mapping for a batch of rows, before any deletes are applied. */
+  int[] newRowIdMapping(int numRows) {
+    int[] rowIdMapping = new int[numRows];
+    for (int i = 0; i < numRows; i += 1) {
+      rowIdMapping[i] = i;
+    }
+
+    return rowIdMapping;
+  }
+
+  /**
+   * Removes the positions deleted by position delete files from the row id mapping. For example, if
+   * positions 2 and 6 of a batch of 8 rows are deleted, the mapping [0,1,2,3,4,5,6,7] becomes
+   * [0,1,3,4,5,7,-,-] and the number of remaining rows is 6.
+   *
+   * @param rowIdMapping the row id mapping, initialized to the identity mapping
+   * @param basePosition the position in the data file that the row offsets are relative to
+   * @param rowOffsets the offsets of the rows of the batch from the base position, in order
+   * @return the number of rows that are not deleted
+   */
+  int applyPosDeletes(int[] rowIdMapping, long basePosition, PrimitiveIterator.OfLong rowOffsets) {
+    PositionDeleteIndex deletedPositions = deletedRowPositions();
+    if (deletedPositions == null) {
+      return rowIdMapping.length;
+    }
+
+    int numLiveRows = 0;
+    for (int rowId = 0; rowId < rowIdMapping.length; rowId += 1) {
+      if (deletedPositions.isDeleted(basePosition + rowOffsets.nextLong())) {
+        incrementDeleteCount();
+      } else {
+        rowIdMapping[numLiveRows] = rowId;
+        numLiveRows += 1;
+      }
+    }
+
+    return numLiveRows;
+  }
+
+  /**
+   * Removes the rows that match equality deletes from the row id mapping. The mapping is compacted
+   * in place, which is safe because a row id is always read before it can be overwritten.
+   *
+   * @param columnVectors the column vectors of the required schema, which read rows through the row
+   *     id mapping
+   * @param rowIdMapping the row id mapping after applying position deletes
+   * @param numRows the number of rows that are not deleted by position deletes
+   * @return the number of rows that are not deleted
+   */
+  int applyEqDeletes(ColumnVector[] columnVectors, int[] rowIdMapping, int numRows) {
+    if (!hasEqDeletes()) {
+      return numRows;
+    }
+
+    if (eqDeleteRow == null) {
+      this.eqDeleteRow = new ColumnarBatchRow(requiredSchema().columns());
+    }
+
+    Predicate<StructLike> isLive = eqDeletedRowFilter();
+    int numLiveRows = 0;
+    for (int rowId = 0; rowId < numRows; rowId += 1) {
+      if (isLive.test(eqDeleteRow.wrap(columnVectors, rowId))) {
+        rowIdMapping[numLiveRows] = rowIdMapping[rowId];
+        numLiveRows += 1;
+      } else {
+        incrementDeleteCount();
+      }
+    }
+
+    return numLiveRows;
+  }
+}
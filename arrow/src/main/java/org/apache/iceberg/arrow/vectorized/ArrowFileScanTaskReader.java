@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.arrow.vector.NullCheckingForGet;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.mapping.NameMappingParser;
+import org.apache.iceberg.orc.ORC;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Type.TypeID;
+import org.apache.iceberg.types.TypeUtil;
+import org.apache.iceberg.util.TableScanUtil;
+import org.apache.parquet.schema.MessageType;
+
+/**
+ * Reads the data file of a single {@link FileScanTask} into {@link ColumnarBatch} objects, applying
+ * the delete files of the task.
+ *
+ * <p>This is used by {@link ArrowReader} to read each file of a scan, and can be used by engines
+ * that plan and decrypt files on their own to read a task with vectorized Parquet and ORC readers.
+ */
+public class ArrowFileScanTaskReader {
+  static final Set<TypeID> SUPPORTED_TYPES =
+      ImmutableSet.of(
+          TypeID.BOOLEAN,
+          TypeID.INTEGER,
+          TypeID.LONG,
+          TypeID.FLOAT,
+          TypeID.DOUBLE,
+          TypeID.STRING,
+          TypeID.TIMESTAMP,
+          TypeID.BINARY,
+          TypeID.DATE,
+          TypeID.UUID,
+          TypeID.TIME,
+          TypeID.DECIMAL,
+          TypeID.STRUCT,
+          TypeID.LIST,
+          TypeID.MAP);
+
+  private final Schema expectedSchema;
+  private final Schema tableSchema;
+  private final String nameMapping;
+  private final boolean caseSensitive;
+  private final int batchSize;
+  private final boolean reuseContainers;
+
+  /**
+   * Create a new instance.
+   *
+   * @param expectedSchema Read schema. The returned data will have this schema.
+   * @param tableSchema Table schema, used to find the columns required to apply delete files.
+   * @param nameMapping Mapping from external schema names to Iceberg type IDs, or null.
+   * @param caseSensitive If {@code true}, column names are case sensitive.
+   * @param batchSize Batch size in number of rows. Each Arrow batch contains a maximum of {@code
+   *     batchSize} rows.
+   * @param reuseContainers If set to {@code true}, the Arrow vectors of the previous batch may be
+   *     reused for the next batch of the same file.
+   * @throws UnsupportedOperationException if no column is projected or a projected column has an
+   *     unsupported type
+   */
+  public ArrowFileScanTaskReader(
+      Schema expectedSchema,
+      Schema tableSchema,
+      String nameMapping,
+      boolean caseSensitive,
+      int batchSize,
+      boolean reuseContainers) {
+    if (expectedSchema.columns().isEmpty()) {
+      throw new UnsupportedOperationException("Cannot read without at least one projected column");
+    }
+
+    Set<TypeID> unsupportedTypes = unsupportedTypes(expectedSchema);
+    if (!unsupportedTypes.isEmpty()) {
+      throw new UnsupportedOperationException(
+          "Cannot read unsupported column types: " + unsupportedTypes);
+    }
+
+    this.expectedSchema = expectedSchema;
+    this.tableSchema = tableSchema;
+    this.nameMapping = nameMapping;
+    this.caseSensitive = caseSensitive;
+    this.batchSize = batchSize;
+    this.reuseContainers = reuseContainers;
+  }
+
+  /** Returns whether all columns of a read schema, including nested fields, can be read. */
+  public static boolean isSupported(Schema expectedSchema) {
+    return !expectedSchema.columns().isEmpty() && unsupportedTypes(expectedSchema).isEmpty();
+  }
+
+  private static Set<TypeID> unsupportedTypes(Schema schema) {
+    return Sets.difference(
+        TypeUtil.indexById(schema.asStruct()).values().stream()
+            .map(f -> f.type().typeId())
+            .collect(Collectors.toSet()),
+        SUPPORTED_TYPES);
+  }
+
+  /**
+   * Opens the data file of a task.
+   *
+   * <p>The returned iterator owns the {@link ColumnarBatch} objects and closes their vectors when
+   * it is closed. Callers must not hold onto a batch after requesting the next one.
+   *
+   * @param task a file scan task for a Parquet or ORC data file
+   * @param dataFile the decrypted input file of the task's data file
+   * @param deleteFiles returns the decrypted input file for the location of a delete file
+   * @return an iterator of batches that have the expected schema
+   */
+  public CloseableIterator<ColumnarBatch> open(
+      FileScanTask task, InputFile dataFile, Function<String, InputFile> deleteFiles) {
+    Preconditions.checkArgument(!task.isDataTask(), "Invalid task type");
+    Preconditions.checkNotNull(dataFile, "Could not find InputFile associated with FileScanTask");
+    ArrowDeleteFilter deleteFilter =
+        TableScanUtil.hasDeletes(task)
+            ? new ArrowDeleteFilter(task, tableSchema, expectedSchema, deleteFiles)
+            : null;
+    Schema requiredSchema = deleteFilter != null ? deleteFilter.requiredSchema() : expectedSchema;
+
+    switch (task.file().format()) {
+      case PARQUET:
+        return newParquetIterable(task, dataFile, requiredSchema, deleteFilter).iterator();
+      case ORC:
+        return newOrcIterator(task, dataFile, requiredSchema, deleteFilter);
+      default:
+        throw new UnsupportedOperationException(
+            "Format: " + task.file().format() + " not supported for batched reads");
+    }
+  }
+
+  private CloseableIterable<ColumnarBatch> newParquetIterable(
+      FileScanTask task,
+      InputFile location,
+      Schema requiredSchema,
+      ArrowDeleteFilter deleteFilter) {
+    Parquet.ReadBuilder builder =
+        Parquet.read(location)
+            .project(requiredSchema)
+            .split(task.start(), task.length())
+            .createBatchedReaderFunc(
+                fileSchema ->
+                    buildReader(
+                        requiredSchema,
+                        fileSchema, /* setArrowValidityVector */
+                        NullCheckingForGet.NULL_CHECKING_ENABLED,
+                        deleteFilter,
+                        expectedSchema.columns().size()))
+            .recordsPerBatch(batchSize)
+            .filter(task.residual())
+            .caseSensitive(caseSensitive);
+
+    if (reuseContainers) {
+      builder.reuseContainers();
+    }
+    if (nameMapping != null) {
+      builder.withNameMapping(NameMappingParser.fromJson(nameMapping));
+    }
+
+    return builder.build();
+  }
+
+  private CloseableIterator<ColumnarBatch> newOrcIterator(
+      FileScanTask task,
+      InputFile location,
+      Schema requiredSchema,
+      ArrowDeleteFilter deleteFilter) {
+    ArrowOrcBatchReader batchReader =
+        new ArrowOrcBatchReader(
+            requiredSchema, deleteFilter, expectedSchema.columns().size(), reuseContainers);
+
+    ORC.ReadBuilder builder =
+        ORC.read(location)
+            .project(ArrowOrcBatchReader.orcProjection(requiredSchema))
+            .split(task.start(), task.length())
+            .createBatchedReaderFunc(fileSchema -> batchReader)
+            .recordsPerBatch(batchSize)
+            .filter(task.residual())
+            .caseSensitive(caseSensitive);
+
+    if (nameMapping != null) {
+      builder.withNameMapping(NameMappingParser.fromJson(nameMapping));
+    }
+
+    CloseableIterable<ColumnarBatch> iterable = builder.build();
+    CloseableIterator<ColumnarBatch> batches = iterable.iterator();
+    return new CloseableIterator<ColumnarBatch>() {
+      @Override
+      public boolean hasNext() {
+        return batches.hasNext();
+      }
+
+      @Override
+      public ColumnarBatch next() {
+        return batches.next();
+      }
+
+      @Override
+      public void close() throws IOException {
+        // the ORC iterator closes neither the file reader nor the batch reader, which owns the
+        // Arrow vectors
+        try {
+          batches.close();
+          iterable.close();
+        } finally {
+          batchReader.close();
+        }
+      }
+    };
+  }
+
+  /**
+   * Build the {@link ArrowBatchReader} for the required schema and file schema.
+   *
+   * @param requiredSchema Schema of the data read from the file, which is the expected schema
+   *     followed by any columns needed to apply delete files.
+   * @param fileSchema Schema of the data file.
+   * @param setArrowValidityVector Indicates whether to set the validity vector in Arrow vectors.
+   * @param deleteFilter Delete filter to apply to the rows read, or null if there are no deletes.
+   * @param numExpectedColumns Number of columns in the expected schema of the data returned.
+   */
+  private static ArrowBatchReader buildReader(
+      Schema requiredSchema,
+      MessageType fileSchema,
+      boolean setArrowValidityVector,
+      ArrowDeleteFilter deleteFilter,
+      int numExpectedColumns) {
+    return (ArrowBatchReader)
+        TypeWithSchemaVisitor.visit(
+            requiredSchema.asStruct(),
+            fileSchema,
+            new VectorizedReaderBuilder(
+                requiredSchema,
+                fileSchema,
+                setArrowValidityVector,
+                ImmutableMap.of(),
+                readers -> new ArrowBatchReader(readers, deleteFilter, numExpectedColumns)));
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.arrow.ArrowAllocation;
+import org.apache.iceberg.arrow.ArrowSchemaUtil;
+import org.apache.iceberg.orc.OrcBatchReader;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.types.TypeUtil;
+import org.apache.iceberg.types.Types;
+import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+
+/**
+ * Reads ORC {@link VectorizedRowBatch row batches} as {@link ColumnarBatch columnar batches} of
+ * Arrow vectors. This class owns the Arrow vectors and is responsible for closing them.
+ *
+ * <p>The ORC columns are read with the {@link #orcProjection(Schema) ORC projection} of the
+ * required schema. Row positions are filled in from the offset of each batch in the file and other
+ * metadata columns are null.
+ *
+ * <p>When an {@link ArrowDeleteFilter} is set, deleted rows are skipped using a row id mapping that
+ * is shared by all columns of the returned {@link ColumnarBatch}. Columns that are only read to
+ * apply the deletes are not part of the returned batch.
+ */
+class ArrowOrcBatchReader implements OrcBatchReader<ColumnarBatch>, Closeable {
+  private final Types.NestedField[] fields;
+  private final OrcToArrowConverters.Converter[] converters;
+  // the position of each field in the ORC batch, or -1 for metadata columns
+  private final int[] orcPositions;
+  private final ArrowDeleteFilter deletes;
+  private final int numOutputColumns;
+  private final boolean reuseContainers;
+  private final BufferAllocator allocator;
+  private final FieldVector[] vectors;
+  private final NullabilityHolder[] nullabilityHolders;
+  private long batchOffsetInFile = 0L;
+  private ColumnarBatch lastBatch = null;
+
+  /**
+   * Create a reader for the columns of a required schema.
+   *
+   * @param requiredSchema the schema of the columns to read, which is the expected schema followed
+   *     by any columns needed to apply the deletes
+   * @param deletes the delete filter to apply, or null if there are no deletes
+   * @param numOutputColumns the number of leading columns to return in each batch
+   * @param reuseContainers whether to reuse the Arrow vectors of the previous batch
+   */
+  ArrowOrcBatchReader(
+      Schema requiredSchema,
+      ArrowDeleteFilter deletes,
+      int numOutputColumns,
+      boolean reuseContainers) {
+    List<Types.NestedField> columns = requiredSchema.columns();
+    Preconditions.checkArgument(
+        numOutputColumns <= columns.size(),
+        "Invalid number of output columns: %s (only %s columns are read)",
+        numOutputColumns,
+        columns.size());
+    this.fields = columns.toArray(new Types.NestedField[0]);
+    this.converters = new OrcToArrowConverters.Converter[fields.length];
+    this.orcPositions = new int[fields.length];
+    int orcPosition = 0;
+    for (int i = 0; i < fields.length; i += 1) {
+      if (MetadataColumns.isMetadataColumn(fields[i].name())) {
+        orcPositions[i] = -1;
+      } else {
+        converters[i] = OrcToArrowConverters.converter(fields[i].type());
+        orcPositions[i] = orcPosition;
+        orcPosition += 1;
+      }
+    }
+
+    this.deletes = deletes;
+    this.numOutputColumns = numOutputColumns;
+    this.reuseContainers = reuseContainers;
+    this.allocator =
+        ArrowAllocation.rootAllocator().newChildAllocator("ArrowOrcBatchReader", 0, Long.MAX_VALUE);
+    this.vectors = new FieldVector[fields.length];
+    this.nullabilityHolders = new NullabilityHolder[fields.length];
+  }
+
+  /** Returns the schema of the columns that are read from ORC files for a required schema. */
+  static Schema orcProjection(Schema requiredSchema) {
+    return TypeUtil.selectNot(requiredSchema, MetadataColumns.metadataFieldIds());
+  }
+
+  @Override
+  public void setBatchContext(long newBatchOffsetInFile) {
+    this.batchOffsetInFile = newBatchOffsetInFile;
+  }
+
+  @Override
+  public ColumnarBatch read(VectorizedRowBatch batch) {
+    int numRows = batch.size;
+    releaseLastBatch();
+    if (!reuseContainers) {
+      closeVectors();
+    }
+
+    int[] rowIdMapping = deletes != null ? deletes.newRowIdMapping(numRows) : null;
+    int numLiveRows =
+        rowIdMapping != null
+            ? deletes.applyPosDeletes(rowIdMapping, batchOffsetInFile, rowOffsets(batch))
+            : numRows;
+
+    ColumnVector[] columnVectors = new ColumnVector[fields.length];
+    for (int i = 0; i < fields.length; i += 1) {
+      FieldVector vector = newVector(i, numRows);
+      if (orcPositions[i] >= 0) {
+        convert(converters[i], batch, batch.cols[orcPositions[i]], vector);
+      } else if (fields[i].fieldId() == MetadataColumns.ROW_POSITION.fieldId()) {
+        setPositions(batch, (BigIntVector) vector);
+      }
+
+      vector.setValueCount(numRows);
+      NullabilityHolder nulls = nullabilityHolder(i, vector);
+      columnVectors[i] =
+          new ColumnVector(VectorHolder.vectorHolder(vector, fields[i], nulls), rowIdMapping);
+    }
+
+    if (deletes != null) {
+      numLiveRows = deletes.applyEqDeletes(columnVectors, rowIdMapping, numLiveRows);
+    }
+
+    if (numOutputColumns < columnVectors.length) {
+      columnVectors = Arrays.copyOf(columnVectors, numOutputColumns);
+    }
+
+    if (numLiveRows == numRows) {
+      // no rows were deleted, expose the vectors as they are
+      return new ColumnarBatch(numRows, columnVectors);
+    }
+
+    // callers do not close batches, so copies of the remaining rows are released by this reader
+    this.lastBatch = new ColumnarBatch(numLiveRows, columnVectors, rowIdMapping);
+    return lastBatch;
+  }
+
+  private void releaseLastBatch() {
+    if (lastBatch != null) {
+      lastBatch.closeSelectedVectors();
+      this.lastBatch = null;
+    }
+  }
+
+  private static void convert(
+      OrcToArrowConverters.Converter converter,
+      VectorizedRowBatch batch,
+      org.apache.orc.storage.ql.exec.vector.ColumnVector column,
+      FieldVector vector) {
+    if (batch.selectedInUse) {
+      for (int row = 0; row < batch.size; row += 1) {
+        converter.convert(column, batch.selected[row], vector, row, 1);
+      }
+    } else {
+      converter.convert(column, 0, vector, 0, batch.size);
+    }
+  }
+
+  private void setPositions(VectorizedRowBatch batch, BigIntVector vector) {
+    PrimitiveIterator.OfLong offsets = rowOffsets(batch);
+    for (int row = 0; row < batch.size; row += 1) {
+      vector.setSafe(row, batchOffsetInFile + offsets.nextLong());
+    }
+  }
+
+  /** Returns the offsets of the rows of a batch from the position of the batch in the file. */
+  private static PrimitiveIterator.OfLong rowOffsets(VectorizedRowBatch batch) {
+    if (batch.selectedInUse) {
+      return IntStream.of(batch.selected).limit(batch.size).asLongStream().iterator();
+    }
+
+    return LongStream.range(0, batch.size).iterator();
+  }
+
+  private FieldVector newVector(int pos, int numRows) {
+    if (vectors[pos] == null) {
+      vectors[pos] = ArrowSchemaUtil.convert(fields[pos]).createVector(allocator);
+      vectors[pos].setInitialCapacity(numRows);
+      vectors[pos].allocateNew();
+    } else {
+      // keeps the allocated buffers, which grow when values are set past their capacity
+      vectors[pos].reset();
+    }
+
+    return vectors[pos];
+  }
+
+  private NullabilityHolder nullabilityHolder(int pos, FieldVector vector) {
+    int numRows = vector.getValueCount();
+    if (nullabilityHolders[pos] == null || nullabilityHolders[pos].size() < numRows) {
+      nullabilityHolders[pos] = new NullabilityHolder(numRows);
+    } else {
+      nullabilityHolders[pos].reset();
+    }
+
+    NullabilityHolder nulls = nullabilityHolders[pos];
+    for (int row = 0; row < numRows; row += 1) {
+      if (vector.isNull(row)) {
+        nulls.setNull(row);
+      } else {
+        nulls.setNotNull(row);
+      }
+    }
+
+    return nulls;
+  }
+
+  private void closeVectors() {
+    for (int i = 0; i < vectors.length; i += 1) {
+      if (vectors[i] != null) {
+        vectors[i].close();
+        vectors[i] = null;
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      releaseLastBatch();
+      closeVectors();
+    } finally {
+      allocator.close();
+    }
+  }
+}
@@ -25,15 +25,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
-import org.apache.arrow.vector.NullCheckingForGet;
 import org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.arrow.vector.types.Types.MinorType;
 import org.apache.iceberg.CombinedScanTask;
-import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.TableScan;
@@ -45,19 +42,11 @@ import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
-import org.apache.iceberg.mapping.NameMappingParser;
-import org.apache.iceberg.parquet.Parquet;
-import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
-import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
-import org.apache.iceberg.relocated.com.google.common.collect.Sets;
-import org.apache.iceberg.types.Type.TypeID;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.ExceptionUtil;
-import org.apache.iceberg.util.TableScanUtil;
-import org.apache.parquet.schema.MessageType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,6 +69,9 @@ import org.slf4j.LoggerFactory;
  *   <li>Iceberg: {@link Types.DateType}, Arrow: {@link MinorType#DATEDAY}
  *   <li>Iceberg: {@link Types.TimeType}, Arrow: {@link MinorType#TIMEMICRO}
  *   <li>Iceberg: {@link Types.UUIDType}, Arrow: {@link MinorType#FIXEDSIZEBINARY}(16)
+ *   <li>Iceberg: {@link Types.StructType}, Arrow: {@link MinorType#STRUCT}
+ *   <li>Iceberg: {@link Types.ListType}, Arrow: {@link MinorType#LIST}
+ *   <li>Iceberg: {@link Types.MapType}, Arrow: {@link MinorType#MAP}
  * </ul>
  *
  * <p>Features that don't work in this implementation:
@@ -91,32 +83,22 @@ import org.slf4j.LoggerFactory;
  *   <li>Columns with constant values are physically encoded as a dictionary. The Arrow vector type
  *       is int32 instead of the type as per the schema. See
  *       https://github.com/apache/iceberg/issues/2484.
- *   <li>Data types: {@link Types.ListType}, {@link Types.MapType}, {@link Types.StructType}, {@link
- *       Types.FixedType} and {@link Types.DecimalType} See
- *       https://github.com/apache/iceberg/issues/2485 and
+ *   <li>Data types: {@link Types.FixedType} and {@link Types.DecimalType} See
  *       https://github.com/apache/iceberg/issues/2486.
- *   <li>Delete files are not supported. See https://github.com/apache/iceberg/issues/2487.
  * </ul>
+ *
+ * <p>Position and equality delete files are applied to the rows that are read. Deleted rows are
+ * skipped through the {@link ColumnarBatch#rowIdMapping() row id mapping} of each batch instead of
+ * copying the remaining rows into new vectors.
+ *
+ * <p>Both Parquet and ORC data files are read. The column vectors of ORC row batches are copied
+ * column by column into Arrow vectors, without converting individual rows.
  */
 public class ArrowReader extends CloseableGroup {
   private static final Logger LOG = LoggerFactory.getLogger(ArrowReader.class);
 
-  private static final Set<TypeID> SUPPORTED_TYPES =
-      ImmutableSet.of(
-          TypeID.BOOLEAN,
-          TypeID.INTEGER,
-          TypeID.LONG,
-          TypeID.FLOAT,
-          TypeID.DOUBLE,
-          TypeID.STRING,
-          TypeID.TIMESTAMP,
-          TypeID.BINARY,
-          TypeID.DATE,
-          TypeID.UUID,
-          TypeID.TIME,
-          TypeID.DECIMAL);
-
   private final Schema schema;
+  private final Schema tableSchema;
   private final FileIO io;
   private final EncryptionManager encryption;
   private final int batchSize;
@@ -137,6 +119,7 @@ public class ArrowReader extends CloseableGroup {
    */
   public ArrowReader(TableScan scan, int batchSize, boolean reuseContainers) {
     this.schema = scan.schema();
+    this.tableSchema = scan.table().schema();
     this.io = scan.table().io();
     this.encryption = scan.table().encryption();
     this.batchSize = batchSize;
@@ -163,9 +146,8 @@ public class ArrowReader extends CloseableGroup {
    * <p>This method works for only when the following conditions are true:
    *
    * <ol>
-   *   <li>At least one column is queried,
-   *   <li>There are no delete files, and
-   *   <li>Supported data types are queried (see {@link #SUPPORTED_TYPES}).
+   *   <li>At least one column is queried, and
+   *   <li>Supported data types are queried (see the class documentation).
    * </ol>
    *
    * When any of these conditions fail, an {@link UnsupportedOperationException} is thrown.
@@ -173,7 +155,7 @@ public class ArrowReader extends CloseableGroup {
   public CloseableIterator<ColumnarBatch> open(CloseableIterable<CombinedScanTask> tasks) {
     CloseableIterator<ColumnarBatch> itr =
         new VectorizedCombinedScanIterator(
-            tasks, schema, null, io, encryption, true, batchSize, reuseContainers);
+            tasks, schema, tableSchema, null, io, encryption, true, batchSize, reuseContainers);
     addCloseable(itr);
     return itr;
   }
@@ -184,19 +166,16 @@ public class ArrowReader extends CloseableGroup {
   }
 
   /**
-   * Reads the data file and returns an iterator of {@link VectorSchemaRoot}. Only Parquet data file
-   * format is supported.
+   * Reads the data file and returns an iterator of {@link VectorSchemaRoot}. Only Parquet and ORC
+   * data file formats are supported.
    */
   private static final class VectorizedCombinedScanIterator
       implements CloseableIterator<ColumnarBatch> {
 
     private final Iterator<FileScanTask> fileItr;
     private final Map<String, InputFile> inputFiles;
-    private final Schema expectedSchema;
-    private final String nameMapping;
-    private final boolean caseSensitive;
-    private final int batchSize;
-    private final boolean reuseContainers;
+    private final FileIO io;
+    private final ArrowFileScanTaskReader fileReader;
     private CloseableIterator<ColumnarBatch> currentIterator;
     private FileScanTask currentTask;
 
@@ -205,6 +184,7 @@ public class ArrowReader extends CloseableGroup {
      *
      * @param tasks Combined file scan tasks.
      * @param expectedSchema Read schema. The returned data will have this schema.
+     * @param tableSchema Table schema, used to find the columns required to apply delete files.
      * @param nameMapping Mapping from external schema names to Iceberg type IDs.
      * @param io File I/O.
      * @param encryptionManager Encryption manager.
@@ -223,6 +203,7 @@ public class ArrowReader extends CloseableGroup {
     VectorizedCombinedScanIterator(
         CloseableIterable<CombinedScanTask> tasks,
         Schema expectedSchema,
+        Schema tableSchema,
         String nameMapping,
         FileIO io,
         EncryptionManager encryptionManager,
@@ -235,27 +216,9 @@ public class ArrowReader extends CloseableGroup {
               .flatMap(Collection::stream)
               .collect(Collectors.toList());
       this.fileItr = fileTasks.iterator();
-
-      if (fileTasks.stream().anyMatch(TableScanUtil::hasDeletes)) {
-        throw new UnsupportedOperationException(
-            "Cannot read files that require applying delete files");
-      }
-
-      if (expectedSchema.columns().isEmpty()) {
-        throw new UnsupportedOperationException(
-            "Cannot read without at least one projected column");
-      }
-
-      Set<TypeID> unsupportedTypes =
-          Sets.difference(
-              expectedSchema.columns().stream()
-                  .map(c -> c.type().typeId())
-                  .collect(Collectors.toSet()),
-              SUPPORTED_TYPES);
-      if (!unsupportedTypes.isEmpty()) {
-        throw new UnsupportedOperationException(
-            "Cannot read unsupported column types: " + unsupportedTypes);
-      }
+      this.fileReader =
+          new ArrowFileScanTaskReader(
+              expectedSchema, tableSchema, nameMapping, caseSensitive, batchSize, reuseContainers);
 
       Map<String, ByteBuffer> keyMetadata = Maps.newHashMap();
       fileTasks.stream()
@@ -277,11 +240,7 @@ public class ArrowReader extends CloseableGroup {
       decryptedFiles.forEach(decrypted -> files.putIfAbsent(decrypted.location(), decrypted));
       this.inputFiles = ImmutableMap.copyOf(files);
       this.currentIterator = CloseableIterator.empty();
-      this.expectedSchema = expectedSchema;
-      this.nameMapping = nameMapping;
-      this.caseSensitive = caseSensitive;
-      this.batchSize = batchSize;
-      this.reuseContainers = reuseContainers;
+      this.io = io;
     }
 
     @Override
@@ -318,37 +277,7 @@ public class ArrowReader extends CloseableGroup {
     }
 
     CloseableIterator<ColumnarBatch> open(FileScanTask task) {
-      CloseableIterable<ColumnarBatch> iter;
-      InputFile location = getInputFile(task);
-      Preconditions.checkNotNull(location, "Could not find InputFile associated with FileScanTask");
-      if (task.file().format() == FileFormat.PARQUET) {
-        Parquet.ReadBuilder builder =
-            Parquet.read(location)
-                .project(expectedSchema)
-                .split(task.start(), task.length())
-                .createBatchedReaderFunc(
-                    fileSchema ->
-                        buildReader(
-                            expectedSchema,
-                            fileSchema, /* setArrowValidityVector */
-                            NullCheckingForGet.NULL_CHECKING_ENABLED))
-                .recordsPerBatch(batchSize)
-                .filter(task.residual())
-                .caseSensitive(caseSensitive);
-
-        if (reuseContainers) {
-          builder.reuseContainers();
-        }
-        if (nameMapping != null) {
-          builder.withNameMapping(NameMappingParser.fromJson(nameMapping));
-        }
-
-        iter = builder.build();
-      } else {
-        throw new UnsupportedOperationException(
-            "Format: " + task.file().format() + " not supported for batched reads");
-      }
-      return iter.iterator();
+      return fileReader.open(task, getInputFile(task), io::newInputFile);
     }
 
     @Override
@@ -366,26 +295,5 @@ public class ArrowReader extends CloseableGroup {
       Preconditions.checkArgument(!task.isDataTask(), "Invalid task type");
       return inputFiles.get(task.file().path().toString());
     }
-
-    /**
-     * Build the {@link ArrowBatchReader} for the expected schema and file schema.
-     *
-     * @param expectedSchema Expected schema of the data returned.
-     * @param fileSchema Schema of the data file.
-     * @param setArrowValidityVector Indicates whether to set the validity vector in Arrow vectors.
-     */
-    private static ArrowBatchReader buildReader(
-        Schema expectedSchema, MessageType fileSchema, boolean setArrowValidityVector) {
-      return (ArrowBatchReader)
-          TypeWithSchemaVisitor.visit(
-              expectedSchema.asStruct(),
-              fileSchema,
-              new VectorizedReaderBuilder(
-                  expectedSchema,
-                  fileSchema,
-                  setArrowValidityVector,
-                  ImmutableMap.of(),
-                  ArrowBatchReader::new));
-    }
   }
 }
@@ -21,10 +21,14 @@ package org.apache.iceberg.arrow.vectorized;
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.util.function.Supplier;
+import java.util.List;
+import org.apache.arrow.vector.ValueVector;
 import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.iceberg.arrow.vectorized.GenericArrowVectorAccessorFactory.ArrayFactory;
 import org.apache.iceberg.arrow.vectorized.GenericArrowVectorAccessorFactory.DecimalFactory;
 import org.apache.iceberg.arrow.vectorized.GenericArrowVectorAccessorFactory.StringFactory;
+import org.apache.iceberg.arrow.vectorized.GenericArrowVectorAccessorFactory.StructChildFactory;
 
 final class ArrowVectorAccessors {
 
@@ -35,14 +39,8 @@ final class ArrowVectorAccessors {
         new GenericArrowVectorAccessorFactory<>(
             JavaDecimalFactory::new,
             JavaStringFactory::new,
-            throwingSupplier("Struct type is not supported"),
-            throwingSupplier("List type is not supported"));
-  }
-
-  private static <T> Supplier<T> throwingSupplier(String message) {
-    return () -> {
-      throw new UnsupportedOperationException(message);
-    };
+            JavaStructChildFactory::new,
+            JavaArrayFactory::new);
   }
 
   private ArrowVectorAccessors() {
@@ -102,4 +100,28 @@ final class ArrowVectorAccessors {
       return BigDecimal.valueOf(value.unscaledValue().longValue(), scale);
     }
   }
+
+  private static final class JavaStructChildFactory implements StructChildFactory<ValueVector> {
+    @Override
+    public Class<ValueVector> getGenericClass() {
+      return ValueVector.class;
+    }
+
+    @Override
+    public ValueVector of(ValueVector childVector) {
+      return childVector;
+    }
+  }
+
+  private static final class JavaArrayFactory implements ArrayFactory<ValueVector, List<?>> {
+    @Override
+    public ValueVector ofChild(ValueVector childVector) {
+      return childVector;
+    }
+
+    @Override
+    public List<?> ofRow(ValueVector vector, ValueVector childData, int rowId) {
+      return ((ListVector) vector).getObject(rowId);
+    }
+  }
 }
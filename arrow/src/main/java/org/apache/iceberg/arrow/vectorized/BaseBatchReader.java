@@ -28,21 +28,22 @@ import org.apache.parquet.hadoop.metadata.ColumnPath;
 /** A base BatchReader class that contains common functionality */
 @SuppressWarnings("checkstyle:VisibilityModifier")
 public abstract class BaseBatchReader<T> implements VectorizedReader<T> {
-  protected final VectorizedArrowReader[] readers;
+  protected final VectorizedReader<VectorHolder>[] readers;
   protected final VectorHolder[] vectorHolders;
 
+  @SuppressWarnings("unchecked")
   protected BaseBatchReader(List<VectorizedReader<?>> readers) {
     this.readers =
         readers.stream()
-            .map(VectorizedArrowReader.class::cast)
-            .toArray(VectorizedArrowReader[]::new);
+            .map(reader -> (VectorizedReader<VectorHolder>) reader)
+            .toArray(VectorizedReader[]::new);
     this.vectorHolders = new VectorHolder[readers.size()];
   }
 
   @Override
   public void setRowGroupInfo(
       PageReadStore pageStore, Map<ColumnPath, ColumnChunkMetaData> metaData, long rowPosition) {
-    for (VectorizedArrowReader reader : readers) {
+    for (VectorizedReader<VectorHolder> reader : readers) {
       if (reader != null) {
         reader.setRowGroupInfo(pageStore, metaData, rowPosition);
       }
@@ -73,7 +74,7 @@ public abstract class BaseBatchReader<T> implements VectorizedReader<T> {
 
   @Override
   public void setBatchSize(int batchSize) {
-    for (VectorizedArrowReader reader : readers) {
+    for (VectorizedReader<VectorHolder> reader : readers) {
       if (reader != null) {
         reader.setBatchSize(batchSize);
       }
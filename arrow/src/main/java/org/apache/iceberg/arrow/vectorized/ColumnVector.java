@@ -49,11 +49,18 @@ public class ColumnVector implements AutoCloseable {
   private final VectorHolder vectorHolder;
   private final ArrowVectorAccessor<?, String, ?, ?> accessor;
   private final NullabilityHolder nullabilityHolder;
+  // maps the row ids of the batch to positions in the vector, null when no rows are skipped
+  private final int[] rowIdMapping;
 
   ColumnVector(VectorHolder vectorHolder) {
+    this(vectorHolder, null);
+  }
+
+  ColumnVector(VectorHolder vectorHolder, int[] rowIdMapping) {
     this.vectorHolder = vectorHolder;
     this.nullabilityHolder = vectorHolder.nullabilityHolder();
     this.accessor = getVectorAccessor(vectorHolder);
+    this.rowIdMapping = rowIdMapping;
   }
 
   /**
@@ -88,48 +95,52 @@ public class ColumnVector implements AutoCloseable {
   }
 
   public boolean isNullAt(int rowId) {
-    return nullabilityHolder.isNullAt(rowId) == 1;
+    return nullabilityHolder.isNullAt(vectorRowId(rowId)) == 1;
   }
 
   public boolean getBoolean(int rowId) {
-    return accessor.getBoolean(rowId);
+    return accessor.getBoolean(vectorRowId(rowId));
   }
 
   public int getInt(int rowId) {
-    return accessor.getInt(rowId);
+    return accessor.getInt(vectorRowId(rowId));
   }
 
   public long getLong(int rowId) {
-    return accessor.getLong(rowId);
+    return accessor.getLong(vectorRowId(rowId));
   }
 
   public float getFloat(int rowId) {
-    return accessor.getFloat(rowId);
+    return accessor.getFloat(vectorRowId(rowId));
   }
 
   public double getDouble(int rowId) {
-    return accessor.getDouble(rowId);
+    return accessor.getDouble(vectorRowId(rowId));
   }
 
   public String getString(int rowId) {
     if (isNullAt(rowId)) {
       return null;
     }
-    return accessor.getUTF8String(rowId);
+    return accessor.getUTF8String(vectorRowId(rowId));
   }
 
   public byte[] getBinary(int rowId) {
     if (isNullAt(rowId)) {
       return null;
     }
-    return accessor.getBinary(rowId);
+    return accessor.getBinary(vectorRowId(rowId));
   }
 
   public BigDecimal getDecimal(int rowId, int precision, int scale) {
     if (isNullAt(rowId)) {
       return null;
     }
-    return (BigDecimal) accessor.getDecimal(rowId, precision, scale);
+    return (BigDecimal) accessor.getDecimal(vectorRowId(rowId), precision, scale);
+  }
+
+  private int vectorRowId(int rowId) {
+    return rowIdMapping != null ? rowIdMapping[rowId] : rowId;
   }
 
   private static ArrowVectorAccessor<?, String, ?, ?> getVectorAccessor(VectorHolder holder) {
@@ -19,9 +19,11 @@
 package org.apache.iceberg.arrow.vectorized;
 
 import java.util.Arrays;
+import java.util.List;
 import org.apache.arrow.vector.FieldVector;
 import org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 
 /**
  * This class is inspired by Spark's {@code ColumnarBatch}. This class wraps a columnar batch in the
@@ -31,14 +33,34 @@ public class ColumnarBatch implements AutoCloseable {
 
   private final int numRows;
   private final ColumnVector[] columns;
+  private final int[] rowIdMapping;
+  private final List<FieldVector> selectedVectors = Lists.newArrayList();
 
   ColumnarBatch(int numRows, ColumnVector[] columns) {
+    this(numRows, columns, null);
+  }
+
+  /**
+   * Create a batch that exposes only a subset of the rows stored in the column vectors.
+   *
+   * @param numRows the number of rows in this batch that are not filtered out
+   * @param columns the columns of this batch
+   * @param rowIdMapping maps the row ids of this batch to positions in the column vectors, or null
+   *     if all rows in the column vectors are returned
+   */
+  ColumnarBatch(int numRows, ColumnVector[] columns, int[] rowIdMapping) {
+    int numRowsInVectors = rowIdMapping != null ? rowIdMapping.length : numRows;
+    Preconditions.checkArgument(
+        numRows <= numRowsInVectors,
+        "Number of rows (=%s) > number of rows in the row id mapping (=%s)",
+        numRows,
+        numRowsInVectors);
     for (int i = 0; i < columns.length; i++) {
       int columnValueCount = columns[i].getFieldVector().getValueCount();
       Preconditions.checkArgument(
-          numRows == columnValueCount,
+          numRowsInVectors == columnValueCount,
           "Number of rows (="
-              + numRows
+              + numRowsInVectors
               + ") != column["
               + i
               + "] size (="
@@ -47,15 +69,40 @@ public class ColumnarBatch implements AutoCloseable {
     }
     this.numRows = numRows;
     this.columns = columns;
+    this.rowIdMapping = rowIdMapping;
   }
 
   /**
    * Create a new instance of {@link VectorSchemaRoot} from the arrow vectors stored in this arrow
    * batch. The arrow vectors are owned by the reader.
+   *
+   * <p>If rows of this batch were filtered out, for example because they were deleted by delete
+   * files, the returned vectors contain a copy of only the remaining rows. The copies are owned by
+   * this batch and are released when the batch is closed.
    */
   public VectorSchemaRoot createVectorSchemaRootFromVectors() {
-    return VectorSchemaRoot.of(
-        Arrays.stream(columns).map(ColumnVector::getArrowVector).toArray(FieldVector[]::new));
+    FieldVector[] vectors =
+        Arrays.stream(columns).map(ColumnVector::getArrowVector).toArray(FieldVector[]::new);
+    if (rowIdMapping != null) {
+      for (int i = 0; i < vectors.length; i += 1) {
+        vectors[i] = select(vectors[i]);
+      }
+    }
+
+    return VectorSchemaRoot.of(vectors);
+  }
+
+  private FieldVector select(FieldVector vector) {
+    FieldVector selected = vector.getField().createVector(vector.getAllocator());
+    selectedVectors.add(selected);
+    selected.setInitialCapacity(numRows);
+    selected.allocateNew();
+    for (int rowId = 0; rowId < numRows; rowId += 1) {
+      selected.copyFromSafe(rowIdMapping[rowId], rowId, vector);
+    }
+
+    selected.setValueCount(numRows);
+    return selected;
   }
 
   /**
@@ -67,6 +114,19 @@ public class ColumnarBatch implements AutoCloseable {
     for (ColumnVector c : columns) {
       c.close();
     }
+
+    closeSelectedVectors();
+  }
+
+  /**
+   * Releases the copies of the remaining rows made by {@link #createVectorSchemaRootFromVectors()}.
+   */
+  void closeSelectedVectors() {
+    for (FieldVector vector : selectedVectors) {
+      vector.close();
+    }
+
+    selectedVectors.clear();
   }
 
   /** Returns the number of columns that make up this batch. */
@@ -74,11 +134,25 @@ public class ColumnarBatch implements AutoCloseable {
     return columns.length;
   }
 
-  /** Returns the number of rows for read, including filtered rows. */
+  /**
+   * Returns the number of rows in this batch, excluding rows that were filtered out by delete
+   * files.
+   */
   public int numRows() {
     return numRows;
   }
 
+  /**
+   * Returns the mapping from row ids of this batch to positions in the underlying {@link
+   * FieldVector field vectors}, or null if every row of the field vectors is part of this batch.
+   *
+   * <p>Row accessors of {@link ColumnVector} already apply this mapping. It is only needed when
+   * reading the field vectors directly.
+   */
+  public int[] rowIdMapping() {
+    return rowIdMapping;
+  }
+
   /** Returns the column at `ordinal`. */
   public ColumnVector column(int ordinal) {
     return columns[ordinal];
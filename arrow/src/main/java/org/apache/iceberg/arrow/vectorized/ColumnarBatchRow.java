@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.UUIDUtil;
+
+/**
+ * A {@link StructLike} view of a single row in a set of {@link ColumnVector column vectors}.
+ *
+ * <p>Values are returned using Iceberg's internal representation, so that rows can be compared with
+ * the records of equality delete files.
+ */
+class ColumnarBatchRow implements StructLike {
+  private final Types.NestedField[] fields;
+  private ColumnVector[] columns = null;
+  private int rowId = 0;
+
+  ColumnarBatchRow(List<Types.NestedField> fields) {
+    this.fields = fields.toArray(new Types.NestedField[0]);
+  }
+
+  ColumnarBatchRow wrap(ColumnVector[] newColumns, int newRowId) {
+    this.columns = newColumns;
+    this.rowId = newRowId;
+    return this;
+  }
+
+  @Override
+  public int size() {
+    return fields.length;
+  }
+
+  @Override
+  public <T> T get(int pos, Class<T> javaClass) {
+    return javaClass.cast(get(pos));
+  }
+
+  private Object get(int pos) {
+    ColumnVector column = columns[pos];
+    if (column.isNullAt(rowId)) {
+      return null;
+    }
+
+    Type type = fields[pos].type();
+    switch (type.typeId()) {
+      case BOOLEAN:
+        return column.getBoolean(rowId);
+      case INTEGER:
+      case DATE:
+        return column.getInt(rowId);
+      case LONG:
+      case TIME:
+      case TIMESTAMP:
+        return column.getLong(rowId);
+      case FLOAT:
+        return column.getFloat(rowId);
+      case DOUBLE:
+        return column.getDouble(rowId);
+      case STRING:
+        return column.getString(rowId);
+      case UUID:
+        return UUIDUtil.convert(column.getBinary(rowId));
+      case FIXED:
+      case BINARY:
+        return ByteBuffer.wrap(column.getBinary(rowId));
+      case DECIMAL:
+        Types.DecimalType decimal = (Types.DecimalType) type;
+        return column.getDecimal(rowId, decimal.precision(), decimal.scale());
+      default:
+        throw new UnsupportedOperationException("Unsupported type: " + type);
+    }
+  }
+
+  @Override
+  public <T> void set(int pos, T value) {
+    throw new UnsupportedOperationException("Cannot set values in ColumnarBatchRow");
+  }
+}
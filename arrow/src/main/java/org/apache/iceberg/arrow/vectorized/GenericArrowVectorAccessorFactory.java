@@ -398,6 +398,11 @@ public class GenericArrowVectorAccessorFactory<
     public final Utf8StringT getUTF8String(int rowId) {
       return stringFactory.ofRow(vector, rowId);
     }
+
+    @Override
+    public final byte[] getBinary(int rowId) {
+      return vector.get(rowId);
+    }
   }
 
   private static class DictionaryStringAccessor<
@@ -426,6 +431,11 @@ public class GenericArrowVectorAccessorFactory<
       }
       return cache[offset];
     }
+
+    @Override
+    public final byte[] getBinary(int rowId) {
+      return dictionary.decodeToBinary(offsetVector.get(rowId)).getBytes();
+    }
   }
 
   private static class BinaryAccessor<
@@ -0,0 +1,378 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.util.Arrays;
+import java.util.List;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
+import org.apache.orc.storage.ql.exec.vector.ColumnVector;
+import org.apache.orc.storage.ql.exec.vector.Decimal64ColumnVector;
+import org.apache.orc.storage.ql.exec.vector.DecimalColumnVector;
+import org.apache.orc.storage.ql.exec.vector.DoubleColumnVector;
+import org.apache.orc.storage.ql.exec.vector.ListColumnVector;
+import org.apache.orc.storage.ql.exec.vector.LongColumnVector;
+import org.apache.orc.storage.ql.exec.vector.MapColumnVector;
+import org.apache.orc.storage.ql.exec.vector.StructColumnVector;
+import org.apache.orc.storage.ql.exec.vector.TimestampColumnVector;
+
+/**
+ * Converters that copy the values of ORC column vectors into the Arrow vectors of the corresponding
+ * Iceberg types, as created by {@link org.apache.iceberg.arrow.ArrowSchemaUtil}.
+ *
+ * <p>Values are copied column by column, without materializing a Java object per value. Nested
+ * types are converted by copying the validity and offsets of each row and then converting the range
+ * of child values that the rows refer to.
+ */
+final class OrcToArrowConverters {
+
+  private OrcToArrowConverters() {}
+
+  /** Copies a range of values from an ORC column vector into an Arrow vector. */
+  interface Converter {
+    /**
+     * Copies values from an ORC column vector into an Arrow vector.
+     *
+     * @param source the ORC column vector to read values from
+     * @param sourceRow the row of the first value to copy from the ORC vector
+     * @param target the Arrow vector to write values to
+     * @param targetRow the index of the first value to write in the Arrow vector
+     * @param numRows the number of values to copy
+     */
+    void convert(
+        ColumnVector source, int sourceRow, FieldVector target, int targetRow, int numRows);
+  }
+
+  /** Returns a {@link Converter} for ORC columns that are read as the given Iceberg type. */
+  static Converter converter(Type type) {
+    switch (type.typeId()) {
+      case BOOLEAN:
+        return new BooleanConverter();
+      case INTEGER:
+        return new IntConverter();
+      case DATE:
+        return new DateConverter();
+      case LONG:
+        return new LongConverter();
+      case TIME:
+        return new TimeConverter();
+      case FLOAT:
+        return new FloatConverter();
+      case DOUBLE:
+        return new DoubleConverter();
+      case TIMESTAMP:
+        return new TimestampConverter();
+      case STRING:
+        return new StringConverter();
+      case BINARY:
+        return new BinaryConverter();
+      case FIXED:
+      case UUID:
+        return new FixedConverter();
+      case DECIMAL:
+        Types.DecimalType decimal = (Types.DecimalType) type;
+        return new DecimalConverter(decimal.precision(), decimal.scale());
+      case STRUCT:
+        List<Converter> fieldConverters = Lists.newArrayList();
+        for (Types.NestedField field : type.asStructType().fields()) {
+          fieldConverters.add(converter(field.type()));
+        }
+
+        return new StructConverter(fieldConverters);
+      case LIST:
+        return new ListConverter(converter(type.asListType().elementType()));
+      case MAP:
+        return new MapConverter(
+            converter(type.asMapType().keyType()), converter(type.asMapType().valueType()));
+      default:
+        throw new UnsupportedOperationException("Unsupported type: " + type);
+    }
+  }
+
+  /**
+   * Base class for converters that copy one value per row. Runs without null checks when the ORC
+   * vector has no nulls and does not repeat a single value.
+   */
+  private abstract static class ValueConverter<S extends ColumnVector, T extends FieldVector>
+      implements Converter {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void convert(
+        ColumnVector source, int sourceRow, FieldVector target, int targetRow, int numRows) {
+      S values = (S) source;
+      T vector = (T) target;
+      if (source.noNulls && !source.isRepeating) {
+        for (int i = 0; i < numRows; i += 1) {
+          set(vector, targetRow + i, values, sourceRow + i);
+        }
+      } else {
+        for (int i = 0; i < numRows; i += 1) {
+          int row = source.isRepeating ? 0 : sourceRow + i;
+          if (source.noNulls || !source.isNull[row]) {
+            set(vector, targetRow + i, values, row);
+          } else {
+            vector.setNull(targetRow + i);
+          }
+        }
+      }
+    }
+
+    /** Copies the value of a non-null ORC row into the Arrow vector. */
+    abstract void set(T vector, int index, S values, int row);
+  }
+
+  private static class BooleanConverter extends ValueConverter<LongColumnVector, BitVector> {
+    @Override
+    void set(BitVector vector, int index, LongColumnVector values, int row) {
+      vector.setSafe(index, values.vector[row] != 0 ? 1 : 0);
+    }
+  }
+
+  private static class IntConverter extends ValueConverter<LongColumnVector, IntVector> {
+    @Override
+    void set(IntVector vector, int index, LongColumnVector values, int row) {
+      vector.setSafe(index, (int) values.vector[row]);
+    }
+  }
+
+  private static class DateConverter extends ValueConverter<LongColumnVector, DateDayVector> {
+    @Override
+    void set(DateDayVector vector, int index, LongColumnVector values, int row) {
+      vector.setSafe(index, (int) values.vector[row]);
+    }
+  }
+
+  private static class LongConverter extends ValueConverter<LongColumnVector, BigIntVector> {
+    @Override
+    void set(BigIntVector vector, int index, LongColumnVector values, int row) {
+      vector.setSafe(index, values.vector[row]);
+    }
+  }
+
+  private static class TimeConverter extends ValueConverter<LongColumnVector, TimeMicroVector> {
+    @Override
+    void set(TimeMicroVector vector, int index, LongColumnVector values, int row) {
+      vector.setSafe(index, values.vector[row]);
+    }
+  }
+
+  private static class FloatConverter extends ValueConverter<DoubleColumnVector, Float4Vector> {
+    @Override
+    void set(Float4Vector vector, int index, DoubleColumnVector values, int row) {
+      vector.setSafe(index, (float) values.vector[row]);
+    }
+  }
+
+  private static class DoubleConverter extends ValueConverter<DoubleColumnVector, Float8Vector> {
+    @Override
+    void set(Float8Vector vector, int index, DoubleColumnVector values, int row) {
+      vector.setSafe(index, values.vector[row]);
+    }
+  }
+
+  private static class TimestampConverter
+      extends ValueConverter<TimestampColumnVector, TimeStampVector> {
+    @Override
+    void set(TimeStampVector vector, int index, TimestampColumnVector values, int row) {
+      // the millis of the ORC timestamp include the millis of the nanos
+      long micros = Math.floorDiv(values.time[row], 1_000) * 1_000_000 + values.nanos[row] / 1_000;
+      vector.setSafe(index, micros);
+    }
+  }
+
+  private static class StringConverter extends ValueConverter<BytesColumnVector, VarCharVector> {
+    @Override
+    void set(VarCharVector vector, int index, BytesColumnVector values, int row) {
+      vector.setSafe(index, values.vector[row], values.start[row], values.length[row]);
+    }
+  }
+
+  private static class BinaryConverter extends ValueConverter<BytesColumnVector, VarBinaryVector> {
+    @Override
+    void set(VarBinaryVector vector, int index, BytesColumnVector values, int row) {
+      vector.setSafe(index, values.vector[row], values.start[row], values.length[row]);
+    }
+  }
+
+  private static class FixedConverter
+      extends ValueConverter<BytesColumnVector, FixedSizeBinaryVector> {
+    @Override
+    void set(FixedSizeBinaryVector vector, int index, BytesColumnVector values, int row) {
+      byte[] bytes = values.vector[row];
+      int start = values.start[row];
+      int length = values.length[row];
+      if (start == 0 && length == bytes.length) {
+        vector.setSafe(index, bytes);
+      } else {
+        vector.setSafe(index, Arrays.copyOfRange(bytes, start, start + length));
+      }
+    }
+  }
+
+  private static class DecimalConverter implements Converter {
+    private final int precision;
+    private final int scale;
+
+    private DecimalConverter(int precision, int scale) {
+      this.precision = precision;
+      this.scale = scale;
+    }
+
+    @Override
+    public void convert(
+        ColumnVector source, int sourceRow, FieldVector target, int targetRow, int numRows) {
+      DecimalVector vector = (DecimalVector) target;
+      for (int i = 0; i < numRows; i += 1) {
+        int row = source.isRepeating ? 0 : sourceRow + i;
+        if (!source.noNulls && source.isNull[row]) {
+          vector.setNull(targetRow + i);
+        } else if (source instanceof Decimal64ColumnVector) {
+          // the values of decimal64 vectors are unscaled longs using the scale of the column
+          vector.setSafe(targetRow + i, ((Decimal64ColumnVector) source).vector[row]);
+        } else if (precision <= 18) {
+          vector.setSafe(
+              targetRow + i, ((DecimalColumnVector) source).vector[row].serialize64(scale));
+        } else {
+          vector.setSafe(
+              targetRow + i,
+              ((DecimalColumnVector) source)
+                  .vector[row]
+                  .getHiveDecimal()
+                  .bigDecimalValue()
+                  .setScale(scale));
+        }
+      }
+    }
+  }
+
+  private static class StructConverter implements Converter {
+    private final Converter[] fieldConverters;
+
+    private StructConverter(List<Converter> fieldConverters) {
+      this.fieldConverters = fieldConverters.toArray(new Converter[0]);
+    }
+
+    @Override
+    public void convert(
+        ColumnVector source, int sourceRow, FieldVector target, int targetRow, int numRows) {
+      StructColumnVector struct = (StructColumnVector) source;
+      StructVector vector = (StructVector) target;
+      for (int i = 0; i < numRows; i += 1) {
+        int row = source.isRepeating ? 0 : sourceRow + i;
+        if (source.noNulls || !source.isNull[row]) {
+          vector.setIndexDefined(targetRow + i);
+        } else {
+          vector.setNull(targetRow + i);
+        }
+      }
+
+      // fields have a value for every row of the struct, including null rows
+      for (int pos = 0; pos < fieldConverters.length; pos += 1) {
+        fieldConverters[pos].convert(
+            struct.fields[pos],
+            sourceRow,
+            (FieldVector) vector.getChildByOrdinal(pos),
+            targetRow,
+            numRows);
+      }
+    }
+  }
+
+  private static class ListConverter implements Converter {
+    private final Converter elementConverter;
+
+    private ListConverter(Converter elementConverter) {
+      this.elementConverter = elementConverter;
+    }
+
+    @Override
+    public void convert(
+        ColumnVector source, int sourceRow, FieldVector target, int targetRow, int numRows) {
+      ListColumnVector list = (ListColumnVector) source;
+      ListVector vector = (ListVector) target;
+      for (int i = 0; i < numRows; i += 1) {
+        int row = source.isRepeating ? 0 : sourceRow + i;
+        if (source.noNulls || !source.isNull[row]) {
+          int length = (int) list.lengths[row];
+          int offset = vector.startNewValue(targetRow + i);
+          elementConverter.convert(
+              list.child, (int) list.offsets[row], vector.getDataVector(), offset, length);
+          vector.endValue(targetRow + i, length);
+        } else {
+          vector.setNull(targetRow + i);
+        }
+      }
+    }
+  }
+
+  private static class MapConverter implements Converter {
+    private final Converter keyConverter;
+    private final Converter valueConverter;
+
+    private MapConverter(Converter keyConverter, Converter valueConverter) {
+      this.keyConverter = keyConverter;
+      this.valueConverter = valueConverter;
+    }
+
+    @Override
+    public void convert(
+        ColumnVector source, int sourceRow, FieldVector target, int targetRow, int numRows) {
+      MapColumnVector map = (MapColumnVector) source;
+      ListVector vector = (ListVector) target;
+      StructVector entries = (StructVector) vector.getDataVector();
+      for (int i = 0; i < numRows; i += 1) {
+        int row = source.isRepeating ? 0 : sourceRow + i;
+        if (source.noNulls || !source.isNull[row]) {
+          int length = (int) map.lengths[row];
+          int entryOffset = (int) map.offsets[row];
+          int offset = vector.startNewValue(targetRow + i);
+          for (int entry = 0; entry < length; entry += 1) {
+            entries.setIndexDefined(offset + entry);
+          }
+
+          keyConverter.convert(
+              map.keys, entryOffset, (FieldVector) entries.getChildByOrdinal(0), offset, length);
+          valueConverter.convert(
+              map.values, entryOffset, (FieldVector) entries.getChildByOrdinal(1), offset, length);
+          vector.endValue(targetRow + i, length);
+        } else {
+          vector.setNull(targetRow + i);
+        }
+      }
+    }
+  }
+}
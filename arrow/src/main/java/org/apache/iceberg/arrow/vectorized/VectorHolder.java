@@ -108,6 +108,15 @@ public class VectorHolder {
     return vector.getValueCount();
   }
 
+  /** Returns a holder for a vector that was not read from a Parquet column, like an ORC column. */
+  public static VectorHolder vectorHolder(
+      FieldVector vector, Types.NestedField icebergField, NullabilityHolder holder) {
+    Preconditions.checkNotNull(vector, "Vector cannot be null");
+    Preconditions.checkNotNull(holder, "NullabilityHolder cannot be null");
+    Preconditions.checkNotNull(icebergField, "IcebergField cannot be null");
+    return new VectorHolder(vector, icebergField, holder);
+  }
+
   public static <T> VectorHolder constantHolder(int numRows, T constantValue) {
     return new ConstantVectorHolder(numRows, constantValue);
   }
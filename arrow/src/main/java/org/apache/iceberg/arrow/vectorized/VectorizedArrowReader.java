@@ -19,6 +19,7 @@
 package org.apache.iceberg.arrow.vectorized;
 
 import java.util.Map;
+import java.util.PrimitiveIterator;
 import org.apache.arrow.memory.ArrowBuf;
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.vector.BigIntVector;
@@ -428,7 +429,8 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     this.dictionary =
         vectorizedColumnIterator.setRowGroupInfo(
             source.getPageReader(columnDescriptor),
-            !ParquetUtil.hasNonDictionaryPages(chunkMetaData));
+            !ParquetUtil.hasNonDictionaryPages(chunkMetaData),
+            source.getRowIndexes().orElse(null));
   }
 
   @Override
@@ -481,6 +483,8 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
         ArrowSchemaUtil.convert(MetadataColumns.ROW_POSITION);
     private final boolean setArrowValidityVector;
     private long rowStart;
+    private long rowGroupStart;
+    private PrimitiveIterator.OfLong rowIndexes = null;
     private int batchSize;
     private NullabilityHolder nulls;
 
@@ -499,8 +503,15 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       }
 
       ArrowBuf dataBuffer = vec.getDataBuffer();
-      for (int i = 0; i < numValsToRead; i += 1) {
-        dataBuffer.setLong((long) i * Long.BYTES, rowStart + i);
+      if (rowIndexes != null) {
+        // only some rows of the row group are read
+        for (int i = 0; i < numValsToRead; i += 1) {
+          dataBuffer.setLong((long) i * Long.BYTES, rowGroupStart + rowIndexes.nextLong());
+        }
+      } else {
+        for (int i = 0; i < numValsToRead; i += 1) {
+          dataBuffer.setLong((long) i * Long.BYTES, rowStart + i);
+        }
       }
 
       if (setArrowValidityVector) {
@@ -533,6 +544,8 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     public void setRowGroupInfo(
         PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata, long rowPosition) {
       this.rowStart = rowPosition;
+      this.rowGroupStart = rowPosition;
+      this.rowIndexes = source.getRowIndexes().orElse(null);
     }
 
     @Override
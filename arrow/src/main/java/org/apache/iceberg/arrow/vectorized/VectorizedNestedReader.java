@@ -0,0 +1,715 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.iceberg.arrow.ArrowSchemaUtil;
+import org.apache.iceberg.arrow.vectorized.parquet.DecimalVectorUtil;
+import org.apache.iceberg.parquet.ColumnIterator;
+import org.apache.iceberg.parquet.ParquetUtil;
+import org.apache.iceberg.parquet.VectorizedReader;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.PrimitiveType;
+
+/**
+ * Vectorized reader for struct, list and map columns that produces a batch of values in a nested
+ * Arrow vector ({@link StructVector}, {@link ListVector} or {@link
+ * org.apache.arrow.vector.complex.MapVector}).
+ *
+ * <p>The leaf columns read the definition and repetition levels of a batch of records into level
+ * buffers and write their values into the leaf Arrow vectors. The validity and the offsets of the
+ * enclosing struct, list and map vectors are then derived from the levels of the first leaf column
+ * nested in each of them.
+ *
+ * <p>Each reader tracks the levels of its own type:
+ *
+ * <ul>
+ *   <li>the repetition level and the definition level of the closest repeated ancestor, which
+ *       identify the level entries that start a new value of this type
+ *   <li>the definition level at which a value of this type is non-null
+ * </ul>
+ */
+abstract class VectorizedNestedReader implements VectorizedReader<VectorHolder> {
+  private final Types.NestedField icebergField;
+  private final BufferAllocator allocator;
+  private final int repetitionLevel;
+  private final int enclosingDefinitionLevel;
+  private final int definitionLevel;
+  private FieldVector vector;
+  private NullabilityHolder nullabilityHolder;
+  private int batchSize;
+
+  VectorizedNestedReader(
+      Types.NestedField icebergField,
+      BufferAllocator allocator,
+      int repetitionLevel,
+      int enclosingDefinitionLevel,
+      int definitionLevel) {
+    this.icebergField = icebergField;
+    this.allocator = allocator;
+    this.repetitionLevel = repetitionLevel;
+    this.enclosingDefinitionLevel = enclosingDefinitionLevel;
+    this.definitionLevel = definitionLevel;
+  }
+
+  static VectorizedNestedReader leaf(
+      ColumnDescriptor desc,
+      Types.NestedField icebergField,
+      BufferAllocator allocator,
+      int enclosingDefinitionLevel) {
+    return new LeafReader(desc, icebergField, allocator, enclosingDefinitionLevel);
+  }
+
+  static VectorizedNestedReader struct(
+      Types.NestedField icebergField,
+      BufferAllocator allocator,
+      int repetitionLevel,
+      int enclosingDefinitionLevel,
+      int definitionLevel,
+      List<VectorizedNestedReader> fieldReaders) {
+    return new StructReader(
+        icebergField,
+        allocator,
+        repetitionLevel,
+        enclosingDefinitionLevel,
+        definitionLevel,
+        fieldReaders);
+  }
+
+  static VectorizedNestedReader list(
+      Types.NestedField icebergField,
+      BufferAllocator allocator,
+      int repetitionLevel,
+      int enclosingDefinitionLevel,
+      int definitionLevel,
+      int elementRepetitionLevel,
+      int elementDefinitionLevel,
+      VectorizedNestedReader elementReader) {
+    return new ListReader(
+        icebergField,
+        allocator,
+        repetitionLevel,
+        enclosingDefinitionLevel,
+        definitionLevel,
+        elementRepetitionLevel,
+        elementDefinitionLevel,
+        elementReader);
+  }
+
+  static VectorizedNestedReader map(
+      Types.NestedField icebergField,
+      BufferAllocator allocator,
+      int repetitionLevel,
+      int enclosingDefinitionLevel,
+      int definitionLevel,
+      int entryRepetitionLevel,
+      int entryDefinitionLevel,
+      VectorizedNestedReader keyReader,
+      VectorizedNestedReader valueReader) {
+    return new MapReader(
+        icebergField,
+        allocator,
+        repetitionLevel,
+        enclosingDefinitionLevel,
+        definitionLevel,
+        entryRepetitionLevel,
+        entryDefinitionLevel,
+        keyReader,
+        valueReader);
+  }
+
+  @Override
+  public VectorHolder read(VectorHolder reuse, int numRows) {
+    if (reuse == null || vector == null) {
+      // the vector of the previous batch is closed by the caller when it is not reused
+      this.vector = ArrowSchemaUtil.convert(icebergField).createVector(allocator);
+      this.nullabilityHolder = new NullabilityHolder(Math.max(batchSize, numRows));
+    } else {
+      vector.reset();
+      nullabilityHolder.reset();
+    }
+
+    readLevels(vector, numRows);
+    int numValues = assemble(vector);
+    Preconditions.checkState(
+        numValues == numRows,
+        "Invalid number of values for %s: expected %s but got %s",
+        icebergField.name(),
+        numRows,
+        numValues);
+
+    for (int i = 0; i < numValues; i += 1) {
+      if (vector.isNull(i)) {
+        nullabilityHolder.setNull(i);
+      } else {
+        nullabilityHolder.setNotNull(i);
+      }
+    }
+
+    return new VectorHolder(
+        firstLeaf().descriptor(), vector, false, null, nullabilityHolder, icebergField);
+  }
+
+  @Override
+  public void setBatchSize(int newBatchSize) {
+    this.batchSize = newBatchSize;
+  }
+
+  @Override
+  public void close() {
+    if (vector != null) {
+      vector.close();
+    }
+  }
+
+  /**
+   * Reads the levels of a batch of records for all leaf columns of this type and writes the leaf
+   * values into the corresponding child vectors.
+   */
+  abstract void readLevels(FieldVector fieldVector, int numRows);
+
+  /**
+   * Builds the validity and offsets of this type from the levels read by {@link
+   * #readLevels(FieldVector, int)}.
+   *
+   * @return the number of values of this type in the batch
+   */
+  abstract int assemble(FieldVector fieldVector);
+
+  /** Returns the leaf column whose levels determine the structure of this type. */
+  abstract LeafReader firstLeaf();
+
+  /** Returns whether the given level entry starts a new value (possibly null) of this type. */
+  boolean startsValue(int repLevel, int defLevel) {
+    return repLevel <= repetitionLevel && defLevel >= enclosingDefinitionLevel;
+  }
+
+  boolean isDefined(int defLevel) {
+    return defLevel >= definitionLevel;
+  }
+
+  private static void checkNumValues(VectorizedNestedReader reader, int expected, int actual) {
+    Preconditions.checkState(
+        expected == actual,
+        "Invalid number of values for %s: expected %s but got %s",
+        reader.icebergField.name(),
+        expected,
+        actual);
+  }
+
+  static class LeafReader extends VectorizedNestedReader {
+    private final ColumnDescriptor desc;
+    private final ColumnIterator<?> column;
+    private final int maxDefLevel;
+    private final ValueSetter setter;
+    private int[] repLevels = new int[0];
+    private int[] defLevels = new int[0];
+    private int numEntries = 0;
+    private int numValues = 0;
+
+    LeafReader(
+        ColumnDescriptor desc,
+        Types.NestedField icebergField,
+        BufferAllocator allocator,
+        int enclosingDefinitionLevel) {
+      super(
+          icebergField,
+          allocator,
+          desc.getMaxRepetitionLevel(),
+          enclosingDefinitionLevel,
+          desc.getMaxDefinitionLevel());
+      this.desc = desc;
+      this.column = ColumnIterator.newIterator(desc, "");
+      this.maxDefLevel = desc.getMaxDefinitionLevel();
+      this.setter = ValueSetter.of(icebergField.type().asPrimitiveType(), desc.getPrimitiveType());
+    }
+
+    ColumnDescriptor descriptor() {
+      return desc;
+    }
+
+    int numEntries() {
+      return numEntries;
+    }
+
+    int repetitionLevel(int entry) {
+      return repLevels[entry];
+    }
+
+    int definitionLevel(int entry) {
+      return defLevels[entry];
+    }
+
+    @Override
+    void readLevels(FieldVector fieldVector, int numRows) {
+      this.numEntries = 0;
+      this.numValues = 0;
+      int numRecords = 0;
+      while (column.hasNext()) {
+        int repLevel = column.currentRepetitionLevel();
+        if (repLevel == 0) {
+          if (numRecords == numRows) {
+            break;
+          }
+
+          numRecords += 1;
+        }
+
+        int defLevel = column.currentDefinitionLevel();
+        addLevels(repLevel, defLevel);
+
+        if (defLevel == maxDefLevel) {
+          setter.set(fieldVector, numValues, column);
+          numValues += 1;
+        } else {
+          column.nextNull();
+          if (startsValue(repLevel, defLevel)) {
+            numValues += 1;
+          }
+        }
+      }
+    }
+
+    private void addLevels(int repLevel, int defLevel) {
+      if (numEntries == repLevels.length) {
+        int newLength = Math.max(16, repLevels.length * 2);
+        this.repLevels = Arrays.copyOf(repLevels, newLength);
+        this.defLevels = Arrays.copyOf(defLevels, newLength);
+      }
+
+      repLevels[numEntries] = repLevel;
+      defLevels[numEntries] = defLevel;
+      numEntries += 1;
+    }
+
+    @Override
+    int assemble(FieldVector fieldVector) {
+      // null values are left unset in the validity buffer of the leaf vector
+      fieldVector.setValueCount(numValues);
+      return numValues;
+    }
+
+    @Override
+    LeafReader firstLeaf() {
+      return this;
+    }
+
+    @Override
+    public void setRowGroupInfo(
+        PageReadStore pages, Map<ColumnPath, ColumnChunkMetaData> metadata, long rowPosition) {
+      column.setPageSource(pages.getPageReader(desc), pages.getRowIndexes().orElse(null));
+    }
+
+    @Override
+    public String toString() {
+      return desc.toString();
+    }
+  }
+
+  private static class StructReader extends VectorizedNestedReader {
+    private final List<VectorizedNestedReader> fieldReaders;
+    private final LeafReader firstLeaf;
+
+    private StructReader(
+        Types.NestedField icebergField,
+        BufferAllocator allocator,
+        int repetitionLevel,
+        int enclosingDefinitionLevel,
+        int definitionLevel,
+        List<VectorizedNestedReader> fieldReaders) {
+      super(icebergField, allocator, repetitionLevel, enclosingDefinitionLevel, definitionLevel);
+      this.fieldReaders = fieldReaders;
+      this.firstLeaf =
+          fieldReaders.stream()
+              .filter(reader -> reader != null)
+              .findFirst()
+              .map(VectorizedNestedReader::firstLeaf)
+              .orElseThrow(() -> new IllegalArgumentException("Cannot read struct without fields"));
+    }
+
+    @Override
+    void readLevels(FieldVector fieldVector, int numRows) {
+      StructVector struct = (StructVector) fieldVector;
+      for (int pos = 0; pos < fieldReaders.size(); pos += 1) {
+        VectorizedNestedReader reader = fieldReaders.get(pos);
+        if (reader != null) {
+          reader.readLevels((FieldVector) struct.getChildByOrdinal(pos), numRows);
+        }
+      }
+    }
+
+    @Override
+    int assemble(FieldVector fieldVector) {
+      StructVector struct = (StructVector) fieldVector;
+      int numValues = 0;
+      for (int entry = 0; entry < firstLeaf.numEntries(); entry += 1) {
+        int repLevel = firstLeaf.repetitionLevel(entry);
+        int defLevel = firstLeaf.definitionLevel(entry);
+        if (startsValue(repLevel, defLevel)) {
+          if (isDefined(defLevel)) {
+            struct.setIndexDefined(numValues);
+          } else {
+            struct.setNull(numValues);
+          }
+
+          numValues += 1;
+        }
+      }
+
+      for (int pos = 0; pos < fieldReaders.size(); pos += 1) {
+        VectorizedNestedReader reader = fieldReaders.get(pos);
+        FieldVector child = (FieldVector) struct.getChildByOrdinal(pos);
+        if (reader != null) {
+          checkNumValues(reader, numValues, reader.assemble(child));
+        } else {
+          // fields that are not in the data file are null
+          child.setValueCount(numValues);
+        }
+      }
+
+      struct.setValueCount(numValues);
+      return numValues;
+    }
+
+    @Override
+    LeafReader firstLeaf() {
+      return firstLeaf;
+    }
+
+    @Override
+    public void setRowGroupInfo(
+        PageReadStore pages, Map<ColumnPath, ColumnChunkMetaData> metadata, long rowPosition) {
+      for (VectorizedNestedReader reader : fieldReaders) {
+        if (reader != null) {
+          reader.setRowGroupInfo(pages, metadata, rowPosition);
+        }
+      }
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+      super.setBatchSize(batchSize);
+      for (VectorizedNestedReader reader : fieldReaders) {
+        if (reader != null) {
+          reader.setBatchSize(batchSize);
+        }
+      }
+    }
+  }
+
+  private static class ListReader extends VectorizedNestedReader {
+    private final int elementRepetitionLevel;
+    private final int elementDefinitionLevel;
+    private final VectorizedNestedReader elementReader;
+
+    private ListReader(
+        Types.NestedField icebergField,
+        BufferAllocator allocator,
+        int repetitionLevel,
+        int enclosingDefinitionLevel,
+        int definitionLevel,
+        int elementRepetitionLevel,
+        int elementDefinitionLevel,
+        VectorizedNestedReader elementReader) {
+      super(icebergField, allocator, repetitionLevel, enclosingDefinitionLevel, definitionLevel);
+      this.elementRepetitionLevel = elementRepetitionLevel;
+      this.elementDefinitionLevel = elementDefinitionLevel;
+      this.elementReader = elementReader;
+    }
+
+    @Override
+    void readLevels(FieldVector fieldVector, int numRows) {
+      elementReader.readLevels(((ListVector) fieldVector).getDataVector(), numRows);
+    }
+
+    @Override
+    int assemble(FieldVector fieldVector) {
+      ListVector list = (ListVector) fieldVector;
+      LeafReader leaf = firstLeaf();
+      int numValues = 0;
+      int numElements = 0;
+      int currentIndex = -1;
+      int currentSize = 0;
+      for (int entry = 0; entry < leaf.numEntries(); entry += 1) {
+        int repLevel = leaf.repetitionLevel(entry);
+        int defLevel = leaf.definitionLevel(entry);
+        if (startsValue(repLevel, defLevel)) {
+          if (currentIndex >= 0) {
+            list.endValue(currentIndex, currentSize);
+            currentIndex = -1;
+          }
+
+          if (isDefined(defLevel)) {
+            list.startNewValue(numValues);
+            currentIndex = numValues;
+            currentSize = defLevel >= elementDefinitionLevel ? 1 : 0;
+            numElements += currentSize;
+          }
+
+          numValues += 1;
+
+        } else if (repLevel == elementRepetitionLevel) {
+          currentSize += 1;
+          numElements += 1;
+        }
+      }
+
+      if (currentIndex >= 0) {
+        list.endValue(currentIndex, currentSize);
+      }
+
+      assembleElements(list.getDataVector(), numElements);
+      list.setValueCount(numValues);
+      return numValues;
+    }
+
+    void assembleElements(FieldVector elements, int numElements) {
+      checkNumValues(elementReader, numElements, elementReader.assemble(elements));
+    }
+
+    @Override
+    LeafReader firstLeaf() {
+      return elementReader.firstLeaf();
+    }
+
+    @Override
+    public void setRowGroupInfo(
+        PageReadStore pages, Map<ColumnPath, ColumnChunkMetaData> metadata, long rowPosition) {
+      elementReader.setRowGroupInfo(pages, metadata, rowPosition);
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+      super.setBatchSize(batchSize);
+      elementReader.setBatchSize(batchSize);
+    }
+  }
+
+  private static class MapReader extends ListReader {
+    private final VectorizedNestedReader keyReader;
+    private final VectorizedNestedReader valueReader;
+
+    private MapReader(
+        Types.NestedField icebergField,
+        BufferAllocator allocator,
+        int repetitionLevel,
+        int enclosingDefinitionLevel,
+        int definitionLevel,
+        int entryRepetitionLevel,
+        int entryDefinitionLevel,
+        VectorizedNestedReader keyReader,
+        VectorizedNestedReader valueReader) {
+      super(
+          icebergField,
+          allocator,
+          repetitionLevel,
+          enclosingDefinitionLevel,
+          definitionLevel,
+          entryRepetitionLevel,
+          entryDefinitionLevel,
+          keyReader != null ? keyReader : valueReader);
+      this.keyReader = keyReader;
+      this.valueReader = valueReader;
+    }
+
+    @Override
+    void readLevels(FieldVector fieldVector, int numRows) {
+      StructVector entries = (StructVector) ((ListVector) fieldVector).getDataVector();
+      if (keyReader != null) {
+        keyReader.readLevels((FieldVector) entries.getChildByOrdinal(0), numRows);
+      }
+
+      if (valueReader != null) {
+        valueReader.readLevels((FieldVector) entries.getChildByOrdinal(1), numRows);
+      }
+    }
+
+    @Override
+    void assembleElements(FieldVector elements, int numElements) {
+      StructVector entries = (StructVector) elements;
+      for (int i = 0; i < numElements; i += 1) {
+        entries.setIndexDefined(i);
+      }
+
+      assembleEntryField(keyReader, (FieldVector) entries.getChildByOrdinal(0), numElements);
+      assembleEntryField(valueReader, (FieldVector) entries.getChildByOrdinal(1), numElements);
+      entries.setValueCount(numElements);
+    }
+
+    private static void assembleEntryField(
+        VectorizedNestedReader reader, FieldVector child, int numElements) {
+      if (reader != null) {
+        checkNumValues(reader, numElements, reader.assemble(child));
+      } else {
+        child.setValueCount(numElements);
+      }
+    }
+
+    @Override
+    public void setRowGroupInfo(
+        PageReadStore pages, Map<ColumnPath, ColumnChunkMetaData> metadata, long rowPosition) {
+      if (keyReader != null) {
+        keyReader.setRowGroupInfo(pages, metadata, rowPosition);
+      }
+
+      if (valueReader != null) {
+        valueReader.setRowGroupInfo(pages, metadata, rowPosition);
+      }
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+      super.setBatchSize(batchSize);
+      if (keyReader != null && valueReader != null) {
+        valueReader.setBatchSize(batchSize);
+      }
+    }
+  }
+
+  /** Writes the current value of a column into an Arrow vector. */
+  private interface ValueSetter {
+    void set(FieldVector vector, int index, ColumnIterator<?> column);
+
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    static ValueSetter of(
+        org.apache.iceberg.types.Type.PrimitiveType expected, PrimitiveType primitive) {
+      switch (expected.typeId()) {
+        case BOOLEAN:
+          return (vector, index, column) ->
+              ((BitVector) vector).setSafe(index, column.nextBoolean() ? 1 : 0);
+        case INTEGER:
+          return (vector, index, column) ->
+              ((IntVector) vector).setSafe(index, column.nextInteger());
+        case DATE:
+          return (vector, index, column) ->
+              ((DateDayVector) vector).setSafe(index, column.nextInteger());
+        case LONG:
+          if (primitive.getPrimitiveTypeName() == PrimitiveType.PrimitiveTypeName.INT32) {
+            return (vector, index, column) ->
+                ((BigIntVector) vector).setSafe(index, column.nextInteger());
+          }
+          return (vector, index, column) ->
+              ((BigIntVector) vector).setSafe(index, column.nextLong());
+        case FLOAT:
+          return (vector, index, column) ->
+              ((Float4Vector) vector).setSafe(index, column.nextFloat());
+        case DOUBLE:
+          if (primitive.getPrimitiveTypeName() == PrimitiveType.PrimitiveTypeName.FLOAT) {
+            return (vector, index, column) ->
+                ((Float8Vector) vector).setSafe(index, column.nextFloat());
+          }
+          return (vector, index, column) ->
+              ((Float8Vector) vector).setSafe(index, column.nextDouble());
+        case TIME:
+          if (primitive.getPrimitiveTypeName() == PrimitiveType.PrimitiveTypeName.INT32) {
+            return (vector, index, column) ->
+                ((TimeMicroVector) vector).setSafe(index, column.nextInteger() * 1000L);
+          }
+          return (vector, index, column) ->
+              ((TimeMicroVector) vector).setSafe(index, column.nextLong());
+        case TIMESTAMP:
+          return timestampSetter(primitive);
+        case STRING:
+          return (vector, index, column) ->
+              ((VarCharVector) vector).setSafe(index, column.nextBinary().getBytesUnsafe());
+        case BINARY:
+          return (vector, index, column) ->
+              ((VarBinaryVector) vector).setSafe(index, column.nextBinary().getBytesUnsafe());
+        case FIXED:
+        case UUID:
+          return (vector, index, column) ->
+              ((FixedSizeBinaryVector) vector).setSafe(index, column.nextBinary().getBytesUnsafe());
+        case DECIMAL:
+          return decimalSetter(primitive);
+        default:
+          throw new UnsupportedOperationException("Unsupported type: " + expected);
+      }
+    }
+
+    static ValueSetter timestampSetter(PrimitiveType primitive) {
+      if (primitive.getPrimitiveTypeName() == PrimitiveType.PrimitiveTypeName.INT96) {
+        return (vector, index, column) -> {
+          ByteBuffer buffer = column.nextBinary().toByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+          ((TimeStampVector) vector).setSafe(index, ParquetUtil.extractTimestampInt96(buffer));
+        };
+      }
+
+      LogicalTypeAnnotation annotation = primitive.getLogicalTypeAnnotation();
+      if (annotation instanceof LogicalTypeAnnotation.TimestampLogicalTypeAnnotation
+          && ((LogicalTypeAnnotation.TimestampLogicalTypeAnnotation) annotation).getUnit()
+              == LogicalTypeAnnotation.TimeUnit.MILLIS) {
+        return (vector, index, column) ->
+            ((TimeStampVector) vector).setSafe(index, column.nextLong() * 1000L);
+      }
+
+      return (vector, index, column) ->
+          ((TimeStampVector) vector).setSafe(index, column.nextLong());
+    }
+
+    static ValueSetter decimalSetter(PrimitiveType primitive) {
+      switch (primitive.getPrimitiveTypeName()) {
+        case INT32:
+          return (vector, index, column) ->
+              ((DecimalVector) vector).setSafe(index, column.nextInteger());
+        case INT64:
+          return (vector, index, column) ->
+              ((DecimalVector) vector).setSafe(index, column.nextLong());
+        case BINARY:
+        case FIXED_LEN_BYTE_ARRAY:
+          return (vector, index, column) -> {
+            DecimalVector decimals = (DecimalVector) vector;
+            while (index >= decimals.getValueCapacity()) {
+              decimals.reAlloc();
+            }
+
+            DecimalVectorUtil.setBigEndian(decimals, index, column.nextBinary().getBytesUnsafe());
+          };
+        default:
+          throw new UnsupportedOperationException(
+              "Unsupported base type for decimal: " + primitive.getPrimitiveTypeName());
+      }
+    }
+  }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.arrow.vectorized;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -26,6 +27,7 @@ import org.apache.arrow.memory.BufferAllocator;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.arrow.ArrowAllocation;
+import org.apache.iceberg.parquet.ParquetSchemaUtil;
 import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
@@ -108,11 +110,94 @@ public class VectorizedReaderBuilder extends TypeWithSchemaVisitor<VectorizedRea
   @Override
   public VectorizedReader<?> struct(
       Types.StructType expected, GroupType groupType, List<VectorizedReader<?>> fieldReaders) {
-    if (expected != null) {
-      throw new UnsupportedOperationException(
-          "Vectorized reads are not supported yet for struct fields");
+    if (expected == null || groupType.getId() == null) {
+      return null;
+    }
+
+    Map<Integer, VectorizedNestedReader> readersById = Maps.newHashMap();
+    List<Type> fields = groupType.getFields();
+    for (int pos = 0; pos < fields.size(); pos += 1) {
+      VectorizedReader<?> reader = fieldReaders.get(pos);
+      if (fields.get(pos).getId() != null && reader instanceof VectorizedNestedReader) {
+        readersById.put(fields.get(pos).getId().intValue(), (VectorizedNestedReader) reader);
+      }
+    }
+
+    if (readersById.isEmpty()) {
+      return null;
+    }
+
+    List<VectorizedNestedReader> reorderedFields =
+        Lists.newArrayListWithExpectedSize(expected.fields().size());
+    for (Types.NestedField field : expected.fields()) {
+      reorderedFields.add(readersById.get(field.fieldId()));
+    }
+
+    String[] path = currentPath();
+    return VectorizedNestedReader.struct(
+        icebergSchema.findField(groupType.getId().intValue()),
+        rootAllocator,
+        parquetSchema.getMaxRepetitionLevel(path),
+        enclosingDefinitionLevel(path),
+        parquetSchema.getMaxDefinitionLevel(path),
+        reorderedFields);
+  }
+
+  @Override
+  public VectorizedReader<?> list(
+      Types.ListType expected, GroupType array, VectorizedReader<?> element) {
+    if (expected == null || array.getId() == null || !(element instanceof VectorizedNestedReader)) {
+      return null;
+    }
+
+    String[] listPath;
+    String[] repeatedPath;
+    if (ParquetSchemaUtil.determineListElementType(array).isRepetition(Type.Repetition.REPEATED)) {
+      // two-level lists are visited without the name of the repeated field in the current path
+      listPath = currentPath();
+      repeatedPath = path(array.getFieldName(0));
+    } else {
+      repeatedPath = currentPath();
+      listPath = Arrays.copyOf(repeatedPath, repeatedPath.length - 1);
     }
-    return null;
+
+    return VectorizedNestedReader.list(
+        icebergSchema.findField(array.getId().intValue()),
+        rootAllocator,
+        parquetSchema.getMaxRepetitionLevel(listPath),
+        enclosingDefinitionLevel(listPath),
+        parquetSchema.getMaxDefinitionLevel(listPath),
+        parquetSchema.getMaxRepetitionLevel(repeatedPath),
+        parquetSchema.getMaxDefinitionLevel(repeatedPath),
+        (VectorizedNestedReader) element);
+  }
+
+  @Override
+  public VectorizedReader<?> map(
+      Types.MapType expected,
+      GroupType map,
+      VectorizedReader<?> keyReader,
+      VectorizedReader<?> valueReader) {
+    boolean hasKey = keyReader instanceof VectorizedNestedReader;
+    boolean hasValue = valueReader instanceof VectorizedNestedReader;
+    if (expected == null || map.getId() == null || (!hasKey && !hasValue)) {
+      return null;
+    }
+
+    // maps are visited with the name of the repeated key/value group in the current path
+    String[] repeatedPath = currentPath();
+    String[] mapPath = Arrays.copyOf(repeatedPath, repeatedPath.length - 1);
+
+    return VectorizedNestedReader.map(
+        icebergSchema.findField(map.getId().intValue()),
+        rootAllocator,
+        parquetSchema.getMaxRepetitionLevel(mapPath),
+        enclosingDefinitionLevel(mapPath),
+        parquetSchema.getMaxDefinitionLevel(mapPath),
+        parquetSchema.getMaxRepetitionLevel(repeatedPath),
+        parquetSchema.getMaxDefinitionLevel(repeatedPath),
+        hasKey ? (VectorizedNestedReader) keyReader : null,
+        hasValue ? (VectorizedNestedReader) valueReader : null);
   }
 
   @Override
@@ -124,16 +209,35 @@ public class VectorizedReaderBuilder extends TypeWithSchemaVisitor<VectorizedRea
       return null;
     }
     int parquetFieldId = primitive.getId().intValue();
-    ColumnDescriptor desc = parquetSchema.getColumnDescription(currentPath());
-    // Nested types not yet supported for vectorized reads
-    if (desc.getMaxRepetitionLevel() > 0) {
-      return null;
-    }
+    String[] path = currentPath();
+    ColumnDescriptor desc = parquetSchema.getColumnDescription(path);
     Types.NestedField icebergField = icebergSchema.findField(parquetFieldId);
     if (icebergField == null) {
       return null;
     }
+    // Columns nested in a struct, list or map are assembled from their repetition and definition
+    // levels by the reader of the enclosing type
+    if (path.length > 1) {
+      return VectorizedNestedReader.leaf(
+          desc, icebergField, rootAllocator, enclosingDefinitionLevel(path));
+    }
     // Set the validity buffer if null checking is enabled in arrow
     return new VectorizedArrowReader(desc, icebergField, rootAllocator, setArrowValidityVector);
   }
+
+  /**
+   * Returns the definition level of the closest repeated type in the given path, which is the level
+   * at which an element of the enclosing list or map is defined.
+   */
+  private int enclosingDefinitionLevel(String[] path) {
+    int level = 0;
+    for (int length = 1; length <= path.length; length += 1) {
+      String[] prefix = Arrays.copyOf(path, length);
+      if (parquetSchema.getType(prefix).isRepetition(Type.Repetition.REPEATED)) {
+        level = parquetSchema.getMaxDefinitionLevel(prefix);
+      }
+    }
+
+    return level;
+  }
 }
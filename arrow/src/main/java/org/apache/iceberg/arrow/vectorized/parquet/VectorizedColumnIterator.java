@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.arrow.vectorized.parquet;
 
+import java.util.PrimitiveIterator;
 import org.apache.arrow.vector.FieldVector;
 import org.apache.arrow.vector.IntVector;
 import org.apache.iceberg.arrow.vectorized.NullabilityHolder;
@@ -52,10 +53,15 @@ public class VectorizedColumnIterator extends BaseColumnIterator {
   }
 
   public Dictionary setRowGroupInfo(PageReader store, boolean allPagesDictEncoded) {
+    return setRowGroupInfo(store, allPagesDictEncoded, null);
+  }
+
+  public Dictionary setRowGroupInfo(
+      PageReader store, boolean allPagesDictEncoded, PrimitiveIterator.OfLong rowIndexes) {
     // setPageSource can result in a data page read. If that happens, we need
     // to know in advance whether all the pages in the row group are dictionary encoded or not
     this.vectorizedPageIterator.setAllPagesDictEncoded(allPagesDictEncoded);
-    super.setPageSource(store);
+    super.setPageSource(store, rowIndexes);
     return dictionary;
   }
 
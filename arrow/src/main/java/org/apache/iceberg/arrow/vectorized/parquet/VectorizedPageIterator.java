@@ -152,6 +152,7 @@ public class VectorizedPageIterator extends BasePageIterator {
       final int expectedBatchSize,
       final int numValsInVector,
       NullabilityHolder holder) {
+    skipUnselectedRows();
     final int actualBatchSize = getActualBatchSize(expectedBatchSize);
     if (actualBatchSize <= 0) {
       return 0;
@@ -167,6 +168,7 @@ public class VectorizedPageIterator extends BasePageIterator {
             dictionaryEncodedValuesReader,
             null);
     triplesRead += actualBatchSize;
+    currentRowIndex += actualBatchSize;
     this.hasNext = triplesRead < triplesCount;
     return actualBatchSize;
   }
@@ -178,6 +180,7 @@ public class VectorizedPageIterator extends BasePageIterator {
         int numValsInVector,
         int typeWidth,
         NullabilityHolder holder) {
+      skipUnselectedRows();
       final int actualBatchSize = getActualBatchSize(expectedBatchSize);
       if (actualBatchSize <= 0) {
         return 0;
@@ -188,6 +191,7 @@ public class VectorizedPageIterator extends BasePageIterator {
         nextVal(vector, actualBatchSize, numValsInVector, typeWidth, holder);
       }
       triplesRead += actualBatchSize;
+      currentRowIndex += actualBatchSize;
       hasNext = triplesRead < triplesCount;
       return actualBatchSize;
     }
@@ -364,7 +368,68 @@ public class VectorizedPageIterator extends BasePageIterator {
   }
 
   private int getActualBatchSize(int expectedBatchSize) {
-    return Math.min(expectedBatchSize, triplesCount - triplesRead);
+    int batchSize = Math.min(expectedBatchSize, triplesCount - triplesRead);
+    if (skipsRows() && batchSize > 0) {
+      // stop at the end of the current range of selected rows
+      batchSize = (int) Math.min(batchSize, selectedRows(currentRowIndex + 1));
+    }
+
+    return batchSize;
+  }
+
+  /**
+   * Skips the rows of the page that come before the next selected row, when only some rows of the
+   * row group are read. Columns are not nested, so each row is a single triple.
+   */
+  private void skipUnselectedRows() {
+    if (!skipsRows()) {
+      return;
+    }
+
+    int numRows = (int) Math.min(rowsToSkip(currentRowIndex + 1), triplesCount - triplesRead);
+    for (int i = 0; i < numRows; i += 1) {
+      if (vectorizedDefinitionLevelReader.readInteger() == desc.getMaxDefinitionLevel()) {
+        skipValue();
+      }
+    }
+
+    triplesRead += numRows;
+    triplesSkipped += numRows;
+    currentRowIndex += numRows;
+    this.hasNext = triplesRead < triplesCount;
+  }
+
+  private void skipValue() {
+    if (dictionaryDecodeMode != DictionaryDecodeMode.NONE) {
+      dictionaryEncodedValuesReader.readInteger();
+      return;
+    }
+
+    switch (desc.getPrimitiveType().getPrimitiveTypeName()) {
+      case BOOLEAN:
+        plainValuesReader.readBooleanAsInt();
+        break;
+      case INT32:
+      case FLOAT:
+        plainValuesReader.getBuffer(4);
+        break;
+      case INT64:
+      case DOUBLE:
+        plainValuesReader.getBuffer(8);
+        break;
+      case INT96:
+        plainValuesReader.getBuffer(12);
+        break;
+      case FIXED_LEN_BYTE_ARRAY:
+        plainValuesReader.getBuffer(desc.getPrimitiveType().getTypeLength());
+        break;
+      case BINARY:
+        plainValuesReader.getBuffer(plainValuesReader.readInteger());
+        break;
+      default:
+        throw new UnsupportedOperationException(
+            "Cannot skip value of type: " + desc.getPrimitiveType().getPrimitiveTypeName());
+    }
   }
 
   /**
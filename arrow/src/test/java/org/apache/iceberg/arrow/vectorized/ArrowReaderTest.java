@@ -521,6 +521,15 @@ public class ArrowReaderTest {
         "string",
         (records, i) -> records.get(i).getField("string"),
         ColumnVector::getString);
+    checkColumnarArrayValues(
+        expectedNumRows,
+        expectedRows,
+        batch,
+        columnNameToIndex.get("string"),
+        columnSet,
+        "string",
+        (records, i) -> records.get(i).getField("string"),
+        (array, i) -> new String(array.getBinary(i), StandardCharsets.UTF_8));
     checkColumnarArrayValues(
         expectedNumRows,
         expectedRows,
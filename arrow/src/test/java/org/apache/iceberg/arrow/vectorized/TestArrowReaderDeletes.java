@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableScan;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.TestTables;
+import org.apache.iceberg.data.DeleteReadTests;
+import org.apache.iceberg.data.FileHelpers;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.CharSequenceSet;
+import org.apache.iceberg.util.Pair;
+import org.apache.iceberg.util.StructLikeSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestArrowReaderDeletes extends DeleteReadTests {
+
+  @Override
+  protected Table createTable(String name, Schema schema, PartitionSpec spec) throws IOException {
+    File tableDir = temp.newFolder();
+    Assert.assertTrue(tableDir.delete());
+
+    return TestTables.create(tableDir, name, schema, spec, 2);
+  }
+
+  @Override
+  protected void dropTable(String name) {
+    TestTables.clearTables();
+  }
+
+  @Override
+  public StructLikeSet rowSet(String name, Table table, String... columns) throws IOException {
+    TableScan scan = table.newScan().select(columns);
+    Schema projection = scan.schema();
+    StructLikeSet set = StructLikeSet.create(projection.asStruct());
+    ColumnarBatchRow row = new ColumnarBatchRow(projection.columns());
+
+    try (CloseableIterable<ColumnarBatch> batches =
+        new VectorizedTableScanIterable(scan, 3, false)) {
+      for (ColumnarBatch batch : batches) {
+        ColumnVector[] columnVectors = new ColumnVector[batch.numCols()];
+        for (int i = 0; i < columnVectors.length; i += 1) {
+          columnVectors[i] = batch.column(i);
+        }
+
+        for (int rowId = 0; rowId < batch.numRows(); rowId += 1) {
+          row.wrap(columnVectors, rowId);
+          GenericRecord record = GenericRecord.create(projection);
+          for (int pos = 0; pos < row.size(); pos += 1) {
+            record.set(pos, row.get(pos, Object.class));
+          }
+
+          set.add(record);
+        }
+      }
+    }
+
+    return set;
+  }
+
+  @Test
+  public void testVectorSchemaRootSkipsDeletedRows() throws IOException {
+    List<Pair<CharSequence, Long>> deletes =
+        Lists.newArrayList(
+            Pair.of(dataFile.path(), 0L), // id = 29
+            Pair.of(dataFile.path(), 2L) // id = 61
+            );
+
+    Pair<DeleteFile, CharSequenceSet> posDeletes =
+        FileHelpers.writeDeleteFile(table, Files.localOutput(temp.newFile()), Row.of(0), deletes);
+
+    table.newRowDelta().addDeletes(posDeletes.first()).commit();
+
+    int numRows = 0;
+    try (CloseableIterable<ColumnarBatch> batches =
+        new VectorizedTableScanIterable(table.newScan().select("id"), 3, false)) {
+      for (ColumnarBatch batch : batches) {
+        VectorSchemaRoot root = batch.createVectorSchemaRootFromVectors();
+        Assert.assertEquals(
+            "Root should only contain rows that are not deleted",
+            batch.numRows(),
+            root.getRowCount());
+
+        IntVector ids = (IntVector) root.getVector(0);
+        for (int rowId = 0; rowId < root.getRowCount(); rowId += 1) {
+          Assert.assertEquals(
+              "Root should contain the rows returned by the column accessors",
+              batch.column(0).getInt(rowId),
+              ids.get(rowId));
+        }
+
+        numRows += root.getRowCount();
+      }
+    }
+
+    Assert.assertEquals("Should skip deleted rows", records.size() - deletes.size(), numRows);
+  }
+}
@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.MapVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.data.DataTestHelpers;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.RandomGenericData;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Test cases for reading struct, list and map columns with {@link ArrowReader}. */
+public class TestArrowReaderNestedTypes {
+  private static final int NUM_ROWS = 500;
+
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()),
+          optional(
+              2,
+              "location",
+              Types.StructType.of(
+                  optional(3, "lat", Types.DoubleType.get()),
+                  optional(4, "long", Types.DoubleType.get()))),
+          optional(5, "tags", Types.ListType.ofOptional(6, Types.StringType.get())),
+          optional(
+              7,
+              "properties",
+              Types.MapType.ofOptional(8, 9, Types.StringType.get(), Types.IntegerType.get())),
+          optional(
+              10,
+              "points",
+              Types.ListType.ofOptional(
+                  11,
+                  Types.StructType.of(
+                      required(12, "x", Types.IntegerType.get()),
+                      optional(13, "y", Types.LongType.get())))),
+          optional(
+              14,
+              "matrix",
+              Types.ListType.ofRequired(
+                  15, Types.ListType.ofOptional(16, Types.IntegerType.get()))),
+          required(
+              17,
+              "info",
+              Types.StructType.of(
+                  required(18, "name", Types.StringType.get()),
+                  optional(19, "scores", Types.ListType.ofOptional(20, Types.DoubleType.get())),
+                  optional(
+                      21,
+                      "attributes",
+                      Types.MapType.ofRequired(
+                          22,
+                          23,
+                          Types.StringType.get(),
+                          Types.StructType.of(optional(24, "count", Types.IntegerType.get())))))));
+
+  @TempDir private File tempDir;
+
+  @Test
+  public void testReadNestedTypes() throws Exception {
+    Table table = createTable();
+    Schema schema = table.schema();
+    List<Record> expected = writeRecords(table, RandomGenericData.generate(schema, NUM_ROWS, 0L));
+
+    assertEqualRecords(schema, expected, readRecords(table, schema, 64));
+  }
+
+  @Test
+  public void testReadNestedTypesWithBatchSizeOne() throws Exception {
+    Table table = createTable();
+    Schema schema = table.schema();
+    List<Record> expected = writeRecords(table, RandomGenericData.generate(schema, 50, 1L));
+
+    assertEqualRecords(schema, expected, readRecords(table, schema, 1));
+  }
+
+  @Test
+  public void testReadNestedTypesAcrossRowGroups() throws Exception {
+    Table table = createTable();
+    table.updateProperties().set(TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES, "4096").commit();
+    Schema schema = table.schema();
+    List<Record> expected = writeRecords(table, RandomGenericData.generate(schema, NUM_ROWS, 2L));
+
+    assertEqualRecords(schema, expected, readRecords(table, schema, 100));
+  }
+
+  @Test
+  public void testReadProjectedNestedFields() throws Exception {
+    Table table = createTable();
+    Schema schema = table.schema();
+    List<Record> written = writeRecords(table, RandomGenericData.generate(schema, NUM_ROWS, 3L));
+
+    Schema projection = schema.select("id", "points.y", "info.scores", "properties");
+    List<Record> expected = Lists.newArrayList();
+    for (Record record : written) {
+      Record projected = GenericRecord.create(projection);
+      projected.setField("id", record.getField("id"));
+      projected.setField("points", projectPoints((List<?>) record.getField("points"), projection));
+      Record info = GenericRecord.create(projection.findType("info").asStructType());
+      info.setField("scores", ((Record) record.getField("info")).getField("scores"));
+      projected.setField("info", info);
+      projected.setField("properties", record.getField("properties"));
+      expected.add(projected);
+    }
+
+    assertEqualRecords(projection, expected, readRecords(table, projection, 64));
+  }
+
+  @Test
+  public void testNestedVectorTypes() throws Exception {
+    Table table = createTable();
+    writeRecords(table, RandomGenericData.generate(table.schema(), 10, 4L));
+
+    try (VectorizedTableScanIterable batches =
+        new VectorizedTableScanIterable(table.newScan(), 10, false)) {
+      for (ColumnarBatch batch : batches) {
+        VectorSchemaRoot root = batch.createVectorSchemaRootFromVectors();
+        assertThat(root.getVector("location")).isInstanceOf(StructVector.class);
+        assertThat(root.getVector("tags")).isInstanceOf(ListVector.class);
+        assertThat(root.getVector("properties")).isInstanceOf(MapVector.class);
+        assertThat(root.getVector("matrix")).isInstanceOf(ListVector.class);
+        assertThat(((ListVector) root.getVector("matrix")).getDataVector())
+            .isInstanceOf(ListVector.class);
+      }
+    }
+  }
+
+  private static List<Record> projectPoints(List<?> points, Schema projection) {
+    if (points == null) {
+      return null;
+    }
+
+    Types.StructType pointType = projection.findType("points.element").asStructType();
+    List<Record> projected = Lists.newArrayList();
+    for (Object point : points) {
+      if (point == null) {
+        projected.add(null);
+      } else {
+        Record record = GenericRecord.create(pointType);
+        record.setField("y", ((Record) point).getField("y"));
+        projected.add(record);
+      }
+    }
+
+    return projected;
+  }
+
+  private Table createTable() {
+    return new HadoopTables()
+        .create(
+            SCHEMA,
+            PartitionSpec.unpartitioned(),
+            ImmutableMap.of(TableProperties.FORMAT_VERSION, "2"),
+            tempDir.toURI().toString());
+  }
+
+  private List<Record> writeRecords(Table table, List<Record> records) throws IOException {
+    File parquetFile = File.createTempFile("junit", null, tempDir);
+    assertThat(parquetFile.delete()).isTrue();
+
+    FileAppender<Record> appender =
+        Parquet.write(Files.localOutput(parquetFile))
+            .schema(table.schema())
+            .setAll(table.properties())
+            .createWriterFunc(GenericParquetWriter::buildWriter)
+            .build();
+    try {
+      appender.addAll(records);
+    } finally {
+      appender.close();
+    }
+
+    DataFile dataFile =
+        DataFiles.builder(table.spec())
+            .withInputFile(Files.localInput(parquetFile))
+            .withMetrics(appender.metrics())
+            .withFormat(FileFormat.PARQUET)
+            .build();
+    table.newAppend().appendFile(dataFile).commit();
+
+    return records;
+  }
+
+  private static List<Record> readRecords(Table table, Schema projection, int batchSize)
+      throws IOException {
+    List<Record> records = Lists.newArrayList();
+    try (VectorizedTableScanIterable batches =
+        new VectorizedTableScanIterable(table.newScan().project(projection), batchSize, false)) {
+      for (ColumnarBatch batch : batches) {
+        VectorSchemaRoot root = batch.createVectorSchemaRootFromVectors();
+        for (int row = 0; row < root.getRowCount(); row += 1) {
+          Record record = GenericRecord.create(projection);
+          for (Types.NestedField field : projection.columns()) {
+            FieldVector vector = root.getVector(field.name());
+            record.setField(field.name(), toGeneric(field.type(), vector.getObject(row)));
+          }
+
+          records.add(record);
+        }
+      }
+    }
+
+    return records;
+  }
+
+  private static void assertEqualRecords(
+      Schema schema, List<Record> expected, List<Record> actual) {
+    assertThat(actual).hasSize(expected.size());
+    for (int i = 0; i < expected.size(); i += 1) {
+      DataTestHelpers.assertEquals(schema.asStruct(), expected.get(i), actual.get(i));
+    }
+  }
+
+  /** Converts the Java object returned by an Arrow vector to Iceberg's generic representation. */
+  private static Object toGeneric(Type type, Object value) {
+    if (value == null) {
+      return null;
+    }
+
+    switch (type.typeId()) {
+      case STRUCT:
+        Map<?, ?> fields = (Map<?, ?>) value;
+        Record record = GenericRecord.create(type.asStructType());
+        for (Types.NestedField field : type.asStructType().fields()) {
+          record.setField(field.name(), toGeneric(field.type(), fields.get(field.name())));
+        }
+
+        return record;
+      case LIST:
+        List<Object> elements = Lists.newArrayList();
+        for (Object element : (List<?>) value) {
+          elements.add(toGeneric(type.asListType().elementType(), element));
+        }
+
+        return elements;
+      case MAP:
+        Map<Object, Object> map = Maps.newLinkedHashMap();
+        for (Object entry : (List<?>) value) {
+          Map<?, ?> keyValue = (Map<?, ?>) entry;
+          map.put(
+              toGeneric(type.asMapType().keyType(), keyValue.get(MapVector.KEY_NAME)),
+              toGeneric(type.asMapType().valueType(), keyValue.get(MapVector.VALUE_NAME)));
+        }
+
+        return map;
+      case STRING:
+        return value.toString();
+      default:
+        return value;
+    }
+  }
+}
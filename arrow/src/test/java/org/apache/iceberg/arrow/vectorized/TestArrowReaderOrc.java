@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.MapVector;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.arrow.ArrowAllocation;
+import org.apache.iceberg.data.DataTestHelpers;
+import org.apache.iceberg.data.FileHelpers;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.RandomGenericData;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.DateTimeUtil;
+import org.apache.iceberg.util.Pair;
+import org.apache.iceberg.util.UUIDUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Test cases for reading ORC data files with {@link ArrowReader}. */
+public class TestArrowReaderOrc {
+  private static final int NUM_ROWS = 1000;
+
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()),
+          optional(2, "bool", Types.BooleanType.get()),
+          optional(3, "int", Types.IntegerType.get()),
+          optional(4, "float", Types.FloatType.get()),
+          optional(5, "double", Types.DoubleType.get()),
+          optional(6, "date", Types.DateType.get()),
+          optional(7, "time", Types.TimeType.get()),
+          optional(8, "ts", Types.TimestampType.withoutZone()),
+          optional(9, "tstz", Types.TimestampType.withZone()),
+          optional(10, "string", Types.StringType.get()),
+          optional(11, "binary", Types.BinaryType.get()),
+          optional(12, "uuid", Types.UUIDType.get()),
+          optional(13, "dec_9_2", Types.DecimalType.of(9, 2)),
+          optional(14, "dec_38_10", Types.DecimalType.of(38, 10)),
+          optional(
+              15,
+              "location",
+              Types.StructType.of(
+                  optional(16, "lat", Types.DoubleType.get()),
+                  optional(17, "tags", Types.ListType.ofOptional(18, Types.StringType.get())))),
+          optional(
+              19,
+              "properties",
+              Types.MapType.ofOptional(20, 21, Types.StringType.get(), Types.IntegerType.get())),
+          optional(
+              22,
+              "points",
+              Types.ListType.ofOptional(
+                  23,
+                  Types.StructType.of(
+                      required(24, "x", Types.IntegerType.get()),
+                      optional(25, "y", Types.LongType.get())))));
+
+  @TempDir private File tempDir;
+
+  private Table table = null;
+
+  @BeforeEach
+  public void createTable() {
+    this.table =
+        new HadoopTables()
+            .create(
+                SCHEMA,
+                PartitionSpec.unpartitioned(),
+                ImmutableMap.of(
+                    TableProperties.FORMAT_VERSION,
+                    "2",
+                    TableProperties.DEFAULT_FILE_FORMAT,
+                    FileFormat.ORC.name()),
+                new File(tempDir, "table").toURI().toString());
+  }
+
+  @Test
+  public void testReadAllTypes() throws IOException {
+    Schema schema = table.schema();
+    List<Record> expected = writeRecords(RandomGenericData.generate(schema, NUM_ROWS, 0L));
+
+    for (int batchSize : new int[] {1, 64, NUM_ROWS}) {
+      assertEqualRecords(schema, expected, readRecords(schema, batchSize, false));
+    }
+
+    assertThat(ArrowAllocation.rootAllocator().getChildAllocators())
+        .as("Closed readers should close their allocators")
+        .noneMatch(child -> child.getName().equals("ArrowOrcBatchReader"));
+  }
+
+  @Test
+  public void testReadWithReusedContainers() throws IOException {
+    Schema schema = table.schema();
+    List<Record> expected = writeRecords(RandomGenericData.generate(schema, NUM_ROWS, 1L));
+
+    assertEqualRecords(schema, expected, readRecords(schema, 100, true));
+  }
+
+  @Test
+  public void testReadProjectedColumns() throws IOException {
+    Schema schema = table.schema();
+    List<Record> written = writeRecords(RandomGenericData.generate(schema, NUM_ROWS, 2L));
+
+    Schema projection = schema.select("properties", "id", "tstz");
+    List<Record> expected = Lists.newArrayList();
+    for (Record record : written) {
+      Record projected = GenericRecord.create(projection);
+      for (Types.NestedField field : projection.columns()) {
+        projected.setField(field.name(), record.getField(field.name()));
+      }
+
+      expected.add(projected);
+    }
+
+    assertEqualRecords(projection, expected, readRecords(projection, 64, false));
+  }
+
+  @Test
+  public void testReadPositionsWithDeletes() throws IOException {
+    Schema schema = table.schema();
+    List<Record> written = writeRecords(RandomGenericData.generate(schema, NUM_ROWS, 3L));
+    DataFile dataFile = table.currentSnapshot().addedDataFiles(table.io()).iterator().next();
+
+    List<Pair<CharSequence, Long>> deletes =
+        Lists.newArrayList(
+            Pair.of(dataFile.path(), 0L),
+            Pair.of(dataFile.path(), 63L),
+            Pair.of(dataFile.path(), 64L),
+            Pair.of(dataFile.path(), 999L));
+    DeleteFile posDeletes =
+        FileHelpers.writeDeleteFile(
+                table, Files.localOutput(new File(tempDir, "pos-deletes.orc")), deletes)
+            .first();
+
+    Schema deleteRowSchema = schema.select("id");
+    Record deletedId = GenericRecord.create(deleteRowSchema);
+    deletedId.setField("id", written.get(500).getField("id"));
+    DeleteFile eqDeletes =
+        FileHelpers.writeDeleteFile(
+            table,
+            Files.localOutput(new File(tempDir, "eq-deletes.orc")),
+            Lists.newArrayList(deletedId),
+            deleteRowSchema);
+
+    table.newRowDelta().addDeletes(posDeletes).addDeletes(eqDeletes).commit();
+
+    Schema projection = new Schema(schema.findField("id"), MetadataColumns.ROW_POSITION);
+    List<Record> actual = readRecords(projection, 64, false);
+
+    assertThat(actual).hasSize(NUM_ROWS - 5);
+    for (Record record : actual) {
+      long pos = (Long) record.getField(MetadataColumns.ROW_POSITION.name());
+      assertThat(pos).isNotIn(0L, 63L, 64L, 500L, 999L);
+      assertThat(record.getField("id")).isEqualTo(written.get((int) pos).getField("id"));
+    }
+  }
+
+  private List<Record> writeRecords(List<Record> records) throws IOException {
+    File orcFile = new File(tempDir, "data.orc");
+    DataFile dataFile = FileHelpers.writeDataFile(table, Files.localOutput(orcFile), records);
+    table.newAppend().appendFile(dataFile).commit();
+    return records;
+  }
+
+  private List<Record> readRecords(Schema projection, int batchSize, boolean reuseContainers)
+      throws IOException {
+    List<Record> records = Lists.newArrayList();
+    try (VectorizedTableScanIterable batches =
+        new VectorizedTableScanIterable(
+            table.newScan().project(projection), batchSize, reuseContainers)) {
+      for (ColumnarBatch batch : batches) {
+        VectorSchemaRoot root = batch.createVectorSchemaRootFromVectors();
+        for (int row = 0; row < root.getRowCount(); row += 1) {
+          Record record = GenericRecord.create(projection);
+          for (Types.NestedField field : projection.columns()) {
+            FieldVector vector = root.getVector(field.name());
+            record.setField(field.name(), toGeneric(field.type(), vector.getObject(row)));
+          }
+
+          records.add(record);
+        }
+      }
+    }
+
+    return records;
+  }
+
+  private static void assertEqualRecords(
+      Schema schema, List<Record> expected, List<Record> actual) {
+    assertThat(actual).hasSize(expected.size());
+    for (int i = 0; i < expected.size(); i += 1) {
+      DataTestHelpers.assertEquals(schema.asStruct(), expected.get(i), actual.get(i));
+    }
+  }
+
+  /** Converts the Java object returned by an Arrow vector to Iceberg's generic representation. */
+  private static Object toGeneric(Type type, Object value) {
+    if (value == null) {
+      return null;
+    }
+
+    switch (type.typeId()) {
+      case STRUCT:
+        Map<?, ?> fields = (Map<?, ?>) value;
+        Record record = GenericRecord.create(type.asStructType());
+        for (Types.NestedField field : type.asStructType().fields()) {
+          record.setField(field.name(), toGeneric(field.type(), fields.get(field.name())));
+        }
+
+        return record;
+      case LIST:
+        List<Object> elements = Lists.newArrayList();
+        for (Object element : (List<?>) value) {
+          elements.add(toGeneric(type.asListType().elementType(), element));
+        }
+
+        return elements;
+      case MAP:
+        Map<Object, Object> map = Maps.newLinkedHashMap();
+        for (Object entry : (List<?>) value) {
+          Map<?, ?> keyValue = (Map<?, ?>) entry;
+          map.put(
+              toGeneric(type.asMapType().keyType(), keyValue.get(MapVector.KEY_NAME)),
+              toGeneric(type.asMapType().valueType(), keyValue.get(MapVector.VALUE_NAME)));
+        }
+
+        return map;
+      case DATE:
+        return DateTimeUtil.dateFromDays((Integer) value);
+      case TIME:
+        return DateTimeUtil.timeFromMicros((Long) value);
+      case TIMESTAMP:
+        if (((Types.TimestampType) type).shouldAdjustToUTC()) {
+          return DateTimeUtil.timestamptzFromMicros((Long) value);
+        }
+
+        return value;
+      case STRING:
+        return value.toString();
+      case BINARY:
+        return ByteBuffer.wrap((byte[]) value);
+      case UUID:
+        return UUIDUtil.convert((byte[]) value);
+      default:
+        return value;
+    }
+  }
+}
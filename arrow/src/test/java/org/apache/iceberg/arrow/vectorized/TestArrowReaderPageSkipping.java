@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import static org.apache.iceberg.expressions.Expressions.and;
+import static org.apache.iceberg.expressions.Expressions.greaterThanOrEqual;
+import static org.apache.iceberg.expressions.Expressions.in;
+import static org.apache.iceberg.expressions.Expressions.lessThan;
+import static org.apache.iceberg.expressions.Expressions.or;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.data.FileHelpers;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for reading only the pages selected by Parquet page indexes with {@link ArrowReader}.
+ */
+public class TestArrowReaderPageSkipping {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.IntegerType.get()), optional(2, "data", Types.StringType.get()));
+
+  private static final int NUM_ROWS = 1000;
+  private static final int PAGE_ROW_LIMIT = 100;
+
+  @TempDir private File tempDir;
+
+  private Table table = null;
+  private DataFile dataFile = null;
+
+  @BeforeEach
+  public void createTable() throws IOException {
+    File tableDir = new File(tempDir, "table");
+    this.table =
+        new HadoopTables()
+            .create(
+                SCHEMA,
+                PartitionSpec.unpartitioned(),
+                ImmutableMap.of(TableProperties.FORMAT_VERSION, "2"),
+                tableDir.toURI().toString());
+
+    List<Record> records = Lists.newArrayList();
+    for (int i = 0; i < NUM_ROWS; i += 1) {
+      Record record = GenericRecord.create(SCHEMA);
+      record.setField("id", i);
+      record.setField("data", data(i));
+      records.add(record);
+    }
+
+    // data values have different lengths so that the pages of the two columns do not line up
+    File parquetFile = new File(tempDir, "data.parquet");
+    FileAppender<Record> appender =
+        Parquet.write(Files.localOutput(parquetFile))
+            .schema(SCHEMA)
+            .createWriterFunc(GenericParquetWriter::buildWriter)
+            .set(TableProperties.PARQUET_PAGE_ROW_LIMIT, String.valueOf(PAGE_ROW_LIMIT))
+            .set(TableProperties.PARQUET_PAGE_SIZE_BYTES, "1024")
+            .set(TableProperties.PARQUET_DICT_SIZE_BYTES, "1024")
+            .set(TableProperties.PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT, "10")
+            .set(TableProperties.PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT, "10")
+            .build();
+    try {
+      appender.addAll(records);
+    } finally {
+      appender.close();
+    }
+
+    this.dataFile =
+        DataFiles.builder(table.spec())
+            .withInputFile(Files.localInput(parquetFile))
+            .withMetrics(appender.metrics())
+            .withFormat(FileFormat.PARQUET)
+            .build();
+    table.newAppend().appendFile(dataFile).commit();
+  }
+
+  private static String data(int id) {
+    if (id % 10 == 3) {
+      return null;
+    }
+
+    StringBuilder builder = new StringBuilder(String.format("data-%04d-", id));
+    for (int i = 0; i < id % 37; i += 1) {
+      builder.append('x');
+    }
+
+    return builder.toString();
+  }
+
+  @Test
+  public void testReadSelectedPages() throws IOException {
+    Expression filter = and(greaterThanOrEqual("id", 420), lessThan("id", 480));
+    for (int batchSize : new int[] {1, 7, 64, 1000}) {
+      assertThat(readIds(filter, batchSize)).isEqualTo(idRange(400, 500));
+    }
+  }
+
+  @Test
+  public void testReadMultipleSelectedPages() throws IOException {
+    Expression filter = or(lessThan("id", 10), in("id", 250, 777));
+    List<Integer> expected = Lists.newArrayList(idRange(0, 100));
+    expected.addAll(idRange(200, 300));
+    expected.addAll(idRange(700, 800));
+
+    for (int batchSize : new int[] {1, 7, 64, 1000}) {
+      assertThat(readIds(filter, batchSize)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void testReadSelectedPagesWithPositionDeletes() throws IOException {
+    List<Pair<CharSequence, Long>> deletes =
+        Lists.newArrayList(
+            Pair.of(dataFile.path(), 5L),
+            Pair.of(dataFile.path(), 410L),
+            Pair.of(dataFile.path(), 499L),
+            Pair.of(dataFile.path(), 500L));
+    DeleteFile deleteFile =
+        FileHelpers.writeDeleteFile(
+                table, Files.localOutput(new File(tempDir, "deletes.parquet")), deletes)
+            .first();
+    table.newRowDelta().addDeletes(deleteFile).commit();
+
+    List<Integer> expected = Lists.newArrayList(idRange(400, 500));
+    expected.removeAll(ImmutableList.of(410, 499));
+
+    Expression filter = and(greaterThanOrEqual("id", 420), lessThan("id", 480));
+    for (int batchSize : new int[] {1, 7, 64, 1000}) {
+      assertThat(readIds(filter, batchSize)).isEqualTo(expected);
+    }
+  }
+
+  private List<Integer> readIds(Expression filter, int batchSize) throws IOException {
+    List<Integer> ids = Lists.newArrayList();
+    try (VectorizedTableScanIterable batches =
+        new VectorizedTableScanIterable(
+            table
+                .newScan()
+                .filter(filter)
+                .project(
+                    new Schema(
+                        SCHEMA.findField("id"),
+                        SCHEMA.findField("data"),
+                        MetadataColumns.ROW_POSITION)),
+            batchSize,
+            false)) {
+      for (ColumnarBatch batch : batches) {
+        for (int row = 0; row < batch.numRows(); row += 1) {
+          int id = batch.column(0).getInt(row);
+          assertThat(batch.column(1).getString(row)).isEqualTo(data(id));
+          assertThat(batch.column(2).getLong(row)).isEqualTo((long) id);
+          ids.add(id);
+        }
+      }
+    }
+
+    return ids;
+  }
+
+  private static List<Integer> idRange(int start, int end) {
+    List<Integer> ids = Lists.newArrayList();
+    for (int id = start; id < end; id += 1) {
+      ids.add(id);
+    }
+
+    return ids;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.aws.s3;
+
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.Deque;
+import java.util.List;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
+
+/**
+ * A pool of direct buffers that {@link S3OutputStream} uses to stage parts in memory.
+ *
+ * <p>The bytes of all buffers in use are limited by a budget that is shared by all streams. When
+ * the budget is used up, a stream that needs a buffer waits until parts that are being uploaded
+ * release their buffers. A stream does not wait when no part is being uploaded, because then only
+ * open streams hold buffers and waiting could block forever, for example when one thread writes to
+ * many files. In that case the budget is exceeded until uploads are started.
+ */
+class S3BufferPool {
+  static final int BUFFER_SIZE = 1024 * 1024;
+
+  private final long maxBytes;
+  private final Deque<ByteBuffer> freeBuffers = Queues.newArrayDeque();
+  private long usedBytes = 0L;
+  private long uploadingBytes = 0L;
+
+  S3BufferPool(long maxBytes) {
+    Preconditions.checkArgument(maxBytes > 0, "Invalid max bytes: %s (must be > 0)", maxBytes);
+    this.maxBytes = maxBytes;
+  }
+
+  /** Returns an empty buffer, waiting for uploads to release buffers if the budget is used up. */
+  synchronized ByteBuffer acquire() throws InterruptedIOException {
+    while (usedBytes + BUFFER_SIZE > maxBytes && uploadingBytes > 0) {
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for a staging buffer");
+      }
+    }
+
+    this.usedBytes += BUFFER_SIZE;
+
+    ByteBuffer buffer = freeBuffers.poll();
+    if (buffer == null) {
+      buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    buffer.clear();
+    return buffer;
+  }
+
+  /** Records that the buffers are being uploaded and are released once the upload finishes. */
+  synchronized void uploading(List<ByteBuffer> buffers) {
+    this.uploadingBytes += (long) buffers.size() * BUFFER_SIZE;
+  }
+
+  /**
+   * Returns buffers to the pool.
+   *
+   * @param buffers buffers to release
+   * @param uploaded whether the buffers were passed to {@link #uploading(List)}
+   */
+  synchronized void release(List<ByteBuffer> buffers, boolean uploaded) {
+    long releasedBytes = (long) buffers.size() * BUFFER_SIZE;
+    this.usedBytes -= releasedBytes;
+    if (uploaded) {
+      this.uploadingBytes -= releasedBytes;
+    }
+
+    for (ByteBuffer buffer : buffers) {
+      // only keep as many buffers as the budget allows
+      if (usedBytes + (long) (freeBuffers.size() + 1) * BUFFER_SIZE <= maxBytes) {
+        freeBuffers.push(buffer);
+      }
+    }
+
+    notifyAll();
+  }
+
+  synchronized long usedBytes() {
+    return usedBytes;
+  }
+}
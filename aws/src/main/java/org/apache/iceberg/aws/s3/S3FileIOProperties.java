@@ -102,6 +102,38 @@ public class S3FileIOProperties implements Serializable {
    */
   public static final String MULTIPART_UPLOAD_THREADS = "s3.multipart.num-threads";
 
+  /**
+   * Number of threads to use for the range requests of vectored reads (shared pool across all input
+   * streams), default to {@link Runtime#availableProcessors()}
+   */
+  public static final String VECTORED_READ_THREADS = "s3.vectored-read.num-threads";
+
+  /**
+   * Enables the adaptive read policy of S3 input streams (default: false).
+   *
+   * <p>Input streams start with a single sequential GET request. When enabled, a stream that seeks
+   * backward or further forward than it can skip switches to reading fixed-size blocks with bounded
+   * range requests, so that connections are reused instead of aborted. While blocks are read in
+   * order, the following blocks are fetched in parallel using the vectored read pool, see {@link
+   * #VECTORED_READ_THREADS}.
+   */
+  public static final String READ_AHEAD_ENABLED = "s3.read-ahead.enabled";
+
+  public static final boolean READ_AHEAD_ENABLED_DEFAULT = false;
+
+  /** The size of the blocks read by the adaptive read policy in bytes (default: 1MB). */
+  public static final String READ_AHEAD_BLOCK_SIZE = "s3.read-ahead.block-size-bytes";
+
+  public static final int READ_AHEAD_BLOCK_SIZE_DEFAULT = 1024 * 1024;
+
+  /**
+   * The number of blocks that are fetched ahead of sequential reads by the adaptive read policy
+   * (default: 4). Set to 0 to read blocks only when they are needed.
+   */
+  public static final String READ_AHEAD_NUM_BLOCKS = "s3.read-ahead.num-blocks";
+
+  public static final int READ_AHEAD_NUM_BLOCKS_DEFAULT = 4;
+
   /**
    * The size of a single part for multipart upload requests in bytes (default: 32MB). based on S3
    * requirement, the part size must be at least 5MB. To ensure performance of the reader and
@@ -128,6 +160,26 @@ public class S3FileIOProperties implements Serializable {
    */
   public static final String STAGING_DIRECTORY = "s3.staging-dir";
 
+  /**
+   * Where output streams stage data before it is uploaded to S3: {@link #STAGING_MODE_DISK} stages
+   * data in files in the {@link #STAGING_DIRECTORY} and {@link #STAGING_MODE_MEMORY} stages data in
+   * pooled direct buffers, limited by {@link #STAGING_MEMORY_MAX_BYTES} (default: disk).
+   */
+  public static final String STAGING_MODE = "s3.staging-mode";
+
+  public static final String STAGING_MODE_DISK = "disk";
+  public static final String STAGING_MODE_MEMORY = "memory";
+  public static final String STAGING_MODE_DEFAULT = STAGING_MODE_DISK;
+
+  /**
+   * The number of bytes that output streams can use to stage data in memory (shared budget across
+   * all output streams), default to 256MB. When the budget is used up, writes wait until parts that
+   * are being uploaded release their buffers.
+   */
+  public static final String STAGING_MEMORY_MAX_BYTES = "s3.staging-memory.max-bytes";
+
+  public static final long STAGING_MEMORY_MAX_BYTES_DEFAULT = 256L * 1024 * 1024;
+
   /**
    * Used to configure canned access control list (ACL) for S3 client to use during write. If not
    * set, ACL will not be set for requests.
@@ -348,10 +400,16 @@ public class S3FileIOProperties implements Serializable {
   private String secretAccessKey;
   private String sessionToken;
   private int multipartUploadThreads;
+  private int vectoredReadThreads;
+  private boolean isReadAheadEnabled;
+  private int readAheadBlockSize;
+  private int readAheadNumBlocks;
   private int multiPartSize;
   private int deleteBatchSize;
   private double multipartThresholdFactor;
   private String stagingDirectory;
+  private String stagingMode;
+  private long stagingMemoryMaxBytes;
   private ObjectCannedACL acl;
   private boolean isChecksumEnabled;
   private final Set<Tag> writeTags;
@@ -380,10 +438,16 @@ public class S3FileIOProperties implements Serializable {
     this.acl = null;
     this.endpoint = null;
     this.multipartUploadThreads = Runtime.getRuntime().availableProcessors();
+    this.vectoredReadThreads = Runtime.getRuntime().availableProcessors();
+    this.isReadAheadEnabled = READ_AHEAD_ENABLED_DEFAULT;
+    this.readAheadBlockSize = READ_AHEAD_BLOCK_SIZE_DEFAULT;
+    this.readAheadNumBlocks = READ_AHEAD_NUM_BLOCKS_DEFAULT;
     this.multiPartSize = MULTIPART_SIZE_DEFAULT;
     this.multipartThresholdFactor = MULTIPART_THRESHOLD_FACTOR_DEFAULT;
     this.deleteBatchSize = DELETE_BATCH_SIZE_DEFAULT;
     this.stagingDirectory = System.getProperty("java.io.tmpdir");
+    this.stagingMode = STAGING_MODE_DEFAULT;
+    this.stagingMemoryMaxBytes = STAGING_MEMORY_MAX_BYTES_DEFAULT;
     this.isChecksumEnabled = CHECKSUM_ENABLED_DEFAULT;
     this.writeTags = Sets.newHashSet();
     this.isWriteTableTagEnabled = WRITE_TABLE_TAG_ENABLED_DEFAULT;
@@ -423,6 +487,21 @@ public class S3FileIOProperties implements Serializable {
     this.multipartUploadThreads =
         PropertyUtil.propertyAsInt(
             properties, MULTIPART_UPLOAD_THREADS, Runtime.getRuntime().availableProcessors());
+    this.vectoredReadThreads =
+        PropertyUtil.propertyAsInt(
+            properties, VECTORED_READ_THREADS, Runtime.getRuntime().availableProcessors());
+    this.isReadAheadEnabled =
+        PropertyUtil.propertyAsBoolean(properties, READ_AHEAD_ENABLED, READ_AHEAD_ENABLED_DEFAULT);
+    this.readAheadBlockSize =
+        PropertyUtil.propertyAsInt(
+            properties, READ_AHEAD_BLOCK_SIZE, READ_AHEAD_BLOCK_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        readAheadBlockSize > 0, "Invalid read-ahead block size: %s", readAheadBlockSize);
+    this.readAheadNumBlocks =
+        PropertyUtil.propertyAsInt(
+            properties, READ_AHEAD_NUM_BLOCKS, READ_AHEAD_NUM_BLOCKS_DEFAULT);
+    Preconditions.checkArgument(
+        readAheadNumBlocks >= 0, "Invalid number of read-ahead blocks: %s", readAheadNumBlocks);
     this.isPathStyleAccess =
         PropertyUtil.propertyAsBoolean(properties, PATH_STYLE_ACCESS, PATH_STYLE_ACCESS_DEFAULT);
     this.isUseArnRegionEnabled =
@@ -453,6 +532,21 @@ public class S3FileIOProperties implements Serializable {
     this.stagingDirectory =
         PropertyUtil.propertyAsString(
             properties, STAGING_DIRECTORY, System.getProperty("java.io.tmpdir"));
+    this.stagingMode =
+        PropertyUtil.propertyAsString(properties, STAGING_MODE, STAGING_MODE_DEFAULT);
+    Preconditions.checkArgument(
+        STAGING_MODE_DISK.equals(stagingMode) || STAGING_MODE_MEMORY.equals(stagingMode),
+        "Invalid staging mode: %s (must be %s or %s)",
+        stagingMode,
+        STAGING_MODE_DISK,
+        STAGING_MODE_MEMORY);
+    this.stagingMemoryMaxBytes =
+        PropertyUtil.propertyAsLong(
+            properties, STAGING_MEMORY_MAX_BYTES, STAGING_MEMORY_MAX_BYTES_DEFAULT);
+    Preconditions.checkArgument(
+        stagingMemoryMaxBytes > 0,
+        "Invalid staging memory budget: %s (must be > 0)",
+        stagingMemoryMaxBytes);
     String aclType = properties.get(ACL);
     this.acl = ObjectCannedACL.fromValue(aclType);
     Preconditions.checkArgument(
@@ -533,6 +627,38 @@ public class S3FileIOProperties implements Serializable {
     this.multipartUploadThreads = threads;
   }
 
+  public int vectoredReadThreads() {
+    return vectoredReadThreads;
+  }
+
+  public void setVectoredReadThreads(int threads) {
+    this.vectoredReadThreads = threads;
+  }
+
+  public boolean isReadAheadEnabled() {
+    return isReadAheadEnabled;
+  }
+
+  public void setReadAheadEnabled(boolean readAheadEnabled) {
+    this.isReadAheadEnabled = readAheadEnabled;
+  }
+
+  public int readAheadBlockSize() {
+    return readAheadBlockSize;
+  }
+
+  public void setReadAheadBlockSize(int blockSize) {
+    this.readAheadBlockSize = blockSize;
+  }
+
+  public int readAheadNumBlocks() {
+    return readAheadNumBlocks;
+  }
+
+  public void setReadAheadNumBlocks(int numBlocks) {
+    this.readAheadNumBlocks = numBlocks;
+  }
+
   public int multiPartSize() {
     return multiPartSize;
   }
@@ -557,6 +683,26 @@ public class S3FileIOProperties implements Serializable {
     this.stagingDirectory = directory;
   }
 
+  public String stagingMode() {
+    return stagingMode;
+  }
+
+  public void setStagingMode(String stagingMode) {
+    this.stagingMode = stagingMode;
+  }
+
+  public boolean isMemoryStagingEnabled() {
+    return STAGING_MODE_MEMORY.equals(stagingMode);
+  }
+
+  public long stagingMemoryMaxBytes() {
+    return stagingMemoryMaxBytes;
+  }
+
+  public void setStagingMemoryMaxBytes(long maxBytes) {
+    this.stagingMemoryMaxBytes = maxBytes;
+  }
+
   public ObjectCannedACL acl() {
     return this.acl;
   }
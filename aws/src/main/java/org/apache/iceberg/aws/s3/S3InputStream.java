@@ -20,29 +20,47 @@ package org.apache.iceberg.aws.s3;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.io.FileIOMetricsContext;
+import org.apache.iceberg.io.FileRange;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.io.VectoredReads;
 import org.apache.iceberg.metrics.Counter;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.http.Abortable;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 class S3InputStream extends SeekableInputStream implements RangeReadable {
   private static final Logger LOG = LoggerFactory.getLogger(S3InputStream.class);
 
+  private static final int RANGE_NOT_SATISFIABLE = 416;
+
+  private static volatile ExecutorService executorService;
+
   private final StackTraceElement[] createStack;
   private final S3Client s3;
   private final S3URI location;
@@ -52,9 +70,16 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
   private long pos = 0;
   private long next = 0;
   private boolean closed = false;
+  private volatile Long contentLength = null;
+
+  // blocks of the object once the stream has switched to block reads, see positionStream
+  private Map<Long, CompletableFuture<byte[]>> blocks = null;
+  private long blockReadEnd = -1L;
 
   private final Counter readBytes;
   private final Counter readOperations;
+  private final Counter seeks;
+  private final Counter aborts;
 
   private int skipSize = 1024 * 1024;
 
@@ -70,6 +95,8 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
     this.readBytes = metrics.counter(FileIOMetricsContext.READ_BYTES, Unit.BYTES);
     this.readOperations = metrics.counter(FileIOMetricsContext.READ_OPERATIONS);
+    this.seeks = metrics.counter(FileIOMetricsContext.READ_SEEKS);
+    this.aborts = metrics.counter(FileIOMetricsContext.READ_ABORTS);
 
     this.createStack = Thread.currentThread().getStackTrace();
   }
@@ -93,6 +120,12 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
     Preconditions.checkState(!closed, "Cannot read: already closed");
     positionStream();
 
+    if (blocks != null) {
+      byte[] single = new byte[1];
+      int bytesRead = readBlocks(single, 0, 1);
+      return bytesRead < 0 ? -1 : single[0] & 0xFF;
+    }
+
     pos += 1;
     next += 1;
     readBytes.increment();
@@ -106,6 +139,10 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
     Preconditions.checkState(!closed, "Cannot read: already closed");
     positionStream();
 
+    if (blocks != null) {
+      return readBlocks(b, off, len);
+    }
+
     int bytesRead = stream.read(b, off, len);
     pos += bytesRead;
     next += bytesRead;
@@ -121,7 +158,9 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
     String range = String.format("bytes=%s-%s", position, position + length - 1);
 
-    IOUtil.readFully(readRange(range), buffer, offset, length);
+    try (InputStream rangeStream = readRange(range)) {
+      IOUtil.readFully(rangeStream, buffer, offset, length);
+    }
   }
 
   @Override
@@ -130,10 +169,37 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
     String range = String.format("bytes=-%s", length);
 
-    return IOUtil.readRemaining(readRange(range), buffer, offset, length);
+    try (InputStream rangeStream = readRange(range)) {
+      return IOUtil.readRemaining(rangeStream, buffer, offset, length);
+    }
   }
 
-  private InputStream readRange(String range) {
+  /**
+   * Reads the ranges using one GET request for each group of nearby ranges. The requests are issued
+   * in parallel using a pool shared by all input streams, see {@link
+   * S3FileIOProperties#VECTORED_READ_THREADS}.
+   */
+  @Override
+  public List<CompletableFuture<ByteBuffer>> readVectored(List<FileRange> ranges) {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    return VectoredReads.read(ranges, this::readFully, executorService());
+  }
+
+  private ExecutorService executorService() {
+    if (executorService == null) {
+      synchronized (S3InputStream.class) {
+        if (executorService == null) {
+          executorService =
+              ThreadPools.newWorkerPool(
+                  "iceberg-s3fileio-read", s3FileIOProperties.vectoredReadThreads());
+        }
+      }
+    }
+
+    return executorService;
+  }
+
+  private ResponseInputStream<GetObjectResponse> readRange(String range) {
     GetObjectRequest.Builder requestBuilder =
         GetObjectRequest.builder().bucket(location.bucket()).key(location.key()).range(range);
 
@@ -142,19 +208,149 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
     return s3.getObject(requestBuilder.build(), ResponseTransformer.toInputStream());
   }
 
+  private int readBlocks(byte[] buffer, int off, int len) throws IOException {
+    boolean sequential = next == blockReadEnd;
+    if (!sequential && blockReadEnd >= 0) {
+      seeks.increment();
+    }
+
+    int blockSize = s3FileIOProperties.readAheadBlockSize();
+    long index = next / blockSize;
+    byte[] block = block(index);
+    int blockOffset = (int) (next - index * blockSize);
+    if (blockOffset >= block.length) {
+      return -1;
+    }
+
+    if (sequential) {
+      readAhead(index);
+    }
+
+    int bytesRead = Math.min(len, block.length - blockOffset);
+    System.arraycopy(block, blockOffset, buffer, off, bytesRead);
+    pos += bytesRead;
+    next += bytesRead;
+    this.blockReadEnd = next;
+    readBytes.increment(bytesRead);
+    readOperations.increment();
+
+    return bytesRead;
+  }
+
+  private byte[] block(long index) throws IOException {
+    CompletableFuture<byte[]> future = blocks.get(index);
+    if (future != null) {
+      try {
+        return future.join();
+      } catch (CompletionException e) {
+        // the block is fetched again below, which reports the failure if it persists
+        LOG.debug("Failed to read ahead block {} of {}", index, location, e.getCause());
+        blocks.remove(index);
+      }
+    }
+
+    byte[] block = fetchBlock(index);
+    blocks.put(index, CompletableFuture.completedFuture(block));
+    return block;
+  }
+
+  private void readAhead(long index) {
+    Long length = contentLength;
+    if (length == null) {
+      return;
+    }
+
+    int blockSize = s3FileIOProperties.readAheadBlockSize();
+    long lastIndex = index + s3FileIOProperties.readAheadNumBlocks();
+    for (long ahead = index + 1; ahead <= lastIndex && ahead * blockSize < length; ahead += 1) {
+      if (!blocks.containsKey(ahead)) {
+        long blockIndex = ahead;
+        blocks.put(
+            ahead,
+            CompletableFuture.supplyAsync(
+                () -> {
+                  try {
+                    return fetchBlock(blockIndex);
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                },
+                executorService()));
+      }
+    }
+  }
+
+  /**
+   * Reads a block with a bounded range request. The response is read to the end so that the
+   * connection can be reused.
+   */
+  private byte[] fetchBlock(long index) throws IOException {
+    int blockSize = s3FileIOProperties.readAheadBlockSize();
+    long start = index * blockSize;
+    long end = start + blockSize - 1;
+
+    Long length = contentLength;
+    if (length != null) {
+      if (start >= length) {
+        return new byte[0];
+      }
+
+      end = Math.min(end, length - 1);
+    }
+
+    try (ResponseInputStream<GetObjectResponse> blockStream =
+        readRange(String.format("bytes=%s-%s", start, end))) {
+      updateContentLength(blockStream.response());
+      return ByteStreams.toByteArray(blockStream);
+    } catch (NoSuchKeyException e) {
+      throw new NotFoundException(e, "Location does not exist: %s", location);
+    } catch (S3Exception e) {
+      if (e.statusCode() == RANGE_NOT_SATISFIABLE) {
+        // the block starts after the end of the object
+        return new byte[0];
+      }
+
+      throw e;
+    }
+  }
+
+  private void updateContentLength(GetObjectResponse response) {
+    String contentRange = response.contentRange();
+    if (contentLength == null && contentRange != null) {
+      // for example, "bytes 0-1023/4096" or "bytes 0-1023/*" if the length is unknown
+      String total = contentRange.substring(contentRange.lastIndexOf('/') + 1);
+      if (!total.equals("*")) {
+        this.contentLength = Long.parseLong(total);
+      }
+    }
+  }
+
   @Override
   public void close() throws IOException {
     super.close();
     closed = true;
     closeStream();
+    if (blocks != null) {
+      blocks.values().forEach(block -> block.cancel(false));
+      blocks.clear();
+    }
   }
 
   private void positionStream() throws IOException {
+    if (blocks != null) {
+      // reads are served from blocks, see readBlocks
+      return;
+    }
+
     if ((stream != null) && (next == pos)) {
       // already at specified position
       return;
     }
 
+    if (stream != null) {
+      seeks.increment();
+    }
+
     if ((stream != null) && (next > pos)) {
       // seeking forwards
       long skip = next - pos;
@@ -171,6 +367,15 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
       }
     }
 
+    if ((stream != null) && s3FileIOProperties.isReadAheadEnabled()) {
+      // the stream is not read sequentially, switch to block reads instead of re-opening it
+      LOG.debug("Switching to block reads for {} at offset {}", location, next);
+      closeStream();
+      pos = next;
+      this.blocks = newBlockCache(s3FileIOProperties.readAheadNumBlocks() + 1);
+      return;
+    }
+
     // close the stream and open at desired position
     LOG.debug("Seek with new stream for {} to offset {}", location, next);
     pos = next;
@@ -189,7 +394,10 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
     closeStream();
 
     try {
-      stream = s3.getObject(requestBuilder.build(), ResponseTransformer.toInputStream());
+      ResponseInputStream<GetObjectResponse> objectStream =
+          s3.getObject(requestBuilder.build(), ResponseTransformer.toInputStream());
+      updateContentLength(objectStream.response());
+      stream = objectStream;
     } catch (NoSuchKeyException e) {
       throw new NotFoundException(e, "Location does not exist: %s", location);
     }
@@ -197,9 +405,13 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
   private void closeStream() throws IOException {
     if (stream != null) {
-      // if we aren't at the end of the stream, and the stream is abortable, then
-      // call abort() so we don't read the remaining data with the Apache HTTP client
-      abortStream();
+      // if we aren't at the end of the stream and the rest is not drained, and the stream is
+      // abortable, then call abort() so we don't read the remaining data with the Apache HTTP
+      // client
+      if (!drainStream()) {
+        abortStream();
+      }
+
       try {
         stream.close();
       } catch (IOException e) {
@@ -217,12 +429,47 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
     try {
       if (stream instanceof Abortable && stream.read() != -1) {
         ((Abortable) stream).abort();
+        aborts.increment();
       }
     } catch (Exception e) {
       LOG.warn("An error occurred while aborting the stream", e);
     }
   }
 
+  /**
+   * Reads the rest of the stream if read-ahead is enabled and the remaining bytes are few enough to
+   * skip, so that the connection is reused instead of aborted.
+   */
+  private boolean drainStream() {
+    Long length = contentLength;
+    if (!s3FileIOProperties.isReadAheadEnabled() || length == null || length - pos > skipSize) {
+      return false;
+    }
+
+    try {
+      ByteStreams.exhaust(stream);
+      return true;
+    } catch (IOException e) {
+      LOG.debug("Failed to drain the stream for {}", location, e);
+      return false;
+    }
+  }
+
+  private static Map<Long, CompletableFuture<byte[]>> newBlockCache(int maxBlocks) {
+    // access order, so that the least recently read block is evicted first
+    return new LinkedHashMap<Long, CompletableFuture<byte[]>>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, CompletableFuture<byte[]>> eldest) {
+        if (size() > maxBlocks) {
+          eldest.getValue().cancel(false);
+          return true;
+        }
+
+        return false;
+      }
+    };
+  }
+
   public void setSkipSize(int skipSize) {
     this.skipSize = skipSize;
   }
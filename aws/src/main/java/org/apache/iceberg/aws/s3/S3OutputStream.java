@@ -26,8 +26,10 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.SequenceInputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.security.DigestOutputStream;
 import java.security.MessageDigest;
@@ -37,12 +39,15 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import org.apache.iceberg.io.ByteBufferInputStream;
 import org.apache.iceberg.io.FileIOMetricsContext;
 import org.apache.iceberg.io.PositionOutputStream;
 import org.apache.iceberg.metrics.Counter;
@@ -80,6 +85,7 @@ class S3OutputStream extends PositionOutputStream {
   private static final String digestAlgorithm = "MD5";
 
   private static volatile ExecutorService executorService;
+  private static volatile S3BufferPool bufferPool;
 
   private final StackTraceElement[] createStack;
   private final S3Client s3;
@@ -88,11 +94,11 @@ class S3OutputStream extends PositionOutputStream {
   private final Set<Tag> writeTags;
 
   private CountingOutputStream stream;
-  private final List<FileAndDigest> stagingFiles = Lists.newArrayList();
+  private final List<StagingPart> stagingParts = Lists.newArrayList();
   private final File stagingDirectory;
-  private File currentStagingFile;
+  private StagingPart currentStagingPart;
   private String multipartUploadId;
-  private final Map<File, CompletableFuture<CompletedPart>> multiPartMap = Maps.newHashMap();
+  private final Map<StagingPart, CompletableFuture<CompletedPart>> multiPartMap = Maps.newHashMap();
   private final int multiPartSize;
   private final int multiPartThresholdSize;
   private final boolean isChecksumEnabled;
@@ -125,6 +131,14 @@ class S3OutputStream extends PositionOutputStream {
       }
     }
 
+    if (s3FileIOProperties.isMemoryStagingEnabled() && bufferPool == null) {
+      synchronized (S3OutputStream.class) {
+        if (bufferPool == null) {
+          bufferPool = new S3BufferPool(s3FileIOProperties.stagingMemoryMaxBytes());
+        }
+      }
+    }
+
     this.s3 = s3;
     this.location = location;
     this.s3FileIOProperties = s3FileIOProperties;
@@ -216,9 +230,6 @@ class S3OutputStream extends PositionOutputStream {
       stream.close();
     }
 
-    createStagingDirectoryIfNotExists();
-    currentStagingFile = File.createTempFile("s3fileio-", ".tmp", stagingDirectory);
-    currentStagingFile.deleteOnExit();
     try {
       currentPartMessageDigest =
           isChecksumEnabled ? MessageDigest.getInstance(digestAlgorithm) : null;
@@ -227,7 +238,16 @@ class S3OutputStream extends PositionOutputStream {
           "Failed to create message digest needed for s3 checksum checks.", e);
     }
 
-    stagingFiles.add(new FileAndDigest(currentStagingFile, currentPartMessageDigest));
+    if (s3FileIOProperties.isMemoryStagingEnabled()) {
+      currentStagingPart = new BufferStagingPart(bufferPool, currentPartMessageDigest);
+    } else {
+      createStagingDirectoryIfNotExists();
+      File stagingFile = File.createTempFile("s3fileio-", ".tmp", stagingDirectory);
+      stagingFile.deleteOnExit();
+      currentStagingPart = new FileStagingPart(stagingFile, currentPartMessageDigest);
+    }
+
+    stagingParts.add(currentStagingPart);
 
     if (isChecksumEnabled) {
       DigestOutputStream digestOutputStream;
@@ -235,23 +255,18 @@ class S3OutputStream extends PositionOutputStream {
       // if switched over to multipart threshold already, no need to update complete message digest
       if (multipartUploadId != null) {
         digestOutputStream =
-            new DigestOutputStream(
-                new BufferedOutputStream(new FileOutputStream(currentStagingFile)),
-                currentPartMessageDigest);
+            new DigestOutputStream(currentStagingPart.newOutputStream(), currentPartMessageDigest);
       } else {
         digestOutputStream =
             new DigestOutputStream(
                 new DigestOutputStream(
-                    new BufferedOutputStream(new FileOutputStream(currentStagingFile)),
-                    currentPartMessageDigest),
+                    currentStagingPart.newOutputStream(), currentPartMessageDigest),
                 completeMessageDigest);
       }
 
       stream = new CountingOutputStream(digestOutputStream);
     } else {
-      stream =
-          new CountingOutputStream(
-              new BufferedOutputStream(new FileOutputStream(currentStagingFile)));
+      stream = new CountingOutputStream(currentStagingPart.newOutputStream());
     }
   }
 
@@ -268,7 +283,7 @@ class S3OutputStream extends PositionOutputStream {
       stream.close();
       completeUploads();
     } finally {
-      cleanUpStagingFiles();
+      cleanUpStagingParts();
     }
   }
 
@@ -292,49 +307,53 @@ class S3OutputStream extends PositionOutputStream {
       return;
     }
 
-    stagingFiles.stream()
-        // do not upload the file currently being written
-        .filter(f -> closed || !f.file().equals(currentStagingFile))
-        // do not upload any files that have already been processed
-        .filter(Predicates.not(f -> multiPartMap.containsKey(f.file())))
+    stagingParts.stream()
+        // do not upload the part currently being written
+        .filter(part -> closed || part != currentStagingPart)
+        // do not upload any parts that have already been processed
+        .filter(Predicates.not(multiPartMap::containsKey))
         .forEach(
-            fileAndDigest -> {
-              File f = fileAndDigest.file();
+            part -> {
               UploadPartRequest.Builder requestBuilder =
                   UploadPartRequest.builder()
                       .bucket(location.bucket())
                       .key(location.key())
                       .uploadId(multipartUploadId)
-                      .partNumber(stagingFiles.indexOf(fileAndDigest) + 1)
-                      .contentLength(f.length());
+                      .partNumber(stagingParts.indexOf(part) + 1)
+                      .contentLength(part.length());
 
-              if (fileAndDigest.hasDigest()) {
-                requestBuilder.contentMD5(BinaryUtils.toBase64(fileAndDigest.digest()));
+              if (part.hasDigest()) {
+                requestBuilder.contentMD5(BinaryUtils.toBase64(part.digest()));
               }
 
               S3RequestUtil.configureEncryption(s3FileIOProperties, requestBuilder);
 
               UploadPartRequest uploadRequest = requestBuilder.build();
 
+              part.startUpload();
               CompletableFuture<CompletedPart> future =
                   CompletableFuture.supplyAsync(
                           () -> {
-                            UploadPartResponse response =
-                                s3.uploadPart(uploadRequest, RequestBody.fromFile(f));
-                            return CompletedPart.builder()
-                                .eTag(response.eTag())
-                                .partNumber(uploadRequest.partNumber())
-                                .build();
+                            if (!part.claim()) {
+                              throw new CancellationException(
+                                  "Upload was aborted: " + uploadRequest);
+                            }
+
+                            try {
+                              UploadPartResponse response =
+                                  s3.uploadPart(uploadRequest, part.requestBody());
+                              return CompletedPart.builder()
+                                  .eTag(response.eTag())
+                                  .partNumber(uploadRequest.partNumber())
+                                  .build();
+                            } finally {
+                              // release the part even if the returned future is cancelled
+                              part.release();
+                            }
                           },
                           executorService)
                       .whenComplete(
                           (result, thrown) -> {
-                            try {
-                              Files.deleteIfExists(f.toPath());
-                            } catch (IOException e) {
-                              LOG.warn("Failed to delete staging file: {}", f, e);
-                            }
-
                             if (thrown != null) {
                               // Exception observed here will be thrown as part of
                               // CompletionException
@@ -343,7 +362,7 @@ class S3OutputStream extends PositionOutputStream {
                             }
                           });
 
-              multiPartMap.put(f, future);
+              multiPartMap.put(part, future);
             });
   }
 
@@ -352,8 +371,10 @@ class S3OutputStream extends PositionOutputStream {
 
     List<CompletedPart> completedParts;
     try {
+      // join in part order so that a failed part is found without waiting for later parts
       completedParts =
-          multiPartMap.values().stream()
+          stagingParts.stream()
+              .map(multiPartMap::get)
               .map(CompletableFuture::join)
               .sorted(Comparator.comparing(CompletedPart::partNumber))
               .collect(Collectors.toList());
@@ -393,28 +414,30 @@ class S3OutputStream extends PositionOutputStream {
                 .uploadId(multipartUploadId)
                 .build());
       } finally {
-        cleanUpStagingFiles();
+        cleanUpStagingParts();
       }
     }
   }
 
-  private void cleanUpStagingFiles() {
-    Tasks.foreach(stagingFiles.stream().map(FileAndDigest::file))
+  private void cleanUpStagingParts() {
+    // parts that started uploading are released when the upload finishes; parts that were
+    // submitted but did not start, for example because their future was cancelled, are claimed
+    // here so that they are never uploaded
+    Tasks.foreach(
+            stagingParts.stream().filter(part -> !multiPartMap.containsKey(part) || part.claim()))
         .suppressFailureWhenFinished()
-        .onFailure((file, thrown) -> LOG.warn("Failed to delete staging file: {}", file, thrown))
-        .run(File::delete);
+        .onFailure((part, thrown) -> LOG.warn("Failed to release staging part: {}", part, thrown))
+        .run(StagingPart::release);
   }
 
   private void completeUploads() {
     if (multipartUploadId == null) {
-      long contentLength =
-          stagingFiles.stream().map(FileAndDigest::file).mapToLong(File::length).sum();
+      long contentLength = stagingParts.stream().mapToLong(StagingPart::length).sum();
       ContentStreamProvider contentProvider =
           () ->
               new BufferedInputStream(
-                  stagingFiles.stream()
-                      .map(FileAndDigest::file)
-                      .map(S3OutputStream::uncheckedInputStream)
+                  stagingParts.stream()
+                      .map(StagingPart::newInputStream)
                       .reduce(SequenceInputStream::new)
                       .orElseGet(() -> new ByteArrayInputStream(new byte[0])));
 
@@ -483,25 +506,174 @@ class S3OutputStream extends PositionOutputStream {
     }
   }
 
-  private static class FileAndDigest {
-    private final File file;
+  /** A part of the object that is staged until it is uploaded. */
+  private abstract static class StagingPart {
     private final MessageDigest digest;
+    private final AtomicBoolean claimed = new AtomicBoolean(false);
 
-    FileAndDigest(File file, MessageDigest digest) {
-      this.file = file;
+    StagingPart(MessageDigest digest) {
       this.digest = digest;
     }
 
-    File file() {
-      return file;
-    }
-
     byte[] digest() {
       return digest.digest();
     }
 
-    public boolean hasDigest() {
+    boolean hasDigest() {
       return digest != null;
     }
+
+    /**
+     * Claims a submitted part either to upload it or to release it without uploading.
+     *
+     * @return true if the part was not claimed before
+     */
+    boolean claim() {
+      return claimed.compareAndSet(false, true);
+    }
+
+    /** Returns the stream to write the part, called once before the part is read. */
+    abstract OutputStream newOutputStream() throws IOException;
+
+    abstract long length();
+
+    abstract InputStream newInputStream();
+
+    abstract RequestBody requestBody();
+
+    /** Called before the part is uploaded, after the part has been written. */
+    void startUpload() {}
+
+    /** Releases the resources of the part, must be safe to call more than once. */
+    abstract void release();
+  }
+
+  private static class FileStagingPart extends StagingPart {
+    private final File file;
+
+    FileStagingPart(File file, MessageDigest digest) {
+      super(digest);
+      this.file = file;
+    }
+
+    @Override
+    OutputStream newOutputStream() throws IOException {
+      return new BufferedOutputStream(new FileOutputStream(file));
+    }
+
+    @Override
+    long length() {
+      return file.length();
+    }
+
+    @Override
+    InputStream newInputStream() {
+      return uncheckedInputStream(file);
+    }
+
+    @Override
+    RequestBody requestBody() {
+      return RequestBody.fromFile(file);
+    }
+
+    @Override
+    void release() {
+      try {
+        Files.deleteIfExists(file.toPath());
+      } catch (IOException e) {
+        LOG.warn("Failed to delete staging file: {}", file, e);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return file.toString();
+    }
+  }
+
+  private static class BufferStagingPart extends StagingPart {
+    private final S3BufferPool pool;
+    private final List<ByteBuffer> buffers = Lists.newArrayList();
+    private boolean uploading = false;
+    private boolean released = false;
+
+    BufferStagingPart(S3BufferPool pool, MessageDigest digest) {
+      super(digest);
+      this.pool = pool;
+    }
+
+    @Override
+    OutputStream newOutputStream() {
+      return new OutputStream() {
+        @Override
+        public void write(int b) throws IOException {
+          currentBuffer().put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int off, int len) throws IOException {
+          int remaining = len;
+          int offset = off;
+          while (remaining > 0) {
+            ByteBuffer buffer = currentBuffer();
+            int writeSize = Math.min(remaining, buffer.remaining());
+            buffer.put(bytes, offset, writeSize);
+            remaining -= writeSize;
+            offset += writeSize;
+          }
+        }
+      };
+    }
+
+    private ByteBuffer currentBuffer() throws IOException {
+      Preconditions.checkState(!released, "Cannot write: staging buffers already released");
+      if (buffers.isEmpty() || !buffers.get(buffers.size() - 1).hasRemaining()) {
+        buffers.add(pool.acquire());
+      }
+
+      return buffers.get(buffers.size() - 1);
+    }
+
+    @Override
+    long length() {
+      return buffers.stream().mapToLong(ByteBuffer::position).sum();
+    }
+
+    @Override
+    InputStream newInputStream() {
+      List<ByteBuffer> readBuffers = Lists.newArrayListWithCapacity(buffers.size());
+      for (ByteBuffer buffer : buffers) {
+        ByteBuffer readBuffer = buffer.duplicate();
+        readBuffer.flip();
+        readBuffers.add(readBuffer);
+      }
+
+      return ByteBufferInputStream.wrap(readBuffers);
+    }
+
+    @Override
+    RequestBody requestBody() {
+      return RequestBody.fromContentProvider(
+          this::newInputStream, length(), Mimetype.MIMETYPE_OCTET_STREAM);
+    }
+
+    @Override
+    synchronized void startUpload() {
+      pool.uploading(buffers);
+      this.uploading = true;
+    }
+
+    @Override
+    synchronized void release() {
+      if (!released) {
+        this.released = true;
+        pool.release(buffers, uploading);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s staging buffers", buffers.size());
+    }
   }
 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.aws.s3;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestS3BufferPool {
+  private static final int BUFFER_SIZE = S3BufferPool.BUFFER_SIZE;
+
+  @Test
+  public void testReuseBuffers() throws Exception {
+    S3BufferPool pool = new S3BufferPool(2 * BUFFER_SIZE);
+    ByteBuffer buffer = pool.acquire();
+    Assertions.assertThat(buffer.isDirect()).isTrue();
+    Assertions.assertThat(buffer.capacity()).isEqualTo(BUFFER_SIZE);
+    Assertions.assertThat(pool.usedBytes()).isEqualTo(BUFFER_SIZE);
+
+    buffer.put((byte) 1);
+    pool.release(ImmutableList.of(buffer), false);
+    Assertions.assertThat(pool.usedBytes()).isEqualTo(0);
+
+    ByteBuffer reused = pool.acquire();
+    Assertions.assertThat(reused).isSameAs(buffer);
+    Assertions.assertThat(reused.position()).isEqualTo(0);
+  }
+
+  @Test
+  public void testWaitForUploads() throws Exception {
+    S3BufferPool pool = new S3BufferPool(2 * BUFFER_SIZE);
+    ByteBuffer first = pool.acquire();
+    pool.acquire();
+    pool.uploading(ImmutableList.of(first));
+
+    // the budget is used up and a part is being uploaded
+    CompletableFuture<ByteBuffer> waiting =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return pool.acquire();
+              } catch (Exception e) {
+                throw new RuntimeException(e);
+              }
+            });
+
+    Assertions.assertThatThrownBy(() -> waiting.get(200, TimeUnit.MILLISECONDS))
+        .isInstanceOf(TimeoutException.class);
+
+    pool.release(ImmutableList.of(first), true);
+    Assertions.assertThat(waiting.get(10, TimeUnit.SECONDS)).isNotNull();
+    Assertions.assertThat(pool.usedBytes()).isEqualTo(2 * BUFFER_SIZE);
+  }
+
+  @Test
+  public void testExceedBudgetWithoutUploads() throws Exception {
+    S3BufferPool pool = new S3BufferPool(BUFFER_SIZE);
+    pool.acquire();
+
+    // no upload can release buffers, so waiting could block forever
+    pool.acquire();
+    Assertions.assertThat(pool.usedBytes()).isEqualTo(2 * BUFFER_SIZE);
+  }
+
+  @Test
+  public void testInvalidBudget() {
+    Assertions.assertThatThrownBy(() -> new S3BufferPool(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid max bytes: 0 (must be > 0)");
+  }
+}
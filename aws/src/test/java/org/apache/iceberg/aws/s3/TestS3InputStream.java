@@ -20,11 +20,21 @@ package org.apache.iceberg.aws.s3;
 
 import com.adobe.testing.s3mock.junit5.S3MockExtension;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import org.apache.iceberg.io.FileIOMetricsContext;
+import org.apache.iceberg.io.FileRange;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -84,6 +94,56 @@ public class TestS3InputStream {
     }
   }
 
+  @Test
+  public void testReadWithReadAhead() throws Exception {
+    S3URI uri = new S3URI("s3://bucket/path/to/read-ahead.dat");
+    int dataSize = 1024 * 1024 * 10;
+    byte[] data = randomData(dataSize);
+
+    writeS3Data(uri, data);
+
+    S3FileIOProperties properties = new S3FileIOProperties();
+    properties.setReadAheadEnabled(true);
+    properties.setReadAheadBlockSize(64 * 1024);
+    properties.setReadAheadNumBlocks(2);
+    CountingMetricsContext metrics = new CountingMetricsContext();
+
+    try (SeekableInputStream in = new S3InputStream(s3, uri, properties, metrics)) {
+      int readSize = 1024;
+
+      readAndCheck(in, in.getPos(), readSize, data, true);
+      Assertions.assertThat(metrics.count(FileIOMetricsContext.READ_SEEKS)).isEqualTo(0);
+
+      // Seek with new stream switches to block reads, aborting the sequential stream once
+      long seekNewStreamPosition = 2 * 1024 * 1024;
+      readAndCheck(in, in.getPos() + seekNewStreamPosition, readSize, data, true);
+      readAndCheck(in, in.getPos() + seekNewStreamPosition, readSize, data, false);
+      Assertions.assertThat(metrics.count(FileIOMetricsContext.READ_ABORTS)).isEqualTo(1);
+
+      // Backseek and read
+      readAndCheck(in, 0, readSize, data, true);
+      readAndCheck(in, 0, readSize, data, false);
+
+      // Sequential reads across blocks are read ahead
+      in.seek(dataSize / 2);
+      byte[] actual = new byte[1024 * 1024];
+      IOUtil.readFully(in, actual, 0, actual.length);
+      Assertions.assertThat(actual)
+          .isEqualTo(Arrays.copyOfRange(data, dataSize / 2, dataSize / 2 + actual.length));
+
+      // Read to the end of the object
+      in.seek(dataSize - 100);
+      actual = new byte[200];
+      Assertions.assertThat(IOUtil.readRemaining(in, actual, 0, actual.length)).isEqualTo(100);
+      Assertions.assertThat(Arrays.copyOfRange(actual, 0, 100))
+          .isEqualTo(Arrays.copyOfRange(data, dataSize - 100, dataSize));
+      Assertions.assertThat(in.read()).isEqualTo(-1);
+
+      Assertions.assertThat(metrics.count(FileIOMetricsContext.READ_SEEKS)).isEqualTo(6);
+      Assertions.assertThat(metrics.count(FileIOMetricsContext.READ_ABORTS)).isEqualTo(1);
+    }
+  }
+
   private void readAndCheck(
       SeekableInputStream in, long rangeStart, int size, byte[] original, boolean buffered)
       throws IOException {
@@ -149,6 +209,35 @@ public class TestS3InputStream {
         .isEqualTo(Arrays.copyOfRange(original, offset, offset + length));
   }
 
+  @Test
+  public void testVectoredRead() throws Exception {
+    S3URI uri = new S3URI("s3://bucket/path/to/vectored-read.dat");
+    int dataSize = 1024 * 1024 * 10;
+    byte[] expected = randomData(dataSize);
+
+    writeS3Data(uri, expected);
+
+    List<FileRange> ranges =
+        ImmutableList.of(
+            new FileRange(dataSize / 2, 1024),
+            new FileRange(0, 1024),
+            new FileRange(512, 4096),
+            new FileRange(dataSize - 100, 100));
+
+    try (RangeReadable in = new S3InputStream(s3, uri)) {
+      List<CompletableFuture<ByteBuffer>> futures = in.readVectored(ranges);
+      Assertions.assertThat(futures).hasSize(ranges.size());
+      for (int i = 0; i < ranges.size(); i += 1) {
+        FileRange range = ranges.get(i);
+        ByteBuffer buffer = futures.get(i).get();
+        byte[] actual = new byte[buffer.remaining()];
+        buffer.get(actual);
+        Assertions.assertThat(actual)
+            .isEqualTo(Arrays.copyOfRange(expected, (int) range.offset(), (int) range.end()));
+      }
+    }
+  }
+
   @Test
   public void testClose() throws Exception {
     S3URI uri = new S3URI("s3://bucket/path/to/closed.dat");
@@ -191,6 +280,22 @@ public class TestS3InputStream {
         RequestBody.fromBytes(data));
   }
 
+  private static class CountingMetricsContext implements MetricsContext {
+    private final Map<String, org.apache.iceberg.metrics.Counter> counters =
+        Maps.newConcurrentMap();
+
+    @Override
+    public org.apache.iceberg.metrics.Counter counter(String name, Unit unit) {
+      return counters.computeIfAbsent(
+          name, ignored -> new DefaultMetricsContext().counter(name, unit));
+    }
+
+    private long count(String name) {
+      org.apache.iceberg.metrics.Counter counter = counters.get(name);
+      return counter != null ? counter.value() : 0L;
+    }
+  }
+
   private void createBucket(String bucketName) {
     try {
       s3.createBucket(CreateBucketRequest.builder().bucket(bucketName).build());
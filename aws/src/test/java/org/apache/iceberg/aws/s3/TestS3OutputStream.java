@@ -21,6 +21,8 @@ package org.apache.iceberg.aws.s3;
 import static org.apache.iceberg.metrics.MetricsContext.nullMetrics;
 import static org.mockito.AdditionalAnswers.delegatesTo;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
@@ -31,6 +33,7 @@ import com.adobe.testing.s3mock.junit5.S3MockExtension;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.MessageDigest;
@@ -40,10 +43,14 @@ import java.util.List;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -102,6 +109,7 @@ public class TestS3OutputStream {
   @BeforeEach
   public void before() {
     properties.setChecksumEnabled(false);
+    properties.setStagingMode(S3FileIOProperties.STAGING_MODE_DISK);
     createBucket(BUCKET);
   }
 
@@ -179,6 +187,87 @@ public class TestS3OutputStream {
     writeTest();
   }
 
+  @Test
+  public void testWriteWithMemoryStaging() {
+    properties.setStagingMode(S3FileIOProperties.STAGING_MODE_MEMORY);
+    writeTest();
+  }
+
+  @Test
+  public void testWriteWithMemoryStagingAndChecksumEnabled() {
+    properties.setStagingMode(S3FileIOProperties.STAGING_MODE_MEMORY);
+    properties.setChecksumEnabled(true);
+    writeTest();
+  }
+
+  @Test
+  public void testAbortAfterFailedPartUploadWithMemoryStaging() {
+    properties.setStagingMode(S3FileIOProperties.STAGING_MODE_MEMORY);
+    testAbortAfterFailedPartUpload();
+  }
+
+  @Test
+  public void testAbortReleasesQueuedPartsWithMemoryStaging() throws Exception {
+    properties.setStagingMode(S3FileIOProperties.STAGING_MODE_MEMORY);
+    CountDownLatch blockUploads = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              UploadPartRequest request = invocation.getArgument(0);
+              if (request.partNumber() > 1) {
+                blockUploads.await(30, TimeUnit.SECONDS);
+              }
+
+              throw new RuntimeException("mock uploadPart failure");
+            })
+        .when(s3mock)
+        .uploadPart((UploadPartRequest) any(), (RequestBody) any());
+
+    S3OutputStream stream = new S3OutputStream(s3mock, randomURI(), properties, nullMetrics());
+    S3BufferPool pool = staticField("bufferPool");
+    ExecutorService executor = staticField("executorService");
+    long usedBytes = pool.usedBytes();
+
+    // keep all upload threads but one busy so that parts after the second are queued
+    int busyThreads = properties.multipartUploadThreads() - 1;
+    CountDownLatch busy = new CountDownLatch(busyThreads);
+    for (int i = 0; i < busyThreads; i += 1) {
+      executor.submit(
+          () -> {
+            busy.countDown();
+            blockUploads.await(30, TimeUnit.SECONDS);
+            return null;
+          });
+    }
+
+    busy.await();
+
+    try {
+      Assertions.assertThatThrownBy(
+              () -> {
+                stream.write(randomData(16 * 1024 * 1024));
+                stream.close();
+              })
+          .hasMessageContaining("mock uploadPart failure");
+      Assertions.assertThat(pool.usedBytes())
+          .as("Should release queued parts without waiting for uploads")
+          .isLessThanOrEqualTo(usedBytes + 5L * S3BufferPool.BUFFER_SIZE);
+    } finally {
+      blockUploads.countDown();
+    }
+
+    verify(s3mock, times(1)).abortMultipartUpload((AbortMultipartUploadRequest) any());
+    verify(s3mock, atMost(2)).uploadPart((UploadPartRequest) any(), (RequestBody) any());
+
+    // the part that was uploading is released when its upload finishes
+    Awaitility.await()
+        .atMost(10, TimeUnit.SECONDS)
+        .untilAsserted(
+            () ->
+                Assertions.assertThat(pool.usedBytes())
+                    .as("Should release the buffers of all parts")
+                    .isEqualTo(usedBytes));
+  }
+
   @Test
   public void testDoubleClose() throws IOException {
     IllegalStateException mockException =
@@ -195,6 +284,13 @@ public class TestS3OutputStream {
     Assertions.assertThatNoException().isThrownBy(stream::close);
   }
 
+  @SuppressWarnings("unchecked")
+  private static <T> T staticField(String name) throws ReflectiveOperationException {
+    Field field = S3OutputStream.class.getDeclaredField(name);
+    field.setAccessible(true);
+    return (T) field.get(null);
+  }
+
   private void writeTest() {
     // Run tests for both byte and array write paths
     Stream.of(true, false)
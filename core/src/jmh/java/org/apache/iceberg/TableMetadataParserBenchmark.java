@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that compares parsing table metadata from a JSON tree with the streaming parser and
+ * with lazily decoded snapshots.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=TableMetadataParserBenchmark
+ *       -PjmhOutputPath=benchmark/table-metadata-parser-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TableMetadataParserBenchmark {
+
+  private static final String LOCATION = "s3://bucket/db/table";
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()),
+          optional(2, "data", Types.StringType.get()),
+          optional(3, "ts", Types.TimestampType.withZone()));
+
+  @Param({"1000", "10000"})
+  private int numSnapshots;
+
+  private String json;
+  private byte[] bytes;
+
+  @Setup
+  public void setupBenchmark() {
+    long timestampMillis = System.currentTimeMillis() - numSnapshots;
+    List<Snapshot> snapshots = Lists.newArrayListWithExpectedSize(numSnapshots);
+    List<HistoryEntry> snapshotLog = Lists.newArrayListWithExpectedSize(numSnapshots);
+    List<TableMetadata.MetadataLogEntry> metadataLog =
+        Lists.newArrayListWithExpectedSize(numSnapshots);
+    Long parentId = null;
+    for (int i = 0; i < numSnapshots; i += 1) {
+      long snapshotId = i + 1;
+      long snapshotMillis = timestampMillis + i;
+      snapshots.add(
+          new BaseSnapshot(
+              i,
+              snapshotId,
+              parentId,
+              snapshotMillis,
+              DataOperations.APPEND,
+              ImmutableMap.of(
+                  "added-data-files",
+                  "10",
+                  "added-records",
+                  "1000",
+                  "total-data-files",
+                  String.valueOf(10L * (i + 1)),
+                  "total-records",
+                  String.valueOf(1000L * (i + 1))),
+              SCHEMA.schemaId(),
+              String.format(
+                  "%s/metadata/snap-%d-%s.avro", LOCATION, snapshotId, UUID.randomUUID())));
+      snapshotLog.add(new TableMetadata.SnapshotLogEntry(snapshotMillis, snapshotId));
+      metadataLog.add(
+          new TableMetadata.MetadataLogEntry(
+              snapshotMillis,
+              String.format("%s/metadata/%05d-%s.metadata.json", LOCATION, i, UUID.randomUUID())));
+      parentId = snapshotId;
+    }
+
+    TableMetadata metadata =
+        new TableMetadata(
+            null,
+            2,
+            UUID.randomUUID().toString(),
+            LOCATION,
+            numSnapshots,
+            System.currentTimeMillis(),
+            SCHEMA.highestFieldId(),
+            SCHEMA.schemaId(),
+            ImmutableList.of(SCHEMA),
+            PartitionSpec.unpartitioned().specId(),
+            ImmutableList.of(PartitionSpec.unpartitioned()),
+            PartitionSpec.unpartitioned().lastAssignedFieldId(),
+            SortOrder.unsorted().orderId(),
+            ImmutableList.of(SortOrder.unsorted()),
+            ImmutableMap.of(),
+            parentId,
+            snapshots,
+            null,
+            snapshotLog,
+            metadataLog,
+            ImmutableMap.of(SnapshotRef.MAIN_BRANCH, SnapshotRef.branchBuilder(parentId).build()),
+            ImmutableList.of(),
+            ImmutableList.of());
+
+    this.json = TableMetadataParser.toJson(metadata);
+    this.bytes = json.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void treeParser(Blackhole blackhole) {
+    blackhole.consume(
+        JsonUtil.parse(json, node -> TableMetadataParser.fromJson((String) null, node)));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void streamingParser(Blackhole blackhole) {
+    blackhole.consume(TableMetadataParser.fromJson((String) null, json));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void lazyParserCurrentSnapshot(Blackhole blackhole) throws IOException {
+    blackhole.consume(
+        TableMetadataParser.fromJson((String) null, new ByteArrayInputStream(bytes))
+            .currentSnapshot());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void lazyParserAllSnapshots(Blackhole blackhole) throws IOException {
+    blackhole.consume(
+        TableMetadataParser.fromJson((String) null, new ByteArrayInputStream(bytes)).snapshots());
+  }
+}
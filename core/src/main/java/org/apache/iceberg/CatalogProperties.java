@@ -117,6 +117,31 @@ public class CatalogProperties {
 
   public static final long IO_MANIFEST_CACHE_MAX_CONTENT_LENGTH_DEFAULT = 8 * 1024 * 1024;
 
+  /**
+   * Local directory used by {@link org.apache.iceberg.io.BlockCacheFileIO} to cache blocks of the
+   * files that it reads. Cached blocks are kept across restarts.
+   */
+  public static final String IO_BLOCK_CACHE_DIR = "io.block-cache.dir";
+
+  /**
+   * FileIO implementation that {@link org.apache.iceberg.io.BlockCacheFileIO} reads from and writes
+   * to, default to {@link org.apache.iceberg.io.ResolvingFileIO}.
+   */
+  public static final String IO_BLOCK_CACHE_DELEGATE_IMPL = "io.block-cache.delegate-impl";
+
+  /** Controls the size of the cached blocks in bytes. */
+  public static final String IO_BLOCK_CACHE_BLOCK_SIZE_BYTES = "io.block-cache.block-size-bytes";
+
+  public static final int IO_BLOCK_CACHE_BLOCK_SIZE_BYTES_DEFAULT = 1024 * 1024;
+
+  /**
+   * Controls the maximum total amount of bytes to cache in the block cache directory. Blocks that
+   * are not used recently are removed when the cache is full.
+   */
+  public static final String IO_BLOCK_CACHE_MAX_TOTAL_BYTES = "io.block-cache.max-total-bytes";
+
+  public static final long IO_BLOCK_CACHE_MAX_TOTAL_BYTES_DEFAULT = 10L * 1024 * 1024 * 1024;
+
   public static final String URI = "uri";
   public static final String CLIENT_POOL_SIZE = "clients";
   public static final int CLIENT_POOL_SIZE_DEFAULT = 2;
@@ -0,0 +1,345 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.Histogram;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.metrics.MetricsContext.Unit;
+import org.apache.iceberg.metrics.Timer;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A service that coalesces small commits from many threads into fewer table snapshots.
+ *
+ * <p>Callers submit batches of data and delete files and receive a future that completes with the
+ * ID of the snapshot that committed them. A single committer thread groups the requests that arrive
+ * within a latency window, up to a maximum number of requests, and commits each group with one
+ * {@link AppendFiles fast append}. If any request in a group has delete files, the group is
+ * committed with a {@link RowDelta} instead.
+ *
+ * <p>All requests in a group succeed or fail together. Once the service has been closed, no new
+ * requests can be submitted; requests that were already submitted are committed before {@link
+ * #close()} returns.
+ */
+public class CommitCoalescer implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(CommitCoalescer.class);
+
+  public static final String COMMITS = "coalesced-commits";
+  public static final String BATCH_SIZE = "coalesced-batch-size";
+  public static final String WAIT_DURATION = "coalesced-wait-duration";
+
+  public static final long MAX_WAIT_MS_DEFAULT = 1000L;
+  public static final int MAX_BATCH_SIZE_DEFAULT = 100;
+  public static final long TIMEOUT_MS_DEFAULT = TimeUnit.MINUTES.toMillis(10);
+
+  private static final long POLL_INTERVAL_MS = 100L;
+
+  private final Table table;
+  private final long maxWaitNanos;
+  private final int maxBatchSize;
+  private final long timeoutMs;
+  private final BlockingQueue<Request> pending = Queues.newLinkedBlockingQueue();
+  private final AtomicBoolean running = new AtomicBoolean(true);
+  private final Object lock = new Object();
+  private final ExecutorService committerService;
+  private final Counter commits;
+  private final Histogram batchSize;
+  private final Timer waitDuration;
+
+  private CommitCoalescer(
+      Table table,
+      long maxWaitMs,
+      int maxBatchSize,
+      long timeoutMs,
+      MetricsContext metricsContext) {
+    this.table = table;
+    this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+    this.maxBatchSize = maxBatchSize;
+    this.timeoutMs = timeoutMs;
+    this.commits = metricsContext.counter(COMMITS, Unit.COUNT);
+    this.batchSize = metricsContext.histogram(BATCH_SIZE);
+    this.waitDuration = metricsContext.timer(WAIT_DURATION, TimeUnit.NANOSECONDS);
+
+    LOG.info(
+        "Starting commit coalescer for table {} with a window of {} ms and up to {} requests",
+        table,
+        maxWaitMs,
+        maxBatchSize);
+    this.committerService =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("commit-coalescer-" + table.name() + "-%d")
+                .build());
+    committerService.execute(this::commitPending);
+  }
+
+  public static Builder builderFor(Table table) {
+    return new Builder(table);
+  }
+
+  /**
+   * Submits data files to append to the table.
+   *
+   * @param dataFiles data files to append
+   * @return a future that completes with the ID of the snapshot that added the files
+   */
+  public CompletableFuture<Long> append(Iterable<DataFile> dataFiles) {
+    return submit(dataFiles, ImmutableList.of());
+  }
+
+  /**
+   * Submits data and delete files to add to the table in a row-level change.
+   *
+   * @param dataFiles data files to add
+   * @param deleteFiles delete files to add
+   * @return a future that completes with the ID of the snapshot that added the files
+   */
+  public CompletableFuture<Long> rowDelta(
+      Iterable<DataFile> dataFiles, Iterable<DeleteFile> deleteFiles) {
+    return submit(dataFiles, deleteFiles);
+  }
+
+  /** Returns a counter for the number of commits. */
+  public Counter commits() {
+    return commits;
+  }
+
+  /** Returns a histogram of the number of requests that were committed together. */
+  public Histogram batchSize() {
+    return batchSize;
+  }
+
+  /** Returns a timer for the time requests waited before their commit started. */
+  public Timer waitDuration() {
+    return waitDuration;
+  }
+
+  private CompletableFuture<Long> submit(
+      Iterable<DataFile> dataFiles, Iterable<DeleteFile> deleteFiles) {
+    Preconditions.checkArgument(dataFiles != null, "Invalid data files: null");
+    Preconditions.checkArgument(deleteFiles != null, "Invalid delete files: null");
+    Request request = new Request(dataFiles, deleteFiles);
+    Preconditions.checkArgument(
+        !request.dataFiles.isEmpty() || !request.deleteFiles.isEmpty(),
+        "Cannot commit an empty set of files");
+    // closing is serialized with submissions so that no request is added after the committer exits
+    synchronized (lock) {
+      Preconditions.checkState(
+          running.get(), "Cannot submit files to a commit coalescer that has been closed");
+      pending.add(request);
+    }
+
+    return request.future;
+  }
+
+  private void commitPending() {
+    try {
+      while (running.get() || !pending.isEmpty()) {
+        Request first = pending.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        if (first != null) {
+          commit(nextBatch(first));
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.warn("Commit coalescer for {} was interrupted", table);
+    }
+  }
+
+  private List<Request> nextBatch(Request first) throws InterruptedException {
+    List<Request> batch = Lists.newArrayList(first);
+    long deadline = first.submittedNanos + maxWaitNanos;
+    while (batch.size() < maxBatchSize) {
+      long remainingNanos = deadline - System.nanoTime();
+      // once closed, commit what is pending without waiting for more requests
+      Request next =
+          running.get() && remainingNanos > 0
+              ? pending.poll(remainingNanos, TimeUnit.NANOSECONDS)
+              : pending.poll();
+      if (next == null) {
+        break;
+      }
+
+      batch.add(next);
+    }
+
+    return batch;
+  }
+
+  private void commit(List<Request> batch) {
+    long startNanos = System.nanoTime();
+    for (Request request : batch) {
+      waitDuration.record(startNanos - request.submittedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    batchSize.update(batch.size());
+
+    SnapshotProducer<?> update;
+    try {
+      update = newUpdate(batch);
+      update.commit();
+    } catch (RuntimeException e) {
+      LOG.error("Failed to commit {} coalesced requests to {}", batch.size(), table, e);
+      for (Request request : batch) {
+        request.future.completeExceptionally(e);
+      }
+
+      return;
+    }
+
+    commits.increment();
+    long snapshotId = update.snapshotId();
+    LOG.debug("Committed {} coalesced requests in snapshot {}", batch.size(), snapshotId);
+    for (Request request : batch) {
+      request.future.complete(snapshotId);
+    }
+  }
+
+  private SnapshotProducer<?> newUpdate(List<Request> batch) {
+    SnapshotUpdate<?> update;
+    if (batch.stream().anyMatch(request -> !request.deleteFiles.isEmpty())) {
+      RowDelta rowDelta = table.newRowDelta();
+      for (Request request : batch) {
+        request.dataFiles.forEach(rowDelta::addRows);
+        request.deleteFiles.forEach(rowDelta::addDeletes);
+      }
+
+      update = rowDelta;
+    } else {
+      AppendFiles append = table.newFastAppend();
+      for (Request request : batch) {
+        request.dataFiles.forEach(append::appendFile);
+      }
+
+      update = append;
+    }
+
+    // the snapshot ID is read after the commit, so the update type is checked before committing
+    Preconditions.checkState(
+        update instanceof SnapshotProducer,
+        "Cannot determine the committed snapshot of %s",
+        update.getClass().getName());
+    return (SnapshotProducer<?>) update;
+  }
+
+  @Override
+  public void close() {
+    synchronized (lock) {
+      Preconditions.checkState(
+          running.compareAndSet(true, false), "Cannot close already closed commit coalescer");
+    }
+
+    LOG.info("Closing commit coalescer for {} and waiting for pending commits", table);
+    committerService.shutdown();
+
+    try {
+      if (!committerService.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+        LOG.warn("Pending commits did not complete within {} ms", timeoutMs);
+        committerService.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      committerService.shutdownNow();
+    }
+
+    // fail any requests that could not be committed
+    Request request;
+    while ((request = pending.poll()) != null) {
+      request.future.completeExceptionally(
+          new IllegalStateException("Commit coalescer was closed before the files were committed"));
+    }
+  }
+
+  private static class Request {
+    private final List<DataFile> dataFiles;
+    private final List<DeleteFile> deleteFiles;
+    private final long submittedNanos = System.nanoTime();
+    private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+    private Request(Iterable<DataFile> dataFiles, Iterable<DeleteFile> deleteFiles) {
+      this.dataFiles = ImmutableList.copyOf(dataFiles);
+      this.deleteFiles = ImmutableList.copyOf(deleteFiles);
+    }
+  }
+
+  public static class Builder {
+    private final Table table;
+    private long maxWaitMs = MAX_WAIT_MS_DEFAULT;
+    private int maxBatchSize = MAX_BATCH_SIZE_DEFAULT;
+    private long timeoutMs = TIMEOUT_MS_DEFAULT;
+    private MetricsContext metricsContext = new DefaultMetricsContext();
+
+    private Builder(Table table) {
+      Preconditions.checkArgument(table != null, "Invalid table: null");
+      this.table = table;
+    }
+
+    /**
+     * Sets how long the first request of a batch waits for other requests before it is committed.
+     */
+    public Builder maxWait(long duration, TimeUnit unit) {
+      Preconditions.checkArgument(duration >= 0, "Invalid max wait: %s", duration);
+      this.maxWaitMs = unit.toMillis(duration);
+      return this;
+    }
+
+    /** Sets the maximum number of requests that are committed together. */
+    public Builder maxBatchSize(int newMaxBatchSize) {
+      Preconditions.checkArgument(
+          newMaxBatchSize > 0, "Invalid max batch size: %s (must be positive)", newMaxBatchSize);
+      this.maxBatchSize = newMaxBatchSize;
+      return this;
+    }
+
+    /** Sets how long {@link #close()} waits for pending requests to be committed. */
+    public Builder timeout(long duration, TimeUnit unit) {
+      Preconditions.checkArgument(duration > 0, "Invalid timeout: %s", duration);
+      this.timeoutMs = unit.toMillis(duration);
+      return this;
+    }
+
+    public Builder metricsContext(MetricsContext newMetricsContext) {
+      Preconditions.checkArgument(newMetricsContext != null, "Invalid metrics context: null");
+      this.metricsContext = newMetricsContext;
+      return this;
+    }
+
+    /** Creates and starts the commit coalescer. */
+    public CommitCoalescer build() {
+      return new CommitCoalescer(table, maxWaitMs, maxBatchSize, timeoutMs, metricsContext);
+    }
+  }
+}
@@ -331,6 +331,8 @@ public class DataFiles {
         this.format = FileFormat.fromFileName(filePath);
       }
       Preconditions.checkArgument(format != null, "File format is required");
+      Preconditions.checkArgument(
+          format != FileFormat.PUFFIN, "Invalid data file format: %s", format);
       Preconditions.checkArgument(fileSizeInBytes >= 0, "File size is required");
       Preconditions.checkArgument(recordCount >= 0, "Record count is required");
 
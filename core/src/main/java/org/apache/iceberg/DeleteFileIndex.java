@@ -40,6 +40,7 @@ import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.expressions.ManifestEvaluator;
 import org.apache.iceberg.expressions.Projections;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.metrics.ScanMetrics;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
@@ -576,16 +577,52 @@ class DeleteFileIndex {
 
       matchingManifests =
           CloseableIterable.count(scanMetrics.scannedDeleteManifests(), matchingManifests);
+
+      ManifestSummaryFilter summaryFilter = summaryFilter();
       return Iterables.transform(
           matchingManifests,
-          manifest ->
-              ManifestFiles.readDeleteManifest(manifest, io, specsById)
-                  .filterRows(dataFilter)
-                  .filterPartitions(partitionFilter)
-                  .filterPartitions(partitionSet)
-                  .caseSensitive(caseSensitive)
-                  .scanMetrics(scanMetrics)
-                  .liveEntries());
+          manifest -> {
+            CloseableIterable<ManifestEntry<DeleteFile>> entries =
+                ManifestFiles.readDeleteManifest(manifest, io, specsById)
+                    .filterRows(dataFilter)
+                    .filterPartitions(partitionFilter)
+                    .filterPartitions(partitionSet)
+                    .caseSensitive(caseSensitive)
+                    .scanMetrics(scanMetrics)
+                    .liveEntries();
+            if (summaryFilter == null) {
+              return entries;
+            }
+
+            // the summary is checked when the manifest is opened by a planning task
+            return CloseableIterable.combine(
+                () ->
+                    summaryFilter.mayMatch(manifest, scanMetrics.skippedDeleteFiles())
+                        ? entries.iterator()
+                        : CloseableIterator.empty(),
+                entries);
+          });
+    }
+
+    private ManifestSummaryFilter summaryFilter() {
+      boolean canSkipManifests =
+          ManifestSummaryFilter.canSkipManifests(specsById, partitionFilter, dataFilter)
+              || (ManifestSummaryCache.enabled() && specsById != null && minSequenceNumber > 0);
+      if (!canSkipManifests) {
+        return null;
+      }
+
+      return new ManifestSummaryFilter(
+              ManifestSummaryCache.get(),
+              io,
+              specsById,
+              partitionFilter,
+              dataFilter,
+              caseSensitive,
+              scanMetrics)
+          .ignoreDeleted()
+          .filterPartitions(partitionSet)
+          .afterSequenceNumber(minSequenceNumber);
     }
   }
 
@@ -26,6 +26,8 @@ import org.apache.iceberg.avro.Avro;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.SupportsBulkOperations;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.util.Tasks;
 import org.slf4j.Logger;
@@ -35,6 +37,9 @@ import org.slf4j.LoggerFactory;
 abstract class FileCleanupStrategy {
   private static final Logger LOG = LoggerFactory.getLogger(FileCleanupStrategy.class);
 
+  // the maximum number of files passed to a single bulk delete call
+  private static final int DELETE_BATCH_SIZE = 10_000;
+
   protected final FileIO fileIO;
   protected final ExecutorService planExecutorService;
   private final Consumer<String> deleteFunc;
@@ -60,12 +65,15 @@ abstract class FileCleanupStrategy {
               "manifest_length",
               "partition_spec_id",
               "added_snapshot_id",
-              "deleted_data_files_count");
+              "deleted_data_files_count",
+              "partitions");
 
   protected CloseableIterable<ManifestFile> readManifests(Snapshot snapshot) {
     if (snapshot.manifestListLocation() != null) {
       return Avro.read(fileIO.newInputFile(snapshot.manifestListLocation()))
           .rename("manifest_file", GenericManifestFile.class.getName())
+          .rename("partitions", GenericPartitionFieldSummary.class.getName())
+          .rename("r508", GenericPartitionFieldSummary.class.getName())
           .classLoader(GenericManifestFile.class.getClassLoader())
           .project(MANIFEST_PROJECTION)
           .reuseContainers(true)
@@ -76,14 +84,37 @@ abstract class FileCleanupStrategy {
   }
 
   protected void deleteFiles(Set<String> pathsToDelete, String fileType) {
-    Tasks.foreach(pathsToDelete)
+    if (deleteFunc == null && fileIO instanceof SupportsBulkOperations) {
+      bulkDeleteFiles((SupportsBulkOperations) fileIO, pathsToDelete, fileType);
+    } else {
+      Consumer<String> delete = deleteFunc != null ? deleteFunc : fileIO::deleteFile;
+      Tasks.foreach(pathsToDelete)
+          .executeWith(deleteExecutorService)
+          .retry(3)
+          .stopRetryOn(NotFoundException.class)
+          .suppressFailureWhenFinished()
+          .onFailure(
+              (file, thrown) -> LOG.warn("Delete failed for {} file: {}", fileType, file, thrown))
+          .run(delete::accept);
+    }
+  }
+
+  private void bulkDeleteFiles(
+      SupportsBulkOperations bulkIO, Set<String> pathsToDelete, String fileType) {
+    // bound the number of paths in a single request; batches are deleted concurrently
+    Tasks.foreach(Iterables.partition(pathsToDelete, DELETE_BATCH_SIZE))
         .executeWith(deleteExecutorService)
         .retry(3)
         .stopRetryOn(NotFoundException.class)
         .suppressFailureWhenFinished()
         .onFailure(
-            (file, thrown) -> LOG.warn("Delete failed for {} file: {}", fileType, file, thrown))
-        .run(deleteFunc::accept);
+            (batch, thrown) ->
+                LOG.warn(
+                    "Bulk delete failed for a batch of {} {} files",
+                    batch.size(),
+                    fileType,
+                    thrown))
+        .run(bulkIO::deleteFiles);
   }
 
   protected Set<String> expiredStatisticsFilesLocations(
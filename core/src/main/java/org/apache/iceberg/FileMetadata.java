@@ -236,6 +236,8 @@ public class FileMetadata {
               sortOrderId == null, "Position delete file should not have sort order");
           break;
         case EQUALITY_DELETES:
+          Preconditions.checkArgument(
+              format != FileFormat.PUFFIN, "Invalid equality delete file format: %s", format);
           if (sortOrderId == null) {
             sortOrderId = SortOrder.unsorted().orderId();
           }
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.JsonUtil;
+import org.apache.iceberg.util.SerializableSupplier;
+
+/**
+ * Snapshots of a metadata file that are indexed by ID and decoded on demand.
+ *
+ * <p>Indexing reads the ID of each snapshot and copies its JSON object into a separate buffer, so
+ * the rest of the metadata file is not kept in memory. A snapshot is decoded the first time it is
+ * requested and its buffer is released; decoded snapshots are reused so that each snapshot is
+ * decoded at most once.
+ *
+ * <p>Serialization decodes all snapshots and writes them instead of their JSON.
+ */
+class LazySnapshots implements SerializableSupplier<List<Snapshot>> {
+  private final long[] snapshotIds;
+  private final Map<Long, Integer> positionsById;
+  private final Snapshot[] decoded;
+  private transient byte[][] encoded;
+
+  private LazySnapshots(long[] snapshotIds, byte[][] encoded) {
+    this.snapshotIds = snapshotIds;
+    this.encoded = encoded;
+    this.decoded = new Snapshot[snapshotIds.length];
+    this.positionsById = Maps.newHashMapWithExpectedSize(snapshotIds.length);
+    for (int pos = 0; pos < snapshotIds.length; pos += 1) {
+      positionsById.put(snapshotIds[pos], pos);
+    }
+  }
+
+  /**
+   * Indexes the snapshots array that the parser is positioned at.
+   *
+   * @param parser a parser with the current token at the array start
+   * @return the indexed snapshots
+   */
+  static LazySnapshots index(JsonParser parser) throws IOException {
+    Preconditions.checkArgument(
+        parser.currentToken() == JsonToken.START_ARRAY,
+        "Cannot parse snapshots from non-array: %s",
+        parser.getText());
+
+    List<Long> snapshotIds = Lists.newArrayList();
+    List<byte[]> encoded = Lists.newArrayList();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      Preconditions.checkArgument(
+          parser.currentToken() == JsonToken.START_OBJECT,
+          "Cannot parse table snapshot from a non-object: %s",
+          parser.getText());
+
+      out.reset();
+      Long snapshotId = null;
+      try (JsonGenerator generator = JsonUtil.factory().createGenerator(out)) {
+        generator.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String field = parser.getCurrentName();
+          generator.writeFieldName(field);
+          parser.nextToken();
+          if (TableMetadataParser.SNAPSHOT_ID.equals(field)) {
+            snapshotId = JsonUtil.getLong(TableMetadataParser.SNAPSHOT_ID, parser);
+          }
+
+          generator.copyCurrentStructure(parser);
+        }
+
+        generator.writeEndObject();
+      }
+
+      Preconditions.checkArgument(
+          snapshotId != null, "Cannot parse missing long: %s", TableMetadataParser.SNAPSHOT_ID);
+      snapshotIds.add(snapshotId);
+      encoded.add(out.toByteArray());
+    }
+
+    long[] ids = new long[snapshotIds.size()];
+    for (int pos = 0; pos < ids.length; pos += 1) {
+      ids[pos] = snapshotIds.get(pos);
+    }
+
+    return new LazySnapshots(ids, encoded.toArray(new byte[0][]));
+  }
+
+  int size() {
+    return snapshotIds.length;
+  }
+
+  /**
+   * Returns the snapshot with the given ID.
+   *
+   * @param snapshotId a snapshot ID
+   * @return the decoded snapshot, or null if there is no snapshot with the ID
+   */
+  Snapshot snapshot(long snapshotId) {
+    Integer pos = positionsById.get(snapshotId);
+    return pos != null ? decode(pos) : null;
+  }
+
+  /**
+   * Returns the snapshots with the given IDs, in the order of the metadata file.
+   *
+   * <p>IDs that do not have a snapshot are ignored.
+   */
+  List<Snapshot> snapshots(Collection<Long> ids) {
+    ImmutableList.Builder<Snapshot> builder = ImmutableList.builder();
+    for (int pos = 0; pos < snapshotIds.length; pos += 1) {
+      if (ids.contains(snapshotIds[pos])) {
+        builder.add(decode(pos));
+      }
+    }
+
+    return builder.build();
+  }
+
+  @Override
+  public List<Snapshot> get() {
+    List<Snapshot> snapshots = Lists.newArrayListWithExpectedSize(snapshotIds.length);
+    for (int pos = 0; pos < snapshotIds.length; pos += 1) {
+      snapshots.add(decode(pos));
+    }
+
+    return snapshots;
+  }
+
+  private synchronized Snapshot decode(int pos) {
+    if (decoded[pos] == null) {
+      decoded[pos] = parse(encoded[pos]);
+      // the JSON of a decoded snapshot is no longer needed
+      encoded[pos] = null;
+    }
+
+    return decoded[pos];
+  }
+
+  private static Snapshot parse(byte[] json) {
+    try (JsonParser parser = JsonUtil.factory().createParser(json)) {
+      parser.nextToken();
+      return SnapshotParser.fromJson(parser);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+    for (int pos = 0; pos < decoded.length; pos += 1) {
+      decode(pos);
+    }
+
+    out.defaultWriteObject();
+  }
+}
@@ -71,6 +71,8 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
   private final PartitionSet deleteFilePartitions;
   private final PartitionSet dropPartitions;
   private final CharSequenceSet deletePaths = CharSequenceSet.empty();
+  // hashes of deletePaths to probe manifest path indexes, computed when manifests are filtered
+  private long[] deletePathHashes = null;
   private Expression deleteExpression = Expressions.alwaysFalse();
   private long minSequenceNumber = 0;
   private boolean hasPathOnlyDeletes = false;
@@ -142,7 +144,11 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
   protected void dropDeleteFilesOlderThan(long sequenceNumber) {
     Preconditions.checkArgument(
         sequenceNumber >= 0, "Invalid minimum data sequence number: %s", sequenceNumber);
-    this.minSequenceNumber = sequenceNumber;
+    if (sequenceNumber != minSequenceNumber) {
+      // filtered manifests depend on the sequence number and cannot be reused when it changes
+      invalidateFilteredCache();
+      this.minSequenceNumber = sequenceNumber;
+    }
   }
 
   void caseSensitive(boolean newCaseSensitive) {
@@ -154,6 +160,7 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
     Preconditions.checkNotNull(file, "Cannot delete file: null");
     invalidateFilteredCache();
     deletePaths.add(file.path());
+    this.deletePathHashes = null;
     deleteFilePartitions.add(file.specId(), file.partition());
   }
 
@@ -163,6 +170,7 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
     invalidateFilteredCache();
     this.hasPathOnlyDeletes = true;
     deletePaths.add(path);
+    this.deletePathHashes = null;
   }
 
   boolean containsDeletes() {
@@ -184,6 +192,10 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
       return ImmutableList.of();
     }
 
+    if (deletePathHashes == null && deletePaths.size() > 0) {
+      this.deletePathHashes = ManifestPathIndex.hash(deletePaths);
+    }
+
     ManifestFile[] filtered = new ManifestFile[manifests.size()];
     // open all of the manifest files in parallel, use index to avoid reordering
     Tasks.range(filtered.length)
@@ -310,7 +322,7 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
       // this assumes that the manifest doesn't have files to remove and streams through the
       // manifest without copying data. if a manifest does have a file to remove, this will break
       // out of the loop and move on to filtering the manifest.
-      boolean hasDeletedFiles = manifestHasDeletedFiles(evaluator, reader);
+      boolean hasDeletedFiles = manifestHasDeletedFiles(evaluator, manifest, reader);
       if (!hasDeletedFiles) {
         filteredManifests.put(manifest, manifest);
         return manifest;
@@ -344,11 +356,12 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
 
     boolean canContainDroppedFiles;
     if (hasPathOnlyDeletes) {
-      canContainDroppedFiles = true;
+      canContainDroppedFiles = canContainDeletePaths(manifest);
     } else if (deletePaths.size() > 0) {
       // because there were no path-only deletes, the set of deleted file partitions is valid
       canContainDroppedFiles =
-          ManifestFileUtil.canContainAny(manifest, deleteFilePartitions, specsById);
+          ManifestFileUtil.canContainAny(manifest, deleteFilePartitions, specsById)
+              && canContainDeletePaths(manifest);
     } else {
       canContainDroppedFiles = false;
     }
@@ -363,13 +376,32 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
         || canContainDropBySeq;
   }
 
+  private boolean canContainDeletePaths(ManifestFile manifest) {
+    ManifestPathIndex index = ManifestPathIndex.get(manifest);
+    return index == null || deletePathHashes == null || index.mightContainAny(deletePathHashes);
+  }
+
+  // returns a builder to index the live paths of a manifest that is scanned or written, if needed
+  private ManifestPathIndex.Builder pathIndexBuilder(ManifestFile manifest) {
+    if (deletePaths.size() > 0 && (manifest == null || ManifestPathIndex.get(manifest) == null)) {
+      return ManifestPathIndex.builder();
+    }
+
+    return null;
+  }
+
   @SuppressWarnings({"CollectionUndefinedEquality", "checkstyle:CyclomaticComplexity"})
   private boolean manifestHasDeletedFiles(
-      PartitionAndMetricsEvaluator evaluator, ManifestReader<F> reader) {
+      PartitionAndMetricsEvaluator evaluator, ManifestFile manifest, ManifestReader<F> reader) {
     boolean isDelete = reader.isDeleteManifestReader();
+    ManifestPathIndex.Builder indexBuilder = pathIndexBuilder(manifest);
 
     for (ManifestEntry<F> entry : reader.liveEntries()) {
       F file = entry.file();
+      if (indexBuilder != null) {
+        indexBuilder.add(file.path());
+      }
+
       boolean markedForDelete =
           deletePaths.contains(file.path())
               || dropPartitions.contains(file.specId(), file.partition())
@@ -398,6 +430,11 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
       }
     }
 
+    // the whole manifest was scanned so all of its live paths are indexed
+    if (indexBuilder != null) {
+      ManifestPathIndex.put(manifest, indexBuilder.build());
+    }
+
     return false;
   }
 
@@ -409,6 +446,7 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
     // manifest. produce a copy of the manifest with all deleted files removed.
     List<F> deletedFiles = Lists.newArrayList();
     Set<CharSequenceWrapper> deletedPaths = Sets.newHashSet();
+    ManifestPathIndex.Builder indexBuilder = pathIndexBuilder(null);
 
     try {
       ManifestWriter<F> writer = newManifestWriter(reader.spec());
@@ -454,10 +492,16 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
                         deletedPaths.add(wrapper);
                       } else {
                         writer.existing(entry);
+                        if (indexBuilder != null) {
+                          indexBuilder.add(file.path());
+                        }
                       }
 
                     } else {
                       writer.existing(entry);
+                      if (indexBuilder != null) {
+                        indexBuilder.add(file.path());
+                      }
                     }
                   }
                 });
@@ -469,6 +513,10 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
       ManifestFile filtered = writer.toManifestFile();
 
       // update caches
+      if (indexBuilder != null) {
+        ManifestPathIndex.put(filtered, indexBuilder.build());
+      }
+
       filteredManifests.put(manifest, filtered);
       filteredManifestToDeletedFiles.put(filtered, deletedFiles);
 
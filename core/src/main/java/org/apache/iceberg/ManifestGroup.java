@@ -37,6 +37,7 @@ import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.metrics.ScanMetrics;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
@@ -204,7 +205,18 @@ class ManifestGroup {
             });
 
     if (executorService != null) {
-      return new ParallelIterable<>(tasks, executorService);
+      int maxQueueSize = SystemConfigs.SCAN_PLAN_MAX_QUEUE_SIZE.value();
+      Preconditions.checkArgument(
+          maxQueueSize > 0,
+          "Invalid %s: %s (must be positive)",
+          SystemConfigs.SCAN_PLAN_MAX_QUEUE_SIZE.propertyKey(),
+          maxQueueSize);
+      return new ParallelIterable<>(
+          tasks,
+          executorService,
+          maxQueueSize,
+          scanMetrics.planningQueueDepth(),
+          scanMetrics.planningProducerStallDuration());
     } else {
       return CloseableIterable.concat(tasks);
     }
@@ -247,6 +259,8 @@ class ManifestGroup {
       evaluator = null;
     }
 
+    ManifestSummaryFilter summaryFilter = summaryFilter();
+
     CloseableIterable<ManifestFile> closeableDataManifests =
         CloseableIterable.withNoopClose(dataManifests);
     CloseableIterable<ManifestFile> matchingManifests =
@@ -293,6 +307,11 @@ class ManifestGroup {
 
               @Override
               public CloseableIterator<T> iterator() {
+                if (summaryFilter != null
+                    && !summaryFilter.mayMatch(manifest, scanMetrics.skippedDataFiles())) {
+                  return CloseableIterator.empty();
+                }
+
                 ManifestReader<DataFile> reader =
                     ManifestFiles.read(manifest, io, specsById)
                         .filterRows(dataFilter)
@@ -342,6 +361,31 @@ class ManifestGroup {
             });
   }
 
+  private ManifestSummaryFilter summaryFilter() {
+    if (!ManifestSummaryFilter.canSkipManifests(specsById, partitionFilter, dataFilter)) {
+      return null;
+    }
+
+    ManifestSummaryFilter summaryFilter =
+        new ManifestSummaryFilter(
+            ManifestSummaryCache.get(),
+            io,
+            specsById,
+            partitionFilter,
+            dataFilter,
+            caseSensitive,
+            scanMetrics);
+    if (ignoreDeleted) {
+      summaryFilter.ignoreDeleted();
+    }
+
+    if (ignoreExisting) {
+      summaryFilter.ignoreExisting();
+    }
+
+    return summaryFilter;
+  }
+
   private static CloseableIterable<FileScanTask> createFileScanTasks(
       CloseableIterable<ManifestEntry<DataFile>> entries, TaskContext ctx) {
     return CloseableIterable.transform(
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.apache.iceberg.relocated.com.google.common.hash.HashFunction;
+import org.apache.iceberg.relocated.com.google.common.hash.Hashing;
+
+/**
+ * A bloom filter of the live file paths in a manifest.
+ *
+ * <p>Manifests are immutable, so an index that is built while a manifest is scanned stays valid for
+ * as long as the manifest exists. Indexes are cached in memory by manifest location and are used to
+ * skip opening manifests that cannot contain any of the paths that a commit deletes.
+ */
+class ManifestPathIndex {
+  private static final HashFunction HASH_FUNC = Hashing.murmur3_128();
+  private static final int BITS_PER_PATH = 10;
+  // optimal for 10 bits per path, for a false positive rate of about 1%
+  private static final int NUM_HASHES = 7;
+  private static final long MAX_CACHE_SIZE_BYTES = 64L * 1024 * 1024;
+
+  private static final Cache<String, ManifestPathIndex> INDEXES =
+      Caffeine.newBuilder()
+          .maximumWeight(MAX_CACHE_SIZE_BYTES)
+          .weigher((String location, ManifestPathIndex index) -> index.sizeInBytes())
+          .build();
+
+  private final long[] words;
+  private final long numBits;
+
+  private ManifestPathIndex(long[] words) {
+    this.words = words;
+    this.numBits = words.length * 64L;
+  }
+
+  /** Returns the cached index for a manifest, or null if the manifest has not been indexed. */
+  static ManifestPathIndex get(ManifestFile manifest) {
+    return INDEXES.getIfPresent(manifest.path());
+  }
+
+  static void put(ManifestFile manifest, ManifestPathIndex index) {
+    INDEXES.put(manifest.path(), index);
+  }
+
+  static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Hashes paths to probe indexes with.
+   *
+   * <p>Hashing once and probing many manifests with the result avoids rehashing every path for each
+   * manifest.
+   *
+   * @param paths file paths
+   * @return an array of hash pairs, two longs for each path
+   */
+  static long[] hash(Iterable<CharSequence> paths) {
+    LongArray hashes = new LongArray();
+    for (CharSequence path : paths) {
+      hashes.addHash(path);
+    }
+
+    return hashes.toArray();
+  }
+
+  /**
+   * Returns whether the manifest may contain any of the hashed paths.
+   *
+   * @param pathHashes hash pairs produced by {@link #hash(Iterable)}
+   * @return false if the manifest definitely does not contain any of the paths, true otherwise
+   */
+  boolean mightContainAny(long[] pathHashes) {
+    for (int i = 0; i < pathHashes.length; i += 2) {
+      if (mightContain(pathHashes[i], pathHashes[i + 1])) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private boolean mightContain(long hash1, long hash2) {
+    long combined = hash1;
+    for (int i = 0; i < NUM_HASHES; i += 1) {
+      long bit = (combined & Long.MAX_VALUE) % numBits;
+      if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+        return false;
+      }
+
+      combined += hash2;
+    }
+
+    return true;
+  }
+
+  private void set(long hash1, long hash2) {
+    long combined = hash1;
+    for (int i = 0; i < NUM_HASHES; i += 1) {
+      long bit = (combined & Long.MAX_VALUE) % numBits;
+      words[(int) (bit >>> 6)] |= 1L << bit;
+      combined += hash2;
+    }
+  }
+
+  private int sizeInBytes() {
+    return 16 + words.length * 8;
+  }
+
+  static class Builder {
+    private final LongArray hashes = new LongArray();
+
+    private Builder() {}
+
+    Builder add(CharSequence path) {
+      hashes.addHash(path);
+      return this;
+    }
+
+    ManifestPathIndex build() {
+      int numPaths = hashes.size / 2;
+      long numBits = Math.max(64L, (long) numPaths * BITS_PER_PATH);
+      ManifestPathIndex index = new ManifestPathIndex(new long[(int) ((numBits + 63) / 64)]);
+      for (int i = 0; i < hashes.size; i += 2) {
+        index.set(hashes.values[i], hashes.values[i + 1]);
+      }
+
+      return index;
+    }
+  }
+
+  private static class LongArray {
+    private long[] values = new long[64];
+    private int size = 0;
+
+    private void addHash(CharSequence path) {
+      ByteBuffer hash =
+          ByteBuffer.wrap(HASH_FUNC.hashString(path, StandardCharsets.UTF_8).asBytes())
+              .order(ByteOrder.LITTLE_ENDIAN);
+      if (size + 2 > values.length) {
+        this.values = Arrays.copyOf(values, values.length * 2);
+      }
+
+      values[size] = hash.getLong(0);
+      values[size + 1] = hash.getLong(8);
+      this.size += 2;
+    }
+
+    private long[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+}
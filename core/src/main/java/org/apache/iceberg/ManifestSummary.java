@@ -0,0 +1,399 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+
+/**
+ * A compact, columnar summary of the entries in a manifest.
+ *
+ * <p>The summary keeps the status, partition tuple, data sequence number, record count and column
+ * stats of each entry so that filters can be evaluated against a manifest without decoding it
+ * again. It does not keep file locations or any other metadata needed to create scan tasks.
+ */
+class ManifestSummary {
+  // estimated memory used by each entry and each column array in addition to their values
+  private static final long ENTRY_OVERHEAD_BYTES = 48;
+  private static final long COLUMN_OVERHEAD_BYTES = 32;
+  private static final long NO_VALUE = Long.MIN_VALUE;
+
+  private final Long sequenceNumber;
+  private final int size;
+  private final ManifestEntry.Status[] statuses;
+  private final long[] dataSequenceNumbers;
+  private final long[] recordCounts;
+  private final StructLike[] partitions;
+  private final Map<Integer, long[]> valueCounts = Maps.newHashMap();
+  private final Map<Integer, long[]> nullValueCounts = Maps.newHashMap();
+  private final Map<Integer, long[]> nanValueCounts = Maps.newHashMap();
+  private final Map<Integer, ByteBuffer[]> lowerBounds = Maps.newHashMap();
+  private final Map<Integer, ByteBuffer[]> upperBounds = Maps.newHashMap();
+  private final long sizeInBytes;
+
+  private ManifestSummary(
+      Long sequenceNumber, List<ManifestEntry.Status> entryStatuses, List<ContentFile<?>> files) {
+    this.sequenceNumber = sequenceNumber;
+    this.size = files.size();
+    this.statuses = entryStatuses.toArray(new ManifestEntry.Status[0]);
+    this.dataSequenceNumbers = new long[size];
+    this.recordCounts = new long[size];
+    this.partitions = new StructLike[size];
+
+    long bytes = ENTRY_OVERHEAD_BYTES;
+    for (int pos = 0; pos < size; pos += 1) {
+      ContentFile<?> file = files.get(pos);
+      Long dataSequenceNumber = file.dataSequenceNumber();
+      dataSequenceNumbers[pos] = dataSequenceNumber != null ? dataSequenceNumber : NO_VALUE;
+      recordCounts[pos] = file.recordCount();
+      partitions[pos] = file.partition();
+      bytes += ENTRY_OVERHEAD_BYTES + sizeOf(file.partition());
+      bytes += putCounts(valueCounts, pos, file.valueCounts());
+      bytes += putCounts(nullValueCounts, pos, file.nullValueCounts());
+      bytes += putCounts(nanValueCounts, pos, file.nanValueCounts());
+      bytes += putBounds(lowerBounds, pos, file.lowerBounds());
+      bytes += putBounds(upperBounds, pos, file.upperBounds());
+    }
+
+    this.sizeInBytes = bytes;
+  }
+
+  /**
+   * Summarizes the entries of a manifest.
+   *
+   * @param manifest the manifest that was read
+   * @param entries all entries of the manifest, with inherited metadata applied
+   * @return a summary of the entries
+   */
+  static <F extends ContentFile<F>> ManifestSummary of(
+      ManifestFile manifest, Iterable<ManifestEntry<F>> entries) {
+    List<ManifestEntry.Status> statuses = Lists.newArrayList();
+    List<ContentFile<?>> files = Lists.newArrayList();
+    for (ManifestEntry<F> entry : entries) {
+      statuses.add(entry.status());
+      files.add(entry.file().copy());
+    }
+
+    return new ManifestSummary(manifest.sequenceNumber(), statuses, files);
+  }
+
+  /** Returns the sequence number of the manifest when it was summarized. */
+  Long sequenceNumber() {
+    return sequenceNumber;
+  }
+
+  /** Returns the number of entries in the manifest. */
+  int size() {
+    return size;
+  }
+
+  /** Returns the estimated heap size of this summary. */
+  long sizeInBytes() {
+    return sizeInBytes;
+  }
+
+  /**
+   * Returns whether any entry of the manifest may match the given filters.
+   *
+   * <p>Files passed to the file filter only expose the partition, data sequence number, record
+   * count and column stats of an entry.
+   *
+   * @param statusFilter a filter on the status of an entry
+   * @param fileFilter a filter on the summarized file of an entry
+   * @return false if no entry can match the filters, true otherwise
+   */
+  boolean anyMatch(
+      Predicate<ManifestEntry.Status> statusFilter, Predicate<ContentFile<?>> fileFilter) {
+    SummarizedFile file = new SummarizedFile();
+    for (int pos = 0; pos < size; pos += 1) {
+      if (statusFilter.test(statuses[pos]) && fileFilter.test(file.at(pos))) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private long putCounts(Map<Integer, long[]> columns, int pos, Map<Integer, Long> counts) {
+    if (counts == null) {
+      return 0L;
+    }
+
+    long bytes = 0L;
+    for (Map.Entry<Integer, Long> count : counts.entrySet()) {
+      long[] column = columns.get(count.getKey());
+      if (column == null) {
+        column = new long[size];
+        Arrays.fill(column, NO_VALUE);
+        columns.put(count.getKey(), column);
+        bytes += COLUMN_OVERHEAD_BYTES + 8L * size;
+      }
+
+      if (count.getValue() != null) {
+        column[pos] = count.getValue();
+      }
+    }
+
+    return bytes;
+  }
+
+  private long putBounds(
+      Map<Integer, ByteBuffer[]> columns, int pos, Map<Integer, ByteBuffer> bounds) {
+    if (bounds == null) {
+      return 0L;
+    }
+
+    long bytes = 0L;
+    for (Map.Entry<Integer, ByteBuffer> bound : bounds.entrySet()) {
+      ByteBuffer[] column = columns.get(bound.getKey());
+      if (column == null) {
+        column = new ByteBuffer[size];
+        columns.put(bound.getKey(), column);
+        bytes += COLUMN_OVERHEAD_BYTES + 8L * size;
+      }
+
+      ByteBuffer value = bound.getValue();
+      column[pos] = value;
+      if (value != null) {
+        bytes += COLUMN_OVERHEAD_BYTES + value.remaining();
+      }
+    }
+
+    return bytes;
+  }
+
+  private static long sizeOf(StructLike partition) {
+    if (partition == null) {
+      return 0L;
+    }
+
+    long bytes = COLUMN_OVERHEAD_BYTES;
+    for (int i = 0; i < partition.size(); i += 1) {
+      Object value = partition.get(i, Object.class);
+      if (value instanceof CharSequence) {
+        bytes += COLUMN_OVERHEAD_BYTES + 2L * ((CharSequence) value).length();
+      } else if (value instanceof ByteBuffer) {
+        bytes += COLUMN_OVERHEAD_BYTES + ((ByteBuffer) value).remaining();
+      } else if (value instanceof byte[]) {
+        bytes += COLUMN_OVERHEAD_BYTES + ((byte[]) value).length;
+      } else {
+        bytes += 16L;
+      }
+    }
+
+    return bytes;
+  }
+
+  /** A view of the stats of one entry, reused for all entries while evaluating filters. */
+  private class SummarizedFile implements ContentFile<SummarizedFile> {
+    private final CountsView valueCountsView = new CountsView(valueCounts);
+    private final CountsView nullValueCountsView = new CountsView(nullValueCounts);
+    private final CountsView nanValueCountsView = new CountsView(nanValueCounts);
+    private final BoundsView lowerBoundsView = new BoundsView(lowerBounds);
+    private final BoundsView upperBoundsView = new BoundsView(upperBounds);
+    private int pos = 0;
+
+    private SummarizedFile at(int newPos) {
+      this.pos = newPos;
+      valueCountsView.pos = newPos;
+      nullValueCountsView.pos = newPos;
+      nanValueCountsView.pos = newPos;
+      lowerBoundsView.pos = newPos;
+      upperBoundsView.pos = newPos;
+      return this;
+    }
+
+    @Override
+    public Long pos() {
+      return (long) pos;
+    }
+
+    @Override
+    public int specId() {
+      throw new UnsupportedOperationException("Spec ID is not summarized");
+    }
+
+    @Override
+    public FileContent content() {
+      throw new UnsupportedOperationException("File content is not summarized");
+    }
+
+    @Override
+    public CharSequence path() {
+      throw new UnsupportedOperationException("File path is not summarized");
+    }
+
+    @Override
+    public FileFormat format() {
+      throw new UnsupportedOperationException("File format is not summarized");
+    }
+
+    @Override
+    public StructLike partition() {
+      return partitions[pos];
+    }
+
+    @Override
+    public long recordCount() {
+      return recordCounts[pos];
+    }
+
+    @Override
+    public long fileSizeInBytes() {
+      throw new UnsupportedOperationException("File size is not summarized");
+    }
+
+    @Override
+    public Map<Integer, Long> columnSizes() {
+      return null;
+    }
+
+    @Override
+    public Map<Integer, Long> valueCounts() {
+      return valueCounts.isEmpty() ? null : valueCountsView;
+    }
+
+    @Override
+    public Map<Integer, Long> nullValueCounts() {
+      return nullValueCounts.isEmpty() ? null : nullValueCountsView;
+    }
+
+    @Override
+    public Map<Integer, Long> nanValueCounts() {
+      return nanValueCounts.isEmpty() ? null : nanValueCountsView;
+    }
+
+    @Override
+    public Map<Integer, ByteBuffer> lowerBounds() {
+      return lowerBounds.isEmpty() ? null : lowerBoundsView;
+    }
+
+    @Override
+    public Map<Integer, ByteBuffer> upperBounds() {
+      return upperBounds.isEmpty() ? null : upperBoundsView;
+    }
+
+    @Override
+    public ByteBuffer keyMetadata() {
+      return null;
+    }
+
+    @Override
+    public List<Long> splitOffsets() {
+      return null;
+    }
+
+    @Override
+    public List<Integer> equalityFieldIds() {
+      return null;
+    }
+
+    @Override
+    public Long dataSequenceNumber() {
+      long dataSequenceNumber = dataSequenceNumbers[pos];
+      return dataSequenceNumber != NO_VALUE ? dataSequenceNumber : null;
+    }
+
+    @Override
+    public SummarizedFile copy() {
+      throw new UnsupportedOperationException("Cannot copy a summarized file");
+    }
+
+    @Override
+    public SummarizedFile copyWithoutStats() {
+      throw new UnsupportedOperationException("Cannot copy a summarized file");
+    }
+  }
+
+  /** A map view of one entry's value in each count column. */
+  private static class CountsView extends AbstractMap<Integer, Long> {
+    private final Map<Integer, long[]> columns;
+    private int pos = 0;
+
+    private CountsView(Map<Integer, long[]> columns) {
+      this.columns = columns;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return get(key) != null;
+    }
+
+    @Override
+    public Long get(Object key) {
+      long[] column = columns.get(key);
+      return column != null && column[pos] != NO_VALUE ? column[pos] : null;
+    }
+
+    @Override
+    public Set<Entry<Integer, Long>> entrySet() {
+      Set<Entry<Integer, Long>> entries = Sets.newHashSet();
+      for (Integer id : columns.keySet()) {
+        Long value = get(id);
+        if (value != null) {
+          entries.add(new SimpleImmutableEntry<>(id, value));
+        }
+      }
+
+      return entries;
+    }
+  }
+
+  /** A map view of one entry's value in each bound column. */
+  private static class BoundsView extends AbstractMap<Integer, ByteBuffer> {
+    private final Map<Integer, ByteBuffer[]> columns;
+    private int pos = 0;
+
+    private BoundsView(Map<Integer, ByteBuffer[]> columns) {
+      this.columns = columns;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return get(key) != null;
+    }
+
+    @Override
+    public ByteBuffer get(Object key) {
+      ByteBuffer[] column = columns.get(key);
+      return column != null ? column[pos] : null;
+    }
+
+    @Override
+    public Set<Entry<Integer, ByteBuffer>> entrySet() {
+      Set<Entry<Integer, ByteBuffer>> entries = Sets.newHashSet();
+      for (Integer id : columns.keySet()) {
+        ByteBuffer value = get(id);
+        if (value != null) {
+          entries.add(new SimpleImmutableEntry<>(id, value));
+        }
+      }
+
+      return entries;
+    }
+  }
+}
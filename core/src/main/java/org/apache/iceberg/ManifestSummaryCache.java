@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.metrics.ScanMetrics;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A cache of {@link ManifestSummary manifest summaries} that is shared by all scans in a JVM.
+ *
+ * <p>Services that plan the same snapshots repeatedly decode the same manifests for every scan.
+ * This cache keeps a compact summary of each manifest that was read, keyed by manifest location, so
+ * that later scans can skip manifests without a matching entry without reading them. The cache is
+ * bounded by the estimated heap size of the summaries, see {@link
+ * SystemConfigs#MANIFEST_SUMMARY_CACHE_MAX_BYTES}, and is disabled when the size is 0.
+ */
+class ManifestSummaryCache {
+  private static volatile ManifestSummaryCache sharedCache = null;
+
+  private final Cache<String, ManifestSummary> summaries;
+
+  ManifestSummaryCache(long maxBytes) {
+    Preconditions.checkArgument(maxBytes > 0, "Invalid max cache size: %s", maxBytes);
+    this.summaries =
+        Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher(
+                (String location, ManifestSummary summary) ->
+                    (int) Math.min(summary.sizeInBytes(), Integer.MAX_VALUE))
+            .recordStats()
+            .build();
+  }
+
+  /** Returns whether manifest summaries are cached in this JVM. */
+  static boolean enabled() {
+    return SystemConfigs.MANIFEST_SUMMARY_CACHE_MAX_BYTES.value() > 0;
+  }
+
+  /** Returns the cache shared by all scans in this JVM. */
+  static ManifestSummaryCache get() {
+    if (sharedCache == null) {
+      synchronized (ManifestSummaryCache.class) {
+        if (sharedCache == null) {
+          sharedCache =
+              new ManifestSummaryCache(SystemConfigs.MANIFEST_SUMMARY_CACHE_MAX_BYTES.value());
+        }
+      }
+    }
+
+    return sharedCache;
+  }
+
+  /**
+   * Returns the summary of a manifest, reading and caching the manifest if it is not cached.
+   *
+   * <p>Cache hits and misses, and the evictions caused by caching a new summary, are reported to
+   * the given scan metrics.
+   *
+   * @param manifest a data or delete manifest
+   * @param io a FileIO to read the manifest
+   * @param specsById partition specs by ID
+   * @param scanMetrics metrics of the scan that needs the summary
+   * @return a summary of all entries in the manifest
+   */
+  ManifestSummary summary(
+      ManifestFile manifest,
+      FileIO io,
+      Map<Integer, PartitionSpec> specsById,
+      ScanMetrics scanMetrics) {
+    String location = manifest.path();
+    ManifestSummary cached = summaries.getIfPresent(location);
+    // a manifest that is not committed yet inherits a sequence number once committed
+    if (cached != null && Objects.equals(cached.sequenceNumber(), manifest.sequenceNumber())) {
+      scanMetrics.manifestSummaryCacheHits().increment();
+      return cached;
+    }
+
+    scanMetrics.manifestSummaryCacheMisses().increment();
+    ManifestSummary summary = summarize(manifest, io, specsById);
+
+    long evictionsBefore = summaries.stats().evictionCount();
+    summaries.put(location, summary);
+    summaries.cleanUp();
+    scanMetrics
+        .manifestSummaryCacheEvictions()
+        .increment(summaries.stats().evictionCount() - evictionsBefore);
+
+    return summary;
+  }
+
+  /** Removes all cached summaries. */
+  void invalidateAll() {
+    summaries.invalidateAll();
+  }
+
+  @VisibleForTesting
+  long estimatedSize() {
+    summaries.cleanUp();
+    return summaries.estimatedSize();
+  }
+
+  private static ManifestSummary summarize(
+      ManifestFile manifest, FileIO io, Map<Integer, PartitionSpec> specsById) {
+    switch (manifest.content()) {
+      case DATA:
+        try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, io, specsById)) {
+          return ManifestSummary.of(manifest, reader.entries());
+        } catch (IOException e) {
+          throw new RuntimeIOException(e, "Failed to close manifest: %s", manifest.path());
+        }
+
+      case DELETES:
+        try (ManifestReader<DeleteFile> reader =
+            ManifestFiles.readDeleteManifest(manifest, io, specsById)) {
+          return ManifestSummary.of(manifest, reader.entries());
+        } catch (IOException e) {
+          throw new RuntimeIOException(e, "Failed to close manifest: %s", manifest.path());
+        }
+
+      default:
+        throw new UnsupportedOperationException(
+            "Cannot summarize manifest with content: " + manifest.content());
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.apache.iceberg.expressions.Evaluator;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.InclusiveMetricsEvaluator;
+import org.apache.iceberg.expressions.Projections;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.ScanMetrics;
+import org.apache.iceberg.util.PartitionSet;
+
+/**
+ * Skips manifests of a scan that have no entry matching the scan filters, using the summaries in
+ * the {@link ManifestSummaryCache}.
+ *
+ * <p>Entries are evaluated the same way as a filtered {@link ManifestReader}, so a manifest is only
+ * skipped if reading it would not produce any entry.
+ */
+class ManifestSummaryFilter {
+  private final ManifestSummaryCache cache;
+  private final FileIO io;
+  private final Map<Integer, PartitionSpec> specsById;
+  private final ScanMetrics scanMetrics;
+  private final LoadingCache<Integer, Evaluator> partitionEvalCache;
+  private final LoadingCache<Integer, InclusiveMetricsEvaluator> metricsEvalCache;
+  private Predicate<ManifestEntry.Status> statusFilter = status -> true;
+  private PartitionSet partitionSet = null;
+  private Long minSequenceNumber = null;
+
+  ManifestSummaryFilter(
+      ManifestSummaryCache cache,
+      FileIO io,
+      Map<Integer, PartitionSpec> specsById,
+      Expression partitionFilter,
+      Expression dataFilter,
+      boolean caseSensitive,
+      ScanMetrics scanMetrics) {
+    this.cache = cache;
+    this.io = io;
+    this.specsById = specsById;
+    this.scanMetrics = scanMetrics;
+    this.partitionEvalCache =
+        Caffeine.newBuilder()
+            .build(
+                specId -> {
+                  PartitionSpec spec = specsById.get(specId);
+                  return new Evaluator(
+                      spec.partitionType(),
+                      Expressions.and(
+                          Projections.inclusive(spec, caseSensitive).project(dataFilter),
+                          partitionFilter),
+                      caseSensitive);
+                });
+    this.metricsEvalCache =
+        Caffeine.newBuilder()
+            .build(
+                specId ->
+                    new InclusiveMetricsEvaluator(
+                        specsById.get(specId).schema(), dataFilter, caseSensitive));
+  }
+
+  /** Returns whether scans with the given filters may skip manifests using cached summaries. */
+  static boolean canSkipManifests(
+      Map<Integer, PartitionSpec> specsById, Expression partitionFilter, Expression dataFilter) {
+    return ManifestSummaryCache.enabled()
+        && specsById != null
+        && (partitionFilter != Expressions.alwaysTrue() || dataFilter != Expressions.alwaysTrue());
+  }
+
+  ManifestSummaryFilter ignoreDeleted() {
+    this.statusFilter = statusFilter.and(status -> status != ManifestEntry.Status.DELETED);
+    return this;
+  }
+
+  ManifestSummaryFilter ignoreExisting() {
+    this.statusFilter = statusFilter.and(status -> status != ManifestEntry.Status.EXISTING);
+    return this;
+  }
+
+  ManifestSummaryFilter filterPartitions(PartitionSet newPartitionSet) {
+    this.partitionSet = newPartitionSet;
+    return this;
+  }
+
+  ManifestSummaryFilter afterSequenceNumber(long seq) {
+    this.minSequenceNumber = seq;
+    return this;
+  }
+
+  /**
+   * Returns whether a manifest may contain entries that match the filters.
+   *
+   * @param manifest a manifest of the scan
+   * @param skippedFiles a counter that is incremented by the number of entries in skipped manifests
+   * @return false if the manifest does not need to be read, true otherwise
+   */
+  boolean mayMatch(ManifestFile manifest, Counter skippedFiles) {
+    ManifestSummary summary = cache.summary(manifest, io, specsById, scanMetrics);
+
+    int specId = manifest.partitionSpecId();
+    Evaluator partitionEvaluator = partitionEvalCache.get(specId);
+    InclusiveMetricsEvaluator metricsEvaluator = metricsEvalCache.get(specId);
+    boolean mayMatch =
+        summary.anyMatch(
+            statusFilter,
+            file ->
+                afterMinSequenceNumber(file)
+                    && partitionEvaluator.eval(file.partition())
+                    && metricsEvaluator.eval(file)
+                    && (partitionSet == null || partitionSet.contains(specId, file.partition())));
+
+    if (!mayMatch) {
+      skippedFiles.increment(summary.size());
+    }
+
+    return mayMatch;
+  }
+
+  private boolean afterMinSequenceNumber(ContentFile<?> file) {
+    Long dataSequenceNumber = file.dataSequenceNumber();
+    return minSequenceNumber == null
+        || dataSequenceNumber == null
+        || dataSequenceNumber > minSequenceNumber;
+  }
+}
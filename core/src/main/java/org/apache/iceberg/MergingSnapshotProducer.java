@@ -103,6 +103,10 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
 
   private boolean caseSensitive = true;
 
+  // the parent snapshot that was validated by an earlier attempt of the current commit
+  private boolean validateIncrementally = false;
+  private Long validatedSnapshotId = null;
+
   MergingSnapshotProducer(String tableName, TableOperations ops) {
     super(ops);
     this.tableName = tableName;
@@ -796,11 +800,13 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
     List<ManifestFile> manifests = Lists.newArrayList();
     Set<Long> newSnapshots = Sets.newHashSet();
 
+    Long fromSnapshotId = validationStart(base, startingSnapshotId, parent);
     Snapshot lastSnapshot = null;
     Iterable<Snapshot> snapshots =
-        SnapshotUtil.ancestorsBetween(parent.snapshotId(), startingSnapshotId, base::snapshot);
+        SnapshotUtil.ancestorsBetween(parent.snapshotId(), fromSnapshotId, base::snapshot);
     for (Snapshot currentSnapshot : snapshots) {
       lastSnapshot = currentSnapshot;
+      commitMetrics().validatedSnapshots().increment();
 
       if (matchingOperations.contains(currentSnapshot.operation())) {
         newSnapshots.add(currentSnapshot.snapshotId());
@@ -821,14 +827,40 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
     }
 
     ValidationException.check(
-        lastSnapshot == null || Objects.equals(lastSnapshot.parentId(), startingSnapshotId),
+        lastSnapshot == null || Objects.equals(lastSnapshot.parentId(), fromSnapshotId),
         "Cannot determine history between starting snapshot %s and the last known ancestor %s",
-        startingSnapshotId,
+        fromSnapshotId,
         lastSnapshot != null ? lastSnapshot.snapshotId() : null);
 
     return Pair.of(manifests, newSnapshots);
   }
 
+  /**
+   * Returns the snapshot after which validation must read the history.
+   *
+   * <p>When a commit attempt fails, the retry validates against a new parent. Snapshots up to the
+   * parent that was validated by the failed attempt were already checked with the same inputs, so
+   * only snapshots committed after it need to be read again. If that parent is no longer in the
+   * lineage being validated, the history since the starting snapshot is validated again.
+   */
+  private Long validationStart(TableMetadata base, Long startingSnapshotId, Snapshot parent) {
+    Long validated = validatedSnapshotId;
+    if (validated == null || validated.equals(startingSnapshotId)) {
+      return startingSnapshotId;
+    }
+
+    boolean validatedIsAncestor =
+        SnapshotUtil.isAncestorOf(parent.snapshotId(), validated, base::snapshot);
+    boolean startsBeforeValidated =
+        startingSnapshotId == null
+            || SnapshotUtil.isAncestorOf(validated, startingSnapshotId, base::snapshot);
+    if (validatedIsAncestor && startsBeforeValidated) {
+      return validated;
+    }
+
+    return startingSnapshotId;
+  }
+
   @Override
   protected Map<String, String> summary() {
     summaryBuilder.setPartitionSummaryLimit(
@@ -839,8 +871,25 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
     return summaryBuilder.build();
   }
 
+  @Override
+  public void commit() {
+    // the operation cannot change while committing, so retries can skip already validated history
+    this.validateIncrementally = true;
+    try {
+      super.commit();
+    } finally {
+      this.validateIncrementally = false;
+      this.validatedSnapshotId = null;
+    }
+  }
+
   @Override
   public List<ManifestFile> apply(TableMetadata base, Snapshot snapshot) {
+    if (validateIncrementally && snapshot != null) {
+      // validation has passed for the history up to this snapshot
+      this.validatedSnapshotId = snapshot.snapshotId();
+    }
+
     // filter any existing manifests
     List<ManifestFile> filtered =
         filterManager.filterManifests(
@@ -978,23 +1027,9 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
     }
 
     if (cachedNewDataManifests == null) {
-      try {
-        RollingManifestWriter<DataFile> writer = newRollingManifestWriter(dataSpec());
-        try {
-          if (newDataFilesDataSequenceNumber == null) {
-            newDataFiles.forEach(writer::add);
-          } else {
-            newDataFiles.forEach(f -> writer.add(f, newDataFilesDataSequenceNumber));
-          }
-        } finally {
-          writer.close();
-        }
-
-        this.cachedNewDataManifests = writer.toManifestFiles();
-        this.hasNewDataFiles = false;
-      } catch (IOException e) {
-        throw new RuntimeIOException(e, "Failed to close manifest writer");
-      }
+      this.cachedNewDataManifests =
+          writeDataManifests(newDataFiles, newDataFilesDataSequenceNumber, dataSpec());
+      this.hasNewDataFiles = false;
     }
 
     return cachedNewDataManifests;
@@ -1022,24 +1057,12 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
       newDeleteFilesBySpec.forEach(
           (specId, deleteFiles) -> {
             PartitionSpec spec = ops.current().spec(specId);
-            try {
-              RollingManifestWriter<DeleteFile> writer = newRollingDeleteManifestWriter(spec);
-              try {
-                deleteFiles.forEach(
-                    df -> {
-                      if (df.dataSequenceNumber() != null) {
-                        writer.add(df.deleteFile(), df.dataSequenceNumber());
-                      } else {
-                        writer.add(df.deleteFile());
-                      }
-                    });
-              } finally {
-                writer.close();
-              }
-              cachedNewDeleteManifests.addAll(writer.toManifestFiles());
-            } catch (IOException e) {
-              throw new RuntimeIOException(e, "Failed to close manifest writer");
-            }
+            cachedNewDeleteManifests.addAll(
+                writeManifests(
+                    deleteFiles,
+                    df -> df.deleteFile().partition(),
+                    spec,
+                    group -> writeDeleteManifests(group, spec)));
           });
 
       this.hasNewDeleteFiles = false;
@@ -1048,6 +1071,24 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
     return cachedNewDeleteManifests;
   }
 
+  private List<ManifestFile> writeDeleteManifests(
+      List<DeleteFileHolder> deleteFiles, PartitionSpec spec) {
+    RollingManifestWriter<DeleteFile> writer = newRollingDeleteManifestWriter(spec);
+    try (RollingManifestWriter<DeleteFile> closableWriter = writer) {
+      for (DeleteFileHolder df : deleteFiles) {
+        if (df.dataSequenceNumber() != null) {
+          closableWriter.add(df.deleteFile(), df.dataSequenceNumber());
+        } else {
+          closableWriter.add(df.deleteFile());
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to close manifest writer");
+    }
+
+    return writer.toManifestFiles();
+  }
+
   private class DataFileFilterManager extends ManifestFilterManager<DataFile> {
     private DataFileFilterManager() {
       super(ops.current().specsById(), MergingSnapshotProducer.this::workerPool);
@@ -19,15 +19,21 @@
 package org.apache.iceberg;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.util.ManifestFileUtil;
+import org.apache.iceberg.util.PartitionSet;
 import org.apache.iceberg.util.Tasks;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +45,7 @@ import org.slf4j.LoggerFactory;
 class ReachableFileCleanup extends FileCleanupStrategy {
 
   private static final Logger LOG = LoggerFactory.getLogger(ReachableFileCleanup.class);
+  private static final List<String> CANDIDATE_COLUMNS = ImmutableList.of("file_path", "partition");
 
   ReachableFileCleanup(
       FileIO fileIO,
@@ -72,7 +79,8 @@ class ReachableFileCleanup extends FileCleanupStrategy {
               snapshotsAfterExpiration, deletionCandidates, currentManifests::add);
 
       if (!manifestsToDelete.isEmpty()) {
-        Set<String> dataFilesToDelete = findFilesToDelete(manifestsToDelete, currentManifests);
+        Set<String> dataFilesToDelete =
+            findFilesToDelete(manifestsToDelete, currentManifests, beforeExpiration.specsById());
         deleteFiles(dataFilesToDelete, "data");
         Set<String> manifestPathsToDelete =
             manifestsToDelete.stream().map(ManifestFile::path).collect(Collectors.toSet());
@@ -151,8 +159,12 @@ class ReachableFileCleanup extends FileCleanupStrategy {
 
   // Helper to determine data files to delete
   private Set<String> findFilesToDelete(
-      Set<ManifestFile> manifestFilesToDelete, Set<ManifestFile> currentManifestFiles) {
+      Set<ManifestFile> manifestFilesToDelete,
+      Set<ManifestFile> currentManifestFiles,
+      Map<Integer, PartitionSpec> specsById) {
     Set<String> filesToDelete = ConcurrentHashMap.newKeySet();
+    // partitions of the candidates, used to skip current manifests that cannot contain them
+    PartitionSet candidatePartitions = PartitionSet.create(specsById);
 
     Tasks.foreach(manifestFilesToDelete)
         .retry(3)
@@ -164,8 +176,17 @@ class ReachableFileCleanup extends FileCleanupStrategy {
                     "Failed to determine live files in manifest {}. Retrying", item.path(), exc))
         .run(
             manifest -> {
-              try (CloseableIterable<String> paths = ManifestFiles.readPaths(manifest, fileIO)) {
-                paths.forEach(filesToDelete::add);
+              try (ManifestReader<DataFile> reader =
+                  ManifestFiles.read(manifest, fileIO, null).select(CANDIDATE_COLUMNS)) {
+                for (ManifestEntry<DataFile> entry : reader.liveEntries()) {
+                  DataFile file = entry.file();
+                  filesToDelete.add(file.path().toString());
+                  // the partition may be a reused container so a copy is required
+                  PartitionData partition = ((PartitionData) file.partition()).copy();
+                  synchronized (candidatePartitions) {
+                    candidatePartitions.add(file.specId(), partition);
+                  }
+                }
               } catch (IOException e) {
                 throw new RuntimeIOException(e, "Failed to read manifest file: %s", manifest);
               }
@@ -175,6 +196,8 @@ class ReachableFileCleanup extends FileCleanupStrategy {
       return filesToDelete;
     }
 
+    AtomicInteger skippedManifests = new AtomicInteger(0);
+
     try {
       Tasks.foreach(currentManifestFiles)
           .retry(3)
@@ -191,6 +214,12 @@ class ReachableFileCleanup extends FileCleanupStrategy {
                   return;
                 }
 
+                // only manifests that may contain a candidate need to be read
+                if (!canContainAny(manifest, candidatePartitions, specsById)) {
+                  skippedManifests.incrementAndGet();
+                  return;
+                }
+
                 // Remove all the live files from the candidate deletion set
                 try (CloseableIterable<String> paths = ManifestFiles.readPaths(manifest, fileIO)) {
                   paths.forEach(filesToDelete::remove);
@@ -204,6 +233,19 @@ class ReachableFileCleanup extends FileCleanupStrategy {
       return Sets.newHashSet();
     }
 
+    LOG.info(
+        "Skipped {} of {} current manifests that cannot contain deleted files",
+        skippedManifests.get(),
+        currentManifestFiles.size());
+
     return filesToDelete;
   }
+
+  private static boolean canContainAny(
+      ManifestFile manifest, PartitionSet partitions, Map<Integer, PartitionSpec> specsById) {
+    // manifests without partition summaries or with an unknown spec cannot be pruned
+    return manifest.partitions() == null
+        || !specsById.containsKey(manifest.partitionSpecId())
+        || ManifestFileUtil.canContainAny(manifest, partitions, specsById);
+  }
 }
@@ -32,15 +32,20 @@ import static org.apache.iceberg.TableProperties.MANIFEST_TARGET_SIZE_BYTES_DEFA
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import java.io.IOException;
+import java.lang.reflect.Array;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import org.apache.iceberg.events.CreateSnapshotEvent;
 import org.apache.iceberg.events.Listeners;
 import org.apache.iceberg.exceptions.CommitFailedException;
@@ -56,8 +61,10 @@ import org.apache.iceberg.metrics.MetricsReporter;
 import org.apache.iceberg.metrics.Timer.Timed;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Comparators;
 import org.apache.iceberg.util.Exceptions;
 import org.apache.iceberg.util.SnapshotUtil;
 import org.apache.iceberg.util.Tasks;
@@ -70,6 +77,9 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
   private static final Logger LOG = LoggerFactory.getLogger(SnapshotProducer.class);
   static final Set<ManifestFile> EMPTY_SET = Sets.newHashSet();
 
+  // the minimum number of new files that are written to manifests by a separate task
+  static final int MIN_FILES_PER_MANIFEST_TASK = 10_000;
+
   /** Default callback used to delete files. */
   private final Consumer<String> defaultDelete =
       new Consumer<String>() {
@@ -219,7 +229,13 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
     long sequenceNumber = base.nextSequenceNumber();
     Long parentSnapshotId = parentSnapshot == null ? null : parentSnapshot.snapshotId();
 
-    validate(base, parentSnapshot);
+    Timed validationDuration = commitMetrics().validationDuration().start();
+    try {
+      validate(base, parentSnapshot);
+    } finally {
+      validationDuration.stop();
+    }
+
     List<ManifestFile> manifests = apply(base, parentSnapshot);
 
     OutputFile manifestList = manifestListPath();
@@ -369,31 +385,35 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
           .countAttempts(commitMetrics().attempts())
           .run(
               taskOps -> {
-                Snapshot newSnapshot = apply();
-                newSnapshotId.set(newSnapshot.snapshotId());
-                TableMetadata.Builder update = TableMetadata.buildFrom(base);
-                if (base.snapshot(newSnapshot.snapshotId()) != null) {
-                  // this is a rollback operation
-                  update.setBranchSnapshot(newSnapshot.snapshotId(), targetBranch);
-                } else if (stageOnly) {
-                  update.addSnapshot(newSnapshot);
-                } else {
-                  update.setBranchSnapshot(newSnapshot, targetBranch);
-                }
+                Timed attemptDuration = commitMetrics().attemptDuration().start();
+                try {
+                  Snapshot newSnapshot = apply();
+                  newSnapshotId.set(newSnapshot.snapshotId());
+                  TableMetadata.Builder update = TableMetadata.buildFrom(base);
+                  if (base.snapshot(newSnapshot.snapshotId()) != null) {
+                    // this is a rollback operation
+                    update.setBranchSnapshot(newSnapshot.snapshotId(), targetBranch);
+                  } else if (stageOnly) {
+                    update.addSnapshot(newSnapshot);
+                  } else {
+                    update.setBranchSnapshot(newSnapshot, targetBranch);
+                  }
 
-                TableMetadata updated = update.build();
-                if (updated.changes().isEmpty()) {
-                  // do not commit if the metadata has not changed. for example, this may happen
-                  // when setting the current
-                  // snapshot to an ID that is already current. note that this check uses identity.
-                  return;
-                }
+                  TableMetadata updated = update.build();
+                  if (updated.changes().isEmpty()) {
+                    // do not commit if the metadata has not changed. for example, this may happen
+                    // when setting the current snapshot to an ID that is already current. note
+                    // that this check uses identity.
+                    return;
+                  }
 
-                // if the table UUID is missing, add it here. the UUID will be re-created each time
-                // this operation retries
-                // to ensure that if a concurrent operation assigns the UUID, this operation will
-                // not fail.
-                taskOps.commit(base, updated.withUUID());
+                  // if the table UUID is missing, add it here. the UUID will be re-created each
+                  // time this operation retries to ensure that if a concurrent operation assigns
+                  // the UUID, this operation will not fail.
+                  taskOps.commit(base, updated.withUUID());
+                } finally {
+                  attemptDuration.stop();
+                }
               });
 
     } catch (CommitStateUnknownException commitStateUnknownException) {
@@ -509,6 +529,111 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
         () -> newDeleteManifestWriter(spec), targetManifestSizeBytes);
   }
 
+  protected List<ManifestFile> writeDataManifests(List<DataFile> files, PartitionSpec spec) {
+    return writeDataManifests(files, null, spec);
+  }
+
+  protected List<ManifestFile> writeDataManifests(
+      List<DataFile> files, Long dataSequenceNumber, PartitionSpec spec) {
+    return writeManifests(
+        files,
+        ContentFile::partition,
+        spec,
+        group -> {
+          RollingManifestWriter<DataFile> writer = newRollingManifestWriter(spec);
+          try (RollingManifestWriter<DataFile> closableWriter = writer) {
+            if (dataSequenceNumber == null) {
+              group.forEach(closableWriter::add);
+            } else {
+              group.forEach(file -> closableWriter.add(file, dataSequenceNumber));
+            }
+          } catch (IOException e) {
+            throw new RuntimeIOException(e, "Failed to close manifest writer");
+          }
+
+          return writer.toManifestFiles();
+        });
+  }
+
+  /**
+   * Writes new manifests for a list of files using the worker pool.
+   *
+   * <p>Small lists are written by a single rolling writer. Larger lists are sorted by partition and
+   * split into contiguous groups of at least {@link #MIN_FILES_PER_MANIFEST_TASK} files that are
+   * written concurrently, so that each group's manifests cover a narrow range of partitions.
+   *
+   * @param files files to write
+   * @param partitionFunc a function that returns the partition of a file
+   * @param spec the partition spec of the files
+   * @param writeFunc a function that writes a group of files to manifests using a rolling writer
+   * @param <T> the type of files to write
+   * @return the written manifests, in the order of the groups
+   */
+  @SuppressWarnings("unchecked")
+  protected <T> List<ManifestFile> writeManifests(
+      List<T> files,
+      Function<T, StructLike> partitionFunc,
+      PartitionSpec spec,
+      Function<List<T>, List<ManifestFile>> writeFunc) {
+    int numGroups = Math.min(parallelism(workerPool), files.size() / MIN_FILES_PER_MANIFEST_TASK);
+    if (numGroups <= 1) {
+      return writeFunc.apply(files);
+    }
+
+    List<T> clustered = clusterByPartition(files, partitionFunc, spec);
+    int groupSize = (clustered.size() + numGroups - 1) / numGroups;
+    List<List<T>> groups = Lists.partition(clustered, groupSize);
+
+    // keep the results in group order so that the manifests follow the partition order
+    List<ManifestFile>[] groupResults =
+        (List<ManifestFile>[]) Array.newInstance(List.class, groups.size());
+
+    try {
+      Tasks.range(groups.size())
+          .stopOnFailure()
+          .throwFailureWhenFinished()
+          .executeWith(workerPool)
+          .run(index -> groupResults[index] = writeFunc.apply(groups.get(index)));
+    } catch (RuntimeException e) {
+      for (List<ManifestFile> written : groupResults) {
+        if (written != null) {
+          written.forEach(manifest -> deleteFile(manifest.path()));
+        }
+      }
+
+      throw e;
+    }
+
+    return Lists.newArrayList(Iterables.concat(groupResults));
+  }
+
+  /**
+   * Returns the number of threads that can run tasks concurrently in an executor.
+   *
+   * <p>The size of the shared worker pool is used when the executor does not expose its size.
+   */
+  private static int parallelism(ExecutorService executor) {
+    if (executor instanceof ThreadPoolExecutor) {
+      return ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+    } else if (executor instanceof ForkJoinPool) {
+      return ((ForkJoinPool) executor).getParallelism();
+    }
+
+    return ThreadPools.WORKER_THREAD_POOL_SIZE;
+  }
+
+  private static <T> List<T> clusterByPartition(
+      List<T> files, Function<T, StructLike> partitionFunc, PartitionSpec spec) {
+    if (spec.isUnpartitioned()) {
+      return files;
+    }
+
+    // a stable sort keeps the order of files within each partition
+    List<T> sorted = Lists.newArrayList(files);
+    sorted.sort(Comparator.comparing(partitionFunc, Comparators.forType(spec.partitionType())));
+    return sorted;
+  }
+
   protected ManifestReader<DataFile> newManifestReader(ManifestFile manifest) {
     return ManifestFiles.read(manifest, ops.io(), ops.current().specsById());
   }
@@ -50,6 +50,17 @@ public class SystemConfigs {
           true,
           Boolean::parseBoolean);
 
+  /**
+   * Approximate number of planned results that are buffered while planning a scan in parallel.
+   * Planning tasks are paused when the buffer is full until the results are consumed.
+   */
+  public static final ConfigEntry<Integer> SCAN_PLAN_MAX_QUEUE_SIZE =
+      new ConfigEntry<>(
+          "iceberg.scan.plan.max-queue-size",
+          "ICEBERG_SCAN_PLAN_MAX_QUEUE_SIZE",
+          10_000,
+          Integer::parseInt);
+
   /**
    * Maximum number of distinct {@link org.apache.iceberg.io.FileIO} that is allowed to have
    * associated {@link org.apache.iceberg.io.ContentCache} in memory at a time.
@@ -61,6 +72,41 @@ public class SystemConfigs {
           8,
           Integer::parseUnsignedInt);
 
+  /**
+   * Maximum estimated size in bytes of the position delete indexes that are shared by readers in a
+   * JVM, see {@link org.apache.iceberg.deletes.PositionDeleteIndexCache}.
+   */
+  public static final ConfigEntry<Long> POSITION_DELETE_CACHE_MAX_BYTES =
+      new ConfigEntry<>(
+          "iceberg.delete.position-cache.max-bytes",
+          "ICEBERG_DELETE_POSITION_CACHE_MAX_BYTES",
+          128L * 1024 * 1024, // 128 MB
+          Long::parseUnsignedLong);
+
+  /**
+   * Maximum size in bytes of the direct memory pages that are shared by all off-heap equality
+   * delete sets in a JVM, see {@link org.apache.iceberg.deletes.BinaryEqualityDeleteSet}. Keys that
+   * do not fit spill to local disk.
+   */
+  public static final ConfigEntry<Long> EQUALITY_DELETE_OFF_HEAP_MAX_BYTES =
+      new ConfigEntry<>(
+          "iceberg.delete.equality.off-heap.max-bytes",
+          "ICEBERG_DELETE_EQUALITY_OFF_HEAP_MAX_BYTES",
+          1024L * 1024 * 1024, // 1 GB
+          Long::parseUnsignedLong);
+
+  /**
+   * Maximum estimated heap size in bytes of the decoded manifest summaries that are shared by scans
+   * in a JVM. Summaries let repeated scans skip manifests without matching files without reading
+   * them. Summaries are not cached when set to 0.
+   */
+  public static final ConfigEntry<Long> MANIFEST_SUMMARY_CACHE_MAX_BYTES =
+      new ConfigEntry<>(
+          "iceberg.scan.manifest-summary-cache.max-bytes",
+          "ICEBERG_SCAN_MANIFEST_SUMMARY_CACHE_MAX_BYTES",
+          0L,
+          Long::parseUnsignedLong);
+
   public static class ConfigEntry<T> {
     private final String propertyKey;
     private final String envKey;
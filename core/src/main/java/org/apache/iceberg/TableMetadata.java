@@ -478,6 +478,15 @@ public class TableMetadata implements Serializable {
 
   public Snapshot snapshot(long snapshotId) {
     if (!snapshotsById.containsKey(snapshotId)) {
+      SerializableSupplier<List<Snapshot>> supplier = snapshotsSupplier;
+      if (supplier instanceof LazySnapshots) {
+        // decode only the requested snapshot instead of loading all snapshots
+        Snapshot snapshot = ((LazySnapshots) supplier).snapshot(snapshotId);
+        return snapshot != null && snapshot.sequenceNumber() <= lastSequenceNumber
+            ? snapshot
+            : null;
+      }
+
       ensureSnapshotsLoaded();
     }
 
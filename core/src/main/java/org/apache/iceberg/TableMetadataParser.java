@@ -19,17 +19,22 @@
 package org.apache.iceberg;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 import org.apache.iceberg.TableMetadata.MetadataLogEntry;
@@ -42,7 +47,9 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.util.JsonUtil;
+import org.apache.iceberg.util.SerializableSupplier;
 
 public class TableMetadataParser {
 
@@ -270,7 +277,7 @@ public class TableMetadataParser {
     Codec codec = Codec.fromFileName(file.location());
     try (InputStream is =
         codec == Codec.GZIP ? new GZIPInputStream(file.newStream()) : file.newStream()) {
-      return fromJson(file, JsonUtil.mapper().readValue(is, JsonNode.class));
+      return fromJson(file.location(), is);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to read file: %s", file);
     }
@@ -296,7 +303,163 @@ public class TableMetadataParser {
    * @return a TableMetadata object
    */
   public static TableMetadata fromJson(String metadataLocation, String json) {
-    return JsonUtil.parse(json, node -> TableMetadataParser.fromJson(metadataLocation, node));
+    try (JsonParser parser = JsonUtil.factory().createParser(json)) {
+      return fromJson(metadataLocation, parser);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Read TableMetadata from a stream of a metadata file.
+   *
+   * <p>Snapshots are indexed by ID and only the current snapshot and the snapshots referenced by
+   * refs are decoded. Other snapshots are decoded when they are first accessed.
+   *
+   * @param metadataLocation metadata location for the returned {@link TableMetadata}
+   * @param json a stream of JSON table metadata
+   * @return a TableMetadata object
+   */
+  static TableMetadata fromJson(String metadataLocation, InputStream json) throws IOException {
+    try (JsonParser parser = JsonUtil.factory().createParser(json)) {
+      return fromJson(metadataLocation, parser, true);
+    }
+  }
+
+  /**
+   * Read TableMetadata from a streaming JSON parser.
+   *
+   * <p>The snapshots, snapshot log, and metadata log make up most of a large metadata file. They
+   * are decoded token by token, without building a JSON tree for the whole file. The remaining
+   * fields are small and are read into a tree that is parsed like {@link #fromJson(String,
+   * JsonNode)}.
+   *
+   * @param metadataLocation metadata location for the returned {@link TableMetadata}
+   * @param parser a parser that has not consumed any tokens
+   * @return a TableMetadata object
+   */
+  static TableMetadata fromJson(String metadataLocation, JsonParser parser) throws IOException {
+    return fromJson(metadataLocation, parser, false);
+  }
+
+  private static TableMetadata fromJson(
+      String metadataLocation, JsonParser parser, boolean lazySnapshotsEnabled) throws IOException {
+    JsonToken start = parser.nextToken();
+    Preconditions.checkArgument(
+        start == JsonToken.START_OBJECT,
+        "Cannot parse metadata from a non-object: %s",
+        parser.getText());
+
+    ObjectNode node = JsonUtil.mapper().createObjectNode();
+    List<Snapshot> snapshots = ImmutableList.of();
+    LazySnapshots lazySnapshots = null;
+    List<HistoryEntry> snapshotLog = ImmutableList.of();
+    List<MetadataLogEntry> metadataLog = ImmutableList.of();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      parser.nextToken();
+      switch (field) {
+        case SNAPSHOTS:
+          if (lazySnapshotsEnabled) {
+            lazySnapshots = LazySnapshots.index(parser);
+          } else {
+            snapshots = snapshotsFromJson(parser);
+          }
+          break;
+        case SNAPSHOT_LOG:
+          snapshotLog = snapshotLogFromJson(parser);
+          break;
+        case METADATA_LOG:
+          metadataLog = metadataLogFromJson(parser);
+          break;
+        default:
+          node.set(field, JsonUtil.mapper().readTree(parser));
+      }
+    }
+
+    return fromJson(metadataLocation, node, snapshots, lazySnapshots, snapshotLog, metadataLog);
+  }
+
+  private static List<Snapshot> snapshotsFromJson(JsonParser parser) throws IOException {
+    Preconditions.checkArgument(
+        parser.currentToken() == JsonToken.START_ARRAY,
+        "Cannot parse snapshots from non-array: %s",
+        parser.getText());
+
+    List<Snapshot> snapshots = Lists.newArrayList();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      snapshots.add(SnapshotParser.fromJson(parser));
+    }
+
+    return snapshots;
+  }
+
+  private static List<HistoryEntry> snapshotLogFromJson(JsonParser parser) throws IOException {
+    ImmutableList.Builder<HistoryEntry> entries = ImmutableList.builder();
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return entries.build();
+    }
+
+    Preconditions.checkArgument(
+        parser.currentToken() == JsonToken.START_ARRAY,
+        "Cannot parse snapshot log from non-array: %s",
+        parser.getText());
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      Long timestampMillis = null;
+      Long snapshotId = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        parser.nextToken();
+        if (TIMESTAMP_MS.equals(field)) {
+          timestampMillis = JsonUtil.getLong(TIMESTAMP_MS, parser);
+        } else if (SNAPSHOT_ID.equals(field)) {
+          snapshotId = JsonUtil.getLong(SNAPSHOT_ID, parser);
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      Preconditions.checkArgument(
+          timestampMillis != null, "Cannot parse missing long: %s", TIMESTAMP_MS);
+      Preconditions.checkArgument(snapshotId != null, "Cannot parse missing long: %s", SNAPSHOT_ID);
+      entries.add(new SnapshotLogEntry(timestampMillis, snapshotId));
+    }
+
+    return entries.build();
+  }
+
+  private static List<MetadataLogEntry> metadataLogFromJson(JsonParser parser) throws IOException {
+    ImmutableList.Builder<MetadataLogEntry> entries = ImmutableList.builder();
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return entries.build();
+    }
+
+    Preconditions.checkArgument(
+        parser.currentToken() == JsonToken.START_ARRAY,
+        "Cannot parse metadata log from non-array: %s",
+        parser.getText());
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      Long timestampMillis = null;
+      String file = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        parser.nextToken();
+        if (TIMESTAMP_MS.equals(field)) {
+          timestampMillis = JsonUtil.getLong(TIMESTAMP_MS, parser);
+        } else if (METADATA_FILE.equals(field)) {
+          file = JsonUtil.getString(METADATA_FILE, parser);
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      Preconditions.checkArgument(
+          timestampMillis != null, "Cannot parse missing long: %s", TIMESTAMP_MS);
+      Preconditions.checkArgument(file != null, "Cannot parse missing string: %s", METADATA_FILE);
+      entries.add(new MetadataLogEntry(timestampMillis, file));
+    }
+
+    return entries.build();
   }
 
   public static TableMetadata fromJson(InputFile file, JsonNode node) {
@@ -307,11 +470,62 @@ public class TableMetadataParser {
     return fromJson((String) null, node);
   }
 
-  @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:MethodLength"})
   public static TableMetadata fromJson(String metadataLocation, JsonNode node) {
     Preconditions.checkArgument(
         node.isObject(), "Cannot parse metadata from a non-object: %s", node);
 
+    List<Snapshot> snapshots;
+    if (node.has(SNAPSHOTS)) {
+      JsonNode snapshotArray = JsonUtil.get(SNAPSHOTS, node);
+      Preconditions.checkArgument(
+          snapshotArray.isArray(), "Cannot parse snapshots from non-array: %s", snapshotArray);
+
+      snapshots = Lists.newArrayListWithExpectedSize(snapshotArray.size());
+      Iterator<JsonNode> iterator = snapshotArray.elements();
+      while (iterator.hasNext()) {
+        snapshots.add(SnapshotParser.fromJson(iterator.next()));
+      }
+    } else {
+      snapshots = ImmutableList.of();
+    }
+
+    ImmutableList.Builder<HistoryEntry> entries = ImmutableList.builder();
+    if (node.has(SNAPSHOT_LOG)) {
+      Iterator<JsonNode> logIterator = node.get(SNAPSHOT_LOG).elements();
+      while (logIterator.hasNext()) {
+        JsonNode entryNode = logIterator.next();
+        entries.add(
+            new SnapshotLogEntry(
+                JsonUtil.getLong(TIMESTAMP_MS, entryNode),
+                JsonUtil.getLong(SNAPSHOT_ID, entryNode)));
+      }
+    }
+
+    ImmutableList.Builder<MetadataLogEntry> metadataEntries = ImmutableList.builder();
+    if (node.has(METADATA_LOG)) {
+      Iterator<JsonNode> logIterator = node.get(METADATA_LOG).elements();
+      while (logIterator.hasNext()) {
+        JsonNode entryNode = logIterator.next();
+        metadataEntries.add(
+            new MetadataLogEntry(
+                JsonUtil.getLong(TIMESTAMP_MS, entryNode),
+                JsonUtil.getString(METADATA_FILE, entryNode)));
+      }
+    }
+
+    return fromJson(
+        metadataLocation, node, snapshots, null, entries.build(), metadataEntries.build());
+  }
+
+  @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:MethodLength"})
+  private static TableMetadata fromJson(
+      String metadataLocation,
+      JsonNode node,
+      List<Snapshot> snapshots,
+      LazySnapshots lazySnapshots,
+      List<HistoryEntry> snapshotLog,
+      List<MetadataLogEntry> metadataLog) {
+
     int formatVersion = JsonUtil.getInt(FORMAT_VERSION, node);
     Preconditions.checkArgument(
         formatVersion <= TableMetadata.SUPPORTED_TABLE_FORMAT_VERSION,
@@ -459,21 +673,6 @@ public class TableMetadataParser {
       refs = ImmutableMap.of();
     }
 
-    List<Snapshot> snapshots;
-    if (node.has(SNAPSHOTS)) {
-      JsonNode snapshotArray = JsonUtil.get(SNAPSHOTS, node);
-      Preconditions.checkArgument(
-          snapshotArray.isArray(), "Cannot parse snapshots from non-array: %s", snapshotArray);
-
-      snapshots = Lists.newArrayListWithExpectedSize(snapshotArray.size());
-      Iterator<JsonNode> iterator = snapshotArray.elements();
-      while (iterator.hasNext()) {
-        snapshots.add(SnapshotParser.fromJson(iterator.next()));
-      }
-    } else {
-      snapshots = ImmutableList.of();
-    }
-
     List<StatisticsFile> statisticsFiles;
     if (node.has(STATISTICS)) {
       statisticsFiles = statisticsFilesFromJson(node.get(STATISTICS));
@@ -481,27 +680,15 @@ public class TableMetadataParser {
       statisticsFiles = ImmutableList.of();
     }
 
-    ImmutableList.Builder<HistoryEntry> entries = ImmutableList.builder();
-    if (node.has(SNAPSHOT_LOG)) {
-      Iterator<JsonNode> logIterator = node.get(SNAPSHOT_LOG).elements();
-      while (logIterator.hasNext()) {
-        JsonNode entryNode = logIterator.next();
-        entries.add(
-            new SnapshotLogEntry(
-                JsonUtil.getLong(TIMESTAMP_MS, entryNode),
-                JsonUtil.getLong(SNAPSHOT_ID, entryNode)));
-      }
-    }
-
-    ImmutableList.Builder<MetadataLogEntry> metadataEntries = ImmutableList.builder();
-    if (node.has(METADATA_LOG)) {
-      Iterator<JsonNode> logIterator = node.get(METADATA_LOG).elements();
-      while (logIterator.hasNext()) {
-        JsonNode entryNode = logIterator.next();
-        metadataEntries.add(
-            new MetadataLogEntry(
-                JsonUtil.getLong(TIMESTAMP_MS, entryNode),
-                JsonUtil.getString(METADATA_FILE, entryNode)));
+    List<Snapshot> loadedSnapshots = snapshots;
+    SerializableSupplier<List<Snapshot>> snapshotsSupplier = null;
+    if (lazySnapshots != null) {
+      // the current snapshot and ref snapshots are needed for validation, others are loaded lazily
+      Set<Long> snapshotIds = Sets.newHashSet(currentSnapshotId);
+      refs.values().forEach(ref -> snapshotIds.add(ref.snapshotId()));
+      loadedSnapshots = lazySnapshots.snapshots(snapshotIds);
+      if (loadedSnapshots.size() < lazySnapshots.size()) {
+        snapshotsSupplier = lazySnapshots;
       }
     }
 
@@ -522,10 +709,10 @@ public class TableMetadataParser {
         sortOrders,
         properties,
         currentSnapshotId,
-        snapshots,
-        null,
-        entries.build(),
-        metadataEntries.build(),
+        loadedSnapshots,
+        snapshotsSupplier,
+        snapshotLog,
+        metadataLog,
         refs,
         statisticsFiles,
         ImmutableList.of() /* no changes from the file */);
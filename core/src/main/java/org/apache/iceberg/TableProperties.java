@@ -231,6 +231,21 @@ public class TableProperties {
   public static final String ORC_BATCH_SIZE = "read.orc.vectorization.batch-size";
   public static final int ORC_BATCH_SIZE_DEFAULT = 5000;
 
+  public static final String POSITION_DELETE_CACHE_ENABLED = "read.delete.position.cache-enabled";
+  public static final boolean POSITION_DELETE_CACHE_ENABLED_DEFAULT = false;
+
+  public static final String EQUALITY_DELETE_SET_TYPE = "read.delete.equality.set-type";
+  public static final String EQUALITY_DELETE_SET_TYPE_HEAP = "heap";
+  public static final String EQUALITY_DELETE_SET_TYPE_OFF_HEAP = "off-heap";
+  public static final String EQUALITY_DELETE_SET_TYPE_DEFAULT = EQUALITY_DELETE_SET_TYPE_HEAP;
+
+  public static final String EQUALITY_DELETE_MEMORY_BUDGET_BYTES =
+      "read.delete.equality.off-heap.memory-budget-bytes";
+  public static final long EQUALITY_DELETE_MEMORY_BUDGET_BYTES_DEFAULT =
+      256 * 1024 * 1024; // 256 MB
+
+  public static final String EQUALITY_DELETE_SPILL_DIR = "read.delete.equality.off-heap.spill-dir";
+
   public static final String OBJECT_STORE_ENABLED = "write.object-storage.enabled";
   public static final boolean OBJECT_STORE_ENABLED_DEFAULT = false;
 
@@ -0,0 +1,423 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.UUIDUtil;
+
+/**
+ * A set of equality delete keys that are stored as compact binary tuples outside of the Java heap.
+ *
+ * <p>Each key is encoded into a byte sequence that is equal for two keys if and only if the keys
+ * are equal according to {@link org.apache.iceberg.util.StructLikeSet}. Encoded keys are appended
+ * to pages of direct memory until the memory budget is used, and then to pages of a memory-mapped
+ * file in the spill directory, which the OS can page out to local disk. Keys are found using an
+ * open addressing hash index of primitive arrays.
+ *
+ * <p>Direct memory pages come from a pool that is shared by all sets in the JVM and is bounded by
+ * {@link org.apache.iceberg.SystemConfigs#EQUALITY_DELETE_OFF_HEAP_MAX_BYTES}, so the memory budget
+ * of a set is an upper limit for that set only. Pages are returned to the pool by {@link
+ * #release()}, or when the set is no longer reachable.
+ *
+ * <p>The set is built once by adding keys and calling {@link #close()}, which releases the spill
+ * file. The pages remain readable after the set is closed. This class is not thread-safe.
+ */
+public class BinaryEqualityDeleteSet implements Closeable {
+  private static final int PAGE_SIZE = DirectPagePool.PAGE_SIZE;
+  private static final int INITIAL_CAPACITY = 1 << 10;
+  private static final int MAX_CAPACITY = 1 << 30;
+  private static final double LOAD_FACTOR = 0.75;
+  private static final byte NULL = 0;
+  private static final byte NOT_NULL = 1;
+
+  private final Type[] types;
+  private final long memoryBudget;
+  private final File spillDir;
+  private final DirectPagePool.Lease lease;
+  private final List<ByteBuffer> pages = Lists.newArrayList();
+  private ByteBuffer currentPage = null;
+  private long allocatedBytes = 0L;
+  private File spillFile = null;
+  private FileChannel spillChannel = null;
+  private long spillFileSize = 0L;
+  private boolean closed = false;
+  private boolean released = false;
+
+  // key addresses offset by 1 so that 0 marks an empty slot, and the hashes of the keys
+  private long[] addresses;
+  private int[] hashes;
+  private int capacity;
+  private int size = 0;
+
+  private ByteBuffer scratch = ByteBuffer.allocate(256).order(ByteOrder.LITTLE_ENDIAN);
+
+  /**
+   * Creates an empty set.
+   *
+   * @param keyType the struct type of the keys, which must have only primitive fields
+   * @param memoryBudget the number of bytes of direct memory to use for keys before spilling
+   * @param spillDir the local directory to create the spill file in
+   */
+  public BinaryEqualityDeleteSet(Types.StructType keyType, long memoryBudget, File spillDir) {
+    this(keyType, memoryBudget, spillDir, DirectPagePool.get());
+  }
+
+  BinaryEqualityDeleteSet(
+      Types.StructType keyType, long memoryBudget, File spillDir, DirectPagePool pagePool) {
+    Preconditions.checkArgument(memoryBudget >= 0, "Invalid memory budget: %s", memoryBudget);
+    Preconditions.checkNotNull(spillDir, "Invalid spill directory: null");
+    List<Types.NestedField> fields = keyType.fields();
+    this.types = new Type[fields.size()];
+    for (int pos = 0; pos < types.length; pos += 1) {
+      Type type = fields.get(pos).type();
+      Preconditions.checkArgument(
+          type.isPrimitiveType(), "Cannot use non-primitive equality delete field: %s", type);
+      types[pos] = type;
+    }
+
+    this.memoryBudget = memoryBudget;
+    this.spillDir = spillDir;
+    this.capacity = INITIAL_CAPACITY;
+    this.addresses = new long[capacity];
+    this.hashes = new int[capacity];
+    this.lease = pagePool.lease(this);
+  }
+
+  /** Returns the number of distinct keys in the set. */
+  public int size() {
+    return size;
+  }
+
+  /** Returns the number of bytes of memory-mapped spill pages. */
+  public long spilledBytes() {
+    return spillFileSize;
+  }
+
+  /**
+   * Adds a key to the set.
+   *
+   * @param key a struct with the fields of the key type
+   * @return true if the key was not already in the set
+   */
+  public boolean add(StructLike key) {
+    Preconditions.checkState(!closed, "Cannot add keys to a closed set");
+    int length = encode(key);
+    int hash = hash(scratch, length);
+    int slot = findSlot(hash, length);
+    if (addresses[slot] != 0L) {
+      return false;
+    }
+
+    long address = append(length);
+    addresses[slot] = address + 1;
+    hashes[slot] = hash;
+    size += 1;
+
+    if (size > capacity * LOAD_FACTOR) {
+      resize();
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns whether the set contains a key.
+   *
+   * @param key a struct with the fields of the key type
+   * @return true if the set contains a key that is equal to the given key
+   */
+  public boolean contains(StructLike key) {
+    Preconditions.checkState(!released, "Cannot read keys from a released set");
+    int length = encode(key);
+    int slot = findSlot(hash(scratch, length), length);
+    return addresses[slot] != 0L;
+  }
+
+  /**
+   * Closes the set and returns its direct memory pages to the shared pool.
+   *
+   * <p>The set cannot be used after it is released.
+   */
+  public void release() {
+    close();
+    if (!released) {
+      this.released = true;
+      pages.clear();
+      this.currentPage = null;
+      this.addresses = null;
+      this.hashes = null;
+      lease.release();
+    }
+  }
+
+  /** Closes and removes the spill file. Keys that were added remain readable. */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+
+    this.closed = true;
+    if (spillChannel != null) {
+      try {
+        // mapped pages remain valid after the channel is closed
+        spillChannel.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to close spill file: " + spillFile, e);
+      } finally {
+        deleteSpillFile();
+      }
+    }
+  }
+
+  // returns the slot that contains the key in the scratch buffer or the empty slot to insert it
+  private int findSlot(int hash, int length) {
+    int mask = capacity - 1;
+    int slot = hash & mask;
+    while (true) {
+      long address = addresses[slot];
+      if (address == 0L || (hashes[slot] == hash && keyEquals(address - 1, length))) {
+        return slot;
+      }
+
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  private boolean keyEquals(long address, int length) {
+    ByteBuffer page = pages.get((int) (address >>> 32));
+    int offset = (int) address;
+    if (page.getInt(offset) != length) {
+      return false;
+    }
+
+    int start = offset + 4;
+    int pos = 0;
+    for (; pos + 8 <= length; pos += 8) {
+      if (page.getLong(start + pos) != scratch.getLong(pos)) {
+        return false;
+      }
+    }
+
+    for (; pos < length; pos += 1) {
+      if (page.get(start + pos) != scratch.get(pos)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private void resize() {
+    Preconditions.checkState(
+        capacity < MAX_CAPACITY, "Cannot add more than %s equality delete keys", size);
+    long[] oldAddresses = addresses;
+    int[] oldHashes = hashes;
+    int oldCapacity = capacity;
+    this.capacity = oldCapacity * 2;
+    this.addresses = new long[capacity];
+    this.hashes = new int[capacity];
+
+    int mask = capacity - 1;
+    for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot += 1) {
+      long address = oldAddresses[oldSlot];
+      if (address != 0L) {
+        int hash = oldHashes[oldSlot];
+        int slot = hash & mask;
+        while (addresses[slot] != 0L) {
+          slot = (slot + 1) & mask;
+        }
+
+        addresses[slot] = address;
+        hashes[slot] = hash;
+      }
+    }
+  }
+
+  // copies the encoded key from the scratch buffer to the current page and returns its address
+  private long append(int length) {
+    int entrySize = length + 4;
+    if (currentPage == null || currentPage.remaining() < entrySize) {
+      this.currentPage = newPage(Math.max(PAGE_SIZE, entrySize));
+      pages.add(currentPage);
+    }
+
+    int offset = currentPage.position();
+    currentPage.putInt(length);
+    ByteBuffer key = scratch.duplicate();
+    key.position(0).limit(length);
+    currentPage.put(key);
+
+    return ((long) (pages.size() - 1) << 32) | offset;
+  }
+
+  private ByteBuffer newPage(int pageSize) {
+    // only standard pages come from the shared pool; larger pages for huge keys are spilled
+    if (pageSize == PAGE_SIZE && allocatedBytes + pageSize <= memoryBudget) {
+      ByteBuffer page = lease.acquire();
+      if (page != null) {
+        allocatedBytes += pageSize;
+        return page;
+      }
+    }
+
+    try {
+      if (spillChannel == null) {
+        this.spillFile = File.createTempFile("iceberg-eq-deletes-", ".bin", spillDir);
+        this.spillChannel = new RandomAccessFile(spillFile, "rw").getChannel();
+      }
+
+      ByteBuffer page = spillChannel.map(FileChannel.MapMode.READ_WRITE, spillFileSize, pageSize);
+      spillFileSize += pageSize;
+      return page.order(ByteOrder.LITTLE_ENDIAN);
+
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to spill equality deletes to " + spillDir, e);
+    }
+  }
+
+  private void deleteSpillFile() {
+    if (!spillFile.delete()) {
+      // the file may be locked while it is mapped on some platforms
+      spillFile.deleteOnExit();
+    }
+  }
+
+  // encodes the key into the scratch buffer and returns the encoded length
+  private int encode(StructLike key) {
+    scratch.clear();
+    for (int pos = 0; pos < types.length; pos += 1) {
+      Object value = key.get(pos, Object.class);
+      if (value == null) {
+        ensureCapacity(1);
+        scratch.put(NULL);
+      } else {
+        ensureCapacity(1);
+        scratch.put(NOT_NULL);
+        encodeValue(types[pos], value);
+      }
+    }
+
+    return scratch.position();
+  }
+
+  private void encodeValue(Type type, Object value) {
+    switch (type.typeId()) {
+      case BOOLEAN:
+        ensureCapacity(1);
+        scratch.put((Boolean) value ? (byte) 1 : (byte) 0);
+        break;
+      case INTEGER:
+      case DATE:
+        ensureCapacity(4);
+        scratch.putInt(((Number) value).intValue());
+        break;
+      case LONG:
+      case TIME:
+      case TIMESTAMP:
+        ensureCapacity(8);
+        scratch.putLong(((Number) value).longValue());
+        break;
+      case FLOAT:
+        // floatToIntBits matches Float.compare, which is used to compare keys
+        ensureCapacity(4);
+        scratch.putInt(Float.floatToIntBits((Float) value));
+        break;
+      case DOUBLE:
+        ensureCapacity(8);
+        scratch.putLong(Double.doubleToLongBits((Double) value));
+        break;
+      case STRING:
+        putBytes(value.toString().getBytes(StandardCharsets.UTF_8));
+        break;
+      case UUID:
+        putBytes(value instanceof UUID ? UUIDUtil.convert((UUID) value) : toBytes(value));
+        break;
+      case DECIMAL:
+        // the scale is fixed by the type
+        putBytes(((BigDecimal) value).unscaledValue().toByteArray());
+        break;
+      case FIXED:
+      case BINARY:
+        putBytes(toBytes(value));
+        break;
+      default:
+        throw new UnsupportedOperationException("Unsupported equality delete type: " + type);
+    }
+  }
+
+  private static byte[] toBytes(Object value) {
+    if (value instanceof byte[]) {
+      return (byte[]) value;
+    }
+
+    ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  private void putBytes(byte[] bytes) {
+    ensureCapacity(4 + bytes.length);
+    scratch.putInt(bytes.length);
+    scratch.put(bytes);
+  }
+
+  private void ensureCapacity(int needed) {
+    if (scratch.remaining() < needed) {
+      int newCapacity = Math.max(scratch.capacity() * 2, scratch.position() + needed);
+      ByteBuffer newScratch = ByteBuffer.allocate(newCapacity).order(ByteOrder.LITTLE_ENDIAN);
+      scratch.flip();
+      newScratch.put(scratch);
+      this.scratch = newScratch;
+    }
+  }
+
+  // FNV-1a over the key bytes, with the murmur3 finalizer to spread the bits used by the index
+  private static int hash(ByteBuffer buffer, int length) {
+    int hash = 0x811c9dc5;
+    for (int pos = 0; pos < length; pos += 1) {
+      hash ^= buffer.get(pos);
+      hash *= 0x01000193;
+    }
+
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    hash ^= hash >>> 16;
+    return hash;
+  }
+}
@@ -18,23 +18,36 @@
  */
 package org.apache.iceberg.deletes;
 
-import org.roaringbitmap.longlong.Roaring64Bitmap;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.PrimitiveIterator;
+import org.apache.iceberg.io.ByteBufferInputStream;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
 
 class BitmapPositionDeleteIndex implements PositionDeleteIndex {
-  private final Roaring64Bitmap roaring64Bitmap;
+  private final Roaring64NavigableMap roaring64Bitmap;
 
   BitmapPositionDeleteIndex() {
-    roaring64Bitmap = new Roaring64Bitmap();
+    roaring64Bitmap = new Roaring64NavigableMap();
+  }
+
+  private BitmapPositionDeleteIndex(Roaring64NavigableMap roaring64Bitmap) {
+    this.roaring64Bitmap = roaring64Bitmap;
   }
 
   @Override
   public void delete(long position) {
-    roaring64Bitmap.add(position);
+    roaring64Bitmap.addLong(position);
   }
 
   @Override
   public void delete(long posStart, long posEnd) {
-    roaring64Bitmap.add(posStart, posEnd);
+    roaring64Bitmap.addRange(posStart, posEnd);
   }
 
   @Override
@@ -46,4 +59,65 @@ class BitmapPositionDeleteIndex implements PositionDeleteIndex {
   public boolean isEmpty() {
     return roaring64Bitmap.isEmpty();
   }
+
+  /** Adds all positions deleted in the other index to this index. */
+  void merge(BitmapPositionDeleteIndex other) {
+    roaring64Bitmap.or(other.roaring64Bitmap);
+  }
+
+  /** Returns the estimated size of this index in memory. */
+  long sizeInBytes() {
+    return roaring64Bitmap.getLongSizeInBytes();
+  }
+
+  /** Returns the deleted positions in ascending order. */
+  PrimitiveIterator.OfLong positions() {
+    LongIterator iter = roaring64Bitmap.getLongIterator();
+    return new PrimitiveIterator.OfLong() {
+      @Override
+      public boolean hasNext() {
+        return iter.hasNext();
+      }
+
+      @Override
+      public long nextLong() {
+        return iter.next();
+      }
+    };
+  }
+
+  /** Returns the number of deleted positions. */
+  long cardinality() {
+    return roaring64Bitmap.getLongCardinality();
+  }
+
+  /**
+   * Serializes this index using the portable 64-bit Roaring format, which can be read by Roaring
+   * implementations in other languages.
+   */
+  ByteBuffer serialize() {
+    roaring64Bitmap.runOptimize();
+    ByteArrayOutputStream bytes =
+        new ByteArrayOutputStream((int) roaring64Bitmap.serializedSizeInBytes());
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      roaring64Bitmap.serializePortable(out);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to serialize position delete bitmap", e);
+    }
+
+    return ByteBuffer.wrap(bytes.toByteArray());
+  }
+
+  /** Deserializes an index that was serialized by {@link #serialize()}. */
+  static BitmapPositionDeleteIndex deserialize(ByteBuffer buffer) {
+    Roaring64NavigableMap bitmap = new Roaring64NavigableMap();
+    try {
+      bitmap.deserializePortable(
+          new DataInputStream(ByteBufferInputStream.wrap(buffer.duplicate())));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to deserialize position delete bitmap", e);
+    }
+
+    return new BitmapPositionDeleteIndex(bitmap);
+  }
 }
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.IcebergBuild;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.encryption.EncryptionKeyMetadata;
+import org.apache.iceberg.io.DeleteWriteResult;
+import org.apache.iceberg.io.FileWriter;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.puffin.Blob;
+import org.apache.iceberg.puffin.Puffin;
+import org.apache.iceberg.puffin.PuffinWriter;
+import org.apache.iceberg.puffin.StandardBlobTypes;
+import org.apache.iceberg.puffin.StandardPuffinProperties;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.CharSequenceSet;
+
+/**
+ * A position delete writer that stores the deleted positions of each data file as a serialized
+ * Roaring bitmap in a Puffin file.
+ *
+ * <p>Deletes may be written in any order. The positions are collected in memory and the Puffin file
+ * is written when the writer is closed, with one {@link
+ * StandardBlobTypes#ROARING_POSITION_DELETES_V1} blob per data file. Deleted rows are not stored,
+ * so the {@link PositionDelete#row() row} of incoming deletes is ignored.
+ */
+public class BitmapPositionDeleteWriter<T>
+    implements FileWriter<PositionDelete<T>, DeleteWriteResult> {
+  private static final List<Integer> INPUT_FIELDS =
+      ImmutableList.of(MetadataColumns.ROW_POSITION.fieldId());
+
+  private final OutputFile outputFile;
+  private final PartitionSpec spec;
+  private final StructLike partition;
+  private final ByteBuffer keyMetadata;
+  private final Map<String, BitmapPositionDeleteIndex> indexes = Maps.newTreeMap();
+  private final CharSequenceSet referencedDataFiles = CharSequenceSet.empty();
+  private DeleteFile deleteFile = null;
+  private long length = 0L;
+
+  public BitmapPositionDeleteWriter(
+      OutputFile outputFile,
+      PartitionSpec spec,
+      StructLike partition,
+      EncryptionKeyMetadata keyMetadata) {
+    this.outputFile = outputFile;
+    this.spec = spec;
+    this.partition = partition;
+    this.keyMetadata = keyMetadata != null ? keyMetadata.buffer() : null;
+  }
+
+  @Override
+  public void write(PositionDelete<T> positionDelete) {
+    Preconditions.checkState(deleteFile == null, "Cannot write to a closed writer");
+    CharSequence path = positionDelete.path();
+    if (referencedDataFiles.add(path)) {
+      indexes.put(path.toString(), new BitmapPositionDeleteIndex());
+    }
+
+    indexes.get(path.toString()).delete(positionDelete.pos());
+  }
+
+  /**
+   * Returns the length of the Puffin file once the writer is closed, or the estimated size of the
+   * collected bitmaps before that.
+   */
+  @Override
+  public long length() {
+    if (deleteFile != null) {
+      return length;
+    }
+
+    return indexes.values().stream().mapToLong(BitmapPositionDeleteIndex::sizeInBytes).sum();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (deleteFile == null) {
+      long recordCount = 0L;
+      try (PuffinWriter writer =
+          Puffin.write(outputFile).createdBy(IcebergBuild.fullVersion()).build()) {
+        for (Map.Entry<String, BitmapPositionDeleteIndex> entry : indexes.entrySet()) {
+          BitmapPositionDeleteIndex index = entry.getValue();
+          long cardinality = index.cardinality();
+          recordCount += cardinality;
+          writer.add(
+              new Blob(
+                  StandardBlobTypes.ROARING_POSITION_DELETES_V1,
+                  INPUT_FIELDS,
+                  -1L /* snapshot ID is assigned on commit */,
+                  -1L /* sequence number is assigned on commit */,
+                  index.serialize(),
+                  null /* uncompressed */,
+                  ImmutableMap.of(
+                      StandardPuffinProperties.REFERENCED_DATA_FILE_PROPERTY,
+                      entry.getKey(),
+                      StandardPuffinProperties.CARDINALITY_PROPERTY,
+                      String.valueOf(cardinality))));
+        }
+
+        writer.finish();
+        this.length = writer.fileSize();
+      }
+
+      this.deleteFile =
+          FileMetadata.deleteFileBuilder(spec)
+              .ofPositionDeletes()
+              .withFormat(FileFormat.PUFFIN)
+              .withPath(outputFile.location())
+              .withPartition(partition)
+              .withEncryptionKeyMetadata(keyMetadata)
+              .withFileSizeInBytes(length)
+              .withRecordCount(recordCount)
+              .build();
+      indexes.clear();
+    }
+  }
+
+  public CharSequenceSet referencedDataFiles() {
+    return referencedDataFiles;
+  }
+
+  public DeleteFile toDeleteFile() {
+    Preconditions.checkState(deleteFile != null, "Cannot create delete file from unclosed writer");
+    return deleteFile;
+  }
+
+  @Override
+  public DeleteWriteResult result() {
+    return new DeleteWriteResult(toDeleteFile(), referencedDataFiles());
+  }
+}
@@ -18,12 +18,17 @@
  */
 package org.apache.iceberg.deletes;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.apache.iceberg.Accessor;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
@@ -32,11 +37,21 @@ import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FilterIterator;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.puffin.BlobMetadata;
+import org.apache.iceberg.puffin.Puffin;
+import org.apache.iceberg.puffin.PuffinReader;
+import org.apache.iceberg.puffin.StandardBlobTypes;
+import org.apache.iceberg.puffin.StandardPuffinProperties;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.Filter;
+import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.SortedMerge;
 import org.apache.iceberg.util.StructLikeSet;
 import org.slf4j.Logger;
@@ -125,6 +140,34 @@ public class Deletes {
     }
   }
 
+  /**
+   * Builds a {@link BinaryEqualityDeleteSet} that stores the equality delete keys outside of the
+   * Java heap.
+   *
+   * @param eqDeletes equality delete keys; the keys may be reused because they are copied
+   * @param eqType the struct type of the keys
+   * @param memoryBudget the number of bytes of direct memory to use before spilling keys
+   * @param spillDir the local directory for keys that do not fit in the memory budget
+   * @return a set of the keys
+   */
+  public static BinaryEqualityDeleteSet toBinaryEqualitySet(
+      CloseableIterable<StructLike> eqDeletes,
+      Types.StructType eqType,
+      long memoryBudget,
+      File spillDir) {
+    try (CloseableIterable<StructLike> deletes = eqDeletes;
+        BinaryEqualityDeleteSet deleteSet =
+            new BinaryEqualityDeleteSet(eqType, memoryBudget, spillDir)) {
+      for (StructLike delete : deletes) {
+        deleteSet.add(delete);
+      }
+
+      return deleteSet;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close equality delete source", e);
+    }
+  }
+
   public static <T extends StructLike> PositionDeleteIndex toPositionIndex(
       CharSequence dataLocation, List<CloseableIterable<T>> deleteFiles) {
     DataFileFilter<T> locationFilter = new DataFileFilter<>(dataLocation);
@@ -137,6 +180,146 @@ public class Deletes {
     return toPositionIndex(CloseableIterable.concat(positions));
   }
 
+  /**
+   * Builds a position delete index for each data file referenced by the given position deletes.
+   *
+   * @param posDeletes position delete rows for any number of data files
+   * @return a map from data file location to the positions deleted in that file
+   */
+  public static <T extends StructLike> Map<String, PositionDeleteIndex> toPositionIndexes(
+      CloseableIterable<T> posDeletes) {
+    Map<String, PositionDeleteIndex> indexes = Maps.newHashMap();
+    try (CloseableIterable<T> deletes = posDeletes) {
+      String lastLocation = null;
+      PositionDeleteIndex lastIndex = null;
+      for (T delete : deletes) {
+        CharSequence location = (CharSequence) FILENAME_ACCESSOR.get(delete);
+        // deletes are sorted by location so the index is usually the same as for the last row
+        if (lastLocation == null || !DataFileFilter.charSeqEquals(lastLocation, location)) {
+          lastLocation = location.toString();
+          lastIndex =
+              indexes.computeIfAbsent(lastLocation, ignored -> new BitmapPositionDeleteIndex());
+        }
+
+        lastIndex.delete((Long) POSITION_ACCESSOR.get(delete));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close position delete source", e);
+    }
+
+    return indexes;
+  }
+
+  /**
+   * Reads the positions deleted from a data file from a Puffin position delete file.
+   *
+   * @param deleteFile a Puffin file written by {@link BitmapPositionDeleteWriter}
+   * @param dataLocation the location of the data file
+   * @return the positions deleted from the data file
+   */
+  public static PositionDeleteIndex readPositionIndex(
+      InputFile deleteFile, CharSequence dataLocation) {
+    String location = dataLocation.toString();
+    PositionDeleteIndex index =
+        readPositionIndexes(
+                deleteFile,
+                blob ->
+                    location.equals(
+                        blob.properties()
+                            .get(StandardPuffinProperties.REFERENCED_DATA_FILE_PROPERTY)))
+            .get(location);
+    return index != null ? index : new BitmapPositionDeleteIndex();
+  }
+
+  /**
+   * Reads the positions deleted from all data files from a Puffin position delete file.
+   *
+   * @param deleteFile a Puffin file written by {@link BitmapPositionDeleteWriter}
+   * @return a map from data file location to the positions deleted in that file
+   */
+  public static Map<String, PositionDeleteIndex> readPositionIndexes(InputFile deleteFile) {
+    return readPositionIndexes(deleteFile, blob -> true);
+  }
+
+  /**
+   * Reads the deletes in a Puffin position delete file as rows, ordered by data file location and
+   * position.
+   *
+   * <p>Puffin delete files do not store deleted rows, so the row of each delete is null.
+   *
+   * @param deleteFile a Puffin file written by {@link BitmapPositionDeleteWriter}
+   * @return the position deletes in the file; the returned delete objects are reused
+   */
+  public static <T> CloseableIterable<PositionDelete<T>> readPositionDeletes(InputFile deleteFile) {
+    Map<String, PositionDeleteIndex> indexes = readPositionIndexes(deleteFile);
+    List<String> locations = Lists.newArrayList(indexes.keySet());
+    Collections.sort(locations);
+    return CloseableIterable.withNoopClose(
+        Iterables.concat(
+            Iterables.transform(
+                locations,
+                location ->
+                    positionDeletes(location, (BitmapPositionDeleteIndex) indexes.get(location)))));
+  }
+
+  private static <T> Iterable<PositionDelete<T>> positionDeletes(
+      String location, BitmapPositionDeleteIndex index) {
+    return () -> {
+      PositionDelete<T> delete = PositionDelete.create();
+      return Iterators.transform(index.positions(), pos -> delete.set(location, pos, null));
+    };
+  }
+
+  private static Map<String, PositionDeleteIndex> readPositionIndexes(
+      InputFile deleteFile, Predicate<BlobMetadata> blobFilter) {
+    Map<String, PositionDeleteIndex> indexes = Maps.newHashMap();
+    try (PuffinReader reader = Puffin.read(deleteFile).build()) {
+      List<BlobMetadata> blobs =
+          reader.fileMetadata().blobs().stream()
+              .filter(blob -> StandardBlobTypes.ROARING_POSITION_DELETES_V1.equals(blob.type()))
+              .filter(blobFilter)
+              .collect(Collectors.toList());
+      for (Pair<BlobMetadata, ByteBuffer> blob : reader.readAll(blobs)) {
+        String location =
+            blob.first().properties().get(StandardPuffinProperties.REFERENCED_DATA_FILE_PROPERTY);
+        Preconditions.checkState(
+            location != null,
+            "Invalid position delete blob in %s: missing %s",
+            deleteFile.location(),
+            StandardPuffinProperties.REFERENCED_DATA_FILE_PROPERTY);
+        BitmapPositionDeleteIndex index = BitmapPositionDeleteIndex.deserialize(blob.second());
+        PositionDeleteIndex existing = indexes.putIfAbsent(location, index);
+        if (existing != null) {
+          ((BitmapPositionDeleteIndex) existing).merge(index);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("Failed to read position deletes from %s", deleteFile.location()), e);
+    }
+
+    return indexes;
+  }
+
+  /**
+   * Combines position delete indexes into a new index.
+   *
+   * @param indexes indexes created by this class
+   * @return a new index that contains the positions deleted in any of the indexes
+   */
+  public static PositionDeleteIndex merge(Iterable<? extends PositionDeleteIndex> indexes) {
+    BitmapPositionDeleteIndex result = new BitmapPositionDeleteIndex();
+    for (PositionDeleteIndex index : indexes) {
+      Preconditions.checkArgument(
+          index instanceof BitmapPositionDeleteIndex,
+          "Cannot merge position delete index: %s",
+          index.getClass().getName());
+      result.merge((BitmapPositionDeleteIndex) index);
+    }
+
+    return result;
+  }
+
   public static PositionDeleteIndex toPositionIndex(CloseableIterable<Long> posDeletes) {
     try (CloseableIterable<Long> deletes = posDeletes) {
       PositionDeleteIndex positionDeleteIndex = new BitmapPositionDeleteIndex();
@@ -357,7 +540,7 @@ public class Deletes {
       return charSeqEquals(dataLocation, (CharSequence) FILENAME_ACCESSOR.get(posDelete));
     }
 
-    private boolean charSeqEquals(CharSequence s1, CharSequence s2) {
+    private static boolean charSeqEquals(CharSequence s1, CharSequence s2) {
       if (s1 == s2) {
         return true;
       }
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.iceberg.SystemConfigs;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+
+/**
+ * A pool of direct memory pages that bounds the direct memory used by off-heap delete sets in a
+ * JVM.
+ *
+ * <p>Pages are leased to an owner and are returned to the pool when the lease is released, or when
+ * the owner becomes unreachable without releasing it. Returned pages are reused by later leases, so
+ * the direct memory allocated by the pool never exceeds its maximum size.
+ */
+class DirectPagePool {
+  static final int PAGE_SIZE = 1 << 20; // 1 MB
+
+  private static final DirectPagePool INSTANCE =
+      new DirectPagePool(SystemConfigs.EQUALITY_DELETE_OFF_HEAP_MAX_BYTES.value());
+
+  private final long maxBytes;
+  private final AtomicLong leasedBytes = new AtomicLong(0L);
+  private final Queue<ByteBuffer> freePages = new ConcurrentLinkedQueue<>();
+  private final ReferenceQueue<Object> unreachableOwners = new ReferenceQueue<>();
+  // keeps leases reachable until their pages are returned
+  private final Set<Lease> leases = ConcurrentHashMap.newKeySet();
+
+  DirectPagePool(long maxBytes) {
+    Preconditions.checkArgument(maxBytes >= 0, "Invalid max bytes: %s", maxBytes);
+    this.maxBytes = maxBytes;
+  }
+
+  static DirectPagePool get() {
+    return INSTANCE;
+  }
+
+  /** Returns the number of bytes of pages that are currently leased. */
+  long leasedBytes() {
+    reclaimUnreachable();
+    return leasedBytes.get();
+  }
+
+  /**
+   * Creates a lease for pages used by an owner.
+   *
+   * @param owner the object that uses the pages; its pages are returned once it is unreachable
+   * @return a new lease
+   */
+  Lease lease(Object owner) {
+    reclaimUnreachable();
+    Lease lease = new Lease(owner);
+    leases.add(lease);
+    return lease;
+  }
+
+  private boolean reserve() {
+    while (true) {
+      long current = leasedBytes.get();
+      if (current + PAGE_SIZE > maxBytes) {
+        return false;
+      }
+
+      if (leasedBytes.compareAndSet(current, current + PAGE_SIZE)) {
+        return true;
+      }
+    }
+  }
+
+  private void reclaimUnreachable() {
+    Reference<?> ref;
+    while ((ref = unreachableOwners.poll()) != null) {
+      ((Lease) ref).release();
+    }
+  }
+
+  class Lease extends WeakReference<Object> {
+    private final List<ByteBuffer> pages = Lists.newArrayList();
+    private boolean released = false;
+
+    private Lease(Object owner) {
+      super(owner, unreachableOwners);
+    }
+
+    /**
+     * Returns a cleared page of {@link #PAGE_SIZE} bytes, or null if the pool has no free space.
+     */
+    ByteBuffer acquire() {
+      // reclaim outside of this lease's lock to avoid locking two leases at once
+      reclaimUnreachable();
+
+      synchronized (this) {
+        Preconditions.checkState(!released, "Cannot acquire pages from a released lease");
+        if (!reserve()) {
+          return null;
+        }
+
+        ByteBuffer page = freePages.poll();
+        if (page == null) {
+          page = ByteBuffer.allocateDirect(PAGE_SIZE);
+        }
+
+        page.clear();
+        page.order(ByteOrder.LITTLE_ENDIAN);
+        pages.add(page);
+        return page;
+      }
+    }
+
+    /** Returns all pages of this lease to the pool. */
+    synchronized void release() {
+      if (released) {
+        return;
+      }
+
+      this.released = true;
+      freePages.addAll(pages);
+      leasedBytes.addAndGet(-(long) pages.size() * PAGE_SIZE);
+      pages.clear();
+      leases.remove(this);
+      clear();
+    }
+  }
+}
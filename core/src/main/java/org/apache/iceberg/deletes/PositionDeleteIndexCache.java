@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.SystemConfigs;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A cache of position delete indexes that is shared by all readers in a JVM.
+ *
+ * <p>A position delete file usually covers many data files that are read by tasks running on the
+ * same executor. Instead of reading the delete file once for each data file, this cache reads each
+ * delete file once, splits the deletes into a {@link PositionDeleteIndex} per data file, and keeps
+ * the indexes in memory for later tasks. The cache is keyed by delete file location and bounded by
+ * the estimated size of the indexes, see {@link SystemConfigs#POSITION_DELETE_CACHE_MAX_BYTES}.
+ *
+ * <p>Indexes of a delete file that are larger than the cache are not cached. Such delete files are
+ * remembered so that readers can check {@link #isCacheable(DeleteFile)} and stream them instead of
+ * loading all of their indexes for every data file.
+ */
+public class PositionDeleteIndexCache {
+  // estimated memory used by each data file entry in addition to its bitmap
+  private static final long ENTRY_OVERHEAD_BYTES = 64;
+  private static final int MAX_OVERSIZED_LOCATIONS = 10_000;
+
+  private static volatile PositionDeleteIndexCache sharedCache = null;
+
+  private final long maxBytes;
+  private final Cache<String, Map<String, PositionDeleteIndex>> indexes;
+  private final Cache<String, Boolean> oversizedLocations =
+      Caffeine.newBuilder().maximumSize(MAX_OVERSIZED_LOCATIONS).build();
+
+  public PositionDeleteIndexCache(long maxBytes) {
+    Preconditions.checkArgument(maxBytes > 0, "Invalid max cache size: %s", maxBytes);
+    this.maxBytes = maxBytes;
+    this.indexes =
+        Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher(
+                (String location, Map<String, PositionDeleteIndex> indexesByFile) ->
+                    weigh(location, indexesByFile))
+            .build();
+  }
+
+  /** Returns the cache shared by all readers in this JVM. */
+  public static PositionDeleteIndexCache get() {
+    if (sharedCache == null) {
+      synchronized (PositionDeleteIndexCache.class) {
+        if (sharedCache == null) {
+          sharedCache =
+              new PositionDeleteIndexCache(SystemConfigs.POSITION_DELETE_CACHE_MAX_BYTES.value());
+        }
+      }
+    }
+
+    return sharedCache;
+  }
+
+  /**
+   * Returns whether the indexes of a delete file can be kept in this cache.
+   *
+   * @param deleteFile a position delete file
+   * @return false if the indexes of the delete file were loaded and are larger than the cache
+   */
+  public boolean isCacheable(DeleteFile deleteFile) {
+    return oversizedLocations.getIfPresent(deleteFile.path().toString()) == null;
+  }
+
+  /**
+   * Returns the positions deleted from a data file by the given position delete files.
+   *
+   * <p>Delete files that are not cached are loaded using the given function, which must return the
+   * indexes for all data files in the delete file, see {@link Deletes#toPositionIndexes} and {@link
+   * Deletes#readPositionIndexes}.
+   *
+   * @param dataLocation the location of the data file
+   * @param deleteFiles position delete files that apply to the data file
+   * @param loadIndexes a function that loads the indexes for all data files in a delete file
+   * @return a new index of the deleted positions that may be modified by the caller
+   */
+  public PositionDeleteIndex forDataFile(
+      CharSequence dataLocation,
+      List<DeleteFile> deleteFiles,
+      Function<DeleteFile, Map<String, PositionDeleteIndex>> loadIndexes) {
+    String location = dataLocation.toString();
+    BitmapPositionDeleteIndex result = new BitmapPositionDeleteIndex();
+    for (DeleteFile deleteFile : deleteFiles) {
+      Map<String, PositionDeleteIndex> indexesByFile = load(deleteFile, loadIndexes);
+      PositionDeleteIndex index = indexesByFile.get(location);
+      if (index != null) {
+        result.merge((BitmapPositionDeleteIndex) index);
+      }
+    }
+
+    return result;
+  }
+
+  /** Removes all cached indexes. */
+  public void invalidateAll() {
+    indexes.invalidateAll();
+    oversizedLocations.invalidateAll();
+  }
+
+  private Map<String, PositionDeleteIndex> load(
+      DeleteFile deleteFile, Function<DeleteFile, Map<String, PositionDeleteIndex>> loadIndexes) {
+    String location = deleteFile.path().toString();
+    // Caffeine evicts entries that are heavier than the cache right away, so they are not added
+    AtomicReference<Map<String, PositionDeleteIndex>> oversized = new AtomicReference<>();
+    Map<String, PositionDeleteIndex> indexesByFile =
+        indexes.get(
+            location,
+            ignored -> {
+              Map<String, PositionDeleteIndex> loaded = loadIndexes.apply(deleteFile);
+              if (weigh(location, loaded) > maxBytes) {
+                oversizedLocations.put(location, true);
+                oversized.set(loaded);
+                return null;
+              }
+
+              return loaded;
+            });
+
+    return indexesByFile != null ? indexesByFile : oversized.get();
+  }
+
+  @VisibleForTesting
+  long estimatedSize() {
+    indexes.cleanUp();
+    return indexes.estimatedSize();
+  }
+
+  private static int weigh(String location, Map<String, PositionDeleteIndex> indexesByFile) {
+    long bytes = ENTRY_OVERHEAD_BYTES + 2L * location.length();
+    for (Map.Entry<String, PositionDeleteIndex> entry : indexesByFile.entrySet()) {
+      bytes += ENTRY_OVERHEAD_BYTES + 2L * entry.getKey().length();
+      bytes += ((BitmapPositionDeleteIndex) entry.getValue()).sizeInBytes();
+    }
+
+    return (int) Math.min(bytes, Integer.MAX_VALUE);
+  }
+}
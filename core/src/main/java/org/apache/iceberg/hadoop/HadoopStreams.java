@@ -23,14 +23,23 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongSupplier;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FSInputStream;
 import org.apache.iceberg.io.DelegatingInputStream;
 import org.apache.iceberg.io.DelegatingOutputStream;
+import org.apache.iceberg.io.FileRange;
 import org.apache.iceberg.io.PositionOutputStream;
+import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.io.VectoredReads;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,7 +61,19 @@ public class HadoopStreams {
    * @return a SeekableInputStream
    */
   static SeekableInputStream wrap(FSDataInputStream stream) {
-    return new HadoopSeekableInputStream(stream);
+    return new HadoopSeekableInputStream(stream, null);
+  }
+
+  /**
+   * Wraps a {@link FSDataInputStream} in a {@link SeekableInputStream} implementation for readers
+   * that also supports {@link RangeReadable#readTail(byte[], int, int) tail reads}.
+   *
+   * @param stream a Hadoop FSDataInputStream
+   * @param fileLength a supplier of the length of the file, called on the first tail read
+   * @return a SeekableInputStream
+   */
+  static SeekableInputStream wrap(FSDataInputStream stream, LongSupplier fileLength) {
+    return new HadoopSeekableInputStream(stream, fileLength);
   }
 
   /**
@@ -79,15 +100,22 @@ public class HadoopStreams {
   /**
    * SeekableInputStream implementation for FSDataInputStream that implements ByteBufferReadable in
    * Hadoop 2.
+   *
+   * <p>Range reads use the positional reads of the Hadoop stream, which do not change the position
+   * of the stream. Vectored reads run the positional reads in parallel using a shared pool.
    */
   private static class HadoopSeekableInputStream extends SeekableInputStream
-      implements DelegatingInputStream {
+      implements DelegatingInputStream, RangeReadable {
+    private static volatile ExecutorService readPool = null;
+
     private final FSDataInputStream stream;
+    private final LongSupplier fileLength;
     private final StackTraceElement[] createStack;
     private boolean closed;
 
-    HadoopSeekableInputStream(FSDataInputStream stream) {
+    HadoopSeekableInputStream(FSDataInputStream stream, LongSupplier fileLength) {
       this.stream = stream;
+      this.fileLength = fileLength;
       this.createStack = Thread.currentThread().getStackTrace();
       this.closed = false;
     }
@@ -127,6 +155,37 @@ public class HadoopStreams {
       return stream.read(buf);
     }
 
+    @Override
+    public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
+      stream.readFully(position, buffer, offset, length);
+    }
+
+    @Override
+    public int readTail(byte[] buffer, int offset, int length) throws IOException {
+      Preconditions.checkState(fileLength != null, "Cannot read tail: unknown file length");
+      long size = fileLength.getAsLong();
+      int tailLength = (int) Math.min(length, size);
+      stream.readFully(size - tailLength, buffer, offset, tailLength);
+      return tailLength;
+    }
+
+    @Override
+    public List<CompletableFuture<ByteBuffer>> readVectored(List<FileRange> ranges) {
+      return VectoredReads.read(ranges, this::readFully, readPool());
+    }
+
+    private static ExecutorService readPool() {
+      if (readPool == null) {
+        synchronized (HadoopSeekableInputStream.class) {
+          if (readPool == null) {
+            readPool = ThreadPools.newWorkerPool("iceberg-hadoop-read");
+          }
+        }
+      }
+
+      return readPool;
+    }
+
     @SuppressWarnings("checkstyle:NoFinalizer")
     @Override
     protected void finalize() throws Throwable {
@@ -0,0 +1,394 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.CatalogProperties;
+import org.apache.iceberg.CatalogUtil;
+import org.apache.iceberg.hadoop.HadoopConfigurable;
+import org.apache.iceberg.hadoop.SerializableConfiguration;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.SerializableMap;
+import org.apache.iceberg.util.SerializableSupplier;
+
+/**
+ * FileIO implementation that caches blocks of the files it reads on local disk.
+ *
+ * <p>Reads are served from fixed-size blocks that are read from another FileIO and stored in the
+ * directory set by {@link CatalogProperties#IO_BLOCK_CACHE_DIR}. The cache is shared by all
+ * instances that use the same directory in a JVM and is limited by {@link
+ * CatalogProperties#IO_BLOCK_CACHE_MAX_TOTAL_BYTES}. Because data and metadata files are not
+ * modified after they are written, blocks are identified by the file location, the file length, and
+ * the block position. Writes, deletes, and listing go directly to the other FileIO; bulk and prefix
+ * operations are supported when the other FileIO supports them.
+ *
+ * <p>The other FileIO is loaded using {@link CatalogProperties#IO_BLOCK_CACHE_DELEGATE_IMPL} and
+ * the same properties, or can be passed to {@link #BlockCacheFileIO(FileIO)}.
+ */
+public class BlockCacheFileIO
+    implements FileIO, HadoopConfigurable, SupportsBulkOperations, SupportsPrefixOperations {
+  private static final String DEFAULT_DELEGATE_IMPL = ResolvingFileIO.class.getName();
+
+  private FileIO io;
+  private SerializableMap<String, String> properties;
+  private SerializableSupplier<Configuration> hadoopConf;
+  private String cacheDirectory;
+  private long maxTotalBytes;
+  private int blockSize;
+  private transient volatile LocalBlockCache cache;
+
+  /**
+   * No-arg constructor to load the FileIO dynamically.
+   *
+   * <p>All fields are initialized by calling {@link BlockCacheFileIO#initialize(Map)} later.
+   */
+  public BlockCacheFileIO() {}
+
+  /**
+   * Constructor that caches the reads of an initialized FileIO.
+   *
+   * <p>The cache is configured by calling {@link BlockCacheFileIO#initialize(Map)} later.
+   *
+   * @param io a FileIO to read from
+   */
+  public BlockCacheFileIO(FileIO io) {
+    this.io = io;
+  }
+
+  @Override
+  public void initialize(Map<String, String> props) {
+    this.properties = SerializableMap.copyOf(props);
+    this.cacheDirectory = props.get(CatalogProperties.IO_BLOCK_CACHE_DIR);
+    Preconditions.checkArgument(
+        cacheDirectory != null,
+        "Invalid block cache directory: null (%s is required)",
+        CatalogProperties.IO_BLOCK_CACHE_DIR);
+    this.blockSize =
+        PropertyUtil.propertyAsInt(
+            props,
+            CatalogProperties.IO_BLOCK_CACHE_BLOCK_SIZE_BYTES,
+            CatalogProperties.IO_BLOCK_CACHE_BLOCK_SIZE_BYTES_DEFAULT);
+    Preconditions.checkArgument(blockSize > 0, "Invalid block size: %s (must be > 0)", blockSize);
+    this.maxTotalBytes =
+        PropertyUtil.propertyAsLong(
+            props,
+            CatalogProperties.IO_BLOCK_CACHE_MAX_TOTAL_BYTES,
+            CatalogProperties.IO_BLOCK_CACHE_MAX_TOTAL_BYTES_DEFAULT);
+    Preconditions.checkArgument(
+        maxTotalBytes > 0, "Invalid max total bytes: %s (must be > 0)", maxTotalBytes);
+
+    if (io == null) {
+      String impl =
+          props.getOrDefault(CatalogProperties.IO_BLOCK_CACHE_DELEGATE_IMPL, DEFAULT_DELEGATE_IMPL);
+      this.io = CatalogUtil.loadFileIO(impl, props, hadoopConf != null ? hadoopConf.get() : null);
+    }
+  }
+
+  @Override
+  public InputFile newInputFile(String location) {
+    return new CachingInputFile(io.newInputFile(location), null, cache(), blockSize);
+  }
+
+  @Override
+  public InputFile newInputFile(String location, long length) {
+    return new CachingInputFile(io.newInputFile(location, length), length, cache(), blockSize);
+  }
+
+  @Override
+  public OutputFile newOutputFile(String location) {
+    return io.newOutputFile(location);
+  }
+
+  @Override
+  public void deleteFile(String location) {
+    io.deleteFile(location);
+  }
+
+  @Override
+  public void deleteFiles(Iterable<String> pathsToDelete) throws BulkDeletionFailureException {
+    if (io instanceof SupportsBulkOperations) {
+      ((SupportsBulkOperations) io).deleteFiles(pathsToDelete);
+    } else {
+      throw new UnsupportedOperationException(
+          String.format(
+              "Cannot deleteFiles: delegate FileIO %s does not implement SupportsBulkOperations",
+              io.getClass().getName()));
+    }
+  }
+
+  @Override
+  public Iterable<FileInfo> listPrefix(String prefix) {
+    return prefixOperations("listPrefix").listPrefix(prefix);
+  }
+
+  @Override
+  public void deletePrefix(String prefix) {
+    prefixOperations("deletePrefix").deletePrefix(prefix);
+  }
+
+  @Override
+  public Map<String, String> properties() {
+    return properties.immutableMap();
+  }
+
+  @Override
+  public void close() {
+    if (io != null) {
+      io.close();
+    }
+  }
+
+  /** Returns hit and miss statistics of the block cache, shared by instances in this JVM. */
+  public CacheStats cacheStats() {
+    return cache().stats();
+  }
+
+  /** Returns the number of cached blocks that were read again because they failed validation. */
+  public long checksumFailures() {
+    return cache().checksumFailures();
+  }
+
+  /** Returns the FileIO that this FileIO reads from and writes to. */
+  public FileIO delegate() {
+    return io;
+  }
+
+  @Override
+  public void serializeConfWith(
+      Function<Configuration, SerializableSupplier<Configuration>> confSerializer) {
+    if (hadoopConf != null) {
+      this.hadoopConf = confSerializer.apply(hadoopConf.get());
+    }
+
+    if (io instanceof HadoopConfigurable) {
+      ((HadoopConfigurable) io).serializeConfWith(confSerializer);
+    }
+  }
+
+  @Override
+  public void setConf(Configuration conf) {
+    this.hadoopConf = new SerializableConfiguration(conf)::get;
+  }
+
+  @Override
+  public Configuration getConf() {
+    return hadoopConf != null ? hadoopConf.get() : null;
+  }
+
+  private SupportsPrefixOperations prefixOperations(String operation) {
+    if (io instanceof SupportsPrefixOperations) {
+      return (SupportsPrefixOperations) io;
+    }
+
+    throw new UnsupportedOperationException(
+        String.format(
+            "Cannot %s: delegate FileIO %s does not implement SupportsPrefixOperations",
+            operation, io.getClass().getName()));
+  }
+
+  private LocalBlockCache cache() {
+    if (cache == null) {
+      Preconditions.checkState(cacheDirectory != null, "Cannot read: not initialized");
+      this.cache = LocalBlockCache.forDirectory(cacheDirectory, maxTotalBytes);
+    }
+
+    return cache;
+  }
+
+  private static class CachingInputFile implements InputFile {
+    private final InputFile file;
+    private final LocalBlockCache cache;
+    private final int blockSize;
+    private Long length;
+
+    private CachingInputFile(InputFile file, Long length, LocalBlockCache cache, int blockSize) {
+      this.file = file;
+      this.length = length;
+      this.cache = cache;
+      this.blockSize = blockSize;
+    }
+
+    @Override
+    public long getLength() {
+      if (length == null) {
+        this.length = file.getLength();
+      }
+
+      return length;
+    }
+
+    @Override
+    public SeekableInputStream newStream() {
+      return new CachingInputStream(file, getLength(), cache, blockSize);
+    }
+
+    @Override
+    public String location() {
+      return file.location();
+    }
+
+    @Override
+    public boolean exists() {
+      return file.exists();
+    }
+
+    @Override
+    public String toString() {
+      return file.toString();
+    }
+  }
+
+  private static class CachingInputStream extends SeekableInputStream implements RangeReadable {
+    private final InputFile file;
+    private final long length;
+    private final LocalBlockCache cache;
+    private final int blockSize;
+    private SeekableInputStream stream = null;
+    private long pos = 0L;
+    private long currentIndex = -1L;
+    private byte[] currentBlock = null;
+    private boolean closed = false;
+
+    private CachingInputStream(InputFile file, long length, LocalBlockCache cache, int blockSize) {
+      this.file = file;
+      this.length = length;
+      this.cache = cache;
+      this.blockSize = blockSize;
+    }
+
+    @Override
+    public long getPos() {
+      return pos;
+    }
+
+    @Override
+    public void seek(long newPos) {
+      Preconditions.checkState(!closed, "Cannot seek: already closed");
+      Preconditions.checkArgument(newPos >= 0, "Invalid position: %s (must be >= 0)", newPos);
+      this.pos = newPos;
+    }
+
+    @Override
+    public int read() throws IOException {
+      Preconditions.checkState(!closed, "Cannot read: already closed");
+      if (pos >= length) {
+        return -1;
+      }
+
+      byte[] block = currentBlock(pos / blockSize);
+      int value = block[(int) (pos % blockSize)] & 0xFF;
+      this.pos += 1;
+      return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int off, int len) throws IOException {
+      Preconditions.checkState(!closed, "Cannot read: already closed");
+      Preconditions.checkPositionIndexes(off, off + len, buffer.length);
+      if (len == 0) {
+        return 0;
+      } else if (pos >= length) {
+        return -1;
+      }
+
+      byte[] block = currentBlock(pos / blockSize);
+      int blockOffset = (int) (pos % blockSize);
+      int bytesRead = Math.min(len, block.length - blockOffset);
+      System.arraycopy(block, blockOffset, buffer, off, bytesRead);
+      this.pos += bytesRead;
+      return bytesRead;
+    }
+
+    @Override
+    public void readFully(long position, byte[] buffer, int offset, int len) throws IOException {
+      Preconditions.checkState(!closed, "Cannot read: already closed");
+      Preconditions.checkPositionIndexes(offset, offset + len, buffer.length);
+      if (position + len > length) {
+        throw new EOFException(
+            String.format(
+                "Cannot read %s bytes at position %s: file length is %s", len, position, length));
+      }
+
+      long current = position;
+      int copied = 0;
+      while (copied < len) {
+        byte[] block = block(current / blockSize);
+        int blockOffset = (int) (current % blockSize);
+        int copySize = Math.min(len - copied, block.length - blockOffset);
+        System.arraycopy(block, blockOffset, buffer, offset + copied, copySize);
+        copied += copySize;
+        current += copySize;
+      }
+    }
+
+    @Override
+    public int readTail(byte[] buffer, int offset, int len) throws IOException {
+      int tailLength = (int) Math.min(len, length);
+      readFully(length - tailLength, buffer, offset, tailLength);
+      return tailLength;
+    }
+
+    @Override
+    public void close() throws IOException {
+      super.close();
+      this.closed = true;
+      this.currentBlock = null;
+      if (stream != null) {
+        stream.close();
+      }
+    }
+
+    private byte[] currentBlock(long index) throws IOException {
+      if (index != currentIndex) {
+        this.currentBlock = block(index);
+        this.currentIndex = index;
+      }
+
+      return currentBlock;
+    }
+
+    private byte[] block(long index) throws IOException {
+      String key = String.format("%s %s %s %s", file.location(), length, blockSize, index);
+      return cache.get(key, () -> readBlock(index));
+    }
+
+    private synchronized byte[] readBlock(long index) throws IOException {
+      long start = index * blockSize;
+      byte[] data = new byte[(int) Math.min(blockSize, length - start)];
+      if (stream == null) {
+        this.stream = file.newStream();
+      }
+
+      if (stream instanceof RangeReadable) {
+        ((RangeReadable) stream).readFully(start, data, 0, data.length);
+      } else {
+        stream.seek(start);
+        IOUtil.readFully(stream, data, 0, data.length);
+      }
+
+      return data;
+    }
+  }
+}
@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of file blocks in a local directory.
+ *
+ * <p>Each block is stored in its own file with a header that holds the block key, the block length
+ * and a CRC32 checksum of the block. The headers are read when the cache is created, so that blocks
+ * cached by an earlier process are reused. Blocks that fail validation are removed and read again.
+ */
+class LocalBlockCache {
+  private static final Logger LOG = LoggerFactory.getLogger(LocalBlockCache.class);
+  private static final Map<Path, LocalBlockCache> CACHES = Maps.newConcurrentMap();
+  private static final int MAGIC = 0x49434231; // ICB1
+  private static final String BLOCK_SUFFIX = ".block";
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private final Path directory;
+  private final Cache<String, BlockFile> blocks;
+  private final AtomicLong checksumFailures = new AtomicLong(0L);
+
+  /** Functional interface to read a block that is not cached. */
+  @FunctionalInterface
+  interface BlockLoader {
+    byte[] load() throws IOException;
+  }
+
+  /**
+   * Returns the cache for a directory, shared by all users of the directory in this JVM.
+   *
+   * @param directory a local directory
+   * @param maxTotalBytes the max bytes to cache, used by the first caller only
+   * @return a cache for the directory
+   */
+  static LocalBlockCache forDirectory(String directory, long maxTotalBytes) {
+    Path path = Paths.get(directory).toAbsolutePath().normalize();
+    return CACHES.computeIfAbsent(path, dir -> new LocalBlockCache(dir, maxTotalBytes));
+  }
+
+  LocalBlockCache(Path directory, long maxTotalBytes) {
+    Preconditions.checkArgument(
+        maxTotalBytes > 0, "Invalid max total bytes: %s (must be > 0)", maxTotalBytes);
+    this.directory = directory;
+    this.blocks =
+        Caffeine.newBuilder()
+            .maximumWeight(maxTotalBytes)
+            .weigher((String key, BlockFile file) -> file.length())
+            // remove evicted files in the thread that caused the eviction
+            .executor(Runnable::run)
+            .removalListener(
+                (String key, BlockFile file, RemovalCause cause) -> {
+                  if (file != null && cause != RemovalCause.REPLACED) {
+                    deleteQuietly(file.path());
+                  }
+                })
+            .recordStats()
+            .build();
+
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("Failed to create block cache directory: %s", directory), e);
+    }
+
+    loadBlocks();
+  }
+
+  /**
+   * Returns the bytes of a block, reading it with the loader and caching it if it is not cached.
+   *
+   * @param key a key that identifies the block and its content
+   * @param loader a loader to read the block if it is not cached or the cached block is invalid
+   * @return the bytes of the block
+   * @throws IOException if the loader fails
+   */
+  byte[] get(String key, BlockLoader loader) throws IOException {
+    byte[][] loaded = new byte[1][];
+    BlockFile file;
+    try {
+      file =
+          blocks.get(
+              key,
+              blockKey -> {
+                try {
+                  loaded[0] = loader.load();
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+
+                return write(blockKey, loaded[0]);
+              });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+
+    if (loaded[0] != null) {
+      return loaded[0];
+    }
+
+    byte[] data = read(key, file);
+    if (data != null) {
+      return data;
+    }
+
+    checksumFailures.incrementAndGet();
+    blocks.invalidate(key);
+    return loader.load();
+  }
+
+  CacheStats stats() {
+    return blocks.stats();
+  }
+
+  /** Returns the number of cached blocks that were removed because they failed validation. */
+  long checksumFailures() {
+    return checksumFailures.get();
+  }
+
+  long estimatedSize() {
+    return blocks.estimatedSize();
+  }
+
+  void cleanUp() {
+    blocks.cleanUp();
+  }
+
+  void invalidateAll() {
+    blocks.invalidateAll();
+  }
+
+  private BlockFile write(String key, byte[] data) {
+    String hash = Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString();
+    Path file = directory.resolve(hash.substring(0, 2)).resolve(hash + BLOCK_SUFFIX);
+    Path temp = file.resolveSibling(file.getFileName() + "." + UUID.randomUUID() + TEMP_SUFFIX);
+    try {
+      Files.createDirectories(file.getParent());
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        out.writeInt(MAGIC);
+        out.writeUTF(key);
+        out.writeInt(data.length);
+        out.writeLong(checksum(data));
+        out.write(data);
+      }
+
+      Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      return new BlockFile(file, data.length);
+    } catch (IOException e) {
+      // the block is returned without caching it
+      LOG.warn("Failed to cache block in {}", file, e);
+      deleteQuietly(temp);
+      return null;
+    }
+  }
+
+  private byte[] read(String key, BlockFile file) {
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(file.path())))) {
+      if (in.readInt() != MAGIC || !key.equals(in.readUTF()) || in.readInt() != file.length()) {
+        LOG.warn("Invalid cached block header in {}", file.path());
+        return null;
+      }
+
+      long checksum = in.readLong();
+      byte[] data = new byte[file.length()];
+      in.readFully(data);
+      if (checksum(data) != checksum) {
+        LOG.warn("Invalid cached block checksum in {}", file.path());
+        return null;
+      }
+
+      return data;
+    } catch (IOException e) {
+      LOG.warn("Failed to read cached block from {}", file.path(), e);
+      return null;
+    }
+  }
+
+  /** Adds the blocks in the directory to the cache, oldest first, and removes invalid files. */
+  private void loadBlocks() {
+    List<Path> files;
+    try (Stream<Path> paths = Files.walk(directory)) {
+      files = paths.filter(Files::isRegularFile).collect(Collectors.toList());
+    } catch (IOException e) {
+      LOG.warn("Failed to list cached blocks in {}", directory, e);
+      return;
+    }
+
+    Map<Path, Long> modifiedTimes = Maps.newHashMap();
+    for (Path file : files) {
+      try {
+        modifiedTimes.put(file, Files.getLastModifiedTime(file).toMillis());
+      } catch (IOException e) {
+        modifiedTimes.put(file, 0L);
+      }
+    }
+
+    files.sort(Comparator.comparing(modifiedTimes::get));
+    for (Path file : files) {
+      if (!file.getFileName().toString().endsWith(BLOCK_SUFFIX)) {
+        // left behind by a process that stopped while writing a block
+        deleteQuietly(file);
+        continue;
+      }
+
+      try (DataInputStream in =
+          new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+        if (in.readInt() == MAGIC) {
+          String key = in.readUTF();
+          int length = in.readInt();
+          // magic, key length, key, block length, and checksum
+          long headerLength = 4 + 2 + key.getBytes(StandardCharsets.UTF_8).length + 4 + 8;
+          if (Files.size(file) == headerLength + length) {
+            blocks.put(key, new BlockFile(file, length));
+            continue;
+          }
+        }
+      } catch (IOException e) {
+        LOG.debug("Failed to read cached block header in {}", file, e);
+      }
+
+      deleteQuietly(file);
+    }
+
+    LOG.info("Loaded {} cached blocks from {}", blocks.estimatedSize(), directory);
+  }
+
+  private static long checksum(byte[] data) {
+    CRC32 crc = new CRC32();
+    crc.update(data, 0, data.length);
+    return crc.getValue();
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      LOG.warn("Failed to delete cached block file: {}", file, e);
+    }
+  }
+
+  private static class BlockFile {
+    private final Path path;
+    private final int length;
+
+    private BlockFile(Path path, int length) {
+      this.path = path;
+      this.length = length;
+    }
+
+    Path path() {
+      return path;
+    }
+
+    int length() {
+      return length;
+    }
+  }
+}
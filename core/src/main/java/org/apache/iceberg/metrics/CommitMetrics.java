@@ -27,6 +27,9 @@ import org.immutables.value.Value;
 public abstract class CommitMetrics {
   public static final String TOTAL_DURATION = "total-duration";
   public static final String ATTEMPTS = "attempts";
+  public static final String ATTEMPT_DURATION = "attempt-duration";
+  public static final String VALIDATION_DURATION = "validation-duration";
+  public static final String VALIDATED_SNAPSHOTS = "validated-snapshots";
 
   public static CommitMetrics noop() {
     return CommitMetrics.of(MetricsContext.nullMetrics());
@@ -44,6 +47,24 @@ public abstract class CommitMetrics {
     return metricsContext().counter(ATTEMPTS, Unit.COUNT);
   }
 
+  /** Records the duration of each commit attempt. */
+  @Value.Derived
+  public Timer attemptDuration() {
+    return metricsContext().timer(ATTEMPT_DURATION, TimeUnit.NANOSECONDS);
+  }
+
+  /** Records the duration of conflict validation in each commit attempt. */
+  @Value.Derived
+  public Timer validationDuration() {
+    return metricsContext().timer(VALIDATION_DURATION, TimeUnit.NANOSECONDS);
+  }
+
+  /** Counts the snapshots that were read to validate against concurrent commits. */
+  @Value.Derived
+  public Counter validatedSnapshots() {
+    return metricsContext().counter(VALIDATED_SNAPSHOTS, Unit.COUNT);
+  }
+
   public static CommitMetrics of(MetricsContext metricsContext) {
     return ImmutableCommitMetrics.builder().metricsContext(metricsContext).build();
   }
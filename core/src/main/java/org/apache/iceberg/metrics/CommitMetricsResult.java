@@ -57,6 +57,15 @@ public interface CommitMetricsResult {
   @Nullable
   CounterResult attempts();
 
+  @Nullable
+  TimerResult attemptDuration();
+
+  @Nullable
+  TimerResult validationDuration();
+
+  @Nullable
+  CounterResult validatedSnapshots();
+
   @Nullable
   CounterResult addedDataFiles();
 
@@ -130,6 +139,9 @@ public interface CommitMetricsResult {
     return ImmutableCommitMetricsResult.builder()
         .attempts(CounterResult.fromCounter(commitMetrics.attempts()))
         .totalDuration(TimerResult.fromTimer(commitMetrics.totalDuration()))
+        .attemptDuration(TimerResult.fromTimer(commitMetrics.attemptDuration()))
+        .validationDuration(TimerResult.fromTimer(commitMetrics.validationDuration()))
+        .validatedSnapshots(CounterResult.fromCounter(commitMetrics.validatedSnapshots()))
         .addedDataFiles(counterFrom(snapshotSummary, SnapshotSummary.ADDED_FILES_PROP))
         .removedDataFiles(counterFrom(snapshotSummary, SnapshotSummary.DELETED_FILES_PROP))
         .totalDataFiles(counterFrom(snapshotSummary, SnapshotSummary.TOTAL_DATA_FILES_PROP))
@@ -51,6 +51,21 @@ class CommitMetricsResultParser {
       CounterResultParser.toJson(metrics.attempts(), gen);
     }
 
+    if (null != metrics.attemptDuration()) {
+      gen.writeFieldName(CommitMetrics.ATTEMPT_DURATION);
+      TimerResultParser.toJson(metrics.attemptDuration(), gen);
+    }
+
+    if (null != metrics.validationDuration()) {
+      gen.writeFieldName(CommitMetrics.VALIDATION_DURATION);
+      TimerResultParser.toJson(metrics.validationDuration(), gen);
+    }
+
+    if (null != metrics.validatedSnapshots()) {
+      gen.writeFieldName(CommitMetrics.VALIDATED_SNAPSHOTS);
+      CounterResultParser.toJson(metrics.validatedSnapshots(), gen);
+    }
+
     if (null != metrics.addedDataFiles()) {
       gen.writeFieldName(CommitMetricsResult.ADDED_DATA_FILES);
       CounterResultParser.toJson(metrics.addedDataFiles(), gen);
@@ -176,6 +191,9 @@ class CommitMetricsResultParser {
     return ImmutableCommitMetricsResult.builder()
         .attempts(CounterResultParser.fromJson(CommitMetrics.ATTEMPTS, json))
         .totalDuration(TimerResultParser.fromJson(CommitMetrics.TOTAL_DURATION, json))
+        .attemptDuration(TimerResultParser.fromJson(CommitMetrics.ATTEMPT_DURATION, json))
+        .validationDuration(TimerResultParser.fromJson(CommitMetrics.VALIDATION_DURATION, json))
+        .validatedSnapshots(CounterResultParser.fromJson(CommitMetrics.VALIDATED_SNAPSHOTS, json))
         .addedDataFiles(CounterResultParser.fromJson(CommitMetricsResult.ADDED_DATA_FILES, json))
         .removedDataFiles(
             CounterResultParser.fromJson(CommitMetricsResult.REMOVED_DATA_FILES, json))
@@ -40,6 +40,11 @@ public abstract class ScanMetrics {
   public static final String INDEXED_DELETE_FILES = "indexed-delete-files";
   public static final String EQUALITY_DELETE_FILES = "equality-delete-files";
   public static final String POSITIONAL_DELETE_FILES = "positional-delete-files";
+  public static final String PLANNING_QUEUE_DEPTH = "planning-queue-depth";
+  public static final String PLANNING_PRODUCER_STALL_DURATION = "planning-producer-stall-duration";
+  public static final String MANIFEST_SUMMARY_CACHE_HITS = "manifest-summary-cache-hits";
+  public static final String MANIFEST_SUMMARY_CACHE_MISSES = "manifest-summary-cache-misses";
+  public static final String MANIFEST_SUMMARY_CACHE_EVICTIONS = "manifest-summary-cache-evictions";
 
   public static ScanMetrics noop() {
     return ScanMetrics.of(MetricsContext.nullMetrics());
@@ -127,6 +132,36 @@ public abstract class ScanMetrics {
     return metricsContext().counter(POSITIONAL_DELETE_FILES);
   }
 
+  /** The highest number of planned results that were buffered while planning in parallel. */
+  @Value.Derived
+  public Counter planningQueueDepth() {
+    return metricsContext().counter(PLANNING_QUEUE_DEPTH);
+  }
+
+  /** How long parallel planning tasks were paused because too many results were buffered. */
+  @Value.Derived
+  public Timer planningProducerStallDuration() {
+    return metricsContext().timer(PLANNING_PRODUCER_STALL_DURATION, TimeUnit.NANOSECONDS);
+  }
+
+  /** The number of manifests that were evaluated using a cached summary. */
+  @Value.Derived
+  public Counter manifestSummaryCacheHits() {
+    return metricsContext().counter(MANIFEST_SUMMARY_CACHE_HITS);
+  }
+
+  /** The number of manifests that were read to cache their summary. */
+  @Value.Derived
+  public Counter manifestSummaryCacheMisses() {
+    return metricsContext().counter(MANIFEST_SUMMARY_CACHE_MISSES);
+  }
+
+  /** The number of cached manifest summaries that were evicted to cache summaries for the scan. */
+  @Value.Derived
+  public Counter manifestSummaryCacheEvictions() {
+    return metricsContext().counter(MANIFEST_SUMMARY_CACHE_EVICTIONS);
+  }
+
   public static ScanMetrics of(MetricsContext metricsContext) {
     return ImmutableScanMetrics.builder().metricsContext(metricsContext).build();
   }
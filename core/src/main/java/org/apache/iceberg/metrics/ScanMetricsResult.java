@@ -73,6 +73,21 @@ public interface ScanMetricsResult {
   @Nullable
   CounterResult positionalDeleteFiles();
 
+  @Nullable
+  CounterResult planningQueueDepth();
+
+  @Nullable
+  TimerResult planningProducerStallDuration();
+
+  @Nullable
+  CounterResult manifestSummaryCacheHits();
+
+  @Nullable
+  CounterResult manifestSummaryCacheMisses();
+
+  @Nullable
+  CounterResult manifestSummaryCacheEvictions();
+
   static ScanMetricsResult fromScanMetrics(ScanMetrics scanMetrics) {
     Preconditions.checkArgument(null != scanMetrics, "Invalid scan metrics: null");
     return ImmutableScanMetricsResult.builder()
@@ -93,6 +108,14 @@ public interface ScanMetricsResult {
         .indexedDeleteFiles(CounterResult.fromCounter(scanMetrics.indexedDeleteFiles()))
         .equalityDeleteFiles(CounterResult.fromCounter(scanMetrics.equalityDeleteFiles()))
         .positionalDeleteFiles(CounterResult.fromCounter(scanMetrics.positionalDeleteFiles()))
+        .planningQueueDepth(CounterResult.fromCounter(scanMetrics.planningQueueDepth()))
+        .planningProducerStallDuration(
+            TimerResult.fromTimer(scanMetrics.planningProducerStallDuration()))
+        .manifestSummaryCacheHits(CounterResult.fromCounter(scanMetrics.manifestSummaryCacheHits()))
+        .manifestSummaryCacheMisses(
+            CounterResult.fromCounter(scanMetrics.manifestSummaryCacheMisses()))
+        .manifestSummaryCacheEvictions(
+            CounterResult.fromCounter(scanMetrics.manifestSummaryCacheEvictions()))
         .build();
   }
 }
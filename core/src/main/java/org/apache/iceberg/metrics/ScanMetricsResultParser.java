@@ -121,6 +121,31 @@ class ScanMetricsResultParser {
       CounterResultParser.toJson(metrics.positionalDeleteFiles(), gen);
     }
 
+    if (null != metrics.planningQueueDepth()) {
+      gen.writeFieldName(ScanMetrics.PLANNING_QUEUE_DEPTH);
+      CounterResultParser.toJson(metrics.planningQueueDepth(), gen);
+    }
+
+    if (null != metrics.planningProducerStallDuration()) {
+      gen.writeFieldName(ScanMetrics.PLANNING_PRODUCER_STALL_DURATION);
+      TimerResultParser.toJson(metrics.planningProducerStallDuration(), gen);
+    }
+
+    if (null != metrics.manifestSummaryCacheHits()) {
+      gen.writeFieldName(ScanMetrics.MANIFEST_SUMMARY_CACHE_HITS);
+      CounterResultParser.toJson(metrics.manifestSummaryCacheHits(), gen);
+    }
+
+    if (null != metrics.manifestSummaryCacheMisses()) {
+      gen.writeFieldName(ScanMetrics.MANIFEST_SUMMARY_CACHE_MISSES);
+      CounterResultParser.toJson(metrics.manifestSummaryCacheMisses(), gen);
+    }
+
+    if (null != metrics.manifestSummaryCacheEvictions()) {
+      gen.writeFieldName(ScanMetrics.MANIFEST_SUMMARY_CACHE_EVICTIONS);
+      CounterResultParser.toJson(metrics.manifestSummaryCacheEvictions(), gen);
+    }
+
     gen.writeEndObject();
   }
 
@@ -159,6 +184,15 @@ class ScanMetricsResultParser {
         .equalityDeleteFiles(CounterResultParser.fromJson(ScanMetrics.EQUALITY_DELETE_FILES, json))
         .positionalDeleteFiles(
             CounterResultParser.fromJson(ScanMetrics.POSITIONAL_DELETE_FILES, json))
+        .planningQueueDepth(CounterResultParser.fromJson(ScanMetrics.PLANNING_QUEUE_DEPTH, json))
+        .planningProducerStallDuration(
+            TimerResultParser.fromJson(ScanMetrics.PLANNING_PRODUCER_STALL_DURATION, json))
+        .manifestSummaryCacheHits(
+            CounterResultParser.fromJson(ScanMetrics.MANIFEST_SUMMARY_CACHE_HITS, json))
+        .manifestSummaryCacheMisses(
+            CounterResultParser.fromJson(ScanMetrics.MANIFEST_SUMMARY_CACHE_MISSES, json))
+        .manifestSummaryCacheEvictions(
+            CounterResultParser.fromJson(ScanMetrics.MANIFEST_SUMMARY_CACHE_EVICTIONS, json))
         .build();
   }
 }
@@ -26,4 +26,11 @@ public final class StandardBlobTypes {
    * href="https://datasketches.apache.org/">Apache DataSketches</a> library
    */
   public static final String APACHE_DATASKETCHES_THETA_V1 = "apache-datasketches-theta-v1";
+
+  /**
+   * A bitmap of the deleted row positions in a single data file, serialized using the portable
+   * 64-bit <a href="https://roaringbitmap.org/">Roaring</a> format. The data file location is stored
+   * in the {@link StandardPuffinProperties#REFERENCED_DATA_FILE_PROPERTY} blob property.
+   */
+  public static final String ROARING_POSITION_DELETES_V1 = "roaring-position-deletes-v1";
 }
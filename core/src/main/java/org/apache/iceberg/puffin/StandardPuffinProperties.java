@@ -26,4 +26,10 @@ public final class StandardPuffinProperties {
    * Example "Trino version 381".
    */
   public static final String CREATED_BY_PROPERTY = "created-by";
+
+  /** Location of the data file that a position delete blob applies to. */
+  public static final String REFERENCED_DATA_FILE_PROPERTY = "referenced-data-file";
+
+  /** Number of deleted positions in a position delete blob. */
+  public static final String CARDINALITY_PROPERTY = "cardinality";
 }
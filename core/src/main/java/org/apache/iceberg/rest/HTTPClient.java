@@ -20,31 +20,56 @@ package org.apache.iceberg.rest;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpException;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpRequestInterceptor;
+import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.Method;
 import org.apache.hc.core5.http.ParseException;
 import org.apache.hc.core5.http.impl.EnglishReasonPhraseCatalog;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.message.BasicHeader;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
 import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.net.URIBuilder;
 import org.apache.iceberg.IcebergBuild;
@@ -53,19 +78,40 @@ import org.apache.iceberg.common.DynMethods;
 import org.apache.iceberg.exceptions.RESTException;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.iceberg.rest.responses.ErrorResponse;
 import org.apache.iceberg.util.PropertyUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** An HttpClient for usage with the REST catalog. */
+/**
+ * An HttpClient for usage with the REST catalog.
+ *
+ * <p>Blocking requests use a pooled classic HTTP/1.1 client. The asynchronous requests, such as
+ * {@link #getAsync(String, Map, Class, Map, Consumer)}, use a separate non-blocking client that is
+ * created on first use, so that many requests can be in flight without holding a thread each. When
+ * {@code rest.client.http2-enabled} is set, the non-blocking client negotiates HTTP/2 with TLS
+ * endpoints and multiplexes requests over a single connection. Responses of asynchronous requests
+ * are parsed, and their futures completed, on a separate pool of {@code rest.client.async-threads}
+ * threads, so that callers may block in dependent stages without stalling the client's I/O.
+ */
 public class HTTPClient implements RESTClient {
 
   private static final Logger LOG = LoggerFactory.getLogger(HTTPClient.class);
   private static final String SIGV4_ENABLED = "rest.sigv4-enabled";
   private static final String SIGV4_REQUEST_INTERCEPTOR_IMPL =
       "org.apache.iceberg.aws.RESTSigV4Signer";
+  private static final String MAX_CONNECTIONS = "rest.client.max-connections";
+  private static final int MAX_CONNECTIONS_DEFAULT = 100;
+  private static final String MAX_CONNECTIONS_PER_ROUTE = "rest.client.connections-per-route";
+  private static final int MAX_CONNECTIONS_PER_ROUTE_DEFAULT = 100;
+  private static final String HTTP2_ENABLED = "rest.client.http2-enabled";
+  private static final String REQUEST_COMPRESSION_ENABLED =
+      "rest.client.request-compression-enabled";
+  private static final String GZIP_ENCODING = "gzip";
+  private static final String ASYNC_THREADS = "rest.client.async-threads";
   @VisibleForTesting static final String CLIENT_VERSION_HEADER = "X-Client-Version";
 
   @VisibleForTesting
@@ -74,22 +120,55 @@ public class HTTPClient implements RESTClient {
   private final String uri;
   private final CloseableHttpClient httpClient;
   private final ObjectMapper mapper;
+  private final List<Header> baseHeaders;
+  private final HttpRequestInterceptor requestInterceptor;
+  private final int maxConnections;
+  private final int maxConnectionsPerRoute;
+  private final boolean http2Enabled;
+  private final boolean requestCompressionEnabled;
+  private final int asyncThreads;
+  private volatile CloseableHttpAsyncClient asyncClient = null;
+  private volatile ExecutorService responseExecutor = null;
 
   private HTTPClient(
       String uri,
       Map<String, String> baseHeaders,
       ObjectMapper objectMapper,
-      HttpRequestInterceptor requestInterceptor) {
+      HttpRequestInterceptor requestInterceptor,
+      Map<String, String> properties) {
     this.uri = uri;
     this.mapper = objectMapper;
-
-    HttpClientBuilder clientBuilder = HttpClients.custom();
-
-    if (baseHeaders != null) {
-      clientBuilder.setDefaultHeaders(
-          baseHeaders.entrySet().stream()
-              .map(e -> new BasicHeader(e.getKey(), e.getValue()))
-              .collect(Collectors.toList()));
+    this.baseHeaders =
+        baseHeaders != null
+            ? baseHeaders.entrySet().stream()
+                .map(e -> new BasicHeader(e.getKey(), e.getValue()))
+                .collect(Collectors.toList())
+            : ImmutableList.of();
+    this.requestInterceptor = requestInterceptor;
+    this.maxConnections =
+        PropertyUtil.propertyAsInt(properties, MAX_CONNECTIONS, MAX_CONNECTIONS_DEFAULT);
+    this.maxConnectionsPerRoute =
+        PropertyUtil.propertyAsInt(
+            properties, MAX_CONNECTIONS_PER_ROUTE, MAX_CONNECTIONS_PER_ROUTE_DEFAULT);
+    this.http2Enabled = PropertyUtil.propertyAsBoolean(properties, HTTP2_ENABLED, false);
+    this.requestCompressionEnabled =
+        PropertyUtil.propertyAsBoolean(properties, REQUEST_COMPRESSION_ENABLED, false);
+    this.asyncThreads =
+        PropertyUtil.propertyAsInt(
+            properties, ASYNC_THREADS, Runtime.getRuntime().availableProcessors());
+    Preconditions.checkArgument(
+        asyncThreads > 0, "Invalid value for %s: %s", ASYNC_THREADS, asyncThreads);
+
+    HttpClientBuilder clientBuilder =
+        HttpClients.custom()
+            .setConnectionManager(
+                PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(maxConnections)
+                    .setMaxConnPerRoute(maxConnectionsPerRoute)
+                    .build());
+
+    if (!this.baseHeaders.isEmpty()) {
+      clientBuilder.setDefaultHeaders(this.baseHeaders);
     }
 
     if (requestInterceptor != null) {
@@ -99,6 +178,46 @@ public class HTTPClient implements RESTClient {
     this.httpClient = clientBuilder.build();
   }
 
+  private CloseableHttpAsyncClient asyncClient() {
+    if (asyncClient == null) {
+      synchronized (this) {
+        if (asyncClient == null) {
+          // HTTP/2 is negotiated using ALPN, so it is only used for TLS connections
+          TlsConfig tlsConfig =
+              TlsConfig.custom()
+                  .setVersionPolicy(
+                      http2Enabled ? HttpVersionPolicy.NEGOTIATE : HttpVersionPolicy.FORCE_HTTP_1)
+                  .build();
+          CloseableHttpAsyncClient client =
+              HttpAsyncClients.custom()
+                  .setConnectionManager(
+                      PoolingAsyncClientConnectionManagerBuilder.create()
+                          .setMaxConnTotal(maxConnections)
+                          .setMaxConnPerRoute(maxConnectionsPerRoute)
+                          .setDefaultTlsConfig(tlsConfig)
+                          .build())
+                  .build();
+          client.start();
+          this.responseExecutor =
+              Executors.newFixedThreadPool(
+                  asyncThreads,
+                  new ThreadFactoryBuilder()
+                      .setDaemon(true)
+                      .setNameFormat("iceberg-rest-client-async-%d")
+                      .build());
+          this.asyncClient = client;
+        }
+      }
+    }
+
+    return asyncClient;
+  }
+
+  private static String extractResponseBodyAsString(SimpleHttpResponse response) {
+    byte[] body = response.getBodyBytes();
+    return body != null ? new String(body, StandardCharsets.UTF_8) : null;
+  }
+
   private static String extractResponseBodyAsString(CloseableHttpResponse response) {
     try {
       if (response.getEntity() == null) {
@@ -113,14 +232,14 @@ public class HTTPClient implements RESTClient {
   }
 
   // Per the spec, the only currently defined / used "success" responses are 200 and 202.
-  private static boolean isSuccessful(CloseableHttpResponse response) {
+  private static boolean isSuccessful(HttpResponse response) {
     int code = response.getCode();
     return code == HttpStatus.SC_OK
         || code == HttpStatus.SC_ACCEPTED
         || code == HttpStatus.SC_NO_CONTENT;
   }
 
-  private static ErrorResponse buildDefaultErrorResponse(CloseableHttpResponse response) {
+  private static ErrorResponse buildDefaultErrorResponse(HttpResponse response) {
     String responseReason = response.getReasonPhrase();
     String message =
         responseReason != null && !responseReason.isEmpty()
@@ -137,7 +256,7 @@ public class HTTPClient implements RESTClient {
   // Process a failed response through the provided errorHandler, and throw a RESTException if the
   // provided error handler doesn't already throw.
   private static void throwFailure(
-      CloseableHttpResponse response, String responseBody, Consumer<ErrorResponse> errorHandler) {
+      HttpResponse response, String responseBody, Consumer<ErrorResponse> errorHandler) {
     ErrorResponse errorResponse = null;
 
     if (responseBody != null) {
@@ -246,6 +365,131 @@ public class HTTPClient implements RESTClient {
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler,
       Consumer<Map<String, String>> responseHeaders) {
+    HttpUriRequestBase request = newRequest(method, path, queryParams, requestBody, headers);
+
+    try (CloseableHttpResponse response = httpClient.execute(request)) {
+      return handleResponse(
+          method,
+          path,
+          response,
+          () -> extractResponseBodyAsString(response),
+          responseType,
+          errorHandler,
+          responseHeaders);
+    } catch (IOException e) {
+      throw new RESTException(e, "Error occurred while processing %s request", method);
+    }
+  }
+
+  /**
+   * Method to execute an HTTP request without blocking and process the corresponding response.
+   *
+   * <p>The base headers and the request interceptor are applied to the request before it is handed
+   * to the non-blocking client. The client's I/O threads only hand the response off; it is
+   * processed on the response executor, including the error handler, and failures complete the
+   * returned future exceptionally.
+   *
+   * @return A future of the response entity, parsed and converted to its type T
+   */
+  private <T> CompletableFuture<T> executeAsync(
+      Method method,
+      String path,
+      Map<String, String> queryParams,
+      Object requestBody,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+
+    try {
+      HttpUriRequestBase request = newRequest(method, path, queryParams, requestBody, headers);
+      for (Header header : baseHeaders) {
+        if (!request.containsHeader(header.getName())) {
+          request.addHeader(header);
+        }
+      }
+
+      if (requestInterceptor != null) {
+        requestInterceptor.process(request, request.getEntity(), HttpClientContext.create());
+      }
+
+      SimpleHttpRequest asyncRequest = SimpleHttpRequest.copy(request);
+      HttpEntity entity = request.getEntity();
+      if (entity != null) {
+        asyncRequest.setBody(
+            EntityUtils.toByteArray(entity), ContentType.parse(entity.getContentType()));
+      }
+
+      asyncClient()
+          .execute(
+              SimpleRequestProducer.create(asyncRequest),
+              SimpleResponseConsumer.create(),
+              new FutureCallback<SimpleHttpResponse>() {
+                @Override
+                public void completed(SimpleHttpResponse response) {
+                  completeAsync(
+                      result,
+                      () -> {
+                        try {
+                          result.complete(
+                              handleResponse(
+                                  method,
+                                  path,
+                                  response,
+                                  () -> extractResponseBodyAsString(response),
+                                  responseType,
+                                  errorHandler,
+                                  responseHeaders));
+                        } catch (RuntimeException e) {
+                          result.completeExceptionally(e);
+                        }
+                      });
+                }
+
+                @Override
+                public void failed(Exception e) {
+                  completeAsync(
+                      result,
+                      () ->
+                          result.completeExceptionally(
+                              new RESTException(
+                                  e, "Error occurred while processing %s request", method)));
+                }
+
+                @Override
+                public void cancelled() {
+                  completeAsync(result, () -> result.cancel(false));
+                }
+              });
+    } catch (IOException | HttpException e) {
+      result.completeExceptionally(
+          new RESTException(e, "Error occurred while processing %s request", method));
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+
+    return result;
+  }
+
+  /**
+   * Completes a future on the response executor, so that neither response handling nor the
+   * dependent stages of the future run on the I/O threads of the non-blocking client.
+   */
+  private void completeAsync(CompletableFuture<?> result, Runnable completion) {
+    try {
+      responseExecutor.execute(completion);
+    } catch (RejectedExecutionException e) {
+      result.completeExceptionally(new RESTException(e, "Cannot process response: client closed"));
+    }
+  }
+
+  private HttpUriRequestBase newRequest(
+      Method method,
+      String path,
+      Map<String, String> queryParams,
+      Object requestBody,
+      Map<String, String> headers) {
     if (path.startsWith("/")) {
       throw new RESTException(
           "Received a malformed path for a REST request: %s. Paths should not start with /", path);
@@ -260,49 +504,63 @@ public class HTTPClient implements RESTClient {
     } else if (requestBody != null) {
       // other request bodies are serialized as JSON, application/json
       addRequestHeaders(request, headers, ContentType.APPLICATION_JSON.getMimeType());
-      request.setEntity(toJson(requestBody));
+      if (requestCompressionEnabled) {
+        request.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+        request.setEntity(toCompressedJson(requestBody));
+      } else {
+        request.setEntity(toJson(requestBody));
+      }
     } else {
       addRequestHeaders(request, headers, ContentType.APPLICATION_JSON.getMimeType());
     }
 
-    try (CloseableHttpResponse response = httpClient.execute(request)) {
-      Map<String, String> respHeaders = Maps.newHashMap();
-      for (Header header : response.getHeaders()) {
-        respHeaders.put(header.getName(), header.getValue());
-      }
+    return request;
+  }
 
-      responseHeaders.accept(respHeaders);
+  private <T> T handleResponse(
+      Method method,
+      String path,
+      HttpResponse response,
+      Supplier<String> responseBodySupplier,
+      Class<T> responseType,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    Map<String, String> respHeaders = Maps.newHashMap();
+    for (Header header : response.getHeaders()) {
+      respHeaders.put(header.getName(), header.getValue());
+    }
 
-      // Skip parsing the response stream for any successful request not expecting a response body
-      if (response.getCode() == HttpStatus.SC_NO_CONTENT
-          || (responseType == null && isSuccessful(response))) {
-        return null;
-      }
+    responseHeaders.accept(respHeaders);
 
-      String responseBody = extractResponseBodyAsString(response);
+    // Skip parsing the response stream for any successful request not expecting a response body,
+    // or for a conditional request whose resource was not modified
+    if (response.getCode() == HttpStatus.SC_NO_CONTENT
+        || response.getCode() == HttpStatus.SC_NOT_MODIFIED
+        || (responseType == null && isSuccessful(response))) {
+      return null;
+    }
 
-      if (!isSuccessful(response)) {
-        // The provided error handler is expected to throw, but a RESTException is thrown if not.
-        throwFailure(response, responseBody, errorHandler);
-      }
+    String responseBody = responseBodySupplier.get();
 
-      if (responseBody == null) {
-        throw new RESTException(
-            "Invalid (null) response body for request (expected %s): method=%s, path=%s, status=%d",
-            responseType.getSimpleName(), method.name(), path, response.getCode());
-      }
+    if (!isSuccessful(response)) {
+      // The provided error handler is expected to throw, but a RESTException is thrown if not.
+      throwFailure(response, responseBody, errorHandler);
+    }
 
-      try {
-        return mapper.readValue(responseBody, responseType);
-      } catch (JsonProcessingException e) {
-        throw new RESTException(
-            e,
-            "Received a success response code of %d, but failed to parse response body into %s",
-            response.getCode(),
-            responseType.getSimpleName());
-      }
-    } catch (IOException e) {
-      throw new RESTException(e, "Error occurred while processing %s request", method);
+    if (responseBody == null) {
+      throw new RESTException(
+          "Invalid (null) response body for request (expected %s): method=%s, path=%s, status=%d",
+          responseType.getSimpleName(), method.name(), path, response.getCode());
+    }
+
+    try {
+      return mapper.readValue(responseBody, responseType);
+    } catch (JsonProcessingException e) {
+      throw new RESTException(
+          e,
+          "Received a success response code of %d, but failed to parse response body into %s",
+          response.getCode(),
+          responseType.getSimpleName());
     }
   }
 
@@ -321,6 +579,51 @@ public class HTTPClient implements RESTClient {
     return execute(Method.GET, path, queryParams, null, responseType, headers, errorHandler);
   }
 
+  @Override
+  public <T extends RESTResponse> T get(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    return execute(
+        Method.GET, path, queryParams, null, responseType, headers, errorHandler, responseHeaders);
+  }
+
+  @Override
+  public <T extends RESTResponse> CompletableFuture<T> getAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    return getAsync(path, queryParams, responseType, headers, errorHandler, h -> {});
+  }
+
+  @Override
+  public <T extends RESTResponse> CompletableFuture<T> getAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    return executeAsync(
+        Method.GET, path, queryParams, null, responseType, headers, errorHandler, responseHeaders);
+  }
+
+  @Override
+  public <T extends RESTResponse> CompletableFuture<T> postAsync(
+      String path,
+      RESTRequest body,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    return executeAsync(
+        Method.POST, path, null, body, responseType, headers, errorHandler, h -> {});
+  }
+
   @Override
   public <T extends RESTResponse> T post(
       String path,
@@ -384,6 +687,10 @@ public class HTTPClient implements RESTClient {
   @Override
   public void close() throws IOException {
     httpClient.close(CloseMode.GRACEFUL);
+    if (asyncClient != null) {
+      asyncClient.close(CloseMode.GRACEFUL);
+      responseExecutor.shutdown();
+    }
   }
 
   @VisibleForTesting
@@ -463,10 +770,16 @@ public class HTTPClient implements RESTClient {
       HttpRequestInterceptor interceptor = null;
 
       if (PropertyUtil.propertyAsBoolean(properties, SIGV4_ENABLED, false)) {
+        // the signer computes the payload hash from the uncompressed string body
+        Preconditions.checkArgument(
+            !PropertyUtil.propertyAsBoolean(properties, REQUEST_COMPRESSION_ENABLED, false),
+            "Cannot enable %s with %s",
+            REQUEST_COMPRESSION_ENABLED,
+            SIGV4_ENABLED);
         interceptor = loadInterceptorDynamically(SIGV4_REQUEST_INTERCEPTOR_IMPL, properties);
       }
 
-      return new HTTPClient(uri, baseHeaders, mapper, interceptor);
+      return new HTTPClient(uri, baseHeaders, mapper, interceptor, properties);
     }
   }
 
@@ -478,6 +791,19 @@ public class HTTPClient implements RESTClient {
     }
   }
 
+  private ByteArrayEntity toCompressedJson(Object requestBody) {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+        mapper.writeValue(gzip, requestBody);
+      }
+
+      return new ByteArrayEntity(bytes.toByteArray(), ContentType.APPLICATION_JSON, GZIP_ENCODING);
+    } catch (IOException e) {
+      throw new RESTException(e, "Failed to write request body: %s", requestBody);
+    }
+  }
+
   private StringEntity toFormEncoding(Map<?, ?> formData) {
     return new StringEntity(RESTUtil.encodeFormData(formData), StandardCharsets.UTF_8);
   }
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import org.apache.iceberg.exceptions.RESTException;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
+
+/**
+ * A cache of {@link LoadTableResponse} that is revalidated with the catalog service using ETags.
+ *
+ * <p>Every load sends the ETag of the cached response in an If-None-Match header. When the service
+ * answers with 304 Not Modified, the cached response and its parsed table metadata are reused
+ * instead of downloading and parsing the table metadata again, and the cached response expires
+ * after the configured interval from its last revalidation.
+ *
+ * <p>Responses are cached per session because the table config in a response may carry credentials
+ * for the session that loaded it.
+ */
+class LoadTableCache {
+  static final String IF_NONE_MATCH = "If-None-Match";
+  static final String ETAG = "ETag";
+
+  private final Cache<Key, CachedResponse> responses;
+  private final AtomicLong notModifiedCount = new AtomicLong(0);
+  private final AtomicLong loadCount = new AtomicLong(0);
+
+  LoadTableCache(long maxEntries, long expirationIntervalMs) {
+    Preconditions.checkArgument(
+        maxEntries > 0, "Invalid max entries for load table cache: %s", maxEntries);
+    Preconditions.checkArgument(
+        expirationIntervalMs > 0,
+        "Invalid expiration interval for load table cache: %s",
+        expirationIntervalMs);
+    this.responses =
+        Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(Duration.ofMillis(expirationIntervalMs))
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * Loads a table response, sending a conditional request if a response is cached for the table.
+   *
+   * @param sessionId the ID of the session that loads the table
+   * @param path the path of the table resource
+   * @param queryParams the query params of the request
+   * @param loader a function that sends the request with the given additional headers and passes
+   *     the response headers to the given consumer; it returns null when the service responds with
+   *     304 Not Modified
+   * @return the cached response if the table is not modified, or the loaded response
+   */
+  LoadTableResponse load(
+      String sessionId,
+      String path,
+      Map<String, String> queryParams,
+      BiFunction<Map<String, String>, Consumer<Map<String, String>>, LoadTableResponse> loader) {
+    Key key = new Key(sessionId, path, queryParams);
+    CachedResponse cached = responses.getIfPresent(key);
+    AtomicReference<String> etag = new AtomicReference<>();
+    LoadTableResponse response =
+        loader.apply(conditionalHeaders(cached), headers -> etag.set(etag(headers)));
+    return update(key, cached, etag.get(), response);
+  }
+
+  /**
+   * Loads a table response without blocking, sending a conditional request if a response is cached
+   * for the table.
+   *
+   * @param sessionId the ID of the session that loads the table
+   * @param path the path of the table resource
+   * @param queryParams the query params of the request
+   * @param loader a function that sends the request with the given additional headers and passes
+   *     the response headers to the given consumer; its future completes with null when the service
+   *     responds with 304 Not Modified
+   * @return a future of the cached response if the table is not modified, or the loaded response
+   */
+  CompletableFuture<LoadTableResponse> loadAsync(
+      String sessionId,
+      String path,
+      Map<String, String> queryParams,
+      BiFunction<
+              Map<String, String>,
+              Consumer<Map<String, String>>,
+              CompletableFuture<LoadTableResponse>>
+          loader) {
+    Key key = new Key(sessionId, path, queryParams);
+    CachedResponse cached = responses.getIfPresent(key);
+    AtomicReference<String> etag = new AtomicReference<>();
+    return loader
+        .apply(conditionalHeaders(cached), headers -> etag.set(etag(headers)))
+        .thenApply(response -> update(key, cached, etag.get(), response));
+  }
+
+  private static Map<String, String> conditionalHeaders(CachedResponse cached) {
+    return cached != null ? ImmutableMap.of(IF_NONE_MATCH, cached.etag) : ImmutableMap.of();
+  }
+
+  private LoadTableResponse update(
+      Key key, CachedResponse cached, String etag, LoadTableResponse response) {
+    if (response == null) {
+      if (cached == null) {
+        throw new RESTException("Invalid (null) response for unconditional load: %s", key.path);
+      }
+
+      // the service confirmed that the cached response is current, so restart its expiration
+      responses.put(key, cached);
+      notModifiedCount.incrementAndGet();
+      return cached.response;
+    }
+
+    loadCount.incrementAndGet();
+    if (etag != null) {
+      responses.put(key, new CachedResponse(etag, response));
+    } else {
+      responses.invalidate(key);
+    }
+
+    return response;
+  }
+
+  /** Removes the cached responses of a table resource for all sessions. */
+  void invalidate(String path) {
+    responses.asMap().keySet().removeIf(key -> key.path.equals(path));
+  }
+
+  void invalidateAll() {
+    responses.invalidateAll();
+  }
+
+  /**
+   * Returns the cache statistics, where a hit is a load answered with 304 Not Modified and a miss
+   * is a load that downloaded the table metadata.
+   */
+  CacheStats stats() {
+    CacheStats cacheStats = responses.stats();
+    return CacheStats.of(
+        notModifiedCount.get(),
+        loadCount.get(),
+        0L,
+        0L,
+        0L,
+        cacheStats.evictionCount(),
+        cacheStats.evictionWeight());
+  }
+
+  private static String etag(Map<String, String> headers) {
+    // header names are case-insensitive and HTTP/2 sends them in lower case
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      if (ETAG.equalsIgnoreCase(header.getKey())) {
+        return header.getValue();
+      }
+    }
+
+    return null;
+  }
+
+  private static class Key {
+    private final String sessionId;
+    private final String path;
+    private final Map<String, String> queryParams;
+
+    private Key(String sessionId, String path, Map<String, String> queryParams) {
+      this.sessionId = sessionId;
+      this.path = path;
+      this.queryParams = queryParams;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (other == null || getClass() != other.getClass()) {
+        return false;
+      }
+
+      Key that = (Key) other;
+      return Objects.equals(sessionId, that.sessionId)
+          && path.equals(that.path)
+          && Objects.equals(queryParams, that.queryParams);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(sessionId, path, queryParams);
+    }
+  }
+
+  private static class CachedResponse {
+    private final String etag;
+    private final LoadTableResponse response;
+
+    private CachedResponse(String etag, LoadTableResponse response) {
+      this.etag = etag;
+      this.response = response;
+    }
+  }
+}
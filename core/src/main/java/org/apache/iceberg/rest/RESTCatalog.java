@@ -18,11 +18,13 @@
  */
 package org.apache.iceberg.rest;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.PartitionSpec;
@@ -86,6 +88,10 @@ public class RESTCatalog implements Catalog, SupportsNamespaces, Configurable<Ob
     return delegate.listTables(ns);
   }
 
+  public CompletableFuture<List<TableIdentifier>> listTablesAsync(Namespace ns) {
+    return sessionCatalog.listTablesAsync(context, ns);
+  }
+
   @Override
   public boolean tableExists(TableIdentifier ident) {
     return delegate.tableExists(ident);
@@ -96,11 +102,20 @@ public class RESTCatalog implements Catalog, SupportsNamespaces, Configurable<Ob
     return delegate.loadTable(ident);
   }
 
+  public CompletableFuture<Table> loadTableAsync(TableIdentifier ident) {
+    return sessionCatalog.loadTableAsync(context, ident);
+  }
+
   @Override
   public void invalidateTable(TableIdentifier ident) {
     delegate.invalidateTable(ident);
   }
 
+  /** @see RESTSessionCatalog#tableMetadataCacheStats() */
+  public CacheStats tableMetadataCacheStats() {
+    return sessionCatalog.tableMetadataCacheStats();
+  }
+
   @Override
   public TableBuilder buildTable(TableIdentifier ident, Schema schema) {
     return delegate.buildTable(ident, schema);
@@ -20,6 +20,7 @@ package org.apache.iceberg.rest;
 
 import java.io.Closeable;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
@@ -103,6 +104,67 @@ public interface RESTClient extends Closeable {
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler);
 
+  /**
+   * Send a GET request and pass the response headers to the given consumer.
+   *
+   * <p>Returns null when the request carries conditional headers, like If-None-Match, and the
+   * service responds with 304 Not Modified.
+   *
+   * <p>The default implementation sends the request with {@link #get(String, Map, Class, Map,
+   * Consumer)} and does not pass any response headers to the consumer.
+   */
+  default <T extends RESTResponse> T get(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    return get(path, queryParams, responseType, headers, errorHandler);
+  }
+
+  /**
+   * Send a GET request without blocking the calling thread.
+   *
+   * <p>The default implementation runs the blocking {@link #get(String, Map, Class, Map, Consumer)}
+   * request in the calling thread and returns a completed future.
+   */
+  default <T extends RESTResponse> CompletableFuture<T> getAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    try {
+      result.complete(get(path, queryParams, responseType, headers, errorHandler));
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+
+    return result;
+  }
+
+  /**
+   * Send a GET request without blocking the calling thread and pass the response headers to the
+   * given consumer before the returned future completes.
+   *
+   * <p>The future completes with null when the request carries conditional headers, like
+   * If-None-Match, and the service responds with 304 Not Modified.
+   *
+   * <p>The default implementation sends the request with {@link #getAsync(String, Map, Class, Map,
+   * Consumer)} and does not pass any response headers to the consumer.
+   */
+  default <T extends RESTResponse> CompletableFuture<T> getAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    return getAsync(path, queryParams, responseType, headers, errorHandler);
+  }
+
   default <T extends RESTResponse> T post(
       String path,
       RESTRequest body,
@@ -143,6 +205,28 @@ public interface RESTClient extends Closeable {
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler);
 
+  /**
+   * Send a POST request without blocking the calling thread.
+   *
+   * <p>The default implementation runs the blocking {@link #post(String, RESTRequest, Class, Map,
+   * Consumer)} request in the calling thread and returns a completed future.
+   */
+  default <T extends RESTResponse> CompletableFuture<T> postAsync(
+      String path,
+      RESTRequest body,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    try {
+      result.complete(post(path, body, responseType, headers, errorHandler));
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+
+    return result;
+  }
+
   default <T extends RESTResponse> T postForm(
       String path,
       Map<String, String> formData,
@@ -21,6 +21,7 @@ package org.apache.iceberg.rest;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -29,6 +30,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -96,6 +99,13 @@ public class RESTSessionCatalog extends BaseSessionCatalog
   private static final String DEFAULT_FILE_IO_IMPL = "org.apache.iceberg.io.ResolvingFileIO";
   private static final String REST_METRICS_REPORTING_ENABLED = "rest-metrics-reporting-enabled";
   private static final String REST_SNAPSHOT_LOADING_MODE = "snapshot-loading-mode";
+  private static final String TABLE_METADATA_CACHE_ENABLED = "table-metadata-cache-enabled";
+  private static final String TABLE_METADATA_CACHE_MAX_ENTRIES = "table-metadata-cache-max-entries";
+  private static final long TABLE_METADATA_CACHE_MAX_ENTRIES_DEFAULT = 1000;
+  private static final String TABLE_METADATA_CACHE_EXPIRATION_INTERVAL_MS =
+      "table-metadata-cache-expiration-interval-ms";
+  private static final long TABLE_METADATA_CACHE_EXPIRATION_INTERVAL_MS_DEFAULT =
+      TimeUnit.MINUTES.toMillis(5);
   private static final List<String> TOKEN_PREFERENCE_ORDER =
       ImmutableList.of(
           OAuth2Properties.ID_TOKEN_TYPE,
@@ -113,6 +123,7 @@ public class RESTSessionCatalog extends BaseSessionCatalog
   private RESTClient client = null;
   private ResourcePaths paths = null;
   private SnapshotMode snapshotMode = null;
+  private LoadTableCache tableCache = null;
   private Object conf = null;
   private FileIO io = null;
   private MetricsReporter reporter = null;
@@ -215,6 +226,19 @@ public class RESTSessionCatalog extends BaseSessionCatalog
                     mergedProps, REST_SNAPSHOT_LOADING_MODE, SnapshotMode.ALL.name())
                 .toUpperCase(Locale.US));
 
+    if (PropertyUtil.propertyAsBoolean(mergedProps, TABLE_METADATA_CACHE_ENABLED, false)) {
+      this.tableCache =
+          new LoadTableCache(
+              PropertyUtil.propertyAsLong(
+                  mergedProps,
+                  TABLE_METADATA_CACHE_MAX_ENTRIES,
+                  TABLE_METADATA_CACHE_MAX_ENTRIES_DEFAULT),
+              PropertyUtil.propertyAsLong(
+                  mergedProps,
+                  TABLE_METADATA_CACHE_EXPIRATION_INTERVAL_MS,
+                  TABLE_METADATA_CACHE_EXPIRATION_INTERVAL_MS_DEFAULT));
+    }
+
     this.reporter = CatalogUtil.loadMetricsReporter(mergedProps);
 
     this.reportingViaRestEnabled =
@@ -253,6 +277,25 @@ public class RESTSessionCatalog extends BaseSessionCatalog
     return response.identifiers();
   }
 
+  /**
+   * List the tables of a namespace without blocking the calling thread.
+   *
+   * @see #listTables(SessionContext, Namespace)
+   */
+  public CompletableFuture<List<TableIdentifier>> listTablesAsync(
+      SessionContext context, Namespace ns) {
+    checkNamespaceIsValid(ns);
+
+    return client
+        .getAsync(
+            paths.tables(ns),
+            ImmutableMap.of(),
+            ListTablesResponse.class,
+            headers(context).get(),
+            ErrorHandlers.namespaceErrorHandler())
+        .thenApply(ListTablesResponse::identifiers);
+  }
+
   @Override
   public boolean dropTable(SessionContext context, TableIdentifier identifier) {
     checkIdentifierIsValid(identifier);
@@ -260,6 +303,7 @@ public class RESTSessionCatalog extends BaseSessionCatalog
     try {
       client.delete(
           paths.table(identifier), null, headers(context), ErrorHandlers.tableErrorHandler());
+      invalidateCachedTable(identifier);
       return true;
     } catch (NoSuchTableException e) {
       return false;
@@ -277,6 +321,7 @@ public class RESTSessionCatalog extends BaseSessionCatalog
           null,
           headers(context),
           ErrorHandlers.tableErrorHandler());
+      invalidateCachedTable(identifier);
       return true;
     } catch (NoSuchTableException e) {
       return false;
@@ -293,16 +338,76 @@ public class RESTSessionCatalog extends BaseSessionCatalog
 
     // for now, ignore the response because there is no way to return it
     client.post(paths.rename(), request, null, headers(context), ErrorHandlers.tableErrorHandler());
+    invalidateCachedTable(from);
+  }
+
+  private void invalidateCachedTable(TableIdentifier identifier) {
+    if (tableCache != null) {
+      tableCache.invalidate(paths.table(identifier));
+    }
+  }
+
+  /**
+   * Returns the statistics of the table metadata cache, or empty statistics if the cache is
+   * disabled.
+   *
+   * <p>A hit is a table load that the catalog service answered with 304 Not Modified, so the cached
+   * table metadata was reused. A miss is a table load that downloaded the table metadata.
+   */
+  public CacheStats tableMetadataCacheStats() {
+    return tableCache != null ? tableCache.stats() : CacheStats.empty();
   }
 
   private LoadTableResponse loadInternal(
       SessionContext context, TableIdentifier identifier, SnapshotMode mode) {
-    return client.get(
-        paths.table(identifier),
+    if (tableCache == null) {
+      return client.get(
+          paths.table(identifier),
+          mode.params(),
+          LoadTableResponse.class,
+          headers(context),
+          ErrorHandlers.tableErrorHandler());
+    }
+
+    String path = paths.table(identifier);
+    return tableCache.load(
+        context.sessionId(),
+        path,
+        mode.params(),
+        (conditionalHeaders, responseHeaders) ->
+            client.get(
+                path,
+                mode.params(),
+                LoadTableResponse.class,
+                RESTUtil.merge(headers(context).get(), conditionalHeaders),
+                ErrorHandlers.tableErrorHandler(),
+                responseHeaders));
+  }
+
+  private CompletableFuture<LoadTableResponse> loadInternalAsync(
+      SessionContext context, TableIdentifier identifier, SnapshotMode mode) {
+    if (tableCache == null) {
+      return client.getAsync(
+          paths.table(identifier),
+          mode.params(),
+          LoadTableResponse.class,
+          headers(context).get(),
+          ErrorHandlers.tableErrorHandler());
+    }
+
+    String path = paths.table(identifier);
+    return tableCache.loadAsync(
+        context.sessionId(),
+        path,
         mode.params(),
-        LoadTableResponse.class,
-        headers(context),
-        ErrorHandlers.tableErrorHandler());
+        (conditionalHeaders, responseHeaders) ->
+            client.getAsync(
+                path,
+                mode.params(),
+                LoadTableResponse.class,
+                RESTUtil.merge(headers(context).get(), conditionalHeaders),
+                ErrorHandlers.tableErrorHandler(),
+                responseHeaders));
   }
 
   @Override
@@ -335,7 +440,61 @@ public class RESTSessionCatalog extends BaseSessionCatalog
       }
     }
 
-    TableIdentifier finalIdentifier = loadedIdent;
+    return tableFromResponse(context, loadedIdent, metadataType, response);
+  }
+
+  /**
+   * Load a table without blocking the calling thread while the catalog service responds.
+   *
+   * <p>The returned future fails with {@link NoSuchTableException} when neither the table nor its
+   * base table, for metadata tables, exists.
+   *
+   * @see #loadTable(SessionContext, TableIdentifier)
+   */
+  public CompletableFuture<Table> loadTableAsync(
+      SessionContext context, TableIdentifier identifier) {
+    checkIdentifierIsValid(identifier);
+
+    return loadInternalAsync(context, identifier, snapshotMode)
+        .handle(
+            (response, error) -> {
+              if (error == null) {
+                return CompletableFuture.completedFuture(
+                    tableFromResponse(context, identifier, null, response));
+              }
+
+              Throwable original = error instanceof CompletionException ? error.getCause() : error;
+              MetadataTableType metadataType = MetadataTableType.from(identifier.name());
+              if (!(original instanceof NoSuchTableException) || metadataType == null) {
+                throw new CompletionException(original);
+              }
+
+              // attempt to load a metadata table using the identifier's namespace as the base table
+              TableIdentifier baseIdent = TableIdentifier.of(identifier.namespace().levels());
+              return loadInternalAsync(context, baseIdent, snapshotMode)
+                  .handle(
+                      (baseResponse, baseError) -> {
+                        if (baseError != null) {
+                          Throwable cause =
+                              baseError instanceof CompletionException
+                                  ? baseError.getCause()
+                                  : baseError;
+                          // the base table does not exist
+                          throw new CompletionException(
+                              cause instanceof NoSuchTableException ? original : cause);
+                        }
+
+                        return tableFromResponse(context, baseIdent, metadataType, baseResponse);
+                      });
+            })
+        .thenCompose(Function.identity());
+  }
+
+  private Table tableFromResponse(
+      SessionContext context,
+      TableIdentifier finalIdentifier,
+      MetadataTableType metadataType,
+      LoadTableResponse response) {
     AuthSession session = tableSession(response.config(), session(context));
     TableMetadata tableMetadata;
 
@@ -401,7 +560,9 @@ public class RESTSessionCatalog extends BaseSessionCatalog
   }
 
   @Override
-  public void invalidateTable(SessionContext context, TableIdentifier ident) {}
+  public void invalidateTable(SessionContext context, TableIdentifier ident) {
+    invalidateCachedTable(ident);
+  }
 
   @Override
   public Table registerTable(
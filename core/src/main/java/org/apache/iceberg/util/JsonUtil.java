@@ -20,6 +20,8 @@ package org.apache.iceberg.util;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -143,6 +145,53 @@ public class JsonUtil {
     return pNode.asLong();
   }
 
+  /**
+   * Returns the long value at the current token of a streaming parser.
+   *
+   * @param property the name of the field whose value the parser is positioned at
+   * @param parser a parser positioned at the field's value
+   */
+  public static long getLong(String property, JsonParser parser) throws IOException {
+    Preconditions.checkArgument(
+        parser.currentToken() == JsonToken.VALUE_NUMBER_INT
+            && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER,
+        "Cannot parse to a long value: %s: %s",
+        property,
+        parser.getText());
+    return parser.getLongValue();
+  }
+
+  /**
+   * Returns the int value at the current token of a streaming parser.
+   *
+   * @param property the name of the field whose value the parser is positioned at
+   * @param parser a parser positioned at the field's value
+   */
+  public static int getInt(String property, JsonParser parser) throws IOException {
+    Preconditions.checkArgument(
+        parser.currentToken() == JsonToken.VALUE_NUMBER_INT
+            && parser.getNumberType() == JsonParser.NumberType.INT,
+        "Cannot parse to an integer value: %s: %s",
+        property,
+        parser.getText());
+    return parser.getIntValue();
+  }
+
+  /**
+   * Returns the string value at the current token of a streaming parser.
+   *
+   * @param property the name of the field whose value the parser is positioned at
+   * @param parser a parser positioned at the field's value
+   */
+  public static String getString(String property, JsonParser parser) throws IOException {
+    Preconditions.checkArgument(
+        parser.currentToken() == JsonToken.VALUE_STRING,
+        "Cannot parse to a string value: %s: %s",
+        property,
+        parser.getText());
+    return parser.getText();
+  }
+
   public static boolean getBool(String property, JsonNode node) {
     Preconditions.checkArgument(node.has(property), "Cannot parse missing boolean: %s", property);
     JsonNode pNode = node.get(property);
@@ -20,63 +20,115 @@ package org.apache.iceberg.util;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.DefaultCounter;
+import org.apache.iceberg.metrics.Timer;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 
+/**
+ * An iterable that reads a collection of iterables in parallel using a worker pool.
+ *
+ * <p>Results are buffered in a queue until they are consumed. When the queue is bounded, producer
+ * tasks that find the queue full stop and are resubmitted once the consumer has caught up. Tasks
+ * never block a worker thread while waiting for the consumer, so a bounded queue is safe to use
+ * with a shared worker pool.
+ */
 public class ParallelIterable<T> extends CloseableGroup implements CloseableIterable<T> {
   private final Iterable<? extends Iterable<T>> iterables;
   private final ExecutorService workerPool;
+  private final int maxQueueSize;
+  private final Counter queueDepth;
+  private final Timer producerStallDuration;
 
   public ParallelIterable(Iterable<? extends Iterable<T>> iterables, ExecutorService workerPool) {
+    this(iterables, workerPool, Integer.MAX_VALUE);
+  }
+
+  public ParallelIterable(
+      Iterable<? extends Iterable<T>> iterables, ExecutorService workerPool, int maxQueueSize) {
+    this(iterables, workerPool, maxQueueSize, DefaultCounter.NOOP, Timer.NOOP);
+  }
+
+  /**
+   * Creates a parallel iterable with a bounded queue.
+   *
+   * @param iterables iterables to read in parallel
+   * @param workerPool a worker pool used to read the iterables
+   * @param maxQueueSize the approximate number of results to buffer before producers are paused
+   * @param queueDepth a counter that tracks the highest number of buffered results
+   * @param producerStallDuration a timer that records how long producers are paused
+   */
+  public ParallelIterable(
+      Iterable<? extends Iterable<T>> iterables,
+      ExecutorService workerPool,
+      int maxQueueSize,
+      Counter queueDepth,
+      Timer producerStallDuration) {
+    Preconditions.checkArgument(maxQueueSize > 0, "Invalid max queue size: %s", maxQueueSize);
+    Preconditions.checkArgument(queueDepth != null, "Invalid queue depth counter: null");
+    Preconditions.checkArgument(producerStallDuration != null, "Invalid stall timer: null");
     this.iterables = iterables;
     this.workerPool = workerPool;
+    this.maxQueueSize = maxQueueSize;
+    this.queueDepth = queueDepth;
+    this.producerStallDuration = producerStallDuration;
   }
 
   @Override
   public CloseableIterator<T> iterator() {
-    ParallelIterator<T> iter = new ParallelIterator<>(iterables, workerPool);
+    ParallelIterator<T> iter =
+        new ParallelIterator<>(
+            iterables, workerPool, maxQueueSize, queueDepth, producerStallDuration);
     addCloseable(iter);
     return iter;
   }
 
   private static class ParallelIterator<T> implements CloseableIterator<T> {
-    private final Iterator<Runnable> tasks;
+    private final Iterator<Task<T>> tasks;
+    private final Deque<Task<T>> yieldedTasks = new ArrayDeque<>();
     private final ExecutorService workerPool;
-    private final Future<?>[] taskFutures;
+    private final Future<Optional<Task<T>>>[] taskFutures;
     private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger(0);
+    private final AtomicInteger maxSeenQueueSize = new AtomicInteger(0);
+    private final int maxQueueSize;
+    private final Counter queueDepth;
     private volatile boolean closed = false;
 
+    @SuppressWarnings("unchecked")
     private ParallelIterator(
-        Iterable<? extends Iterable<T>> iterables, ExecutorService workerPool) {
+        Iterable<? extends Iterable<T>> iterables,
+        ExecutorService workerPool,
+        int maxQueueSize,
+        Counter queueDepth,
+        Timer producerStallDuration) {
       this.tasks =
           Iterables.transform(
-                  iterables,
-                  iterable ->
-                      (Runnable)
-                          () -> {
-                            try (Closeable ignored =
-                                (iterable instanceof Closeable) ? (Closeable) iterable : () -> {}) {
-                              for (T item : iterable) {
-                                queue.add(item);
-                              }
-                            } catch (IOException e) {
-                              throw new RuntimeIOException(e, "Failed to close iterable");
-                            }
-                          })
+                  iterables, iterable -> new Task<>(iterable, this, producerStallDuration))
               .iterator();
       this.workerPool = workerPool;
+      this.maxQueueSize = maxQueueSize;
+      this.queueDepth = queueDepth;
       // submit 2 tasks per worker at a time
-      this.taskFutures = new Future[2 * ThreadPools.WORKER_THREAD_POOL_SIZE];
+      this.taskFutures =
+          (Future<Optional<Task<T>>>[]) new Future<?>[2 * ThreadPools.WORKER_THREAD_POOL_SIZE];
     }
 
     @Override
@@ -84,14 +136,27 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
       // close first, avoid new task submit
       this.closed = true;
 
-      // cancel background tasks
-      for (Future<?> taskFuture : taskFutures) {
-        if (taskFuture != null && !taskFuture.isDone()) {
-          taskFuture.cancel(true);
+      // cancel background tasks and close the iterables of tasks that paused before they finished
+      for (Future<Optional<Task<T>>> taskFuture : taskFutures) {
+        if (taskFuture != null) {
+          if (!taskFuture.isDone()) {
+            taskFuture.cancel(true);
+          } else if (!taskFuture.isCancelled()) {
+            closeTaskQuietly(taskFuture);
+          }
+        }
+      }
+
+      // close the iterables of paused tasks
+      synchronized (this) {
+        while (!yieldedTasks.isEmpty()) {
+          yieldedTasks.poll().closeQuietly();
         }
       }
+
       // clean queue
       this.queue.clear();
+      this.queueSize.set(0);
     }
 
     /**
@@ -107,19 +172,8 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
       for (int i = 0; i < taskFutures.length; i += 1) {
         if (taskFutures[i] == null || taskFutures[i].isDone()) {
           if (taskFutures[i] != null) {
-            // check for task failure and re-throw any exception
-            try {
-              taskFutures[i].get();
-            } catch (ExecutionException e) {
-              if (e.getCause() instanceof RuntimeException) {
-                // rethrow a runtime exception
-                throw (RuntimeException) e.getCause();
-              } else {
-                throw new RuntimeException("Failed while running parallel task", e.getCause());
-              }
-            } catch (InterruptedException e) {
-              throw new RuntimeException("Interrupted while running parallel task", e);
-            }
+            // check for task failure and re-throw any exception; keep tasks that paused
+            taskResult(taskFutures[i]).ifPresent(yieldedTasks::addLast);
           }
 
           taskFutures[i] = submitNextTask();
@@ -130,16 +184,70 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
         }
       }
 
-      return !closed && (tasks.hasNext() || hasRunningTask);
+      return !closed && (tasks.hasNext() || hasRunningTask || !yieldedTasks.isEmpty());
+    }
+
+    private static <T> void closeTaskQuietly(Future<Optional<Task<T>>> taskFuture) {
+      try {
+        taskResult(taskFuture).ifPresent(Task::closeQuietly);
+      } catch (RuntimeException e) {
+        // the task failed and already closed its iterable
+      }
+    }
+
+    private static <T> Optional<Task<T>> taskResult(Future<Optional<Task<T>>> taskFuture) {
+      try {
+        return taskFuture.get();
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          // rethrow a runtime exception
+          throw (RuntimeException) e.getCause();
+        } else {
+          throw new RuntimeException("Failed while running parallel task", e.getCause());
+        }
+      } catch (InterruptedException e) {
+        throw new RuntimeException("Interrupted while running parallel task", e);
+      }
     }
 
-    private Future<?> submitNextTask() {
-      if (!closed && tasks.hasNext()) {
+    private Future<Optional<Task<T>>> submitNextTask() {
+      if (closed || isQueueFull()) {
+        return null;
+      }
+
+      // resume paused tasks first to keep the number of open iterables low
+      if (!yieldedTasks.isEmpty()) {
+        return workerPool.submit(yieldedTasks.pollFirst());
+      } else if (tasks.hasNext()) {
         return workerPool.submit(tasks.next());
       }
+
       return null;
     }
 
+    private boolean isQueueFull() {
+      return queueSize.get() >= maxQueueSize;
+    }
+
+    private boolean isClosed() {
+      return closed;
+    }
+
+    private void add(T item) {
+      queue.add(item);
+      int size = queueSize.incrementAndGet();
+      int maxSeen = maxSeenQueueSize.get();
+      while (size > maxSeen) {
+        if (maxSeenQueueSize.compareAndSet(maxSeen, size)) {
+          // the counter tracks the highest queue depth
+          queueDepth.increment(size - maxSeen);
+          break;
+        }
+
+        maxSeen = maxSeenQueueSize.get();
+      }
+    }
+
     @Override
     public synchronized boolean hasNext() {
       Preconditions.checkState(!closed, "Already closed");
@@ -183,7 +291,82 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
       if (!hasNext()) {
         throw new NoSuchElementException();
       }
+
+      queueSize.decrementAndGet();
       return queue.poll();
     }
   }
+
+  /**
+   * Reads an iterable into the queue of a {@link ParallelIterator}.
+   *
+   * <p>When the queue is full, the task stops and returns itself so that it can be resumed later
+   * without holding a worker thread.
+   */
+  private static class Task<T> implements Callable<Optional<Task<T>>>, Closeable {
+    private final Iterable<T> input;
+    private final ParallelIterator<T> output;
+    private final Timer stallDuration;
+    private Iterator<T> iterator = null;
+    private long pausedAtNanos = -1L;
+
+    private Task(Iterable<T> input, ParallelIterator<T> output, Timer stallDuration) {
+      this.input = input;
+      this.output = output;
+      this.stallDuration = stallDuration;
+    }
+
+    @Override
+    public Optional<Task<T>> call() {
+      try {
+        if (iterator == null) {
+          this.iterator = input.iterator();
+        } else if (pausedAtNanos >= 0) {
+          stallDuration.record(System.nanoTime() - pausedAtNanos, TimeUnit.NANOSECONDS);
+          this.pausedAtNanos = -1L;
+        }
+
+        while (iterator.hasNext()) {
+          if (output.isClosed()) {
+            break;
+          }
+
+          if (output.isQueueFull()) {
+            // pause and give the worker thread back until the consumer catches up
+            this.pausedAtNanos = System.nanoTime();
+            return Optional.of(this);
+          }
+
+          output.add(iterator.next());
+        }
+      } catch (RuntimeException e) {
+        closeQuietly();
+        throw e;
+      }
+
+      close();
+      return Optional.empty();
+    }
+
+    @Override
+    public void close() {
+      try {
+        if (input instanceof Closeable) {
+          ((Closeable) input).close();
+        }
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to close iterable");
+      } finally {
+        this.iterator = null;
+      }
+    }
+
+    private void closeQuietly() {
+      try {
+        close();
+      } catch (RuntimeException e) {
+        // ignore failures to close when the task already failed or was abandoned
+      }
+    }
+  }
 }
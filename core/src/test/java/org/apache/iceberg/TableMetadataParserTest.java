@@ -76,6 +76,56 @@ public class TableMetadataParserTest {
     verifyMetadata(metadata, actualMetadata);
   }
 
+  @Test
+  public void testLazySnapshots() throws Exception {
+    Codec codec = Codec.fromName(codecName);
+    String fileName = "v3" + getFileExtension(codec);
+    Map<String, String> properties = Maps.newHashMap();
+    properties.put(TableProperties.METADATA_COMPRESSION, codecName);
+    properties.put(TableProperties.FORMAT_VERSION, "2");
+    TableMetadata base =
+        newTableMetadata(SCHEMA, unpartitioned(), "file://tmp/db/table", properties);
+
+    TableMetadata.Builder builder = TableMetadata.buildFrom(base);
+    Long parentId = null;
+    for (long snapshotId = 1; snapshotId <= 5; snapshotId += 1) {
+      builder.setBranchSnapshot(
+          new BaseSnapshot(
+              snapshotId,
+              snapshotId,
+              parentId,
+              System.currentTimeMillis(),
+              DataOperations.APPEND,
+              null,
+              base.currentSchemaId(),
+              "file:/tmp/snap-" + snapshotId + ".avro"),
+          SnapshotRef.MAIN_BRANCH);
+      parentId = snapshotId;
+    }
+
+    TableMetadata metadata =
+        builder.setRef("tag", SnapshotRef.tagBuilder(2L).build()).discardChanges().build();
+    TableMetadataParser.write(metadata, Files.localOutput(fileName));
+
+    TableMetadata lazy =
+        TableMetadataParser.read((FileIO) null, Files.localInput(new File(fileName)));
+    Assert.assertEquals(5L, lazy.currentSnapshot().snapshotId());
+    Assert.assertEquals(2L, lazy.ref("tag").snapshotId());
+    Assert.assertNull("Should not find a missing snapshot", lazy.snapshot(6L));
+
+    Snapshot parent = lazy.snapshot(4L);
+    Assert.assertEquals("Should decode a single snapshot", 4L, parent.snapshotId());
+    Assert.assertEquals(Long.valueOf(3L), parent.parentId());
+    Assert.assertSame("Should reuse decoded snapshots", parent, lazy.snapshots().get(3));
+
+    TableMetadata deserialized =
+        TestHelpers.roundTripSerialize(
+            TableMetadataParser.read((FileIO) null, Files.localInput(new File(fileName))));
+    Assert.assertEquals(3L, deserialized.snapshot(3L).snapshotId());
+    Assert.assertEquals(
+        TableMetadataParser.toJson(metadata), TableMetadataParser.toJson(deserialized));
+  }
+
   @After
   public void cleanup() throws IOException {
     Codec codec = Codec.fromName(codecName);
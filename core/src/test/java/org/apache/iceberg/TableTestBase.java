@@ -42,6 +42,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.relocated.com.google.common.io.Files;
 import org.apache.iceberg.types.Conversions;
 import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.ThreadPools;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -601,6 +602,38 @@ public class TableTestBase {
         .build();
   }
 
+  /** Adds files to an append, spread across the 16 buckets of the data column. */
+  protected void appendManyFiles(AppendFiles append, int numFiles) {
+    for (int i = 0; i < numFiles; i += 1) {
+      append.appendFile(newDataFile("data_bucket=" + (i % 16)));
+    }
+  }
+
+  /** Validates that files added by {@link #appendManyFiles} were written in parallel groups. */
+  protected void validateParallelManifestGroups(int numFiles) {
+    List<ManifestFile> manifests = table.currentSnapshot().allManifests(table.io());
+    Assert.assertEquals(
+        "Should write a manifest per group of files",
+        Math.min(2, ThreadPools.WORKER_THREAD_POOL_SIZE),
+        manifests.size());
+    Assert.assertEquals(
+        "Should add all files",
+        numFiles,
+        manifests.stream().mapToInt(ManifestFile::addedFilesCount).sum());
+
+    if (manifests.size() > 1) {
+      // files are clustered by partition so the manifests cover disjoint partition ranges
+      Integer firstUpper =
+          Conversions.fromByteBuffer(
+              Types.IntegerType.get(), manifests.get(0).partitions().get(0).upperBound());
+      Integer secondLower =
+          Conversions.fromByteBuffer(
+              Types.IntegerType.get(), manifests.get(1).partitions().get(0).lowerBound());
+      Assert.assertEquals("First manifest should end at bucket 7", 7, (int) firstUpper);
+      Assert.assertEquals("Second manifest should start at bucket 8", 8, (int) secondLower);
+    }
+  }
+
   protected DeleteFile newDeleteFile(int specId, String partitionPath) {
     PartitionSpec spec = table.specs().get(specId);
     return FileMetadata.deleteFileBuilder(spec)
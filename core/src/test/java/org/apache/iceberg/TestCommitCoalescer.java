@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.assertj.core.api.Assertions;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.mockito.Mockito;
+
+@RunWith(Parameterized.class)
+public class TestCommitCoalescer extends TableTestBase {
+  @Parameterized.Parameters(name = "formatVersion = {0}")
+  public static Object[] parameters() {
+    return new Object[] {1, 2};
+  }
+
+  public TestCommitCoalescer(int formatVersion) {
+    super(formatVersion);
+  }
+
+  @Test
+  public void testCoalesceAppends() throws Exception {
+    List<DataFile> files = Lists.newArrayList();
+    List<CompletableFuture<Long>> futures = Lists.newArrayList();
+    CommitCoalescer coalescer =
+        CommitCoalescer.builderFor(table).maxWait(10, TimeUnit.SECONDS).maxBatchSize(5).build();
+    try {
+      for (int i = 0; i < 10; i += 1) {
+        DataFile file = newDataFile("data_bucket=" + (i % 16));
+        files.add(file);
+        futures.add(coalescer.append(ImmutableList.of(file)));
+      }
+
+      for (CompletableFuture<Long> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      coalescer.close();
+    }
+
+    Set<Long> snapshotIds = Sets.newHashSet();
+    table.snapshots().forEach(snapshot -> snapshotIds.add(snapshot.snapshotId()));
+    Assertions.assertThat(snapshotIds).hasSize(2);
+
+    // the first and second half of the requests are committed together
+    Assertions.assertThat(futures.get(0).get()).isEqualTo(futures.get(4).get());
+    Assertions.assertThat(futures.get(5).get()).isEqualTo(futures.get(9).get());
+    Assertions.assertThat(futures.get(9).get()).isEqualTo(table.currentSnapshot().snapshotId());
+    Assertions.assertThat(futures.stream().map(CompletableFuture::join).collect(Collectors.toSet()))
+        .isEqualTo(snapshotIds);
+
+    validateTableFiles(table, files.toArray(new DataFile[0]));
+
+    Assertions.assertThat(coalescer.commits().value()).isEqualTo(2L);
+    Assertions.assertThat(coalescer.batchSize().count()).isEqualTo(2);
+    Assertions.assertThat(coalescer.batchSize().statistics().max()).isEqualTo(5L);
+    Assertions.assertThat(coalescer.waitDuration().count()).isEqualTo(10L);
+  }
+
+  @Test
+  public void testCommitPendingRequestsOnClose() throws Exception {
+    CommitCoalescer coalescer =
+        CommitCoalescer.builderFor(table).maxWait(1, TimeUnit.HOURS).build();
+    CompletableFuture<Long> first = coalescer.append(ImmutableList.of(FILE_A));
+    CompletableFuture<Long> second = coalescer.append(ImmutableList.of(FILE_B));
+    coalescer.close();
+
+    Assertions.assertThat(first.get(30, TimeUnit.SECONDS))
+        .isEqualTo(table.currentSnapshot().snapshotId());
+    Assertions.assertThat(second.get(30, TimeUnit.SECONDS))
+        .isEqualTo(table.currentSnapshot().snapshotId());
+    validateTableFiles(table, FILE_A, FILE_B);
+  }
+
+  @Test
+  public void testCoalesceRowDeltas() throws Exception {
+    Assume.assumeTrue("Delete files are only supported in v2", formatVersion > 1);
+
+    CommitCoalescer coalescer =
+        CommitCoalescer.builderFor(table).maxWait(10, TimeUnit.SECONDS).maxBatchSize(2).build();
+    CompletableFuture<Long> append;
+    CompletableFuture<Long> rowDelta;
+    try {
+      append = coalescer.append(ImmutableList.of(FILE_A));
+      rowDelta = coalescer.rowDelta(ImmutableList.of(FILE_B), ImmutableList.of(FILE_A_DELETES));
+      rowDelta.get(30, TimeUnit.SECONDS);
+    } finally {
+      coalescer.close();
+    }
+
+    Snapshot snapshot = table.currentSnapshot();
+    Assertions.assertThat(append.get()).isEqualTo(snapshot.snapshotId());
+    Assertions.assertThat(rowDelta.get()).isEqualTo(snapshot.snapshotId());
+    Assertions.assertThat(snapshot.operation()).isEqualTo(DataOperations.OVERWRITE);
+    validateTableFiles(table, FILE_A, FILE_B);
+    Assertions.assertThat(snapshot.addedDeleteFiles(table.io()))
+        .extracting(DeleteFile::path)
+        .containsExactly(FILE_A_DELETES.path());
+  }
+
+  @Test
+  public void testFailedCommit() {
+    table.ops().failCommits(5);
+
+    CommitCoalescer coalescer = CommitCoalescer.builderFor(table).maxBatchSize(2).build();
+    CompletableFuture<Long> first;
+    CompletableFuture<Long> second;
+    try {
+      first = coalescer.append(ImmutableList.of(FILE_A));
+      second = coalescer.append(ImmutableList.of(FILE_B));
+    } finally {
+      coalescer.close();
+    }
+
+    for (CompletableFuture<Long> future : ImmutableList.of(first, second)) {
+      Assertions.assertThatThrownBy(() -> future.get(30, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(CommitFailedException.class);
+    }
+
+    Assertions.assertThat(table.currentSnapshot()).isNull();
+  }
+
+  @Test
+  public void testUnsupportedUpdateIsNotCommitted() {
+    AppendFiles append = Mockito.mock(AppendFiles.class);
+    Table spyTable = Mockito.spy(table);
+    Mockito.doReturn(append).when(spyTable).newFastAppend();
+
+    CommitCoalescer coalescer = CommitCoalescer.builderFor(spyTable).build();
+    CompletableFuture<Long> future;
+    try {
+      future = coalescer.append(ImmutableList.of(FILE_A));
+    } finally {
+      coalescer.close();
+    }
+
+    Assertions.assertThatThrownBy(() -> future.get(30, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .cause()
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageStartingWith("Cannot determine the committed snapshot of");
+    Mockito.verify(append, Mockito.never()).commit();
+  }
+
+  @Test
+  public void testInvalidRequests() {
+    CommitCoalescer coalescer = CommitCoalescer.builderFor(table).build();
+    Assertions.assertThatThrownBy(() -> coalescer.append(ImmutableList.of()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot commit an empty set of files");
+
+    coalescer.close();
+
+    Assertions.assertThatThrownBy(() -> coalescer.append(ImmutableList.of(FILE_A)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Cannot submit files to a commit coalescer that has been closed");
+    Assertions.assertThatThrownBy(coalescer::close)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Cannot close already closed commit coalescer");
+  }
+}
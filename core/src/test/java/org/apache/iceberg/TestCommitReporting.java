@@ -22,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
 import org.apache.iceberg.TestScanPlanningAndReporting.TestMetricsReporter;
+import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.metrics.CommitMetricsResult;
 import org.apache.iceberg.metrics.CommitReport;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
@@ -187,4 +188,32 @@ public class TestCommitReporting extends TableTestBase {
     assertThat(metrics.addedRecords().value()).isEqualTo(1L);
     assertThat(metrics.addedFilesSizeInBytes().value()).isEqualTo(10L);
   }
+
+  @Test
+  public void validateIncrementallyOnRetry() {
+    String tableName = "validate-incrementally-on-retry";
+    TestTables.TestTable table =
+        TestTables.create(
+            tableDir, tableName, SCHEMA, SPEC, SortOrder.unsorted(), formatVersion, reporter);
+    table.newAppend().appendFile(FILE_A).commit();
+    long startingSnapshotId = table.currentSnapshot().snapshotId();
+    table.newAppend().appendFile(FILE_B).commit();
+    table.newAppend().appendFile(FILE_C).commit();
+
+    table.ops().failCommits(2);
+    table
+        .newRowDelta()
+        .addDeletes(FILE_A_DELETES)
+        .validateFromSnapshot(startingSnapshotId)
+        .conflictDetectionFilter(Expressions.alwaysFalse())
+        .validateNoConflictingDataFiles()
+        .commit();
+
+    CommitMetricsResult metrics = reporter.lastCommitReport().commitMetrics();
+    assertThat(metrics.attempts().value()).isEqualTo(3L);
+    assertThat(metrics.attemptDuration().count()).isEqualTo(3L);
+    assertThat(metrics.validationDuration().count()).isEqualTo(3L);
+    // the history since the starting snapshot is validated only by the first attempt
+    assertThat(metrics.validatedSnapshots().value()).isEqualTo(2L);
+  }
 }
@@ -412,6 +412,38 @@ public class TestDeleteFiles extends TableTestBase {
         afterDeletePartitions);
   }
 
+  @Test
+  public void testDeleteByPathSkipsIndexedManifests() {
+    table.newFastAppend().appendFile(FILE_A).commit();
+    table.newFastAppend().appendFile(FILE_B).commit();
+
+    // scanning for a path that is not in the table indexes the paths of both manifests
+    table.newDelete().deleteFile("/path/to/missing.parquet").commit();
+
+    List<ManifestFile> manifests = table.currentSnapshot().allManifests(table.io());
+    Assert.assertEquals("Should have 2 manifests", 2, manifests.size());
+    ManifestFile manifestB =
+        Iterables.getOnlyElement(
+            manifests.stream()
+                .filter(manifest -> ManifestPathIndex.get(manifest) != null)
+                .filter(
+                    manifest ->
+                        !ManifestPathIndex.get(manifest)
+                            .mightContainAny(
+                                ManifestPathIndex.hash(ImmutableList.of(FILE_A.path()))))
+                .collect(Collectors.toList()));
+
+    // the manifest without FILE_A must not be opened to delete FILE_A by path
+    table.io().deleteFile(manifestB.path());
+    table.newDelete().deleteFile(FILE_A.path()).commit();
+
+    Snapshot snapshot = table.currentSnapshot();
+    Assert.assertEquals(
+        "Should delete FILE_A", "1", snapshot.summary().get(SnapshotSummary.DELETED_FILES_PROP));
+    Assert.assertTrue(
+        "Should keep the unopened manifest", snapshot.allManifests(table.io()).contains(manifestB));
+  }
+
   private static ByteBuffer longToBuffer(long value) {
     return ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, value);
   }
@@ -22,6 +22,8 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import org.apache.iceberg.ManifestEntry.Status;
 import org.apache.iceberg.exceptions.CommitFailedException;
@@ -568,4 +570,34 @@ public class TestFastAppend extends TableTestBase {
         .hasMessage(
             "some-tag is a tag, not a branch. Tags cannot be targets for producing snapshots");
   }
+
+  @Test
+  public void testAppendManyFilesWritesManifestsInParallel() {
+    int numFiles = 2 * SnapshotProducer.MIN_FILES_PER_MANIFEST_TASK;
+    AppendFiles append = table.newFastAppend();
+    appendManyFiles(append, numFiles);
+
+    append.commit();
+
+    validateParallelManifestGroups(numFiles);
+  }
+
+  @Test
+  public void testManifestGroupsFollowConfiguredWorkerPool() {
+    int numFiles = 2 * SnapshotProducer.MIN_FILES_PER_MANIFEST_TASK;
+    ExecutorService singleThreadPool = Executors.newFixedThreadPool(1);
+    try {
+      AppendFiles append = table.newFastAppend().scanManifestsWith(singleThreadPool);
+      appendManyFiles(append, numFiles);
+
+      append.commit();
+    } finally {
+      singleThreadPool.shutdown();
+    }
+
+    List<ManifestFile> manifests = table.currentSnapshot().allManifests(table.io());
+    Assert.assertEquals(
+        "Should write a single group with a single-threaded pool", 1, manifests.size());
+    Assert.assertEquals(numFiles, (int) manifests.get(0).addedFilesCount());
+  }
 }
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+
+public class TestManifestPathIndex {
+
+  @Test
+  public void testIndexedPathsMatch() {
+    ManifestPathIndex.Builder builder = ManifestPathIndex.builder();
+    List<CharSequence> paths = Lists.newArrayList();
+    for (int i = 0; i < 1000; i += 1) {
+      String path = "s3://bucket/table/data/file-" + i + ".parquet";
+      paths.add(path);
+      builder.add(path);
+    }
+
+    ManifestPathIndex index = builder.build();
+    for (CharSequence path : paths) {
+      assertThat(index.mightContainAny(ManifestPathIndex.hash(ImmutableList.of(path)))).isTrue();
+    }
+
+    // hashes depend only on the characters of a path, not its CharSequence implementation
+    CharSequence builderPath = new StringBuilder("s3://bucket/table/data/file-7.parquet");
+    assertThat(index.mightContainAny(ManifestPathIndex.hash(ImmutableList.of(builderPath))))
+        .isTrue();
+  }
+
+  @Test
+  public void testMissingPathsAreRejected() {
+    ManifestPathIndex.Builder builder = ManifestPathIndex.builder();
+    for (int i = 0; i < 1000; i += 1) {
+      builder.add("s3://bucket/table/data/file-" + i + ".parquet");
+    }
+
+    ManifestPathIndex index = builder.build();
+    int falsePositives = 0;
+    for (int i = 0; i < 1000; i += 1) {
+      long[] hashes =
+          ManifestPathIndex.hash(
+              ImmutableList.of("s3://bucket/table/data/other-" + i + ".parquet"));
+      if (index.mightContainAny(hashes)) {
+        falsePositives += 1;
+      }
+    }
+
+    assertThat(falsePositives).isLessThan(50);
+  }
+
+  @Test
+  public void testEmptyIndex() {
+    ManifestPathIndex index = ManifestPathIndex.builder().build();
+    assertThat(index.mightContainAny(ManifestPathIndex.hash(ImmutableList.of("file.parquet"))))
+        .isFalse();
+    assertThat(index.mightContainAny(new long[0])).isFalse();
+  }
+}
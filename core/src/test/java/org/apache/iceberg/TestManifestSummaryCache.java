@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.ScanMetrics;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestManifestSummaryCache extends TableTestBase {
+  @Parameterized.Parameters(name = "formatVersion = {0}")
+  public static Object[] parameters() {
+    return new Object[] {1, 2};
+  }
+
+  public TestManifestSummaryCache(int formatVersion) {
+    super(formatVersion);
+  }
+
+  @Test
+  public void testSkipManifestsByPartition() {
+    table.newFastAppend().appendFile(FILE_A).commit();
+    long snapshotA = table.currentSnapshot().snapshotId();
+    table.newFastAppend().appendFile(FILE_B).commit();
+    ManifestFile manifestA = addedManifest(snapshotA);
+    ManifestFile manifestB = addedManifest(table.currentSnapshot().snapshotId());
+
+    ManifestSummaryCache cache = new ManifestSummaryCache(1024 * 1024);
+    ScanMetrics scanMetrics = ScanMetrics.of(new DefaultMetricsContext());
+    ManifestSummaryFilter filter =
+        newFilter(cache, Expressions.equal("data_bucket", 0), scanMetrics).ignoreDeleted();
+
+    assertThat(filter.mayMatch(manifestA, scanMetrics.skippedDataFiles())).isTrue();
+    assertThat(filter.mayMatch(manifestB, scanMetrics.skippedDataFiles())).isFalse();
+    assertThat(scanMetrics.skippedDataFiles().value()).isEqualTo(1L);
+    assertThat(scanMetrics.manifestSummaryCacheMisses().value()).isEqualTo(2L);
+    assertThat(scanMetrics.manifestSummaryCacheHits().value()).isEqualTo(0L);
+    assertThat(cache.estimatedSize()).isEqualTo(2L);
+
+    // a later scan uses the cached summaries
+    ScanMetrics nextScanMetrics = ScanMetrics.of(new DefaultMetricsContext());
+    ManifestSummaryFilter nextFilter =
+        newFilter(cache, Expressions.equal("data_bucket", 1), nextScanMetrics).ignoreDeleted();
+
+    assertThat(nextFilter.mayMatch(manifestA, nextScanMetrics.skippedDataFiles())).isFalse();
+    assertThat(nextFilter.mayMatch(manifestB, nextScanMetrics.skippedDataFiles())).isTrue();
+    assertThat(nextScanMetrics.manifestSummaryCacheMisses().value()).isEqualTo(0L);
+    assertThat(nextScanMetrics.manifestSummaryCacheHits().value()).isEqualTo(2L);
+  }
+
+  @Test
+  public void testDeletedEntriesAreIgnored() {
+    table.newFastAppend().appendFile(FILE_A).appendFile(FILE_B).commit();
+    table.newDelete().deleteFile(FILE_A).commit();
+    ManifestFile manifest = table.currentSnapshot().dataManifests(table.io()).get(0);
+
+    ManifestSummaryCache cache = new ManifestSummaryCache(1024 * 1024);
+    ScanMetrics scanMetrics = ScanMetrics.of(new DefaultMetricsContext());
+    Expression filterA = Expressions.equal("data_bucket", 0);
+
+    assertThat(
+            newFilter(cache, filterA, scanMetrics)
+                .mayMatch(manifest, ScanMetrics.noop().skippedDataFiles()))
+        .isTrue();
+    assertThat(
+            newFilter(cache, filterA, scanMetrics)
+                .ignoreDeleted()
+                .mayMatch(manifest, scanMetrics.skippedDataFiles()))
+        .isFalse();
+    assertThat(scanMetrics.skippedDataFiles().value()).isEqualTo(2L);
+  }
+
+  @Test
+  public void testSkipDeleteManifestsBySequenceNumber() {
+    Assume.assumeTrue("Delete files are only supported in v2", formatVersion > 1);
+
+    table.newFastAppend().appendFile(FILE_A).commit();
+    table.newRowDelta().addDeletes(FILE_A_DELETES).commit();
+    ManifestFile manifest = table.currentSnapshot().deleteManifests(table.io()).get(0);
+    long deleteSequenceNumber = table.currentSnapshot().sequenceNumber();
+
+    ManifestSummaryCache cache = new ManifestSummaryCache(1024 * 1024);
+    ScanMetrics scanMetrics = ScanMetrics.of(new DefaultMetricsContext());
+
+    assertThat(
+            newFilter(cache, Expressions.alwaysTrue(), scanMetrics)
+                .ignoreDeleted()
+                .afterSequenceNumber(deleteSequenceNumber - 1)
+                .mayMatch(manifest, scanMetrics.skippedDeleteFiles()))
+        .isTrue();
+    assertThat(
+            newFilter(cache, Expressions.alwaysTrue(), scanMetrics)
+                .ignoreDeleted()
+                .afterSequenceNumber(deleteSequenceNumber)
+                .mayMatch(manifest, scanMetrics.skippedDeleteFiles()))
+        .isFalse();
+    assertThat(scanMetrics.skippedDeleteFiles().value()).isEqualTo(1L);
+    assertThat(scanMetrics.manifestSummaryCacheHits().value()).isEqualTo(1L);
+  }
+
+  @Test
+  public void testEvictionsAreReported() {
+    table.newFastAppend().appendFile(FILE_A).commit();
+    ManifestFile manifest = table.currentSnapshot().dataManifests(table.io()).get(0);
+
+    // the cache is too small to hold any summary
+    ManifestSummaryCache cache = new ManifestSummaryCache(1);
+    ScanMetrics scanMetrics = ScanMetrics.of(new DefaultMetricsContext());
+    ManifestSummaryFilter filter =
+        newFilter(cache, Expressions.equal("data_bucket", 0), scanMetrics);
+
+    assertThat(filter.mayMatch(manifest, scanMetrics.skippedDataFiles())).isTrue();
+    assertThat(filter.mayMatch(manifest, scanMetrics.skippedDataFiles())).isTrue();
+    assertThat(scanMetrics.manifestSummaryCacheMisses().value()).isEqualTo(2L);
+    assertThat(scanMetrics.manifestSummaryCacheEvictions().value()).isEqualTo(2L);
+    assertThat(cache.estimatedSize()).isEqualTo(0L);
+  }
+
+  private ManifestSummaryFilter newFilter(
+      ManifestSummaryCache cache, Expression partitionFilter, ScanMetrics scanMetrics) {
+    return new ManifestSummaryFilter(
+        cache,
+        table.io(),
+        table.specs(),
+        partitionFilter,
+        Expressions.alwaysTrue(),
+        true,
+        scanMetrics);
+  }
+
+  private ManifestFile addedManifest(long snapshotId) {
+    return table.currentSnapshot().dataManifests(table.io()).stream()
+        .filter(manifest -> manifest.snapshotId() == snapshotId)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("Cannot find manifest for " + snapshotId));
+  }
+}
@@ -1433,4 +1433,15 @@ public class TestMergeAppend extends TableTestBase {
         table.currentSnapshot().summary().get(SnapshotSummary.CHANGED_PARTITION_COUNT_PROP);
     Assert.assertEquals("Should set changed partition count", "2", changedPartitions);
   }
+
+  @Test
+  public void testMergeAppendManyFilesWritesManifestsInParallel() {
+    int numFiles = 2 * SnapshotProducer.MIN_FILES_PER_MANIFEST_TASK;
+    AppendFiles append = table.newAppend();
+    appendManyFiles(append, numFiles);
+
+    append.commit();
+
+    validateParallelManifestGroups(numFiles);
+  }
 }
@@ -26,12 +26,14 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.apache.iceberg.ManifestEntry.Status;
 import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.SupportsBulkOperations;
 import org.apache.iceberg.puffin.Blob;
 import org.apache.iceberg.puffin.Puffin;
 import org.apache.iceberg.puffin.PuffinWriter;
@@ -40,6 +42,8 @@ import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
+import org.apache.iceberg.util.ThreadPools;
 import org.assertj.core.api.Assertions;
 import org.junit.Assert;
 import org.junit.Assume;
@@ -1588,6 +1592,123 @@ public class TestRemoveSnapshots extends TableTestBase {
     return snapshot.allManifests(io).stream().map(ManifestFile::path).collect(Collectors.toSet());
   }
 
+  @Test
+  public void testReachableCleanupSkipsManifestsInOtherPartitions() {
+    Assume.assumeFalse("Only the reachable cleanup prunes current manifests", incrementalCleanup);
+
+    table.newFastAppend().appendFile(FILE_A).commit();
+    Snapshot firstSnapshot = table.currentSnapshot();
+    ManifestFile manifestA = Iterables.getOnlyElement(firstSnapshot.allManifests(table.io()));
+
+    table.newFastAppend().appendFile(FILE_B).commit();
+    Snapshot secondSnapshot = table.currentSnapshot();
+    ManifestFile manifestB =
+        Iterables.getOnlyElement(
+            secondSnapshot.dataManifests(table.io()).stream()
+                .filter(manifest -> !manifest.equals(manifestA))
+                .collect(Collectors.toList()));
+
+    table.newDelete().deleteFile(FILE_A).commit();
+    Snapshot thirdSnapshot = table.currentSnapshot();
+    Assert.assertTrue(
+        "Should keep the manifest for FILE_B",
+        thirdSnapshot.allManifests(table.io()).contains(manifestB));
+
+    // the manifest for FILE_B is in a different partition than the deleted file and is not read
+    table.io().deleteFile(manifestB.path());
+
+    Set<String> deletedFiles = Sets.newHashSet();
+    removeSnapshots(table)
+        .expireSnapshotId(firstSnapshot.snapshotId())
+        .expireSnapshotId(secondSnapshot.snapshotId())
+        .deleteWith(deletedFiles::add)
+        .commit();
+
+    Assertions.assertThat(deletedFiles)
+        .containsExactlyInAnyOrder(
+            FILE_A.path().toString(),
+            manifestA.path(),
+            firstSnapshot.manifestListLocation(),
+            secondSnapshot.manifestListLocation());
+  }
+
+  @Test
+  public void testReachableCleanupKeepsLiveFilesFromMultiPartitionManifests() {
+    Assume.assumeFalse("Only the reachable cleanup prunes current manifests", incrementalCleanup);
+
+    // a single manifest with files in two partitions
+    table.newFastAppend().appendFile(FILE_A).appendFile(FILE_B).commit();
+    Snapshot firstSnapshot = table.currentSnapshot();
+
+    // split the manifest so that FILE_A stays live in a manifest for its partition only
+    table.rewriteManifests().clusterBy(file -> file.partition().get(0, Integer.class)).commit();
+    Snapshot secondSnapshot = table.currentSnapshot();
+
+    table.newDelete().deleteFile(FILE_B).commit();
+
+    Set<String> deletedFiles = Sets.newHashSet();
+    removeSnapshots(table)
+        .expireSnapshotId(firstSnapshot.snapshotId())
+        .expireSnapshotId(secondSnapshot.snapshotId())
+        .deleteWith(deletedFiles::add)
+        .commit();
+
+    Assertions.assertThat(deletedFiles)
+        .contains(FILE_B.path().toString())
+        .doesNotContain(FILE_A.path().toString());
+  }
+
+  @Test
+  public void testBulkDeleteWithoutDeleteFunc() {
+    table.newFastAppend().appendFile(FILE_A).commit();
+    Snapshot firstSnapshot = table.currentSnapshot();
+    table.newDelete().deleteFile(FILE_A).commit();
+    Snapshot secondSnapshot = table.currentSnapshot();
+    table.newFastAppend().appendFile(FILE_B).commit();
+
+    TableMetadata beforeExpiration = table.ops().current();
+    removeSnapshots(table)
+        .expireSnapshotId(firstSnapshot.snapshotId())
+        .expireSnapshotId(secondSnapshot.snapshotId())
+        .cleanExpiredFiles(false)
+        .commit();
+    TableMetadata afterExpiration = table.ops().current();
+
+    RecordingBulkFileIO bulkIO = new RecordingBulkFileIO();
+    ExecutorService deleteExecutor = MoreExecutors.newDirectExecutorService();
+    FileCleanupStrategy cleanup =
+        incrementalCleanup
+            ? new IncrementalFileCleanup(
+                bulkIO, deleteExecutor, ThreadPools.getWorkerPool(), null /* use bulk deletes */)
+            : new ReachableFileCleanup(
+                bulkIO, deleteExecutor, ThreadPools.getWorkerPool(), null /* use bulk deletes */);
+    cleanup.cleanFiles(beforeExpiration, afterExpiration);
+
+    Assertions.assertThat(bulkIO.deletedFiles)
+        .contains(
+            FILE_A.path().toString(),
+            firstSnapshot.manifestListLocation(),
+            secondSnapshot.manifestListLocation());
+    Assertions.assertThat(bulkIO.singleDeletes.get()).isZero();
+  }
+
+  private static class RecordingBulkFileIO extends TestTables.LocalFileIO
+      implements SupportsBulkOperations {
+    private final Set<String> deletedFiles = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger singleDeletes = new AtomicInteger(0);
+
+    @Override
+    public void deleteFile(String path) {
+      singleDeletes.incrementAndGet();
+      deletedFiles.add(path);
+    }
+
+    @Override
+    public void deleteFiles(Iterable<String> pathsToDelete) {
+      pathsToDelete.forEach(deletedFiles::add);
+    }
+  }
+
   private RemoveSnapshots removeSnapshots(Table table) {
     RemoveSnapshots removeSnapshots = (RemoveSnapshots) table.expireSnapshots();
     return (RemoveSnapshots) removeSnapshots.withIncrementalCleanup(incrementalCleanup);
@@ -31,6 +31,7 @@ import static org.apache.iceberg.TableMetadataParser.SNAPSHOTS;
 import static org.apache.iceberg.TestHelpers.assertSameSchemaList;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
@@ -626,6 +627,96 @@ public class TestTableMetadata {
         "Metadata logs should match", previousMetadataLog, metadataFromJson.previousFiles());
   }
 
+  @Test
+  public void testStreamingParserMatchesTreeParser() throws Exception {
+    long previousSnapshotId = System.currentTimeMillis() - new Random(1234).nextInt(3600);
+    Snapshot previousSnapshot =
+        new BaseSnapshot(
+            0,
+            previousSnapshotId,
+            null,
+            previousSnapshotId,
+            DataOperations.APPEND,
+            ImmutableMap.of("added-data-files", "1"),
+            null,
+            createManifestListWithManifestFile(
+                previousSnapshotId, null, "file:/tmp/manifest1.avro"));
+
+    long currentSnapshotId = System.currentTimeMillis();
+    Snapshot currentSnapshot =
+        new BaseSnapshot(
+            1,
+            currentSnapshotId,
+            previousSnapshotId,
+            currentSnapshotId,
+            DataOperations.OVERWRITE,
+            null,
+            7,
+            createManifestListWithManifestFile(
+                currentSnapshotId, previousSnapshotId, "file:/tmp/manifest2.avro"));
+
+    TableMetadata base =
+        new TableMetadata(
+            null,
+            2,
+            UUID.randomUUID().toString(),
+            TEST_LOCATION,
+            SEQ_NO,
+            System.currentTimeMillis(),
+            3,
+            7,
+            ImmutableList.of(TEST_SCHEMA),
+            5,
+            ImmutableList.of(SPEC_5),
+            SPEC_5.lastAssignedFieldId(),
+            3,
+            ImmutableList.of(SORT_ORDER_3),
+            ImmutableMap.of("property", "value"),
+            currentSnapshotId,
+            Arrays.asList(previousSnapshot, currentSnapshot),
+            null,
+            ImmutableList.of(
+                new SnapshotLogEntry(previousSnapshotId, previousSnapshotId),
+                new SnapshotLogEntry(currentSnapshotId, currentSnapshotId)),
+            ImmutableList.of(
+                new MetadataLogEntry(previousSnapshotId, "/tmp/000001.metadata.json"),
+                new MetadataLogEntry(currentSnapshotId, "/tmp/000002.metadata.json")),
+            ImmutableMap.of("main", SnapshotRef.branchBuilder(currentSnapshotId).build()),
+            ImmutableList.of(),
+            ImmutableList.of());
+
+    String asJson = TableMetadataParser.toJson(base);
+    TableMetadata fromTree =
+        JsonUtil.parse(asJson, node -> TableMetadataParser.fromJson("s3://bucket/m.json", node));
+    TableMetadata fromStream = TableMetadataParser.fromJson("s3://bucket/m.json", asJson);
+
+    Assert.assertEquals(
+        "Streaming parser should produce the same metadata",
+        TableMetadataParser.toJson(fromTree),
+        TableMetadataParser.toJson(fromStream));
+    Assert.assertEquals(
+        "Snapshot logs should match", fromTree.snapshotLog(), fromStream.snapshotLog());
+    Assert.assertEquals(
+        "Metadata logs should match", fromTree.previousFiles(), fromStream.previousFiles());
+    Assert.assertEquals(
+        "Metadata location should match", "s3://bucket/m.json", fromStream.metadataFileLocation());
+
+    // unknown fields are skipped and a null snapshot log is read as empty
+    ObjectNode node = (ObjectNode) JsonUtil.mapper().readTree(asJson);
+    node.set("unknown", JsonUtil.mapper().readTree("{\"nested\": [1, 2, 3]}"));
+    node.putNull(TableMetadataParser.SNAPSHOT_LOG);
+    TableMetadata withoutLog =
+        TableMetadataParser.fromJson(JsonUtil.mapper().writeValueAsString(node));
+    Assert.assertEquals("Snapshots should match", 2, withoutLog.snapshots().size());
+    Assert.assertTrue("Snapshot log should be empty", withoutLog.snapshotLog().isEmpty());
+
+    node.put(SNAPSHOTS, "not-an-array");
+    Assertions.assertThatThrownBy(
+            () -> TableMetadataParser.fromJson(JsonUtil.mapper().writeValueAsString(node)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Cannot parse snapshots from non-array");
+  }
+
   @Test
   public void testAddPreviousMetadataRemoveNone() throws IOException {
     long previousSnapshotId = System.currentTimeMillis() - new Random(1234).nextInt(3600);
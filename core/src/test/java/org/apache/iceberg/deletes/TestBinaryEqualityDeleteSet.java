@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+import org.apache.avro.util.Utf8;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.types.Types.NestedField;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestBinaryEqualityDeleteSet {
+  private static final Schema KEY_SCHEMA =
+      new Schema(
+          NestedField.required(1, "id", Types.LongType.get()),
+          NestedField.optional(2, "name", Types.StringType.get()),
+          NestedField.optional(3, "price", Types.DecimalType.of(9, 2)),
+          NestedField.optional(4, "payload", Types.BinaryType.get()),
+          NestedField.optional(5, "uuid", Types.UUIDType.get()),
+          NestedField.optional(6, "score", Types.DoubleType.get()));
+
+  private static final UUID UUID_VALUE = UUID.fromString("e2a0a1f4-19d2-4c6c-9f5e-8a3d3f1c0b7a");
+
+  @TempDir private File temp;
+
+  @Test
+  public void testAddAndContains() {
+    try (BinaryEqualityDeleteSet deleteSet =
+        new BinaryEqualityDeleteSet(KEY_SCHEMA.asStruct(), Long.MAX_VALUE, temp)) {
+      assertThat(deleteSet.add(key(1L, "a"))).isTrue();
+      assertThat(deleteSet.add(key(2L, "b"))).isTrue();
+      assertThat(deleteSet.add(key(1L, new Utf8("a")))).as("Should not add duplicates").isFalse();
+      assertThat(deleteSet.size()).isEqualTo(2);
+
+      assertThat(deleteSet.contains(key(1L, "a"))).isTrue();
+      assertThat(deleteSet.contains(key(2L, new Utf8("b")))).isTrue();
+      assertThat(deleteSet.contains(key(1L, "b"))).isFalse();
+      assertThat(deleteSet.contains(key(3L, "a"))).isFalse();
+      assertThat(deleteSet.spilledBytes()).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void testNullValues() {
+    try (BinaryEqualityDeleteSet deleteSet =
+        new BinaryEqualityDeleteSet(KEY_SCHEMA.asStruct(), Long.MAX_VALUE, temp)) {
+      deleteSet.add(Row.of(1L, null, null, null, null, null));
+      deleteSet.add(Row.of(2L, "", null, null, null, null));
+
+      assertThat(deleteSet.contains(Row.of(1L, null, null, null, null, null))).isTrue();
+      assertThat(deleteSet.contains(Row.of(1L, "", null, null, null, null)))
+          .as("Null should not match an empty string")
+          .isFalse();
+      assertThat(deleteSet.contains(Row.of(2L, "", null, null, null, null))).isTrue();
+      assertThat(deleteSet.contains(Row.of(2L, null, null, null, null, null))).isFalse();
+    }
+  }
+
+  @Test
+  public void testVariableLengthValues() {
+    try (BinaryEqualityDeleteSet deleteSet =
+        new BinaryEqualityDeleteSet(KEY_SCHEMA.asStruct(), Long.MAX_VALUE, temp)) {
+      deleteSet.add(
+          Row.of(
+              1L,
+              "ab",
+              new BigDecimal("12.34"),
+              ByteBuffer.wrap(new byte[] {1, 2, 3}),
+              UUID_VALUE,
+              1.5D));
+
+      assertThat(
+              deleteSet.contains(
+                  Row.of(
+                      1L,
+                      "ab",
+                      new BigDecimal("12.34"),
+                      ByteBuffer.wrap(new byte[] {1, 2, 3}),
+                      UUID_VALUE,
+                      1.5D)))
+          .isTrue();
+      assertThat(
+              deleteSet.contains(
+                  Row.of(
+                      1L,
+                      "a",
+                      new BigDecimal("12.34"),
+                      ByteBuffer.wrap(new byte[] {1, 2, 3}),
+                      UUID_VALUE,
+                      1.5D)))
+          .isFalse();
+      assertThat(
+              deleteSet.contains(
+                  Row.of(
+                      1L,
+                      "ab",
+                      new BigDecimal("12.35"),
+                      ByteBuffer.wrap(new byte[] {1, 2, 3}),
+                      UUID_VALUE,
+                      1.5D)))
+          .isFalse();
+      assertThat(
+              deleteSet.contains(
+                  Row.of(
+                      1L,
+                      "ab",
+                      new BigDecimal("12.34"),
+                      ByteBuffer.wrap(new byte[] {1, 2}),
+                      UUID_VALUE,
+                      1.5D)))
+          .isFalse();
+      assertThat(
+              deleteSet.contains(
+                  Row.of(
+                      1L,
+                      "ab",
+                      new BigDecimal("12.34"),
+                      ByteBuffer.wrap(new byte[] {1, 2, 3}),
+                      UUID_VALUE,
+                      -1.5D)))
+          .isFalse();
+    }
+  }
+
+  @Test
+  public void testSpillToDisk() {
+    int numKeys = 100_000;
+    List<StructLike> keys = Lists.newArrayList();
+    for (long i = 0; i < numKeys; i += 2) {
+      keys.add(key(i, "name-" + i));
+    }
+
+    BinaryEqualityDeleteSet deleteSet =
+        Deletes.toBinaryEqualitySet(
+            CloseableIterable.withNoopClose(keys), KEY_SCHEMA.asStruct(), 0L, temp);
+
+    assertThat(deleteSet.size()).isEqualTo(numKeys / 2);
+    assertThat(deleteSet.spilledBytes()).isGreaterThan(0);
+    assertThat(temp.listFiles()).as("Spill file should be removed when closed").isEmpty();
+
+    for (long i = 0; i < numKeys; i += 1) {
+      assertThat(deleteSet.contains(key(i, "name-" + i))).isEqualTo(i % 2 == 0);
+    }
+  }
+
+  @Test
+  public void testSharedPagePool() {
+    DirectPagePool pagePool = new DirectPagePool(2L * DirectPagePool.PAGE_SIZE);
+    List<StructLike> keys = Lists.newArrayList();
+    for (long i = 0; i < 100_000; i += 1) {
+      keys.add(key(i, "name-" + i));
+    }
+
+    BinaryEqualityDeleteSet first =
+        new BinaryEqualityDeleteSet(KEY_SCHEMA.asStruct(), Long.MAX_VALUE, temp, pagePool);
+    BinaryEqualityDeleteSet second =
+        new BinaryEqualityDeleteSet(KEY_SCHEMA.asStruct(), Long.MAX_VALUE, temp, pagePool);
+    keys.forEach(first::add);
+    keys.forEach(second::add);
+    first.close();
+    second.close();
+
+    assertThat(pagePool.leasedBytes()).isEqualTo(2L * DirectPagePool.PAGE_SIZE);
+    assertThat(first.spilledBytes() + second.spilledBytes())
+        .as("Sets should spill once the shared pool is used")
+        .isGreaterThan(0);
+    for (StructLike key : keys) {
+      assertThat(first.contains(key)).isTrue();
+      assertThat(second.contains(key)).isTrue();
+    }
+
+    first.release();
+    second.release();
+    assertThat(pagePool.leasedBytes()).isEqualTo(0);
+    assertThatThrownBy(() -> first.contains(keys.get(0)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Cannot read keys from a released set");
+
+    try (BinaryEqualityDeleteSet third =
+        new BinaryEqualityDeleteSet(KEY_SCHEMA.asStruct(), Long.MAX_VALUE, temp, pagePool)) {
+      keys.forEach(third::add);
+      assertThat(pagePool.leasedBytes()).isEqualTo(2L * DirectPagePool.PAGE_SIZE);
+      assertThat(third.contains(keys.get(0))).isTrue();
+      assertThat(third.contains(key(-1L, "missing"))).isFalse();
+      third.release();
+    }
+
+    assertThat(pagePool.leasedBytes()).isEqualTo(0);
+  }
+
+  @Test
+  public void testUnsupportedType() {
+    Types.StructType keyType =
+        Types.StructType.of(
+            NestedField.required(
+                1,
+                "struct",
+                Types.StructType.of(NestedField.required(2, "x", Types.IntegerType.get()))));
+
+    assertThatThrownBy(() -> new BinaryEqualityDeleteSet(keyType, Long.MAX_VALUE, temp))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Cannot use non-primitive equality delete field");
+  }
+
+  private static StructLike key(long id, CharSequence name) {
+    return Row.of(id, name, null, null, null, null);
+  }
+}
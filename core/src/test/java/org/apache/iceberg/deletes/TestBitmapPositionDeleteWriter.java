@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileContent;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.puffin.BlobMetadata;
+import org.apache.iceberg.puffin.Puffin;
+import org.apache.iceberg.puffin.PuffinReader;
+import org.apache.iceberg.puffin.StandardBlobTypes;
+import org.apache.iceberg.puffin.StandardPuffinProperties;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestBitmapPositionDeleteWriter {
+  @TempDir private File temp;
+
+  @Test
+  public void testSerializationRoundTrip() {
+    BitmapPositionDeleteIndex index = new BitmapPositionDeleteIndex();
+    index.delete(0L);
+    index.delete(10L, 20L);
+    index.delete(1L << 33);
+
+    BitmapPositionDeleteIndex copy = BitmapPositionDeleteIndex.deserialize(index.serialize());
+
+    assertThat(copy.cardinality()).isEqualTo(12L);
+    assertThat(copy.isDeleted(0L)).isTrue();
+    assertThat(copy.isDeleted(15L)).isTrue();
+    assertThat(copy.isDeleted(20L)).isFalse();
+    assertThat(copy.isDeleted(1L << 33)).isTrue();
+    assertThat(copy.isDeleted((1L << 33) + 1)).isFalse();
+  }
+
+  @Test
+  public void testWriteAndReadIndexes() throws IOException {
+    File file = new File(temp, "deletes.puffin");
+    BitmapPositionDeleteWriter<Void> writer =
+        new BitmapPositionDeleteWriter<>(
+            Files.localOutput(file), PartitionSpec.unpartitioned(), null, null);
+    PositionDelete<Void> delete = PositionDelete.create();
+    try (BitmapPositionDeleteWriter<Void> closeable = writer) {
+      // deletes do not need to be ordered by file or position
+      closeable.write(delete.set("file_b.parquet", 7L, null));
+      closeable.write(delete.set("file_a.parquet", 3L, null));
+      closeable.write(delete.set("file_b.parquet", 1L, null));
+      closeable.write(delete.set("file_a.parquet", 3L, null));
+    }
+
+    DeleteFile deleteFile = writer.toDeleteFile();
+    assertThat(deleteFile.content()).isEqualTo(FileContent.POSITION_DELETES);
+    assertThat(deleteFile.format()).isEqualTo(FileFormat.PUFFIN);
+    assertThat(deleteFile.recordCount()).isEqualTo(3L);
+    assertThat(deleteFile.fileSizeInBytes()).isEqualTo(file.length());
+    assertThat(writer.referencedDataFiles()).hasSize(2);
+
+    try (PuffinReader reader = Puffin.read(Files.localInput(file)).build()) {
+      assertThat(reader.fileMetadata().blobs()).hasSize(2);
+      for (BlobMetadata blob : reader.fileMetadata().blobs()) {
+        assertThat(blob.type()).isEqualTo(StandardBlobTypes.ROARING_POSITION_DELETES_V1);
+        assertThat(blob.properties())
+            .containsKey(StandardPuffinProperties.REFERENCED_DATA_FILE_PROPERTY);
+      }
+    }
+
+    Map<String, PositionDeleteIndex> indexes = Deletes.readPositionIndexes(Files.localInput(file));
+    assertThat(indexes).containsOnlyKeys("file_a.parquet", "file_b.parquet");
+    assertThat(indexes.get("file_b.parquet").isDeleted(1L)).isTrue();
+    assertThat(indexes.get("file_b.parquet").isDeleted(7L)).isTrue();
+    assertThat(indexes.get("file_b.parquet").isDeleted(3L)).isFalse();
+
+    PositionDeleteIndex fileA = Deletes.readPositionIndex(Files.localInput(file), "file_a.parquet");
+    assertThat(fileA.isDeleted(3L)).isTrue();
+    assertThat(fileA.isDeleted(1L)).isFalse();
+
+    PositionDeleteIndex fileC = Deletes.readPositionIndex(Files.localInput(file), "file_c.parquet");
+    assertThat(fileC.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void testReadPositionDeletes() throws IOException {
+    File file = new File(temp, "deletes.puffin");
+    PositionDelete<Void> delete = PositionDelete.create();
+    try (BitmapPositionDeleteWriter<Void> writer =
+        new BitmapPositionDeleteWriter<>(
+            Files.localOutput(file), PartitionSpec.unpartitioned(), null, null)) {
+      writer.write(delete.set("file_b.parquet", 7L, null));
+      writer.write(delete.set("file_a.parquet", 3L, null));
+      writer.write(delete.set("file_b.parquet", 1L, null));
+    }
+
+    List<String> rows = Lists.newArrayList();
+    try (CloseableIterable<PositionDelete<Void>> deletes =
+        Deletes.readPositionDeletes(Files.localInput(file))) {
+      for (PositionDelete<Void> row : deletes) {
+        assertThat(row.row()).isNull();
+        rows.add(row.path() + ":" + row.pos());
+      }
+    }
+
+    assertThat(rows)
+        .as("Should read deletes ordered by file and position")
+        .containsExactly("file_a.parquet:3", "file_b.parquet:1", "file_b.parquet:7");
+  }
+
+  @Test
+  public void testPuffinFormatValidation() {
+    assertThatThrownBy(
+            () ->
+                DataFiles.builder(PartitionSpec.unpartitioned())
+                    .withPath("data.puffin")
+                    .withFileSizeInBytes(10)
+                    .withRecordCount(1)
+                    .build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid data file format: PUFFIN");
+
+    assertThatThrownBy(
+            () ->
+                FileMetadata.deleteFileBuilder(PartitionSpec.unpartitioned())
+                    .ofEqualityDeletes(1)
+                    .withPath("deletes.puffin")
+                    .withFileSizeInBytes(10)
+                    .withRecordCount(1)
+                    .build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid equality delete file format: PUFFIN");
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.apache.avro.util.Utf8;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+
+public class TestPositionDeleteIndexCache {
+  private static final DeleteFile DELETES_1 = deleteFile("deletes-1.parquet");
+  private static final DeleteFile DELETES_2 = deleteFile("deletes-2.parquet");
+
+  private static final Map<String, List<StructLike>> DELETE_ROWS =
+      ImmutableMap.of(
+          DELETES_1.path().toString(),
+          ImmutableList.of(
+              Row.of("file_a.parquet", 0L),
+              Row.of(new Utf8("file_a.parquet"), 3L),
+              Row.of("file_b.parquet", 1L),
+              Row.of("file_b.parquet", 5L)),
+          DELETES_2.path().toString(),
+          ImmutableList.of(Row.of("file_a.parquet", 4L), Row.of("file_c.parquet", 2L)));
+
+  private final AtomicInteger openCount = new AtomicInteger(0);
+
+  @Test
+  public void testToPositionIndexes() {
+    List<StructLike> deletes =
+        Lists.newArrayList(
+            Row.of("file_a.parquet", 0L),
+            Row.of("file_b.parquet", 7L),
+            Row.of(new Utf8("file_a.parquet"), 9L));
+
+    Map<String, PositionDeleteIndex> indexes =
+        Deletes.toPositionIndexes(CloseableIterable.withNoopClose(deletes));
+
+    assertThat(indexes).containsOnlyKeys("file_a.parquet", "file_b.parquet");
+    assertThat(indexes.get("file_a.parquet").isDeleted(0L)).isTrue();
+    assertThat(indexes.get("file_a.parquet").isDeleted(9L)).isTrue();
+    assertThat(indexes.get("file_a.parquet").isDeleted(7L)).isFalse();
+    assertThat(indexes.get("file_b.parquet").isDeleted(7L)).isTrue();
+    assertThat(indexes.get("file_b.parquet").isDeleted(0L)).isFalse();
+  }
+
+  @Test
+  public void testDeleteFileIsReadOnce() {
+    PositionDeleteIndexCache cache = new PositionDeleteIndexCache(1024 * 1024);
+
+    PositionDeleteIndex fileA =
+        cache.forDataFile("file_a.parquet", ImmutableList.of(DELETES_1), this::load);
+    PositionDeleteIndex fileB =
+        cache.forDataFile("file_b.parquet", ImmutableList.of(DELETES_1), this::load);
+    PositionDeleteIndex fileC =
+        cache.forDataFile("file_c.parquet", ImmutableList.of(DELETES_1), this::load);
+
+    assertThat(openCount.get()).as("Should read the delete file once").isEqualTo(1);
+    assertThat(cache.estimatedSize()).isEqualTo(1);
+
+    assertThat(fileA.isDeleted(0L)).isTrue();
+    assertThat(fileA.isDeleted(3L)).isTrue();
+    assertThat(fileA.isDeleted(1L)).isFalse();
+    assertThat(fileB.isDeleted(1L)).isTrue();
+    assertThat(fileB.isDeleted(5L)).isTrue();
+    assertThat(fileB.isDeleted(0L)).isFalse();
+    assertThat(fileC.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void testMultipleDeleteFiles() {
+    PositionDeleteIndexCache cache = new PositionDeleteIndexCache(1024 * 1024);
+    List<DeleteFile> deleteFiles = ImmutableList.of(DELETES_1, DELETES_2);
+
+    PositionDeleteIndex fileA = cache.forDataFile("file_a.parquet", deleteFiles, this::load);
+    assertThat(fileA.isDeleted(0L)).isTrue();
+    assertThat(fileA.isDeleted(3L)).isTrue();
+    assertThat(fileA.isDeleted(4L)).isTrue();
+    assertThat(fileA.isDeleted(2L)).isFalse();
+
+    // the returned index is a copy and can be modified without changing the cached index
+    fileA.delete(2L);
+
+    PositionDeleteIndex fileC = cache.forDataFile("file_c.parquet", deleteFiles, this::load);
+    assertThat(fileC.isDeleted(2L)).isTrue();
+    assertThat(cache.forDataFile("file_a.parquet", deleteFiles, this::load).isDeleted(2L))
+        .isFalse();
+
+    assertThat(openCount.get()).as("Should read each delete file once").isEqualTo(2);
+  }
+
+  @Test
+  public void testOversizedDeleteFile() {
+    PositionDeleteIndexCache cache = new PositionDeleteIndexCache(1);
+    assertThat(cache.isCacheable(DELETES_1)).isTrue();
+
+    Function<DeleteFile, Map<String, PositionDeleteIndex>> loadIndexes = this::load;
+    for (int i = 0; i < 3; i += 1) {
+      PositionDeleteIndex fileA =
+          cache.forDataFile("file_a.parquet", ImmutableList.of(DELETES_1), loadIndexes);
+      assertThat(fileA.isDeleted(3L)).isTrue();
+      assertThat(cache.estimatedSize())
+          .as("Should not retain indexes larger than the cache")
+          .isEqualTo(0);
+    }
+
+    assertThat(openCount.get()).isEqualTo(3);
+    assertThat(cache.isCacheable(DELETES_1))
+        .as("Should not cache a delete file that is larger than the cache")
+        .isFalse();
+    assertThat(cache.isCacheable(DELETES_2)).isTrue();
+
+    cache.invalidateAll();
+    assertThat(cache.isCacheable(DELETES_1)).isTrue();
+  }
+
+  private Map<String, PositionDeleteIndex> load(DeleteFile deleteFile) {
+    openCount.incrementAndGet();
+    return Deletes.toPositionIndexes(
+        CloseableIterable.withNoopClose(DELETE_ROWS.get(deleteFile.path().toString())));
+  }
+
+  private static DeleteFile deleteFile(String path) {
+    return FileMetadata.deleteFileBuilder(PartitionSpec.unpartitioned())
+        .ofPositionDeletes()
+        .withFormat(FileFormat.PARQUET)
+        .withPath(path)
+        .withFileSizeInBytes(10)
+        .withRecordCount(4)
+        .build();
+  }
+}
@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.CatalogProperties;
+import org.apache.iceberg.hadoop.HadoopFileIO;
+import org.apache.iceberg.inmemory.InMemoryFileIO;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestBlockCacheFileIO {
+  private static final String LOCATION = "memory://bucket/data/file.parquet";
+  private static final int BLOCK_SIZE = 1024;
+
+  @TempDir private Path temp;
+
+  private final InMemoryFileIO files = new InMemoryFileIO();
+  private final AtomicInteger openedStreams = new AtomicInteger(0);
+  private byte[] data = null;
+
+  @BeforeEach
+  public void writeTestFile() {
+    this.data = new byte[10 * BLOCK_SIZE + 100];
+    new Random(1).nextBytes(data);
+    files.addFile(LOCATION, data);
+  }
+
+  @Test
+  public void testReadThroughCache() throws IOException {
+    BlockCacheFileIO io = newFileIO(Long.MAX_VALUE);
+
+    assertThat(readAll(io.newInputFile(LOCATION))).isEqualTo(data);
+    assertThat(openedStreams.get()).isEqualTo(1);
+    assertThat(blockFiles()).hasSize(11);
+
+    // another instance that uses the same directory shares the cached blocks
+    BlockCacheFileIO other = newFileIO(Long.MAX_VALUE);
+    assertThat(readAll(other.newInputFile(LOCATION, data.length))).isEqualTo(data);
+    assertThat(openedStreams.get()).isEqualTo(1);
+    assertThat(other.cacheStats().hitCount()).isEqualTo(11);
+    assertThat(other.cacheStats().missCount()).isEqualTo(11);
+  }
+
+  @Test
+  public void testSeekAndRangeReads() throws IOException {
+    BlockCacheFileIO io = newFileIO(Long.MAX_VALUE);
+    InputFile inputFile = io.newInputFile(LOCATION);
+
+    try (SeekableInputStream in = inputFile.newStream()) {
+      in.seek(BLOCK_SIZE - 10);
+      byte[] bytes = new byte[BLOCK_SIZE + 20];
+      IOUtil.readFully(in, bytes, 0, bytes.length);
+      assertThat(bytes).isEqualTo(Arrays.copyOfRange(data, BLOCK_SIZE - 10, 2 * BLOCK_SIZE + 10));
+      assertThat(in.getPos()).isEqualTo(2 * BLOCK_SIZE + 10);
+
+      in.seek(5);
+      assertThat(in.read()).isEqualTo(data[5] & 0xFF);
+
+      RangeReadable ranges = (RangeReadable) in;
+      byte[] range = new byte[3 * BLOCK_SIZE];
+      ranges.readFully(4 * BLOCK_SIZE + 1, range);
+      assertThat(range).isEqualTo(Arrays.copyOfRange(data, 4 * BLOCK_SIZE + 1, 7 * BLOCK_SIZE + 1));
+
+      byte[] tail = new byte[200];
+      assertThat(ranges.readTail(tail, 0, tail.length)).isEqualTo(tail.length);
+      assertThat(tail).isEqualTo(Arrays.copyOfRange(data, data.length - 200, data.length));
+
+      assertThatThrownBy(() -> ranges.readFully(data.length - 10, new byte[20]))
+          .isInstanceOf(EOFException.class);
+
+      in.seek(data.length);
+      assertThat(in.read()).isEqualTo(-1);
+      assertThat(in.read(new byte[10], 0, 10)).isEqualTo(-1);
+    }
+  }
+
+  @Test
+  public void testCachedBlocksAreLoadedAfterRestart() throws IOException {
+    readAll(newFileIO(Long.MAX_VALUE).newInputFile(LOCATION));
+
+    LocalBlockCache restarted = new LocalBlockCache(temp, Long.MAX_VALUE);
+    assertThat(restarted.estimatedSize()).isEqualTo(11);
+
+    String key = String.format("%s %s %s %s", LOCATION, data.length, BLOCK_SIZE, 3);
+    byte[] block =
+        restarted.get(
+            key,
+            () -> {
+              throw new IOException("Should not read a cached block");
+            });
+    assertThat(block).isEqualTo(Arrays.copyOfRange(data, 3 * BLOCK_SIZE, 4 * BLOCK_SIZE));
+    assertThat(restarted.stats().hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testCorruptBlockIsReadAgain() throws IOException {
+    readAll(newFileIO(Long.MAX_VALUE).newInputFile(LOCATION));
+
+    // flip the last byte of every block
+    for (Path blockFile : blockFiles()) {
+      byte[] bytes = Files.readAllBytes(blockFile);
+      bytes[bytes.length - 1] ^= 1;
+      Files.write(blockFile, bytes);
+    }
+
+    LocalBlockCache restarted = new LocalBlockCache(temp, Long.MAX_VALUE);
+    String key = String.format("%s %s %s %s", LOCATION, data.length, BLOCK_SIZE, 0);
+    byte[] expected = Arrays.copyOfRange(data, 0, BLOCK_SIZE);
+    AtomicInteger loads = new AtomicInteger(0);
+
+    assertThat(
+            restarted.get(
+                key,
+                () -> {
+                  loads.incrementAndGet();
+                  return expected;
+                }))
+        .isEqualTo(expected);
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(restarted.checksumFailures()).isEqualTo(1);
+    assertThat(restarted.estimatedSize()).isEqualTo(10);
+  }
+
+  @Test
+  public void testEviction() throws IOException {
+    BlockCacheFileIO io = newFileIO(3 * BLOCK_SIZE);
+    assertThat(readAll(io.newInputFile(LOCATION))).isEqualTo(data);
+
+    LocalBlockCache cache = LocalBlockCache.forDirectory(temp.toString(), 3 * BLOCK_SIZE);
+    cache.cleanUp();
+    assertThat(cache.estimatedSize()).isLessThanOrEqualTo(3);
+    assertThat(blockFiles()).hasSize((int) cache.estimatedSize());
+  }
+
+  @Test
+  public void testInvalidProperties() {
+    BlockCacheFileIO io = new BlockCacheFileIO(countingFileIO());
+    assertThatThrownBy(() -> io.initialize(ImmutableMap.of()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid block cache directory: null (io.block-cache.dir is required)");
+
+    assertThatThrownBy(
+            () ->
+                io.initialize(
+                    ImmutableMap.of(
+                        CatalogProperties.IO_BLOCK_CACHE_DIR,
+                        temp.toString(),
+                        CatalogProperties.IO_BLOCK_CACHE_BLOCK_SIZE_BYTES,
+                        "0")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid block size: 0 (must be > 0)");
+  }
+
+  @Test
+  public void testBulkAndPrefixOperations() throws IOException {
+    Path table = Files.createDirectories(temp.resolve("table"));
+    BlockCacheFileIO io = new BlockCacheFileIO(new HadoopFileIO(new Configuration()));
+    io.initialize(ImmutableMap.of(CatalogProperties.IO_BLOCK_CACHE_DIR, temp.toString()));
+
+    List<String> locations =
+        Stream.of("a", "b", "c")
+            .map(name -> table.resolve(name).toUri().toString())
+            .collect(Collectors.toList());
+    for (String location : locations) {
+      io.newOutputFile(location).createOrOverwrite().close();
+    }
+
+    assertThat(io.listPrefix(table.toUri().toString())).hasSize(3);
+
+    io.deleteFiles(locations.subList(0, 2));
+    assertThat(io.listPrefix(table.toUri().toString())).hasSize(1);
+
+    io.deletePrefix(table.toUri().toString());
+    assertThat(Files.exists(table)).isFalse();
+  }
+
+  @Test
+  public void testUnsupportedBulkAndPrefixOperations() {
+    BlockCacheFileIO io = newFileIO(10 * BLOCK_SIZE);
+    String delegate = io.delegate().getClass().getName();
+
+    assertThatThrownBy(() -> io.deleteFiles(Arrays.asList(LOCATION)))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage(
+            "Cannot deleteFiles: delegate FileIO %s does not implement SupportsBulkOperations",
+            delegate);
+    assertThatThrownBy(() -> io.listPrefix("memory://bucket/data"))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage(
+            "Cannot listPrefix: delegate FileIO %s does not implement SupportsPrefixOperations",
+            delegate);
+    assertThatThrownBy(() -> io.deletePrefix("memory://bucket/data"))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage(
+            "Cannot deletePrefix: delegate FileIO %s does not implement SupportsPrefixOperations",
+            delegate);
+  }
+
+  private BlockCacheFileIO newFileIO(long maxTotalBytes) {
+    BlockCacheFileIO io = new BlockCacheFileIO(countingFileIO());
+    Map<String, String> properties =
+        ImmutableMap.of(
+            CatalogProperties.IO_BLOCK_CACHE_DIR,
+            temp.toString(),
+            CatalogProperties.IO_BLOCK_CACHE_BLOCK_SIZE_BYTES,
+            String.valueOf(BLOCK_SIZE),
+            CatalogProperties.IO_BLOCK_CACHE_MAX_TOTAL_BYTES,
+            String.valueOf(maxTotalBytes));
+    io.initialize(properties);
+    return io;
+  }
+
+  private FileIO countingFileIO() {
+    return new FileIO() {
+      @Override
+      public InputFile newInputFile(String location) {
+        InputFile file = files.newInputFile(location);
+        return new InputFile() {
+          @Override
+          public long getLength() {
+            return file.getLength();
+          }
+
+          @Override
+          public SeekableInputStream newStream() {
+            openedStreams.incrementAndGet();
+            return file.newStream();
+          }
+
+          @Override
+          public String location() {
+            return file.location();
+          }
+
+          @Override
+          public boolean exists() {
+            return file.exists();
+          }
+        };
+      }
+
+      @Override
+      public OutputFile newOutputFile(String location) {
+        return files.newOutputFile(location);
+      }
+
+      @Override
+      public void deleteFile(String location) {
+        files.deleteFile(location);
+      }
+    };
+  }
+
+  private static byte[] readAll(InputFile file) throws IOException {
+    byte[] bytes = new byte[(int) file.getLength()];
+    try (SeekableInputStream in = file.newStream()) {
+      IOUtil.readFully(in, bytes, 0, bytes.length);
+      assertThat(in.read()).isEqualTo(-1);
+    }
+
+    return bytes;
+  }
+
+  private List<Path> blockFiles() throws IOException {
+    try (Stream<Path> paths = Files.walk(temp)) {
+      return paths.filter(Files::isRegularFile).collect(Collectors.toList());
+    }
+  }
+}
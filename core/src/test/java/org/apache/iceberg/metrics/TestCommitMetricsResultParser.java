@@ -66,6 +66,10 @@ public class TestCommitMetricsResultParser {
     CommitMetrics commitMetrics = CommitMetrics.of(new DefaultMetricsContext());
     commitMetrics.totalDuration().record(100, TimeUnit.SECONDS);
     commitMetrics.attempts().increment(4);
+    commitMetrics.attemptDuration().record(20, TimeUnit.SECONDS);
+    commitMetrics.attemptDuration().record(80, TimeUnit.SECONDS);
+    commitMetrics.validationDuration().record(10, TimeUnit.SECONDS);
+    commitMetrics.validatedSnapshots().increment(5);
     Map<String, String> snapshotSummary =
         ImmutableMap.<String, String>builder()
             .put(SnapshotSummary.ADDED_FILES_PROP, "1")
@@ -94,6 +98,10 @@ public class TestCommitMetricsResultParser {
 
     CommitMetricsResult result = CommitMetricsResult.from(commitMetrics, snapshotSummary);
     assertThat(result.attempts().value()).isEqualTo(4L);
+    assertThat(result.attemptDuration().count()).isEqualTo(2L);
+    assertThat(result.attemptDuration().totalDuration()).isEqualTo(Duration.ofSeconds(100));
+    assertThat(result.validationDuration().totalDuration()).isEqualTo(Duration.ofSeconds(10));
+    assertThat(result.validatedSnapshots().value()).isEqualTo(5L);
     assertThat(result.totalDuration().totalDuration()).isEqualTo(Duration.ofSeconds(100));
     assertThat(result.addedDataFiles().value()).isEqualTo(1L);
     assertThat(result.removedDataFiles().value()).isEqualTo(2L);
@@ -129,6 +137,20 @@ public class TestCommitMetricsResultParser {
             + "    \"unit\" : \"count\",\n"
             + "    \"value\" : 4\n"
             + "  },\n"
+            + "  \"attempt-duration\" : {\n"
+            + "    \"count\" : 2,\n"
+            + "    \"time-unit\" : \"nanoseconds\",\n"
+            + "    \"total-duration\" : 100000000000\n"
+            + "  },\n"
+            + "  \"validation-duration\" : {\n"
+            + "    \"count\" : 1,\n"
+            + "    \"time-unit\" : \"nanoseconds\",\n"
+            + "    \"total-duration\" : 10000000000\n"
+            + "  },\n"
+            + "  \"validated-snapshots\" : {\n"
+            + "    \"unit\" : \"count\",\n"
+            + "    \"value\" : 5\n"
+            + "  },\n"
             + "  \"added-data-files\" : {\n"
             + "    \"unit\" : \"count\",\n"
             + "    \"value\" : 1\n"
@@ -95,6 +95,10 @@ public class TestCommitReportParser {
     CommitMetrics commitMetrics = CommitMetrics.of(new DefaultMetricsContext());
     commitMetrics.totalDuration().record(100, TimeUnit.SECONDS);
     commitMetrics.attempts().increment(4);
+    commitMetrics.attemptDuration().record(20, TimeUnit.SECONDS);
+    commitMetrics.attemptDuration().record(80, TimeUnit.SECONDS);
+    commitMetrics.validationDuration().record(10, TimeUnit.SECONDS);
+    commitMetrics.validatedSnapshots().increment(5);
     Map<String, String> snapshotSummary =
         com.google.common.collect.ImmutableMap.<String, String>builder()
             .put(SnapshotSummary.ADDED_FILES_PROP, "1")
@@ -147,6 +151,20 @@ public class TestCommitReportParser {
             + "      \"unit\" : \"count\",\n"
             + "      \"value\" : 4\n"
             + "    },\n"
+            + "    \"attempt-duration\" : {\n"
+            + "      \"count\" : 2,\n"
+            + "      \"time-unit\" : \"nanoseconds\",\n"
+            + "      \"total-duration\" : 100000000000\n"
+            + "    },\n"
+            + "    \"validation-duration\" : {\n"
+            + "      \"count\" : 1,\n"
+            + "      \"time-unit\" : \"nanoseconds\",\n"
+            + "      \"total-duration\" : 10000000000\n"
+            + "    },\n"
+            + "    \"validated-snapshots\" : {\n"
+            + "      \"unit\" : \"count\",\n"
+            + "      \"value\" : 5\n"
+            + "    },\n"
             + "    \"added-data-files\" : {\n"
             + "      \"unit\" : \"count\",\n"
             + "      \"value\" : 1\n"
@@ -197,6 +197,11 @@ public class TestScanMetricsResultParser {
                     + "\"indexed-delete-files\":{\"unit\":\"count\",\"value\":10},"
                     + "\"equality-delete-files\":{\"unit\":\"count\",\"value\":4},"
                     + "\"positional-delete-files\":{\"unit\":\"count\",\"value\":6},"
+                    + "\"planning-queue-depth\":{\"unit\":\"count\",\"value\":0},"
+                    + "\"planning-producer-stall-duration\":{\"count\":0,\"time-unit\":\"nanoseconds\",\"total-duration\":0},"
+                    + "\"manifest-summary-cache-hits\":{\"unit\":\"count\",\"value\":0},"
+                    + "\"manifest-summary-cache-misses\":{\"unit\":\"count\",\"value\":0},"
+                    + "\"manifest-summary-cache-evictions\":{\"unit\":\"count\",\"value\":0},"
                     + "\"extra\": \"value\",\"extra2\":23}"))
         .isEqualTo(scanMetricsResult);
   }
@@ -310,6 +315,27 @@ public class TestScanMetricsResultParser {
             + "  \"positional-delete-files\" : {\n"
             + "    \"unit\" : \"count\",\n"
             + "    \"value\" : 6\n"
+            + "  },\n"
+            + "  \"planning-queue-depth\" : {\n"
+            + "    \"unit\" : \"count\",\n"
+            + "    \"value\" : 0\n"
+            + "  },\n"
+            + "  \"planning-producer-stall-duration\" : {\n"
+            + "    \"count\" : 0,\n"
+            + "    \"time-unit\" : \"nanoseconds\",\n"
+            + "    \"total-duration\" : 0\n"
+            + "  },\n"
+            + "  \"manifest-summary-cache-hits\" : {\n"
+            + "    \"unit\" : \"count\",\n"
+            + "    \"value\" : 0\n"
+            + "  },\n"
+            + "  \"manifest-summary-cache-misses\" : {\n"
+            + "    \"unit\" : \"count\",\n"
+            + "    \"value\" : 0\n"
+            + "  },\n"
+            + "  \"manifest-summary-cache-evictions\" : {\n"
+            + "    \"unit\" : \"count\",\n"
+            + "    \"value\" : 0\n"
             + "  }\n"
             + "}";
 
@@ -41,6 +41,7 @@ import org.apache.iceberg.relocated.com.google.common.io.CharStreams;
 import org.apache.iceberg.rest.RESTCatalogAdapter.HTTPMethod;
 import org.apache.iceberg.rest.RESTCatalogAdapter.Route;
 import org.apache.iceberg.rest.responses.ErrorResponse;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
 import org.apache.iceberg.util.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -106,7 +107,17 @@ public class RESTCatalogServlet extends HttpServlet {
               context.headers(),
               handle(response));
 
-      if (responseBody != null) {
+      if (responseBody instanceof LoadTableResponse) {
+        // tag table responses so that clients can send conditional requests
+        String json = RESTObjectMapper.mapper().writeValueAsString(responseBody);
+        String etag = String.format("\"%08x\"", json.hashCode());
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (etag.equals(context.headers().get(HttpHeaders.IF_NONE_MATCH))) {
+          response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        } else {
+          response.getWriter().write(json);
+        }
+      } else if (responseBody != null) {
         RESTObjectMapper.mapper().writeValue(response.getWriter(), responseBody);
       }
     } catch (RESTException e) {
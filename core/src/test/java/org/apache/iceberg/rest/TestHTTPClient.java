@@ -20,6 +20,7 @@ package org.apache.iceberg.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -34,6 +35,9 @@ import java.io.IOException;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import org.apache.hc.core5.http.EntityDetails;
 import org.apache.hc.core5.http.HttpException;
@@ -121,6 +125,50 @@ public class TestHTTPClient {
     testHttpMethodOnFailure(HttpMethod.HEAD);
   }
 
+  @Test
+  public void testAsyncPostSuccess() throws Exception {
+    testAsyncHttpMethodOnSuccess(HttpMethod.POST);
+  }
+
+  @Test
+  public void testAsyncPostFailure() throws Exception {
+    testAsyncHttpMethodOnFailure(HttpMethod.POST);
+  }
+
+  @Test
+  public void testAsyncGetSuccess() throws Exception {
+    testAsyncHttpMethodOnSuccess(HttpMethod.GET);
+  }
+
+  @Test
+  public void testAsyncGetFailure() throws Exception {
+    testAsyncHttpMethodOnFailure(HttpMethod.GET);
+  }
+
+  @Test
+  public void testAsyncResponseHandledOffIOThreads() throws Exception {
+    Item body = new Item(0L, "hank");
+    AtomicReference<String> handlerThread = new AtomicReference<>();
+    ErrorHandler onError = mock(ErrorHandler.class);
+    doAnswer(
+            invocation -> {
+              handlerThread.set(Thread.currentThread().getName());
+              throw new RuntimeException("Not found");
+            })
+        .when(onError)
+        .accept(any());
+
+    String path = addRequestTestCaseAndGetPath(HttpMethod.GET, body, 404);
+
+    CompletableFuture<Item> response = doExecuteRequestAsync(HttpMethod.GET, path, body, onError);
+    Assertions.assertThatThrownBy(response::join)
+        .isInstanceOf(CompletionException.class)
+        .cause()
+        .hasMessage("Not found");
+
+    assertThat(handlerThread.get()).startsWith("iceberg-rest-client-async-");
+  }
+
   @Test
   public void testDynamicHttpRequestInterceptorLoading() {
     Map<String, String> properties = ImmutableMap.of("key", "val");
@@ -178,6 +226,53 @@ public class TestHTTPClient {
     verify(onError).accept(any());
   }
 
+  public static void testAsyncHttpMethodOnSuccess(HttpMethod method)
+      throws JsonProcessingException {
+    Item body = new Item(0L, "hank");
+    int statusCode = 200;
+
+    ErrorHandler onError = mock(ErrorHandler.class);
+    doThrow(new RuntimeException("Failure response")).when(onError).accept(any());
+
+    String path = addRequestTestCaseAndGetPath(method, body, statusCode);
+
+    Item successResponse = doExecuteRequestAsync(method, path, body, onError).join();
+
+    Assertions.assertThat(successResponse)
+        .as("On a successful " + method + ", the correct response body should be returned")
+        .isEqualTo(body);
+
+    verify(onError, never()).accept(any());
+  }
+
+  public static void testAsyncHttpMethodOnFailure(HttpMethod method)
+      throws JsonProcessingException {
+    Item body = new Item(0L, "hank");
+    int statusCode = 404;
+
+    ErrorHandler onError = mock(ErrorHandler.class);
+    doThrow(
+            new RuntimeException(
+                String.format(
+                    "Called error handler for method %s due to status code: %d",
+                    method, statusCode)))
+        .when(onError)
+        .accept(any());
+
+    String path = addRequestTestCaseAndGetPath(method, body, statusCode);
+
+    CompletableFuture<Item> response = doExecuteRequestAsync(method, path, body, onError);
+    Assertions.assertThatThrownBy(response::join)
+        .isInstanceOf(CompletionException.class)
+        .cause()
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage(
+            String.format(
+                "Called error handler for method %s due to status code: %d", method, statusCode));
+
+    verify(onError).accept(any());
+  }
+
   // Adds a request that the mock-server can match against, based on the method, path, body, and
   // headers.
   // Return the path generated for the test case, so that the client can call that path to exercise
@@ -245,6 +340,19 @@ public class TestHTTPClient {
     }
   }
 
+  private static CompletableFuture<Item> doExecuteRequestAsync(
+      HttpMethod method, String path, Item body, ErrorHandler onError) {
+    Map<String, String> headers = ImmutableMap.of("Authorization", "Bearer " + BEARER_AUTH_TOKEN);
+    switch (method) {
+      case POST:
+        return restClient.postAsync(path, body, Item.class, headers, onError);
+      case GET:
+        return restClient.getAsync(path, ImmutableMap.of(), Item.class, headers, onError);
+      default:
+        throw new IllegalArgumentException(String.format("Invalid method: %s", method));
+    }
+  }
+
   public static class Item implements RESTRequest, RESTResponse {
     private Long id;
     private String data;
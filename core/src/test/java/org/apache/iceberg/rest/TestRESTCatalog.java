@@ -34,6 +34,7 @@ import java.nio.file.Path;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -43,9 +44,11 @@ import org.apache.iceberg.BaseTransaction;
 import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.DataFiles;
 import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.HasTableOperations;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.SnapshotRef;
+import org.apache.iceberg.SnapshotsTable;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.Transaction;
@@ -57,6 +60,7 @@ import org.apache.iceberg.catalog.SessionCatalog;
 import org.apache.iceberg.catalog.TableCommit;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.jdbc.JdbcCatalog;
@@ -160,7 +164,10 @@ public class TestRESTCatalog extends CatalogTests<RESTCatalog> {
     servletHolder.setInitParameter("javax.ws.rs.Application", "ServiceListPublic");
     servletContext.addServlet(servletHolder, "/*");
     servletContext.setVirtualHosts(null);
-    servletContext.setGzipHandler(new GzipHandler());
+    GzipHandler gzipHandler = new GzipHandler();
+    // decompress gzip request bodies sent by clients with request compression enabled
+    gzipHandler.setInflateBufferSize(4096);
+    servletContext.setGzipHandler(gzipHandler);
 
     this.httpServer = new Server(0);
     httpServer.setHandler(servletContext);
@@ -1394,6 +1401,117 @@ public class TestRESTCatalog extends CatalogTests<RESTCatalog> {
     }
   }
 
+  @Test
+  public void testAsyncLoadTable() {
+    restCatalog.buildTable(TABLE, SCHEMA).create();
+
+    Table expected = restCatalog.loadTable(TABLE);
+    Table table = restCatalog.loadTableAsync(TABLE).join();
+    assertThat(table.name()).isEqualTo(expected.name());
+    assertThat(table.schema().asStruct()).isEqualTo(expected.schema().asStruct());
+
+    assertThat(restCatalog.listTablesAsync(TABLE.namespace()).join()).containsExactly(TABLE);
+
+    TableIdentifier snapshotsTable =
+        TableIdentifier.of(TABLE.namespace().level(0), TABLE.name(), "snapshots");
+    assertThat(restCatalog.loadTableAsync(snapshotsTable).join())
+        .isInstanceOf(SnapshotsTable.class);
+
+    TableIdentifier missing = TableIdentifier.of(TABLE.namespace(), "missing");
+    Assertions.assertThatThrownBy(() -> restCatalog.loadTableAsync(missing).join())
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(NoSuchTableException.class);
+
+    TableIdentifier missingMetadataTable =
+        TableIdentifier.of(TABLE.namespace().level(0), "missing", "snapshots");
+    Assertions.assertThatThrownBy(() -> restCatalog.loadTableAsync(missingMetadataTable).join())
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(NoSuchTableException.class);
+  }
+
+  @Test
+  public void testRequestCompression() {
+    this.restCatalog =
+        new RESTCatalog(
+            new SessionCatalog.SessionContext(
+                UUID.randomUUID().toString(),
+                "user",
+                ImmutableMap.of("credential", "user:12345"),
+                ImmutableMap.of()),
+            (config) -> HTTPClient.builder(config).uri(config.get(CatalogProperties.URI)).build());
+    restCatalog.setConf(new Configuration());
+    restCatalog.initialize(
+        "prod",
+        ImmutableMap.of(
+            CatalogProperties.URI,
+            httpServer.getURI().toString(),
+            "credential",
+            "catalog:12345",
+            "rest.client.request-compression-enabled",
+            "true"));
+
+    restCatalog.buildTable(TABLE, SCHEMA).withProperty("key", "value").create();
+    Table table = restCatalog.loadTable(TABLE);
+    assertThat(table.properties()).containsEntry("key", "value");
+
+    table.updateProperties().set("other", "value").commit();
+    assertThat(restCatalog.loadTable(TABLE).properties()).containsEntry("other", "value");
+  }
+
+  @Test
+  public void testTableMetadataCache() {
+    this.restCatalog =
+        new RESTCatalog(
+            new SessionCatalog.SessionContext(
+                UUID.randomUUID().toString(),
+                "user",
+                ImmutableMap.of("credential", "user:12345"),
+                ImmutableMap.of()),
+            (config) -> HTTPClient.builder(config).uri(config.get(CatalogProperties.URI)).build());
+    restCatalog.setConf(new Configuration());
+    restCatalog.initialize(
+        "prod",
+        ImmutableMap.of(
+            CatalogProperties.URI,
+            httpServer.getURI().toString(),
+            "credential",
+            "catalog:12345",
+            "table-metadata-cache-enabled",
+            "true"));
+
+    restCatalog.buildTable(TABLE, SCHEMA).create();
+    TableMetadata loaded =
+        ((HasTableOperations) restCatalog.loadTable(TABLE)).operations().current();
+    TableMetadata notModified =
+        ((HasTableOperations) restCatalog.loadTable(TABLE)).operations().current();
+
+    // the service responds with 304 Not Modified and the parsed metadata is reused
+    assertThat(notModified.schema()).isSameAs(loaded.schema());
+    assertThat(restCatalog.tableMetadataCacheStats().hitCount()).isEqualTo(1);
+    assertThat(restCatalog.tableMetadataCacheStats().missCount()).isEqualTo(1);
+
+    restCatalog.loadTable(TABLE).updateProperties().set("key", "value").commit();
+    TableMetadata modified =
+        ((HasTableOperations) restCatalog.loadTable(TABLE)).operations().current();
+
+    assertThat(modified.schema()).isNotSameAs(loaded.schema());
+    assertThat(modified.properties()).containsEntry("key", "value");
+    assertThat(restCatalog.tableMetadataCacheStats().hitCount()).isEqualTo(2);
+    assertThat(restCatalog.tableMetadataCacheStats().missCount()).isEqualTo(2);
+
+    // asynchronous loads are revalidated with the same cached response
+    TableMetadata notModifiedAsync =
+        ((HasTableOperations) restCatalog.loadTableAsync(TABLE).join()).operations().current();
+    assertThat(notModifiedAsync.schema()).isSameAs(modified.schema());
+    assertThat(restCatalog.tableMetadataCacheStats().hitCount()).isEqualTo(3);
+    assertThat(restCatalog.tableMetadataCacheStats().missCount()).isEqualTo(2);
+
+    // invalidating the table forces a full load
+    restCatalog.invalidateTable(TABLE);
+    restCatalog.loadTable(TABLE);
+    assertThat(restCatalog.tableMetadataCacheStats().missCount()).isEqualTo(3);
+  }
+
   @Test
   public void testCatalogExpiredBearerTokenRefreshWithoutCredential() {
     // expires at epoch second = 1
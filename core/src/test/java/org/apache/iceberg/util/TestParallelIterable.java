@@ -23,15 +23,25 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.Collections;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.DefaultCounter;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.metrics.Timer;
+import org.apache.iceberg.relocated.com.google.common.collect.HashMultiset;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Multiset;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
@@ -72,6 +82,91 @@ public class TestParallelIterable {
         .untilAsserted(() -> assertThat(queue).isEmpty());
   }
 
+  @Test
+  public void limitQueueSize() throws IOException {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Iterable<Integer>> iterables =
+        Collections.nCopies(100, () -> IntStream.range(0, 100).iterator());
+
+    int maxQueueSize = 20;
+    MetricsContext metrics = new DefaultMetricsContext();
+    Counter queueDepth = metrics.counter("queue-depth");
+    Timer stallDuration = metrics.timer("stall-duration", TimeUnit.NANOSECONDS);
+    ParallelIterable<Integer> parallelIterable =
+        new ParallelIterable<>(iterables, executor, maxQueueSize, queueDepth, stallDuration);
+
+    Multiset<Integer> actual = HashMultiset.create();
+    try (CloseableIterator<Integer> iterator = parallelIterable.iterator()) {
+      Field queueField = iterator.getClass().getDeclaredField("queue");
+      queueField.setAccessible(true);
+      ConcurrentLinkedQueue<?> queue = (ConcurrentLinkedQueue<?>) queueField.get(iterator);
+
+      while (iterator.hasNext()) {
+        // producers may add one item each after the queue is full
+        assertThat(queue.size()).isLessThanOrEqualTo(maxQueueSize + 4);
+        actual.add(iterator.next());
+      }
+    } catch (ReflectiveOperationException e) {
+      throw new RuntimeException(e);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(actual.size()).isEqualTo(100 * 100);
+    for (int i = 0; i < 100; i += 1) {
+      assertThat(actual.count(i)).isEqualTo(100);
+    }
+
+    assertThat(queueDepth.value()).isGreaterThan(0L).isLessThanOrEqualTo(maxQueueSize + 4L);
+    assertThat(stallDuration.count()).isGreaterThan(0);
+  }
+
+  @Test
+  public void closePausedTasks() throws IOException {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    AtomicInteger openCount = new AtomicInteger(0);
+    AtomicInteger closeCount = new AtomicInteger(0);
+    List<CloseableIterable<Integer>> iterables = Lists.newArrayList();
+    for (int i = 0; i < 4; i += 1) {
+      iterables.add(
+          new CloseableIterable<Integer>() {
+            @Override
+            public void close() {
+              closeCount.incrementAndGet();
+            }
+
+            @Override
+            public CloseableIterator<Integer> iterator() {
+              openCount.incrementAndGet();
+              return CloseableIterator.withClose(IntStream.range(0, 100).iterator());
+            }
+          });
+    }
+
+    ParallelIterable<Integer> parallelIterable =
+        new ParallelIterable<>(iterables, executor, 1, DefaultCounter.NOOP, Timer.NOOP);
+    try {
+      CloseableIterator<Integer> iterator = parallelIterable.iterator();
+      assertThat(iterator.hasNext()).isTrue();
+      assertThat(iterator.next()).isNotNull();
+
+      // wait for the submitted tasks to find the queue full and pause
+      Awaitility.await("Tasks are paused")
+          .atMost(5, TimeUnit.SECONDS)
+          .until(() -> openCount.get() >= 2);
+      Thread.sleep(100);
+
+      iterator.close();
+      assertThat(closeCount.get())
+          .as("Should close the iterables of paused tasks")
+          .isEqualTo(openCount.get());
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   private void queueHasElements(CloseableIterator<Integer> iterator, Queue queue) {
     assertThat(iterator.hasNext()).isTrue();
     assertThat(iterator.next()).isNotNull();
@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.data;
 
+import java.io.File;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -26,16 +27,21 @@ import java.util.function.Predicate;
 import org.apache.iceberg.Accessor;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.FileContent;
+import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.avro.Avro;
 import org.apache.iceberg.data.avro.DataReader;
 import org.apache.iceberg.data.orc.GenericOrcReader;
 import org.apache.iceberg.data.parquet.GenericParquetReaders;
+import org.apache.iceberg.deletes.BinaryEqualityDeleteSet;
 import org.apache.iceberg.deletes.DeleteCounter;
 import org.apache.iceberg.deletes.Deletes;
+import org.apache.iceberg.deletes.PositionDelete;
 import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.deletes.PositionDeleteIndexCache;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.InputFile;
@@ -43,6 +49,7 @@ import org.apache.iceberg.orc.ORC;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
@@ -51,6 +58,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.Multimaps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.StructLikeSet;
 import org.apache.iceberg.util.StructProjection;
 import org.slf4j.Logger;
@@ -71,20 +79,50 @@ public abstract class DeleteFilter<T> {
   private final boolean hasIsDeletedColumn;
   private final int isDeletedColumnPosition;
   private final DeleteCounter counter;
+  private final boolean offHeapEqDeleteSets;
+  private final long eqDeleteMemoryBudget;
+  private final File eqDeleteSpillDir;
+  private final boolean cachePosDeletes;
+  private final boolean hasBitmapPosDeletes;
+  private final List<BinaryEqualityDeleteSet> offHeapDeleteSets = Lists.newArrayList();
 
   private PositionDeleteIndex deleteRowPositions = null;
   private List<Predicate<T>> isInDeleteSets = null;
   private Predicate<T> eqDeleteRows = null;
 
+  /**
+   * Creates a delete filter.
+   *
+   * <p>The table properties select how equality deletes are held in memory, see {@link
+   * TableProperties#EQUALITY_DELETE_SET_TYPE}.
+   */
   protected DeleteFilter(
       String filePath,
       List<DeleteFile> deletes,
       Schema tableSchema,
       Schema requestedSchema,
-      DeleteCounter counter) {
+      DeleteCounter counter,
+      Map<String, String> tableProperties) {
     this.setFilterThreshold = DEFAULT_SET_FILTER_THRESHOLD;
     this.filePath = filePath;
     this.counter = counter;
+    this.offHeapEqDeleteSets = useOffHeapEqDeleteSets(tableProperties);
+    this.eqDeleteMemoryBudget =
+        PropertyUtil.propertyAsLong(
+            tableProperties,
+            TableProperties.EQUALITY_DELETE_MEMORY_BUDGET_BYTES,
+            TableProperties.EQUALITY_DELETE_MEMORY_BUDGET_BYTES_DEFAULT);
+    this.eqDeleteSpillDir =
+        new File(
+            PropertyUtil.propertyAsString(
+                tableProperties,
+                TableProperties.EQUALITY_DELETE_SPILL_DIR,
+                System.getProperty("java.io.tmpdir")));
+    this.cachePosDeletes =
+        PropertyUtil.propertyAsBoolean(
+            tableProperties,
+            TableProperties.POSITION_DELETE_CACHE_ENABLED,
+            TableProperties.POSITION_DELETE_CACHE_ENABLED_DEFAULT);
 
     ImmutableList.Builder<DeleteFile> posDeleteBuilder = ImmutableList.builder();
     ImmutableList.Builder<DeleteFile> eqDeleteBuilder = ImmutableList.builder();
@@ -105,6 +143,8 @@ public abstract class DeleteFilter<T> {
     }
 
     this.posDeletes = posDeleteBuilder.build();
+    this.hasBitmapPosDeletes =
+        posDeletes.stream().anyMatch(delete -> delete.format() == FileFormat.PUFFIN);
     this.eqDeletes = eqDeleteBuilder.build();
     this.requiredSchema = fileProjection(tableSchema, requestedSchema, posDeletes, eqDeletes);
     this.posAccessor = requiredSchema.accessorForField(MetadataColumns.ROW_POSITION.fieldId());
@@ -113,11 +153,37 @@ public abstract class DeleteFilter<T> {
     this.isDeletedColumnPosition = requiredSchema.columns().indexOf(MetadataColumns.IS_DELETED);
   }
 
+  protected DeleteFilter(
+      String filePath,
+      List<DeleteFile> deletes,
+      Schema tableSchema,
+      Schema requestedSchema,
+      DeleteCounter counter) {
+    this(filePath, deletes, tableSchema, requestedSchema, counter, ImmutableMap.of());
+  }
+
   protected DeleteFilter(
       String filePath, List<DeleteFile> deletes, Schema tableSchema, Schema requestedSchema) {
     this(filePath, deletes, tableSchema, requestedSchema, new DeleteCounter());
   }
 
+  private static boolean useOffHeapEqDeleteSets(Map<String, String> tableProperties) {
+    String setType =
+        PropertyUtil.propertyAsString(
+            tableProperties,
+            TableProperties.EQUALITY_DELETE_SET_TYPE,
+            TableProperties.EQUALITY_DELETE_SET_TYPE_DEFAULT);
+    if (TableProperties.EQUALITY_DELETE_SET_TYPE_OFF_HEAP.equalsIgnoreCase(setType)) {
+      return true;
+    }
+
+    Preconditions.checkArgument(
+        TableProperties.EQUALITY_DELETE_SET_TYPE_HEAP.equalsIgnoreCase(setType),
+        "Invalid equality delete set type: %s",
+        setType);
+    return false;
+  }
+
   protected int columnIsDeletedPosition() {
     return isDeletedColumnPosition;
   }
@@ -184,22 +250,55 @@ public abstract class DeleteFilter<T> {
       Iterable<CloseableIterable<Record>> deleteRecords =
           Iterables.transform(deletes, delete -> openDeletes(delete, deleteSchema));
 
-      // copy the delete records because they will be held in a set
-      CloseableIterable<Record> records =
-          CloseableIterable.transform(CloseableIterable.concat(deleteRecords), Record::copy);
-
-      StructLikeSet deleteSet =
-          Deletes.toEqualitySet(
-              CloseableIterable.transform(records, wrapper::copyFor), deleteSchema.asStruct());
-
-      Predicate<T> isInDeleteSet =
-          record -> deleteSet.contains(projectRow.wrap(asStructLike(record)));
+      Predicate<StructLike> deleteSet = toEqualitySet(deleteRecords, deleteSchema, wrapper);
+      Predicate<T> isInDeleteSet = record -> deleteSet.test(projectRow.wrap(asStructLike(record)));
       isInDeleteSets.add(isInDeleteSet);
     }
 
     return isInDeleteSets;
   }
 
+  private Predicate<StructLike> toEqualitySet(
+      Iterable<CloseableIterable<Record>> deleteRecords,
+      Schema deleteSchema,
+      InternalRecordWrapper wrapper) {
+    if (offHeapEqDeleteSets) {
+      // delete records are encoded as they are read and do not need to be copied
+      BinaryEqualityDeleteSet deleteSet =
+          Deletes.toBinaryEqualitySet(
+              CloseableIterable.transform(CloseableIterable.concat(deleteRecords), wrapper::wrap),
+              deleteSchema.asStruct(),
+              eqDeleteMemoryBudget,
+              eqDeleteSpillDir);
+      offHeapDeleteSets.add(deleteSet);
+      return deleteSet::contains;
+    }
+
+    // copy the delete records because they will be held in a set
+    CloseableIterable<Record> records =
+        CloseableIterable.transform(CloseableIterable.concat(deleteRecords), Record::copy);
+
+    StructLikeSet deleteSet =
+        Deletes.toEqualitySet(
+            CloseableIterable.transform(records, wrapper::copyFor), deleteSchema.asStruct());
+    return deleteSet::contains;
+  }
+
+  /**
+   * Releases the memory of the off-heap equality delete sets of this filter.
+   *
+   * <p>Readers call this when the rows of the filtered file are no longer read, so that the direct
+   * memory of the sets is reused by other filters right away instead of after garbage collection.
+   * Rows cannot be filtered by equality deletes after this filter is closed.
+   */
+  public void close() {
+    for (BinaryEqualityDeleteSet deleteSet : offHeapDeleteSets) {
+      deleteSet.release();
+    }
+
+    offHeapDeleteSets.clear();
+  }
+
   public CloseableIterable<T> findEqualityDeleteRows(CloseableIterable<T> records) {
     // Predicate to test whether a row has been deleted by equality deletions.
     Predicate<T> deletedRows = applyEqDeletes().stream().reduce(Predicate::or).orElse(t -> false);
@@ -232,26 +331,69 @@ public abstract class DeleteFilter<T> {
     }
 
     if (deleteRowPositions == null) {
-      List<CloseableIterable<Record>> deletes = Lists.transform(posDeletes, this::openPosDeletes);
-      deleteRowPositions = Deletes.toPositionIndex(filePath, deletes);
+      deleteRowPositions = positionIndex();
     }
     return deleteRowPositions;
   }
 
+  // delete files that are larger than the cache are read like uncached files
+  private boolean usePosDeleteCache() {
+    if (cachePosDeletes) {
+      PositionDeleteIndexCache cache = PositionDeleteIndexCache.get();
+      return posDeletes.stream().allMatch(cache::isCacheable);
+    }
+
+    return false;
+  }
+
+  private PositionDeleteIndex positionIndex() {
+    if (usePosDeleteCache()) {
+      return PositionDeleteIndexCache.get()
+          .forDataFile(filePath, posDeletes, this::loadAllPositionIndexes);
+    }
+
+    if (hasBitmapPosDeletes) {
+      return Deletes.merge(Lists.transform(posDeletes, this::loadPositionIndex));
+    }
+
+    List<CloseableIterable<Record>> deletes = Lists.transform(posDeletes, this::openPosDeletes);
+    return Deletes.toPositionIndex(filePath, deletes);
+  }
+
+  private PositionDeleteIndex loadPositionIndex(DeleteFile file) {
+    if (file.format() == FileFormat.PUFFIN) {
+      return Deletes.readPositionIndex(getInputFile(file.path().toString()), filePath);
+    }
+
+    return Deletes.toPositionIndex(filePath, ImmutableList.of(openPosDeletes(file)));
+  }
+
+  private Map<String, PositionDeleteIndex> loadAllPositionIndexes(DeleteFile file) {
+    if (file.format() == FileFormat.PUFFIN) {
+      return Deletes.readPositionIndexes(getInputFile(file.path().toString()));
+    }
+
+    return Deletes.toPositionIndexes(openAllPosDeletes(file));
+  }
+
   private CloseableIterable<T> applyPosDeletes(CloseableIterable<T> records) {
     if (posDeletes.isEmpty()) {
       return records;
     }
 
-    List<CloseableIterable<Record>> deletes = Lists.transform(posDeletes, this::openPosDeletes);
-
-    // if there are fewer deletes than a reasonable number to keep in memory, use a set
-    if (posDeletes.stream().mapToLong(DeleteFile::recordCount).sum() < setFilterThreshold) {
-      PositionDeleteIndex positionIndex = Deletes.toPositionIndex(filePath, deletes);
+    // if there are fewer deletes than a reasonable number to keep in memory, use a set; cached
+    // indexes are bounded by the size of the shared cache instead and bitmap deletes are always
+    // loaded as a set
+    if (usePosDeleteCache()
+        || hasBitmapPosDeletes
+        || posDeletes.stream().mapToLong(DeleteFile::recordCount).sum() < setFilterThreshold) {
+      PositionDeleteIndex positionIndex = positionIndex();
       Predicate<T> isDeleted = record -> positionIndex.isDeleted(pos(record));
       return createDeleteIterable(records, isDeleted);
     }
 
+    List<CloseableIterable<Record>> deletes = Lists.transform(posDeletes, this::openPosDeletes);
+
     return hasIsDeletedColumn
         ? Deletes.streamingMarker(
             records, this::pos, Deletes.deletePositions(filePath, deletes), this::markRowDeleted)
@@ -270,7 +412,16 @@ public abstract class DeleteFilter<T> {
     return openDeletes(file, POS_DELETE_SCHEMA);
   }
 
+  private CloseableIterable<Record> openAllPosDeletes(DeleteFile file) {
+    return openDeletes(file, POS_DELETE_SCHEMA, false /* do not filter by data file */);
+  }
+
   private CloseableIterable<Record> openDeletes(DeleteFile deleteFile, Schema deleteSchema) {
+    return openDeletes(deleteFile, deleteSchema, true /* filter by data file */);
+  }
+
+  private CloseableIterable<Record> openDeletes(
+      DeleteFile deleteFile, Schema deleteSchema, boolean filterByDataFile) {
     LOG.trace("Opening delete file {}", deleteFile.path());
     InputFile input = getInputFile(deleteFile.path().toString());
     switch (deleteFile.format()) {
@@ -289,7 +440,7 @@ public abstract class DeleteFilter<T> {
                 .createReaderFunc(
                     fileSchema -> GenericParquetReaders.buildReader(deleteSchema, fileSchema));
 
-        if (deleteFile.content() == FileContent.POSITION_DELETES) {
+        if (filterByDataFile && deleteFile.content() == FileContent.POSITION_DELETES) {
           builder.filter(Expressions.equal(MetadataColumns.DELETE_FILE_PATH.name(), filePath));
         }
 
@@ -303,11 +454,19 @@ public abstract class DeleteFilter<T> {
                 .createReaderFunc(
                     fileSchema -> GenericOrcReader.buildReader(deleteSchema, fileSchema));
 
-        if (deleteFile.content() == FileContent.POSITION_DELETES) {
+        if (filterByDataFile && deleteFile.content() == FileContent.POSITION_DELETES) {
           orcBuilder.filter(Expressions.equal(MetadataColumns.DELETE_FILE_PATH.name(), filePath));
         }
 
         return orcBuilder.build();
+
+      case PUFFIN:
+        Preconditions.checkArgument(
+            deleteFile.content() == FileContent.POSITION_DELETES,
+            "Cannot read equality deletes from Puffin file: %s",
+            deleteFile.path());
+        return openPuffinPosDeletes(input, deleteSchema, filterByDataFile);
+
       default:
         throw new UnsupportedOperationException(
             String.format(
@@ -316,6 +475,24 @@ public abstract class DeleteFilter<T> {
     }
   }
 
+  // Puffin position deletes are stored as bitmaps and are converted to rows of the delete schema
+  private CloseableIterable<Record> openPuffinPosDeletes(
+      InputFile input, Schema deleteSchema, boolean filterByDataFile) {
+    CloseableIterable<PositionDelete<Record>> deletes = Deletes.readPositionDeletes(input);
+    if (filterByDataFile) {
+      deletes = CloseableIterable.filter(deletes, delete -> filePath.equals(delete.path()));
+    }
+
+    GenericRecord record = GenericRecord.create(deleteSchema);
+    return CloseableIterable.transform(
+        deletes,
+        delete -> {
+          record.set(0, delete.path());
+          record.set(1, delete.pos());
+          return record;
+        });
+  }
+
   private static Schema fileProjection(
       Schema tableSchema,
       Schema requestedSchema,
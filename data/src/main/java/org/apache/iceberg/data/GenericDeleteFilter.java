@@ -18,11 +18,14 @@
  */
 package org.apache.iceberg.data;
 
+import java.util.Map;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.deletes.DeleteCounter;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 
 public class GenericDeleteFilter extends DeleteFilter<Record> {
   private final FileIO io;
@@ -30,7 +33,22 @@ public class GenericDeleteFilter extends DeleteFilter<Record> {
 
   public GenericDeleteFilter(
       FileIO io, FileScanTask task, Schema tableSchema, Schema requestedSchema) {
-    super(task.file().path().toString(), task.deletes(), tableSchema, requestedSchema);
+    this(io, task, tableSchema, requestedSchema, ImmutableMap.of());
+  }
+
+  public GenericDeleteFilter(
+      FileIO io,
+      FileScanTask task,
+      Schema tableSchema,
+      Schema requestedSchema,
+      Map<String, String> tableProperties) {
+    super(
+        task.file().path().toString(),
+        task.deletes(),
+        tableSchema,
+        requestedSchema,
+        new DeleteCounter(),
+        tableProperties);
     this.io = io;
     this.asStructLike = new InternalRecordWrapper(requiredSchema().asStruct());
   }
@@ -39,6 +39,7 @@ import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.orc.ORC;
 import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.TypeUtil;
@@ -47,6 +48,7 @@ import org.apache.iceberg.util.PartitionUtil;
 class GenericReader implements Serializable {
   private final FileIO io;
   private final Schema tableSchema;
+  private final Map<String, String> tableProperties;
   private final Schema projection;
   private final boolean caseSensitive;
   private final boolean reuseContainers;
@@ -54,6 +56,7 @@ class GenericReader implements Serializable {
   GenericReader(TableScan scan, boolean reuseContainers) {
     this.io = scan.table().io();
     this.tableSchema = scan.table().schema();
+    this.tableProperties = ImmutableMap.copyOf(scan.table().properties());
     this.projection = scan.schema();
     this.caseSensitive = scan.isCaseSensitive();
     this.reuseContainers = reuseContainers;
@@ -70,14 +73,15 @@ class GenericReader implements Serializable {
   }
 
   public CloseableIterable<Record> open(FileScanTask task) {
-    DeleteFilter<Record> deletes = new GenericDeleteFilter(io, task, tableSchema, projection);
+    DeleteFilter<Record> deletes =
+        new GenericDeleteFilter(io, task, tableSchema, projection, tableProperties);
     Schema readSchema = deletes.requiredSchema();
 
     CloseableIterable<Record> records = openFile(task, readSchema);
     records = deletes.filter(records);
     records = applyResidual(records, readSchema, task.residual());
 
-    return records;
+    return CloseableIterable.whenComplete(records, deletes::close);
   }
 
   private CloseableIterable<Record> applyResidual(
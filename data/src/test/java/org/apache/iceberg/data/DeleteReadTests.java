@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.data;
 
+import java.io.File;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
@@ -357,6 +358,35 @@ public abstract class DeleteReadTests {
     checkDeleteCount(3L);
   }
 
+  @Test
+  public void testBitmapPositionDeletes() throws IOException {
+    List<Pair<CharSequence, Long>> deletes =
+        Lists.newArrayList(
+            Pair.of(dataFile.path(), 0L), // id = 29
+            Pair.of(dataFile.path(), 3L), // id = 89
+            Pair.of(dataFile.path(), 6L) // id = 122
+            );
+
+    Pair<DeleteFile, CharSequenceSet> posDeletes =
+        FileHelpers.writeBitmapDeleteFile(
+            table,
+            Files.localOutput(new File(temp.newFolder(), "pos-deletes.puffin")),
+            Row.of(0),
+            deletes);
+
+    table
+        .newRowDelta()
+        .addDeletes(posDeletes.first())
+        .validateDataFilesExist(posDeletes.second())
+        .commit();
+
+    StructLikeSet expected = rowSetWithoutIds(table, records, 29, 89, 122);
+    StructLikeSet actual = rowSet(tableName, table, "*");
+
+    Assert.assertEquals("Table should contain expected rows", expected, actual);
+    checkDeleteCount(3L);
+  }
+
   @Test
   public void testMultiplePosDeleteFiles() throws IOException {
     List<Pair<CharSequence, Long>> deletes =
@@ -32,6 +32,7 @@ import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.Table;
+import org.apache.iceberg.deletes.BitmapPositionDeleteWriter;
 import org.apache.iceberg.deletes.EqualityDeleteWriter;
 import org.apache.iceberg.deletes.PositionDelete;
 import org.apache.iceberg.deletes.PositionDeleteWriter;
@@ -71,6 +72,21 @@ public class FileHelpers {
     return Pair.of(writer.toDeleteFile(), writer.referencedDataFiles());
   }
 
+  public static Pair<DeleteFile, CharSequenceSet> writeBitmapDeleteFile(
+      Table table, OutputFile out, StructLike partition, List<Pair<CharSequence, Long>> deletes)
+      throws IOException {
+    BitmapPositionDeleteWriter<Record> writer =
+        new BitmapPositionDeleteWriter<>(out, table.spec(), partition, null);
+    PositionDelete<Record> posDelete = PositionDelete.create();
+    try (Closeable toClose = writer) {
+      for (Pair<CharSequence, Long> delete : deletes) {
+        writer.write(posDelete.set(delete.first(), delete.second(), null));
+      }
+    }
+
+    return Pair.of(writer.toDeleteFile(), writer.referencedDataFiles());
+  }
+
   public static DeleteFile writeDeleteFile(
       Table table, OutputFile out, List<Record> deletes, Schema deleteRowSchema)
       throws IOException {
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.io.IOException;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.assertj.core.api.Assertions;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestGenericReaderOffHeapDeletes extends TestGenericReaderDeletes {
+
+  @Override
+  protected Table createTable(String name, Schema schema, PartitionSpec spec) throws IOException {
+    Table table = super.createTable(name, schema, spec);
+    // a zero budget places all equality delete keys in the spill file
+    table
+        .updateProperties()
+        .set(
+            TableProperties.EQUALITY_DELETE_SET_TYPE,
+            TableProperties.EQUALITY_DELETE_SET_TYPE_OFF_HEAP)
+        .set(TableProperties.EQUALITY_DELETE_MEMORY_BUDGET_BYTES, "0")
+        .set(TableProperties.EQUALITY_DELETE_SPILL_DIR, temp.newFolder().getAbsolutePath())
+        .commit();
+    return table;
+  }
+
+  @Test
+  public void testCloseReleasesEqualityDeleteSets() throws IOException {
+    Schema deleteRowSchema = table.schema().select("data");
+    Record dataDelete = GenericRecord.create(deleteRowSchema);
+    DeleteFile eqDeletes =
+        FileHelpers.writeDeleteFile(
+            table,
+            Files.localOutput(temp.newFile()),
+            Row.of(0),
+            Lists.newArrayList(dataDelete.copy("data", "a")), // id = 29
+            deleteRowSchema);
+    table.newRowDelta().addDeletes(eqDeletes).commit();
+
+    FileScanTask task;
+    try (CloseableIterable<FileScanTask> tasks = table.newScan().planFiles()) {
+      task = Iterables.getOnlyElement(tasks);
+    }
+
+    GenericDeleteFilter deletes =
+        new GenericDeleteFilter(
+            table.io(), task, table.schema(), table.schema(), table.properties());
+    Assert.assertEquals(
+        "Should remove the deleted row",
+        records.size() - 1,
+        Iterables.size(deletes.filter(CloseableIterable.withNoopClose(records))));
+
+    deletes.close();
+
+    Assertions.assertThatThrownBy(
+            () -> Iterables.size(deletes.filter(CloseableIterable.withNoopClose(records))))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Cannot read keys from a released set");
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import static org.apache.iceberg.expressions.Expressions.and;
+import static org.apache.iceberg.expressions.Expressions.equal;
+import static org.apache.iceberg.expressions.Expressions.greaterThan;
+import static org.apache.iceberg.expressions.Expressions.greaterThanOrEqual;
+import static org.apache.iceberg.expressions.Expressions.in;
+import static org.apache.iceberg.expressions.Expressions.isNull;
+import static org.apache.iceberg.expressions.Expressions.lessThan;
+import static org.apache.iceberg.expressions.Expressions.notEqual;
+import static org.apache.iceberg.expressions.Expressions.notNull;
+import static org.apache.iceberg.expressions.Expressions.or;
+import static org.apache.iceberg.expressions.Expressions.startsWith;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetReaders;
+import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestParquetColumnIndexFilter {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.IntegerType.get()), optional(2, "data", Types.StringType.get()));
+
+  private static final int NUM_ROWS = 1000;
+  private static final int PAGE_ROW_LIMIT = 100;
+
+  @Rule public TemporaryFolder temp = new TemporaryFolder();
+
+  private File testFile = null;
+
+  @Before
+  public void writeTestFile() throws IOException {
+    this.testFile = temp.newFile();
+    assertThat(testFile.delete()).isTrue();
+
+    // ids are written in order so that id pages have disjoint bounds; data values have different
+    // lengths so that the pages of the data column do not line up with the pages of the id column
+    List<Record> records = Lists.newArrayList();
+    for (int i = 0; i < NUM_ROWS; i += 1) {
+      Record record = GenericRecord.create(SCHEMA);
+      record.setField("id", i);
+      record.setField("data", i >= 300 && i < 400 ? null : data(i));
+      records.add(record);
+    }
+
+    try (FileAppender<Record> appender =
+        Parquet.write(Files.localOutput(testFile))
+            .schema(SCHEMA)
+            .createWriterFunc(GenericParquetWriter::buildWriter)
+            .set(TableProperties.PARQUET_PAGE_ROW_LIMIT, String.valueOf(PAGE_ROW_LIMIT))
+            .set(TableProperties.PARQUET_PAGE_SIZE_BYTES, "1024")
+            .set(TableProperties.PARQUET_DICT_SIZE_BYTES, "1024")
+            .set(TableProperties.PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT, "10")
+            .set(TableProperties.PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT, "10")
+            .build()) {
+      appender.addAll(records);
+    }
+  }
+
+  private static String data(int id) {
+    StringBuilder builder = new StringBuilder(String.format("data-%04d-", id));
+    for (int i = 0; i < id % 37; i += 1) {
+      builder.append('x');
+    }
+
+    return builder.toString();
+  }
+
+  @Test
+  public void testRowRanges() throws IOException {
+    assertThat(rowCount(lessThan("id", 250))).isEqualTo(300);
+    assertThat(rowCount(greaterThanOrEqual("id", 950))).isEqualTo(100);
+    assertThat(rowCount(equal("id", 555))).isEqualTo(100);
+    assertThat(rowCount(in("id", 5, 15, 705))).isEqualTo(200);
+    assertThat(rowCount(greaterThan("id", 5000))).isEqualTo(0);
+    assertThat(rowCount(or(lessThan("id", 50), greaterThan("id", 949)))).isEqualTo(200);
+    assertThat(rowCount(and(greaterThan("id", 150), lessThan("id", 180)))).isEqualTo(100);
+    assertThat(rowCount(notEqual("id", 555))).isEqualTo(NUM_ROWS);
+  }
+
+  @Test
+  public void testRowRangesWithNulls() throws IOException {
+    RowRanges nullRanges = rowRanges(isNull("data"));
+    assertThat(nullRanges.isOverlapping(300, 399)).isTrue();
+    assertThat(nullRanges.isOverlapping(0, 250)).isFalse();
+    assertThat(nullRanges.isOverlapping(450, NUM_ROWS - 1)).isFalse();
+
+    // rows 300 to 399 are written to a page that contains only nulls
+    assertThat(rowCount(notNull("data"))).isEqualTo(NUM_ROWS - 100);
+    assertThat(rowRanges(notNull("data")).isOverlapping(300, 399)).isFalse();
+    assertThat(rowCount(and(isNull("data"), lessThan("id", 100)))).isEqualTo(0);
+    assertThat(rowCount(startsWith("data", "data-0012"))).isLessThan(NUM_ROWS);
+    assertThat(rowRanges(startsWith("data", "data-0012")).isOverlapping(12, 12)).isTrue();
+    assertThat(rowCount(startsWith("data", "other"))).isEqualTo(0);
+  }
+
+  @Test
+  public void testReadSelectedPages() throws IOException {
+    Schema projection = new Schema(SCHEMA.columns());
+    List<Record> rows = read(projection, and(greaterThanOrEqual("id", 420), lessThan("id", 480)));
+
+    // all rows of the id page that may match are read
+    assertThat(rows).hasSize(PAGE_ROW_LIMIT);
+    for (int i = 0; i < rows.size(); i += 1) {
+      int id = 400 + i;
+      assertThat(rows.get(i).getField("id")).isEqualTo(id);
+      assertThat(rows.get(i).getField("data")).isEqualTo(data(id));
+    }
+  }
+
+  @Test
+  public void testReadSelectedPagesWithPositions() throws IOException {
+    Schema projection =
+        new Schema(SCHEMA.findField("data"), SCHEMA.findField("id"), MetadataColumns.ROW_POSITION);
+    List<Record> rows = read(projection, or(lessThan("id", 10), in("id", 250, 777)));
+
+    assertThat(rows).hasSize(3 * PAGE_ROW_LIMIT);
+    for (Record row : rows) {
+      int id = (Integer) row.getField("id");
+      assertThat(id / PAGE_ROW_LIMIT).isIn(0, 2, 7);
+      assertThat(row.getField(MetadataColumns.ROW_POSITION.name())).isEqualTo((long) id);
+      assertThat(row.getField("data")).isEqualTo(id >= 300 && id < 400 ? null : data(id));
+    }
+  }
+
+  @Test
+  public void testReadWithoutMatchingPages() throws IOException {
+    assertThat(read(SCHEMA, and(isNull("data"), lessThan("id", 100)))).isEmpty();
+  }
+
+  private List<Record> read(Schema projection, Expression filter) throws IOException {
+    try (CloseableIterable<Record> reader =
+        Parquet.read(Files.localInput(testFile))
+            .project(projection)
+            .filter(filter)
+            .createReaderFunc(
+                fileSchema -> GenericParquetReaders.buildReader(projection, fileSchema))
+            .build()) {
+      return Lists.newArrayList(reader);
+    }
+  }
+
+  private long rowCount(Expression filter) throws IOException {
+    return rowRanges(filter).rowCount();
+  }
+
+  private RowRanges rowRanges(Expression filter) throws IOException {
+    try (ParquetFileReader reader =
+        ParquetFileReader.open(
+            ParquetIO.file(Files.localInput(testFile)), ParquetReadOptions.builder().build())) {
+      assertThat(reader.getRowGroups()).hasSize(1);
+      MessageType fileSchema = reader.getFileMetaData().getSchema();
+      return new ParquetColumnIndexFilter(SCHEMA, filter)
+          .calculateRowRanges(
+              fileSchema,
+              reader.getColumnIndexStore(0),
+              reader.getRowGroups().get(0).getRowCount());
+    }
+  }
+}
@@ -20,6 +20,8 @@ package org.apache.iceberg.dell;
 
 import java.io.Serializable;
 import java.util.Map;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.PropertyUtil;
 
 public class DellProperties implements Serializable {
   /** S3 Access key id of Dell EMC ECS */
@@ -38,9 +40,22 @@ public class DellProperties implements Serializable {
    */
   public static final String CLIENT_FACTORY = "client.factory";
 
+  /** Batch size used when deleting multiple objects from a given ECS bucket */
+  public static final String ECS_DELETE_BATCH_SIZE = "ecs.delete.batch-size";
+
+  /** Max number of keys that can be deleted in one ECS DeleteObjects request */
+  public static final int ECS_DELETE_BATCH_SIZE_MAX = 1000;
+
+  public static final int ECS_DELETE_BATCH_SIZE_DEFAULT = ECS_DELETE_BATCH_SIZE_MAX;
+
+  /** Number of threads used to delete batches of ECS objects, default to the number of cores */
+  public static final String ECS_DELETE_THREADS = "ecs.delete.num-threads";
+
   private String ecsS3Endpoint;
   private String ecsS3AccessKeyId;
   private String ecsS3SecretAccessKey;
+  private int ecsDeleteBatchSize = ECS_DELETE_BATCH_SIZE_DEFAULT;
+  private int ecsDeleteThreads = Runtime.getRuntime().availableProcessors();
 
   public DellProperties() {}
 
@@ -48,6 +63,16 @@ public class DellProperties implements Serializable {
     this.ecsS3AccessKeyId = properties.get(DellProperties.ECS_S3_ACCESS_KEY_ID);
     this.ecsS3SecretAccessKey = properties.get(DellProperties.ECS_S3_SECRET_ACCESS_KEY);
     this.ecsS3Endpoint = properties.get(DellProperties.ECS_S3_ENDPOINT);
+    this.ecsDeleteBatchSize =
+        PropertyUtil.propertyAsInt(
+            properties, ECS_DELETE_BATCH_SIZE, ECS_DELETE_BATCH_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        ecsDeleteBatchSize > 0 && ecsDeleteBatchSize <= ECS_DELETE_BATCH_SIZE_MAX,
+        "Deletion batch size must be between 1 and %s",
+        ECS_DELETE_BATCH_SIZE_MAX);
+    this.ecsDeleteThreads =
+        PropertyUtil.propertyAsInt(
+            properties, ECS_DELETE_THREADS, Runtime.getRuntime().availableProcessors());
   }
 
   public String ecsS3Endpoint() {
@@ -73,4 +98,20 @@ public class DellProperties implements Serializable {
   public void setEcsS3SecretAccessKey(String ecsS3SecretAccessKey) {
     this.ecsS3SecretAccessKey = ecsS3SecretAccessKey;
   }
+
+  public int ecsDeleteBatchSize() {
+    return ecsDeleteBatchSize;
+  }
+
+  public void setEcsDeleteBatchSize(int ecsDeleteBatchSize) {
+    this.ecsDeleteBatchSize = ecsDeleteBatchSize;
+  }
+
+  public int ecsDeleteThreads() {
+    return ecsDeleteThreads;
+  }
+
+  public void setEcsDeleteThreads(int ecsDeleteThreads) {
+    this.ecsDeleteThreads = ecsDeleteThreads;
+  }
 }
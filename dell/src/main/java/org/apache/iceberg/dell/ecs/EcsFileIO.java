@@ -19,17 +19,42 @@
 package org.apache.iceberg.dell.ecs;
 
 import com.emc.object.s3.S3Client;
+import com.emc.object.s3.bean.AbstractDeleteResult;
+import com.emc.object.s3.bean.DeleteError;
+import com.emc.object.s3.bean.ListObjectsResult;
+import com.emc.object.s3.bean.S3Object;
+import com.emc.object.s3.request.DeleteObjectsRequest;
+import com.emc.object.s3.request.ListObjectsRequest;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.iceberg.common.DynConstructors;
 import org.apache.iceberg.dell.DellClientFactories;
 import org.apache.iceberg.dell.DellClientFactory;
 import org.apache.iceberg.dell.DellProperties;
+import org.apache.iceberg.io.BulkDeletionFailureException;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.FileInfo;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.SupportsBulkOperations;
+import org.apache.iceberg.io.SupportsPrefixOperations;
 import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Multimaps;
+import org.apache.iceberg.relocated.com.google.common.collect.SetMultimap;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.collect.Streams;
 import org.apache.iceberg.util.SerializableSupplier;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,11 +65,12 @@ import org.slf4j.LoggerFactory;
  * schemes s3, s3a, s3n, https are also treated as ECS object paths. Using this FileIO with other
  * schemes will result in {@link org.apache.iceberg.exceptions.ValidationException}.
  */
-public class EcsFileIO implements FileIO {
+public class EcsFileIO implements FileIO, SupportsBulkOperations, SupportsPrefixOperations {
 
   private static final Logger LOG = LoggerFactory.getLogger(EcsFileIO.class);
   private static final String DEFAULT_METRICS_IMPL =
       "org.apache.iceberg.hadoop.HadoopMetricsContext";
+  private static volatile ExecutorService executorService;
 
   private SerializableSupplier<S3Client> s3;
   private DellProperties dellProperties;
@@ -70,6 +96,107 @@ public class EcsFileIO implements FileIO {
     client().deleteObject(uri.bucket(), uri.name());
   }
 
+  /**
+   * Deletes the given paths in a batched manner.
+   *
+   * <p>The paths are grouped by bucket, and deletion is triggered when we either reach the
+   * configured batch size or have a final remainder batch for each bucket. Batches are deleted in
+   * parallel using DeleteObjects requests.
+   *
+   * @param paths paths to delete
+   */
+  @Override
+  public void deleteFiles(Iterable<String> paths) throws BulkDeletionFailureException {
+    SetMultimap<String, String> bucketToObjects =
+        Multimaps.newSetMultimap(Maps.newHashMap(), Sets::newHashSet);
+    List<Future<List<String>>> deletionTasks = Lists.newArrayList();
+    S3Client deleteClient = client();
+    for (String path : paths) {
+      EcsURI uri = new EcsURI(path);
+      String bucket = uri.bucket();
+      bucketToObjects.get(bucket).add(uri.name());
+      if (bucketToObjects.get(bucket).size() == dellProperties.ecsDeleteBatchSize()) {
+        Set<String> names = Sets.newHashSet(bucketToObjects.get(bucket));
+        deletionTasks.add(executorService().submit(() -> deleteBatch(deleteClient, bucket, names)));
+        bucketToObjects.removeAll(bucket);
+      }
+    }
+
+    // Delete the remainder
+    for (Map.Entry<String, Collection<String>> bucketToObjectsEntry :
+        bucketToObjects.asMap().entrySet()) {
+      String bucket = bucketToObjectsEntry.getKey();
+      Collection<String> names = bucketToObjectsEntry.getValue();
+      deletionTasks.add(executorService().submit(() -> deleteBatch(deleteClient, bucket, names)));
+    }
+
+    int totalFailedDeletions = 0;
+
+    for (Future<List<String>> deletionTask : deletionTasks) {
+      try {
+        List<String> failedDeletions = deletionTask.get();
+        failedDeletions.forEach(path -> LOG.warn("Failed to delete object at path {}", path));
+        totalFailedDeletions += failedDeletions.size();
+      } catch (ExecutionException e) {
+        LOG.warn("Caught unexpected exception during batch deletion: ", e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        deletionTasks.stream().filter(task -> !task.isDone()).forEach(task -> task.cancel(true));
+        throw new RuntimeException("Interrupted when waiting for deletions to complete", e);
+      }
+    }
+
+    if (totalFailedDeletions > 0) {
+      throw new BulkDeletionFailureException(totalFailedDeletions);
+    }
+  }
+
+  private List<String> deleteBatch(
+      S3Client deleteClient, String bucket, Collection<String> namesToDelete) {
+    DeleteObjectsRequest request =
+        new DeleteObjectsRequest(bucket).withKeys(namesToDelete.toArray(new String[0]));
+    List<String> failures = Lists.newArrayList();
+    try {
+      for (AbstractDeleteResult result : deleteClient.deleteObjects(request).getResults()) {
+        if (result instanceof DeleteError) {
+          failures.add(new EcsURI(bucket, result.getKey()).location());
+        }
+      }
+    } catch (Exception e) {
+      LOG.warn("Encountered failure when deleting batch", e);
+      namesToDelete.forEach(name -> failures.add(new EcsURI(bucket, name).location()));
+    }
+
+    return failures;
+  }
+
+  @Override
+  public Iterable<FileInfo> listPrefix(String prefix) {
+    EcsURI uri = new EcsURI(prefix);
+    return () ->
+        Streams.stream(new ObjectIterator(client(), uri.bucket(), uri.name()))
+            .map(
+                object ->
+                    new FileInfo(
+                        String.format("%s://%s/%s", uri.scheme(), uri.bucket(), object.getKey()),
+                        object.getSize(),
+                        object.getLastModified().getTime()))
+            .iterator();
+  }
+
+  /**
+   * This method provides a "best-effort" to delete all objects under the given prefix.
+   *
+   * <p>Bulk delete operations are used and no reattempt is made for deletes if they fail, but will
+   * log any individual objects that are not deleted as part of the bulk operation.
+   *
+   * @param prefix prefix to delete
+   */
+  @Override
+  public void deletePrefix(String prefix) {
+    deleteFiles(() -> Streams.stream(listPrefix(prefix)).map(FileInfo::location).iterator());
+  }
+
   private S3Client client() {
     if (client == null) {
       synchronized (this) {
@@ -81,6 +208,20 @@ public class EcsFileIO implements FileIO {
     return client;
   }
 
+  private ExecutorService executorService() {
+    if (executorService == null) {
+      synchronized (EcsFileIO.class) {
+        if (executorService == null) {
+          executorService =
+              ThreadPools.newWorkerPool(
+                  "iceberg-ecsfileio-delete", dellProperties.ecsDeleteThreads());
+        }
+      }
+    }
+
+    return executorService;
+  }
+
   @Override
   public void initialize(Map<String, String> properties) {
     this.dellProperties = new DellProperties(properties);
@@ -111,4 +252,50 @@ public class EcsFileIO implements FileIO {
       client.destroy();
     }
   }
+
+  /** Iterates over the objects under a prefix, requesting the next page lazily. */
+  private static class ObjectIterator implements Iterator<S3Object> {
+    private final S3Client client;
+    private final String bucket;
+    private final String prefix;
+    private Iterator<S3Object> page = null;
+    private String nextMarker = null;
+    private boolean truncated = true;
+
+    private ObjectIterator(S3Client client, String bucket, String prefix) {
+      this.client = client;
+      this.bucket = bucket;
+      this.prefix = prefix;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while ((page == null || !page.hasNext()) && truncated) {
+        ListObjectsResult result =
+            client.listObjects(
+                new ListObjectsRequest(bucket).withPrefix(prefix).withMarker(nextMarker));
+        List<S3Object> objects = result.getObjects();
+        this.page = objects.iterator();
+        String marker = result.getNextMarker();
+        if (marker == null && result.isTruncated() && !objects.isEmpty()) {
+          // NextMarker is only returned when a delimiter is set, continue after the last key
+          marker = objects.get(objects.size() - 1).getKey();
+        }
+
+        this.nextMarker = marker;
+        this.truncated = marker != null;
+      }
+
+      return page.hasNext();
+    }
+
+    @Override
+    public S3Object next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      return page.next();
+    }
+  }
 }
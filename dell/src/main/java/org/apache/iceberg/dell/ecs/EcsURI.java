@@ -30,6 +30,7 @@ class EcsURI {
   private static final Set<String> VALID_SCHEME = ImmutableSet.of("ecs", "s3", "s3a", "s3n");
 
   private final String location;
+  private final String scheme;
   private final String bucket;
   private final String name;
 
@@ -41,17 +42,24 @@ class EcsURI {
     URI uri = URI.create(location);
     ValidationException.check(
         VALID_SCHEME.contains(uri.getScheme().toLowerCase()), "Invalid ecs location: %s", location);
+    this.scheme = uri.getScheme();
     this.bucket = uri.getHost();
     this.name = uri.getPath().replaceAll("^/*", "");
   }
 
   /** The leading slashes of name will be ignored. */
   EcsURI(String bucket, String name) {
+    this.scheme = "ecs";
     this.bucket = bucket;
     this.name = name.replaceAll("^/*", "");
     this.location = String.format("ecs://%s/%s", bucket, name);
   }
 
+  /** Returns the scheme of the location. */
+  public String scheme() {
+    return scheme;
+  }
+
   /** Returns ECS bucket name. */
   public String bucket() {
     return bucket;
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.dell.ecs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.emc.object.s3.request.PutObjectRequest;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.dell.DellProperties;
+import org.apache.iceberg.dell.mock.ecs.EcsS3MockRule;
+import org.apache.iceberg.io.FileInfo;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class TestEcsFileIO {
+
+  @Rule public EcsS3MockRule rule = EcsS3MockRule.create();
+
+  private EcsFileIO fileIO;
+
+  @Before
+  public void before() {
+    Map<String, String> properties = Maps.newHashMap(rule.clientProperties());
+    // use a small batch size so that the files are deleted in several batches
+    properties.put(DellProperties.ECS_DELETE_BATCH_SIZE, "3");
+    fileIO = new EcsFileIO();
+    fileIO.initialize(properties);
+  }
+
+  @After
+  public void after() {
+    fileIO.close();
+  }
+
+  @Test
+  public void testDeleteFiles() {
+    List<String> locations = Lists.newArrayList();
+    for (int i = 0; i < 10; i += 1) {
+      String objectName = rule.randomObjectName();
+      putObject(objectName, "content");
+      locations.add(new EcsURI(rule.bucket(), objectName).location());
+    }
+
+    fileIO.deleteFiles(locations);
+
+    for (String location : locations) {
+      assertThat(fileIO.newInputFile(location).exists()).as("File should be deleted").isFalse();
+    }
+  }
+
+  @Test
+  public void testListPrefix() {
+    String prefix = "prefix-" + rule.randomObjectName() + "/";
+    for (int i = 0; i < 12; i += 1) {
+      putObject(String.format("%s%02d", prefix, i), "0123456789".substring(0, i % 10 + 1));
+    }
+
+    putObject(rule.randomObjectName(), "other");
+
+    List<FileInfo> files =
+        Lists.newArrayList(fileIO.listPrefix(new EcsURI(rule.bucket(), prefix).location()));
+    assertThat(files).as("Should list all objects under the prefix").hasSize(12);
+    for (int i = 0; i < files.size(); i += 1) {
+      FileInfo file = files.get(i);
+      assertThat(file.location())
+          .isEqualTo(new EcsURI(rule.bucket(), String.format("%s%02d", prefix, i)).location());
+      assertThat(file.size()).isEqualTo(i % 10 + 1);
+      assertThat(file.createdAtMillis()).isGreaterThan(0);
+    }
+
+    List<FileInfo> s3Files =
+        Lists.newArrayList(fileIO.listPrefix(String.format("s3://%s/%s", rule.bucket(), prefix)));
+    assertThat(s3Files).hasSize(12);
+    assertThat(s3Files.get(0).location()).startsWith("s3://");
+  }
+
+  @Test
+  public void testDeletePrefix() {
+    String prefix = "prefix-" + rule.randomObjectName() + "/";
+    for (int i = 0; i < 8; i += 1) {
+      putObject(prefix + i, "content");
+    }
+
+    String otherName = rule.randomObjectName();
+    putObject(otherName, "other");
+
+    fileIO.deletePrefix(new EcsURI(rule.bucket(), prefix).location());
+
+    assertThat(fileIO.listPrefix(new EcsURI(rule.bucket(), prefix).location())).isEmpty();
+    assertThat(fileIO.newInputFile(new EcsURI(rule.bucket(), otherName).location()).exists())
+        .as("Objects outside of the prefix should not be deleted")
+        .isTrue();
+  }
+
+  private void putObject(String name, String content) {
+    rule.client().putObject(new PutObjectRequest(rule.bucket(), name, content.getBytes()));
+  }
+}
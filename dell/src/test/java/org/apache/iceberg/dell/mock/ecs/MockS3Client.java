@@ -25,6 +25,7 @@ import com.emc.object.Range;
 import com.emc.object.s3.S3Client;
 import com.emc.object.s3.S3Exception;
 import com.emc.object.s3.S3ObjectMetadata;
+import com.emc.object.s3.bean.AbstractDeleteResult;
 import com.emc.object.s3.bean.AccessControlList;
 import com.emc.object.s3.bean.BucketInfo;
 import com.emc.object.s3.bean.BucketPolicy;
@@ -34,6 +35,7 @@ import com.emc.object.s3.bean.CopyObjectResult;
 import com.emc.object.s3.bean.CopyPartResult;
 import com.emc.object.s3.bean.CorsConfiguration;
 import com.emc.object.s3.bean.DeleteObjectsResult;
+import com.emc.object.s3.bean.DeleteSuccess;
 import com.emc.object.s3.bean.GetObjectResult;
 import com.emc.object.s3.bean.InitiateMultipartUploadResult;
 import com.emc.object.s3.bean.LifecycleConfiguration;
@@ -46,6 +48,7 @@ import com.emc.object.s3.bean.ListVersionsResult;
 import com.emc.object.s3.bean.LocationConstraint;
 import com.emc.object.s3.bean.MetadataSearchList;
 import com.emc.object.s3.bean.MultipartPartETag;
+import com.emc.object.s3.bean.ObjectKey;
 import com.emc.object.s3.bean.ObjectLockConfiguration;
 import com.emc.object.s3.bean.ObjectLockLegalHold;
 import com.emc.object.s3.bean.ObjectLockRetention;
@@ -188,6 +191,21 @@ public class MockS3Client implements S3Client {
     objectData.remove(new ObjectId(bucketName, key));
   }
 
+  @Override
+  public DeleteObjectsResult deleteObjects(DeleteObjectsRequest request) {
+    List<AbstractDeleteResult> results = Lists.newArrayList();
+    for (ObjectKey key : request.getDeleteObjects().getKeys()) {
+      objectData.remove(new ObjectId(request.getBucketName(), key.getKey()));
+      DeleteSuccess success = new DeleteSuccess();
+      success.setKey(key.getKey());
+      results.add(success);
+    }
+
+    DeleteObjectsResult result = new DeleteObjectsResult();
+    result.setResults(results);
+    return result;
+  }
+
   @Override
   public GetObjectResult<InputStream> getObject(String bucketName, String key) {
     ObjectData data = objectData.get(new ObjectId(bucketName, key));
@@ -239,7 +257,7 @@ public class MockS3Client implements S3Client {
         break;
       }
 
-      int nextDelimiter = id.name.indexOf(delimiter, prefix.length());
+      int nextDelimiter = delimiter == null ? -1 : id.name.indexOf(delimiter, prefix.length());
       if (nextDelimiter > 0) {
         // If name = a/b/c and prefix = a/ , then return a/b/
         prefixResults.add(id.name.substring(0, nextDelimiter + delimiter.length()));
@@ -247,6 +265,8 @@ public class MockS3Client implements S3Client {
         S3Object s3Object = new S3Object();
         s3Object.setKey(id.name);
         s3Object.setETag(entry.getValue().createFullMetadata().getETag());
+        s3Object.setSize((long) entry.getValue().length());
+        s3Object.setLastModified(new Date(entry.getValue().lastModified));
         objectResults.add(s3Object);
       }
     }
@@ -510,11 +530,6 @@ public class MockS3Client implements S3Client {
     wontImplement();
   }
 
-  @Override
-  public DeleteObjectsResult deleteObjects(DeleteObjectsRequest request) {
-    return wontImplement();
-  }
-
   @Override
   public void setObjectMetadata(String bucketName, String key, S3ObjectMetadata objectMetadata) {
     wontImplement();
@@ -32,11 +32,13 @@ import java.util.Map;
 public class ObjectData {
   public final byte[] content;
   public final Map<String, String> userMetadata;
+  public final long lastModified;
   private static final char[] HEX_ARRAY = "0123456789ABCDEF".toCharArray();
 
   private ObjectData(byte[] content, Map<String, String> userMetadata) {
     this.content = content;
     this.userMetadata = userMetadata;
+    this.lastModified = System.currentTimeMillis();
   }
 
   public static ObjectData create(byte[] content, S3ObjectMetadata metadata) {
@@ -190,4 +190,23 @@ public class FlinkReadConf {
         .defaultValue(FlinkReadOptions.MAX_ALLOWED_PLANNING_FAILURES_OPTION.defaultValue())
         .parse();
   }
+
+  public boolean vectorizationEnabled() {
+    return confParser
+        .booleanConf()
+        .option(FlinkReadOptions.VECTORIZATION_ENABLED)
+        .flinkConfig(FlinkReadOptions.VECTORIZATION_ENABLED_OPTION)
+        .defaultValue(FlinkReadOptions.VECTORIZATION_ENABLED_OPTION.defaultValue())
+        .parse();
+  }
+
+  public int vectorizationBatchSize() {
+    return confParser
+        .intConf()
+        .option(FlinkReadOptions.VECTORIZATION_BATCH_SIZE)
+        .flinkConfig(FlinkReadOptions.VECTORIZATION_BATCH_SIZE_OPTION)
+        .tableProperty(TableProperties.PARQUET_BATCH_SIZE)
+        .defaultValue(TableProperties.PARQUET_BATCH_SIZE_DEFAULT)
+        .parse();
+  }
 }
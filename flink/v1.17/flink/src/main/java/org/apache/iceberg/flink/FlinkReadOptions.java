@@ -109,4 +109,14 @@ public class FlinkReadOptions {
   public static final String MAX_ALLOWED_PLANNING_FAILURES = "max-allowed-planning-failures";
   public static final ConfigOption<Integer> MAX_ALLOWED_PLANNING_FAILURES_OPTION =
       ConfigOptions.key(PREFIX + MAX_ALLOWED_PLANNING_FAILURES).intType().defaultValue(3);
+
+  public static final String VECTORIZATION_ENABLED = "vectorization-enabled";
+  public static final ConfigOption<Boolean> VECTORIZATION_ENABLED_OPTION =
+      ConfigOptions.key(PREFIX + VECTORIZATION_ENABLED).booleanType().defaultValue(false);
+
+  public static final String VECTORIZATION_BATCH_SIZE = "batch-size";
+  public static final ConfigOption<Integer> VECTORIZATION_BATCH_SIZE_OPTION =
+      ConfigOptions.key(PREFIX + VECTORIZATION_BATCH_SIZE)
+          .intType()
+          .defaultValue(TableProperties.PARQUET_BATCH_SIZE_DEFAULT);
 }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.flink.data.vectorized;
+
+import java.math.BigDecimal;
+import org.apache.flink.table.data.DecimalData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.table.data.columnar.vector.BooleanColumnVector;
+import org.apache.flink.table.data.columnar.vector.BytesColumnVector;
+import org.apache.flink.table.data.columnar.vector.DecimalColumnVector;
+import org.apache.flink.table.data.columnar.vector.DoubleColumnVector;
+import org.apache.flink.table.data.columnar.vector.FloatColumnVector;
+import org.apache.flink.table.data.columnar.vector.IntColumnVector;
+import org.apache.flink.table.data.columnar.vector.LongColumnVector;
+import org.apache.flink.table.data.columnar.vector.TimestampColumnVector;
+import org.apache.iceberg.arrow.vectorized.ColumnVector;
+import org.apache.iceberg.types.Type;
+
+/**
+ * Exposes an Iceberg Arrow {@link ColumnVector} of a primitive type as a Flink column vector.
+ *
+ * <p>Values are read through the Iceberg vector, which skips deleted rows using the row id mapping
+ * of its batch, and are converted to Flink's internal representation: times are in milliseconds and
+ * timestamps are {@link TimestampData}.
+ */
+class ArrowColumnVectorWrapper
+    implements BooleanColumnVector,
+        IntColumnVector,
+        LongColumnVector,
+        FloatColumnVector,
+        DoubleColumnVector,
+        BytesColumnVector,
+        DecimalColumnVector,
+        TimestampColumnVector {
+  private final Type.TypeID typeId;
+  private final ColumnVector vector;
+
+  ArrowColumnVectorWrapper(Type type, ColumnVector vector) {
+    this.typeId = type.typeId();
+    this.vector = vector;
+  }
+
+  @Override
+  public boolean isNullAt(int rowId) {
+    return vector.isNullAt(rowId);
+  }
+
+  @Override
+  public boolean getBoolean(int rowId) {
+    return vector.getBoolean(rowId);
+  }
+
+  @Override
+  public int getInt(int rowId) {
+    if (typeId == Type.TypeID.TIME) {
+      return (int) (vector.getLong(rowId) / 1000);
+    }
+
+    return vector.getInt(rowId);
+  }
+
+  @Override
+  public long getLong(int rowId) {
+    return vector.getLong(rowId);
+  }
+
+  @Override
+  public float getFloat(int rowId) {
+    return vector.getFloat(rowId);
+  }
+
+  @Override
+  public double getDouble(int rowId) {
+    return vector.getDouble(rowId);
+  }
+
+  @Override
+  public Bytes getBytes(int rowId) {
+    // strings are copied as raw UTF-8 bytes without decoding them
+    byte[] bytes = vector.getBinary(rowId);
+    return new Bytes(bytes, 0, bytes.length);
+  }
+
+  @Override
+  public DecimalData getDecimal(int rowId, int precision, int scale) {
+    BigDecimal decimal = vector.getDecimal(rowId, precision, scale);
+    return DecimalData.fromBigDecimal(decimal, precision, scale);
+  }
+
+  @Override
+  public TimestampData getTimestamp(int rowId, int precision) {
+    long micros = vector.getLong(rowId);
+    return TimestampData.fromEpochMillis(
+        Math.floorDiv(micros, 1000), (int) Math.floorMod(micros, 1000) * 1000);
+  }
+}
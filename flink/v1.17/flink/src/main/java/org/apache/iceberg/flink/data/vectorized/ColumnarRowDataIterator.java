@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.flink.data.vectorized;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.columnar.ColumnarRowData;
+import org.apache.flink.table.data.columnar.vector.ColumnVector;
+import org.apache.flink.table.data.columnar.vector.VectorizedColumnBatch;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.arrow.vectorized.ColumnarBatch;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.types.Types;
+
+/**
+ * Iterates over the rows of Arrow {@link ColumnarBatch batches} as Flink {@link ColumnarRowData}.
+ *
+ * <p>Rows are not copied: the returned {@link RowData} is a view of the current batch that is
+ * reused for every row and is only valid until the next call to {@link #next()}.
+ */
+public class ColumnarRowDataIterator implements CloseableIterator<RowData> {
+  private final CloseableIterator<ColumnarBatch> batches;
+  private final List<Types.NestedField> columns;
+  // the ordinal of each projected column in the Arrow batches, or -1 for constant columns
+  private final int[] batchOrdinals;
+  private final ColumnVector[] vectors;
+  private final ColumnarRowData row = new ColumnarRowData();
+  private int numRows = 0;
+  private int nextRowId = 0;
+
+  /**
+   * Create a new iterator.
+   *
+   * @param projectedSchema the schema of the returned rows
+   * @param idToConstant constant values of projected fields that are not in the batches, already
+   *     converted to Flink's internal representation
+   * @param batches batches with the projected columns that have no constant value, in order
+   */
+  public ColumnarRowDataIterator(
+      Schema projectedSchema,
+      Map<Integer, ?> idToConstant,
+      CloseableIterator<ColumnarBatch> batches) {
+    this.batches = batches;
+    this.columns = projectedSchema.columns();
+    this.batchOrdinals = new int[columns.size()];
+    this.vectors = new ColumnVector[columns.size()];
+
+    int batchOrdinal = 0;
+    for (int pos = 0; pos < columns.size(); pos += 1) {
+      int fieldId = columns.get(pos).fieldId();
+      if (idToConstant.containsKey(fieldId)) {
+        batchOrdinals[pos] = -1;
+        vectors[pos] = new ConstantColumnVector(idToConstant.get(fieldId));
+      } else {
+        batchOrdinals[pos] = batchOrdinal;
+        batchOrdinal += 1;
+      }
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (nextRowId >= numRows) {
+      if (!batches.hasNext()) {
+        return false;
+      }
+
+      ColumnarBatch batch = batches.next();
+      for (int pos = 0; pos < columns.size(); pos += 1) {
+        if (batchOrdinals[pos] >= 0) {
+          vectors[pos] =
+              new ArrowColumnVectorWrapper(
+                  columns.get(pos).type(), batch.column(batchOrdinals[pos]));
+        }
+      }
+
+      VectorizedColumnBatch flinkBatch = new VectorizedColumnBatch(vectors.clone());
+      flinkBatch.setNumRows(batch.numRows());
+      row.setVectorizedColumnBatch(flinkBatch);
+      this.numRows = batch.numRows();
+      this.nextRowId = 0;
+    }
+
+    return true;
+  }
+
+  @Override
+  public RowData next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    row.setRowId(nextRowId);
+    nextRowId += 1;
+    return row;
+  }
+
+  @Override
+  public void close() throws IOException {
+    batches.close();
+  }
+}
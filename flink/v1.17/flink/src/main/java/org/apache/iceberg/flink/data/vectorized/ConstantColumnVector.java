@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.flink.data.vectorized;
+
+import java.util.UUID;
+import org.apache.flink.table.data.DecimalData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.table.data.columnar.vector.BooleanColumnVector;
+import org.apache.flink.table.data.columnar.vector.BytesColumnVector;
+import org.apache.flink.table.data.columnar.vector.DecimalColumnVector;
+import org.apache.flink.table.data.columnar.vector.DoubleColumnVector;
+import org.apache.flink.table.data.columnar.vector.FloatColumnVector;
+import org.apache.flink.table.data.columnar.vector.IntColumnVector;
+import org.apache.flink.table.data.columnar.vector.LongColumnVector;
+import org.apache.flink.table.data.columnar.vector.TimestampColumnVector;
+import org.apache.iceberg.util.UUIDUtil;
+
+/**
+ * A Flink column vector that returns the same value for every row, used for identity partition
+ * values that are not read from data files.
+ *
+ * <p>The value must already be converted to Flink's internal representation, see {@link
+ * org.apache.iceberg.flink.data.RowDataUtil#convertConstant}.
+ */
+class ConstantColumnVector
+    implements BooleanColumnVector,
+        IntColumnVector,
+        LongColumnVector,
+        FloatColumnVector,
+        DoubleColumnVector,
+        BytesColumnVector,
+        DecimalColumnVector,
+        TimestampColumnVector {
+  private final Object value;
+  private final Bytes bytes;
+
+  ConstantColumnVector(Object value) {
+    this.value = value;
+    byte[] valueBytes = toBytes(value);
+    this.bytes = valueBytes != null ? new Bytes(valueBytes, 0, valueBytes.length) : null;
+  }
+
+  private static byte[] toBytes(Object value) {
+    if (value instanceof byte[]) {
+      return (byte[]) value;
+    } else if (value instanceof StringData) {
+      return ((StringData) value).toBytes();
+    } else if (value instanceof UUID) {
+      return UUIDUtil.convert((UUID) value);
+    }
+
+    return null;
+  }
+
+  @Override
+  public boolean isNullAt(int rowId) {
+    return value == null;
+  }
+
+  @Override
+  public boolean getBoolean(int rowId) {
+    return (Boolean) value;
+  }
+
+  @Override
+  public int getInt(int rowId) {
+    return (Integer) value;
+  }
+
+  @Override
+  public long getLong(int rowId) {
+    return (Long) value;
+  }
+
+  @Override
+  public float getFloat(int rowId) {
+    return (Float) value;
+  }
+
+  @Override
+  public double getDouble(int rowId) {
+    return (Double) value;
+  }
+
+  @Override
+  public Bytes getBytes(int rowId) {
+    return bytes;
+  }
+
+  @Override
+  public DecimalData getDecimal(int rowId, int precision, int scale) {
+    return (DecimalData) value;
+  }
+
+  @Override
+  public TimestampData getTimestamp(int rowId, int precision) {
+    return (TimestampData) value;
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.flink.source;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.flink.annotation.Internal;
+import org.apache.flink.table.data.RowData;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.arrow.vectorized.ArrowFileScanTaskReader;
+import org.apache.iceberg.encryption.InputFilesDecryptor;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.flink.FlinkSourceFilter;
+import org.apache.iceberg.flink.data.RowDataUtil;
+import org.apache.iceberg.flink.data.vectorized.ColumnarRowDataIterator;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.io.FilterIterator;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.TypeUtil;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.PartitionUtil;
+
+/**
+ * A {@link FileScanTaskReader} that decodes Parquet and ORC data files in column batches and
+ * returns the rows as Flink {@link org.apache.flink.table.data.columnar.ColumnarRowData}.
+ *
+ * <p>Delete files are applied to each batch by skipping deleted rows instead of copying the
+ * remaining rows. Tasks that cannot be read in batches, like Avro files or projections with nested
+ * types or metadata columns, are read by {@link RowDataFileScanTaskReader}.
+ *
+ * <p>The returned rows are views of the current batch and are only valid until the next row is
+ * requested, so they must be copied if they are kept.
+ */
+@Internal
+public class ColumnarRowDataFileScanTaskReader implements FileScanTaskReader<RowData> {
+  private final Schema tableSchema;
+  private final Schema projectedSchema;
+  private final String nameMapping;
+  private final boolean caseSensitive;
+  private final int batchSize;
+  private final FlinkSourceFilter rowFilter;
+  private final RowDataFileScanTaskReader rowReader;
+
+  public ColumnarRowDataFileScanTaskReader(
+      Schema tableSchema,
+      Schema projectedSchema,
+      String nameMapping,
+      boolean caseSensitive,
+      List<Expression> filters,
+      int batchSize) {
+    this.tableSchema = tableSchema;
+    this.projectedSchema = projectedSchema;
+    this.nameMapping = nameMapping;
+    this.caseSensitive = caseSensitive;
+    this.batchSize = batchSize;
+    this.rowReader =
+        new RowDataFileScanTaskReader(
+            tableSchema, projectedSchema, nameMapping, caseSensitive, filters);
+
+    if (filters != null && !filters.isEmpty()) {
+      Expression combinedExpression =
+          filters.stream().reduce(Expressions.alwaysTrue(), Expressions::and);
+      this.rowFilter = new FlinkSourceFilter(projectedSchema, combinedExpression, caseSensitive);
+    } else {
+      this.rowFilter = null;
+    }
+  }
+
+  @Override
+  public CloseableIterator<RowData> open(
+      FileScanTask task, InputFilesDecryptor inputFilesDecryptor) {
+    Schema partitionSchema = TypeUtil.select(projectedSchema, task.spec().identitySourceIds());
+    Map<Integer, ?> idToConstant =
+        partitionSchema.columns().isEmpty()
+            ? ImmutableMap.of()
+            : PartitionUtil.constantsMap(task, RowDataUtil::convertConstant);
+    Schema batchSchema = TypeUtil.selectNot(projectedSchema, idToConstant.keySet());
+
+    if (!canReadBatches(task, batchSchema)) {
+      return rowReader.open(task, inputFilesDecryptor);
+    }
+
+    ArrowFileScanTaskReader batchReader =
+        new ArrowFileScanTaskReader(
+            batchSchema, tableSchema, nameMapping, caseSensitive, batchSize, true);
+    CloseableIterator<RowData> rows =
+        new ColumnarRowDataIterator(
+            projectedSchema,
+            idToConstant,
+            batchReader.open(
+                task, inputFilesDecryptor.getInputFile(task), inputFilesDecryptor::getInputFile));
+
+    if (rowFilter != null) {
+      return new FilterIterator<RowData>(rows) {
+        @Override
+        protected boolean shouldKeep(RowData row) {
+          return rowFilter.filter(row);
+        }
+      };
+    }
+
+    return rows;
+  }
+
+  private boolean canReadBatches(FileScanTask task, Schema batchSchema) {
+    if (task.isDataTask()) {
+      return false;
+    }
+
+    FileFormat format = task.file().format();
+    if (format != FileFormat.PARQUET && format != FileFormat.ORC) {
+      return false;
+    }
+
+    for (Types.NestedField field : projectedSchema.columns()) {
+      if (!field.type().isPrimitiveType()
+          || field.type().typeId() == Type.TypeID.FIXED
+          || MetadataColumns.metadataFieldIds().contains(field.fieldId())) {
+        return false;
+      }
+    }
+
+    return ArrowFileScanTaskReader.isSupported(batchSchema);
+  }
+}
@@ -45,6 +45,7 @@ import org.apache.iceberg.Table;
 import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.flink.FlinkConfigOptions;
+import org.apache.iceberg.flink.FlinkReadConf;
 import org.apache.iceberg.flink.FlinkReadOptions;
 import org.apache.iceberg.flink.FlinkSchemaUtil;
 import org.apache.iceberg.flink.TableLoader;
@@ -392,6 +393,17 @@ public class IcebergSource<T> implements Source<T, IcebergSourceSplit, IcebergEn
       return this;
     }
 
+    /**
+     * Enables decoding Parquet and ORC files in column batches, see {@link
+     * FlinkReadOptions#VECTORIZATION_ENABLED_OPTION}. Only used by the default {@link RowData}
+     * reader function.
+     */
+    public Builder<T> vectorizationEnabled(boolean newVectorizationEnabled) {
+      readOptions.put(
+          FlinkReadOptions.VECTORIZATION_ENABLED, Boolean.toString(newVectorizationEnabled));
+      return this;
+    }
+
     public Builder<T> planParallelism(int planParallelism) {
       readOptions.put(
           FlinkConfigOptions.TABLE_EXEC_ICEBERG_WORKER_POOL_SIZE.key(),
@@ -461,6 +473,7 @@ public class IcebergSource<T> implements Source<T, IcebergSourceSplit, IcebergEn
                   flinkConfig, table.schema(), context.project(), table.io(), table.encryption());
           this.readerFunction = (ReaderFunction<T>) rowDataReaderFunction;
         } else {
+          FlinkReadConf readConf = new FlinkReadConf(table, readOptions, flinkConfig);
           RowDataReaderFunction rowDataReaderFunction =
               new RowDataReaderFunction(
                   flinkConfig,
@@ -470,7 +483,9 @@ public class IcebergSource<T> implements Source<T, IcebergSourceSplit, IcebergEn
                   context.caseSensitive(),
                   table.io(),
                   table.encryption(),
-                  context.filters());
+                  context.filters(),
+                  readConf.vectorizationEnabled(),
+                  readConf.vectorizationBatchSize());
           this.readerFunction = (ReaderFunction<T>) rowDataReaderFunction;
         }
       }
@@ -24,8 +24,11 @@ import org.apache.flink.table.data.RowData;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.encryption.EncryptionManager;
 import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.flink.FlinkReadOptions;
 import org.apache.iceberg.flink.FlinkSchemaUtil;
+import org.apache.iceberg.flink.source.ColumnarRowDataFileScanTaskReader;
 import org.apache.iceberg.flink.source.DataIterator;
+import org.apache.iceberg.flink.source.FileScanTaskReader;
 import org.apache.iceberg.flink.source.RowDataFileScanTaskReader;
 import org.apache.iceberg.flink.source.split.IcebergSourceSplit;
 import org.apache.iceberg.io.FileIO;
@@ -39,6 +42,8 @@ public class RowDataReaderFunction extends DataIteratorReaderFunction<RowData> {
   private final FileIO io;
   private final EncryptionManager encryption;
   private final List<Expression> filters;
+  private final boolean vectorizationEnabled;
+  private final int batchSize;
 
   public RowDataReaderFunction(
       ReadableConfig config,
@@ -49,6 +54,35 @@ public class RowDataReaderFunction extends DataIteratorReaderFunction<RowData> {
       FileIO io,
       EncryptionManager encryption,
       List<Expression> filters) {
+    this(
+        config,
+        tableSchema,
+        projectedSchema,
+        nameMapping,
+        caseSensitive,
+        io,
+        encryption,
+        filters,
+        FlinkReadOptions.VECTORIZATION_ENABLED_OPTION.defaultValue(),
+        FlinkReadOptions.VECTORIZATION_BATCH_SIZE_OPTION.defaultValue());
+  }
+
+  /**
+   * Creates a reader function that decodes Parquet and ORC files in column batches when {@code
+   * vectorizationEnabled} is true. Files and projections that cannot be read in batches are read
+   * row by row.
+   */
+  public RowDataReaderFunction(
+      ReadableConfig config,
+      Schema tableSchema,
+      Schema projectedSchema,
+      String nameMapping,
+      boolean caseSensitive,
+      FileIO io,
+      EncryptionManager encryption,
+      List<Expression> filters,
+      boolean vectorizationEnabled,
+      int batchSize) {
     super(
         new ArrayPoolDataIteratorBatcher<>(
             config,
@@ -61,15 +95,23 @@ public class RowDataReaderFunction extends DataIteratorReaderFunction<RowData> {
     this.io = io;
     this.encryption = encryption;
     this.filters = filters;
+    this.vectorizationEnabled = vectorizationEnabled;
+    this.batchSize = batchSize;
   }
 
   @Override
   public DataIterator<RowData> createDataIterator(IcebergSourceSplit split) {
-    return new DataIterator<>(
-        new RowDataFileScanTaskReader(tableSchema, readSchema, nameMapping, caseSensitive, filters),
-        split.task(),
-        io,
-        encryption);
+    return new DataIterator<>(createFileScanTaskReader(), split.task(), io, encryption);
+  }
+
+  private FileScanTaskReader<RowData> createFileScanTaskReader() {
+    if (vectorizationEnabled) {
+      return new ColumnarRowDataFileScanTaskReader(
+          tableSchema, readSchema, nameMapping, caseSensitive, filters, batchSize);
+    }
+
+    return new RowDataFileScanTaskReader(
+        tableSchema, readSchema, nameMapping, caseSensitive, filters);
   }
 
   private static Schema readSchema(Schema tableSchema, Schema projectedSchema) {
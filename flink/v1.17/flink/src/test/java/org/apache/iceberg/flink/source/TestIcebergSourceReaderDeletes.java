@@ -65,6 +65,10 @@ public class TestIcebergSourceReaderDeletes extends TestFlinkReaderDeletesBase {
     super(inputFormat);
   }
 
+  protected boolean vectorizationEnabled() {
+    return false;
+  }
+
   @Override
   protected StructLikeSet rowSet(String tableName, Table testTable, String... columns)
       throws IOException {
@@ -92,6 +96,7 @@ public class TestIcebergSourceReaderDeletes extends TestFlinkReaderDeletesBase {
                   .tableLoader(tableLoader)
                   .assignerFactory(new SimpleSplitAssignerFactory())
                   .project(projected)
+                  .vectorizationEnabled(vectorizationEnabled())
                   .build(),
               WatermarkStrategy.noWatermarks(),
               "testBasicRead",
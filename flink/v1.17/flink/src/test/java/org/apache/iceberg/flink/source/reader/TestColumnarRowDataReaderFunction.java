@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.flink.source.reader;
+
+import java.util.Collections;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.table.data.RowData;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.encryption.PlaintextEncryptionManager;
+import org.apache.iceberg.flink.TestFixtures;
+import org.apache.iceberg.hadoop.HadoopFileIO;
+
+public class TestColumnarRowDataReaderFunction extends TestRowDataReaderFunction {
+
+  // small enough that the files of the tests are split into several batches
+  private static final int BATCH_SIZE = 3;
+
+  public TestColumnarRowDataReaderFunction(FileFormat fileFormat) {
+    super(fileFormat);
+  }
+
+  @Override
+  protected ReaderFunction<RowData> readerFunction() {
+    return new RowDataReaderFunction(
+        new Configuration(),
+        TestFixtures.SCHEMA,
+        TestFixtures.SCHEMA,
+        null,
+        true,
+        new HadoopFileIO(new org.apache.hadoop.conf.Configuration()),
+        new PlaintextEncryptionManager(),
+        Collections.emptyList(),
+        true,
+        BATCH_SIZE);
+  }
+}
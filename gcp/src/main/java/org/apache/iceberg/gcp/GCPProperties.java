@@ -22,6 +22,7 @@ import java.io.Serializable;
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.util.PropertyUtil;
 
 public class GCPProperties implements Serializable {
@@ -38,6 +39,44 @@ public class GCPProperties implements Serializable {
   public static final String GCS_CHANNEL_READ_CHUNK_SIZE = "gcs.channel.read.chunk-size-bytes";
   public static final String GCS_CHANNEL_WRITE_CHUNK_SIZE = "gcs.channel.write.chunk-size-bytes";
 
+  /**
+   * Number of threads to use for the range reads of vectored reads (shared pool across all input
+   * streams), default to {@link Runtime#availableProcessors()}
+   */
+  public static final String GCS_VECTORED_READ_THREADS = "gcs.vectored-read.num-threads";
+
+  /**
+   * Whether to upload large files as a parallel composite upload. When enabled, the data is written
+   * as temporary part objects that are uploaded concurrently while the file is still being written,
+   * and the parts are composed into the final object on close. Composite objects have a CRC32C
+   * checksum but no MD5 hash.
+   */
+  public static final String GCS_COMPOSITE_UPLOAD_ENABLED = "gcs.composite-upload.enabled";
+
+  public static final boolean GCS_COMPOSITE_UPLOAD_ENABLED_DEFAULT = false;
+
+  /** The size of the part objects of a parallel composite upload, in bytes */
+  public static final String GCS_COMPOSITE_UPLOAD_PART_SIZE =
+      "gcs.composite-upload.part-size-bytes";
+
+  public static final int GCS_COMPOSITE_UPLOAD_PART_SIZE_DEFAULT = 32 * 1024 * 1024;
+
+  /**
+   * Number of threads to use for uploading the parts of composite uploads (shared pool across all
+   * output streams), default to {@link Runtime#availableProcessors()}
+   */
+  public static final String GCS_COMPOSITE_UPLOAD_THREADS = "gcs.composite-upload.num-threads";
+
+  /**
+   * Max number of bytes of completed parts that are buffered in memory while waiting to be uploaded
+   * (shared across all output streams). Writers block until parts are uploaded when the limit is
+   * reached.
+   */
+  public static final String GCS_COMPOSITE_UPLOAD_MAX_BUFFERED_BYTES =
+      "gcs.composite-upload.max-buffered-bytes";
+
+  public static final long GCS_COMPOSITE_UPLOAD_MAX_BUFFERED_BYTES_DEFAULT = 256L * 1024 * 1024;
+
   public static final String GCS_OAUTH2_TOKEN = "gcs.oauth2.token";
   public static final String GCS_OAUTH2_TOKEN_EXPIRES_AT = "gcs.oauth2.token-expires-at";
 
@@ -59,6 +98,12 @@ public class GCPProperties implements Serializable {
 
   private Integer gcsChannelReadChunkSize;
   private Integer gcsChannelWriteChunkSize;
+  private int gcsVectoredReadThreads = Runtime.getRuntime().availableProcessors();
+
+  private boolean gcsCompositeUploadEnabled = GCS_COMPOSITE_UPLOAD_ENABLED_DEFAULT;
+  private int gcsCompositeUploadPartSize = GCS_COMPOSITE_UPLOAD_PART_SIZE_DEFAULT;
+  private int gcsCompositeUploadThreads = Runtime.getRuntime().availableProcessors();
+  private long gcsCompositeUploadMaxBufferedBytes = GCS_COMPOSITE_UPLOAD_MAX_BUFFERED_BYTES_DEFAULT;
 
   private String gcsOAuth2Token;
   private Date gcsOAuth2TokenExpiresAt;
@@ -84,6 +129,29 @@ public class GCPProperties implements Serializable {
       gcsChannelWriteChunkSize = Integer.parseInt(properties.get(GCS_CHANNEL_WRITE_CHUNK_SIZE));
     }
 
+    gcsVectoredReadThreads =
+        PropertyUtil.propertyAsInt(
+            properties, GCS_VECTORED_READ_THREADS, Runtime.getRuntime().availableProcessors());
+
+    gcsCompositeUploadEnabled =
+        PropertyUtil.propertyAsBoolean(
+            properties, GCS_COMPOSITE_UPLOAD_ENABLED, GCS_COMPOSITE_UPLOAD_ENABLED_DEFAULT);
+    gcsCompositeUploadPartSize =
+        PropertyUtil.propertyAsInt(
+            properties, GCS_COMPOSITE_UPLOAD_PART_SIZE, GCS_COMPOSITE_UPLOAD_PART_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        gcsCompositeUploadPartSize > 0,
+        "Invalid composite upload part size: %s (must be > 0)",
+        gcsCompositeUploadPartSize);
+    gcsCompositeUploadThreads =
+        PropertyUtil.propertyAsInt(
+            properties, GCS_COMPOSITE_UPLOAD_THREADS, Runtime.getRuntime().availableProcessors());
+    gcsCompositeUploadMaxBufferedBytes =
+        PropertyUtil.propertyAsLong(
+            properties,
+            GCS_COMPOSITE_UPLOAD_MAX_BUFFERED_BYTES,
+            GCS_COMPOSITE_UPLOAD_MAX_BUFFERED_BYTES_DEFAULT);
+
     gcsOAuth2Token = properties.get(GCS_OAUTH2_TOKEN);
     if (properties.containsKey(GCS_OAUTH2_TOKEN_EXPIRES_AT)) {
       gcsOAuth2TokenExpiresAt =
@@ -103,6 +171,26 @@ public class GCPProperties implements Serializable {
     return Optional.ofNullable(gcsChannelWriteChunkSize);
   }
 
+  public int vectoredReadThreads() {
+    return gcsVectoredReadThreads;
+  }
+
+  public boolean isCompositeUploadEnabled() {
+    return gcsCompositeUploadEnabled;
+  }
+
+  public int compositeUploadPartSize() {
+    return gcsCompositeUploadPartSize;
+  }
+
+  public int compositeUploadThreads() {
+    return gcsCompositeUploadThreads;
+  }
+
+  public long compositeUploadMaxBufferedBytes() {
+    return gcsCompositeUploadMaxBufferedBytes;
+  }
+
   public Optional<String> clientLibToken() {
     return Optional.ofNullable(clientLibToken);
   }
@@ -20,22 +20,31 @@ package org.apache.iceberg.gcp.gcs;
 
 import com.google.api.client.util.Lists;
 import com.google.cloud.ReadChannel;
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.Storage.BlobSourceOption;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.gcp.GCPProperties;
 import org.apache.iceberg.io.FileIOMetricsContext;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.io.VectoredReads;
 import org.apache.iceberg.metrics.Counter;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,9 +52,11 @@ import org.slf4j.LoggerFactory;
  * The GCSInputStream leverages native streaming channels from the GCS API for streaming uploads.
  * See <a href="https://cloud.google.com/storage/docs/streaming">Streaming Transfers</a>
  */
-class GCSInputStream extends SeekableInputStream {
+class GCSInputStream extends SeekableInputStream implements RangeReadable {
   private static final Logger LOG = LoggerFactory.getLogger(GCSInputStream.class);
 
+  private static volatile ExecutorService executorService;
+
   private final StackTraceElement[] createStack;
   private final Storage storage;
   private final BlobId blobId;
@@ -56,6 +67,7 @@ class GCSInputStream extends SeekableInputStream {
   private boolean closed = false;
   private final ByteBuffer singleByteBuffer = ByteBuffer.wrap(new byte[1]);
   private ByteBuffer byteBuffer;
+  private Long blobSize = null;
 
   private final Counter readBytes;
   private final Counter readOperations;
@@ -75,6 +87,10 @@ class GCSInputStream extends SeekableInputStream {
   }
 
   private void openStream() {
+    channel = newChannel();
+  }
+
+  private ReadChannel newChannel() {
     List<BlobSourceOption> sourceOptions = Lists.newArrayList();
 
     gcpProperties
@@ -84,9 +100,10 @@ class GCSInputStream extends SeekableInputStream {
         .userProject()
         .ifPresent(userProject -> sourceOptions.add(BlobSourceOption.userProject(userProject)));
 
-    channel = storage.reader(blobId, sourceOptions.toArray(new BlobSourceOption[0]));
+    ReadChannel newChannel = storage.reader(blobId, sourceOptions.toArray(new BlobSourceOption[0]));
 
-    gcpProperties.channelReadChunkSize().ifPresent(channel::setChunkSize);
+    gcpProperties.channelReadChunkSize().ifPresent(newChannel::setChunkSize);
+    return newChannel;
   }
 
   @Override
@@ -136,6 +153,82 @@ class GCSInputStream extends SeekableInputStream {
     return bytesRead;
   }
 
+  @Override
+  public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
+
+    // use a separate channel so that positional reads can run concurrently with stream reads
+    try (ReadChannel rangeChannel = newChannel()) {
+      rangeChannel.seek(position);
+      rangeChannel.limit(position + length);
+
+      ByteBuffer rangeBuffer = ByteBuffer.wrap(buffer, offset, length);
+      while (rangeBuffer.hasRemaining()) {
+        int bytesRead = rangeChannel.read(rangeBuffer);
+        if (bytesRead < 0) {
+          throw new EOFException(
+              String.format(
+                  "Reached the end of stream with %d bytes left to read", rangeBuffer.remaining()));
+        }
+
+        readBytes.increment(bytesRead);
+      }
+
+      readOperations.increment();
+    }
+  }
+
+  @Override
+  public int readTail(byte[] buffer, int offset, int length) throws IOException {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
+
+    long size = blobSize();
+    int tailLength = (int) Math.min(length, size);
+    readFully(size - tailLength, buffer, offset, tailLength);
+
+    return tailLength;
+  }
+
+  /**
+   * Reads the ranges using one channel for each group of nearby ranges. The reads are issued in
+   * parallel using a pool shared by all input streams, see {@link
+   * GCPProperties#GCS_VECTORED_READ_THREADS}.
+   */
+  @Override
+  public List<CompletableFuture<ByteBuffer>> readVectored(List<FileRange> ranges) {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    return VectoredReads.read(ranges, this::readFully, executorService());
+  }
+
+  private long blobSize() {
+    if (blobSize == null) {
+      Blob blob = storage.get(blobId);
+      if (blob == null) {
+        throw new NotFoundException("Blob does not exist: %s", blobId);
+      }
+
+      this.blobSize = blob.getSize();
+    }
+
+    return blobSize;
+  }
+
+  private ExecutorService executorService() {
+    if (executorService == null) {
+      synchronized (GCSInputStream.class) {
+        if (executorService == null) {
+          executorService =
+              ThreadPools.newWorkerPool(
+                  "iceberg-gcsfileio-read", gcpProperties.vectoredReadThreads());
+        }
+      }
+    }
+
+    return executorService;
+  }
+
   @Override
   public void close() throws IOException {
     super.close();
@@ -23,12 +23,18 @@ import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobTargetOption;
 import com.google.cloud.storage.Storage.BlobWriteOption;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.channels.Channels;
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
 import org.apache.iceberg.gcp.GCPProperties;
 import org.apache.iceberg.io.FileIOMetricsContext;
 import org.apache.iceberg.io.PositionOutputStream;
@@ -36,15 +42,28 @@ import org.apache.iceberg.metrics.Counter;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The GCSOutputStream leverages native streaming channels from the GCS API for streaming uploads.
  * See <a href="https://cloud.google.com/storage/docs/streaming">Streaming Transfers</a>
+ *
+ * <p>When {@link GCPProperties#GCS_COMPOSITE_UPLOAD_ENABLED} is set, the data is uploaded as a <a
+ * href="https://cloud.google.com/storage/docs/parallel-composite-uploads">parallel composite
+ * upload</a> instead: parts are buffered in memory and uploaded concurrently as temporary objects
+ * while the file is written, then composed into the final object on close.
  */
 class GCSOutputStream extends PositionOutputStream {
   private static final Logger LOG = LoggerFactory.getLogger(GCSOutputStream.class);
+  // max number of source objects in a single compose request
+  private static final int MAX_COMPOSE_SOURCES = 32;
+
+  private static volatile ExecutorService executorService;
+  private static volatile Semaphore bufferedParts;
 
   private final StackTraceElement[] createStack;
   private final Storage storage;
@@ -62,6 +81,23 @@ class GCSOutputStream extends PositionOutputStream {
   GCSOutputStream(
       Storage storage, BlobId blobId, GCPProperties gcpProperties, MetricsContext metrics)
       throws IOException {
+    if (gcpProperties.isCompositeUploadEnabled() && executorService == null) {
+      synchronized (GCSOutputStream.class) {
+        if (executorService == null) {
+          bufferedParts =
+              new Semaphore(
+                  (int)
+                      Math.max(
+                          1,
+                          gcpProperties.compositeUploadMaxBufferedBytes()
+                              / gcpProperties.compositeUploadPartSize()));
+          executorService =
+              ThreadPools.newWorkerPool(
+                  "iceberg-gcsfileio-upload", gcpProperties.compositeUploadThreads());
+        }
+      }
+    }
+
     this.storage = storage;
     this.blobId = blobId;
     this.gcpProperties = gcpProperties;
@@ -101,6 +137,11 @@ class GCSOutputStream extends PositionOutputStream {
   }
 
   private void openStream() {
+    if (gcpProperties.isCompositeUploadEnabled()) {
+      stream = new CompositeUploadStream(gcpProperties.compositeUploadPartSize());
+      return;
+    }
+
     List<BlobWriteOption> writeOptions = Lists.newArrayList();
 
     gcpProperties
@@ -140,4 +181,169 @@ class GCSOutputStream extends PositionOutputStream {
       LOG.warn("Unclosed output stream created by:\n\t{}", trace);
     }
   }
+
+  private BlobTargetOption[] targetOptions() {
+    List<BlobTargetOption> targetOptions = Lists.newArrayList();
+
+    gcpProperties
+        .encryptionKey()
+        .ifPresent(key -> targetOptions.add(BlobTargetOption.encryptionKey(key)));
+    gcpProperties
+        .userProject()
+        .ifPresent(userProject -> targetOptions.add(BlobTargetOption.userProject(userProject)));
+
+    return targetOptions.toArray(new BlobTargetOption[0]);
+  }
+
+  /**
+   * Buffers parts in memory and uploads each part as a temporary object once it is full. On close,
+   * the parts are composed into the target object and the temporary objects are deleted. Files that
+   * fit in a single part are uploaded directly.
+   */
+  private class CompositeUploadStream extends OutputStream {
+    private final String uploadId = UUID.randomUUID().toString();
+    private final int partSize;
+    private final List<BlobId> temporaryObjects = Lists.newArrayList();
+    private final List<CompletableFuture<BlobId>> uploads = Lists.newArrayList();
+    private byte[] buffer;
+    private int count = 0;
+    private boolean closed = false;
+
+    private CompositeUploadStream(int partSize) {
+      this.partSize = partSize;
+      this.buffer = new byte[partSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      if (count == partSize) {
+        uploadBuffer();
+      }
+
+      buffer[count] = (byte) b;
+      count += 1;
+    }
+
+    @Override
+    public void write(byte[] bytes, int off, int len) throws IOException {
+      int remaining = len;
+      int offset = off;
+      while (remaining > 0) {
+        if (count == partSize) {
+          uploadBuffer();
+        }
+
+        int writeSize = Math.min(remaining, partSize - count);
+        System.arraycopy(bytes, offset, buffer, count, writeSize);
+        count += writeSize;
+        offset += writeSize;
+        remaining -= writeSize;
+      }
+    }
+
+    private void uploadBuffer() throws IOException {
+      try {
+        // bound the memory used by parts that wait for upload
+        bufferedParts.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while waiting for part uploads", e);
+      }
+
+      BlobId part = temporaryObject(String.format("part-%05d", uploads.size() + 1));
+      byte[] data = buffer;
+      int length = count;
+      temporaryObjects.add(part);
+      uploads.add(
+          CompletableFuture.supplyAsync(
+              () -> {
+                try {
+                  storage.create(
+                      BlobInfo.newBuilder(part).build(), data, 0, length, targetOptions());
+                  return part;
+                } finally {
+                  bufferedParts.release();
+                }
+              },
+              executorService));
+
+      this.buffer = new byte[partSize];
+      this.count = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+
+      closed = true;
+
+      try {
+        if (uploads.isEmpty()) {
+          storage.create(BlobInfo.newBuilder(blobId).build(), buffer, 0, count, targetOptions());
+          return;
+        }
+
+        if (count > 0) {
+          uploadBuffer();
+        }
+
+        List<BlobId> parts =
+            uploads.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        compose(parts);
+      } finally {
+        this.buffer = null;
+        deleteTemporaryObjects();
+      }
+    }
+
+    private void compose(List<BlobId> parts) {
+      List<BlobId> sources = parts;
+      int level = 0;
+      // compose in several rounds when there are more parts than a compose request accepts
+      while (sources.size() > MAX_COMPOSE_SOURCES) {
+        List<BlobId> composed = Lists.newArrayList();
+        for (List<BlobId> group : Iterables.partition(sources, MAX_COMPOSE_SOURCES)) {
+          BlobId intermediate =
+              temporaryObject(String.format("compose-%d-%05d", level, composed.size() + 1));
+          temporaryObjects.add(intermediate);
+          composeTo(group, intermediate);
+          composed.add(intermediate);
+        }
+
+        sources = composed;
+        level += 1;
+      }
+
+      composeTo(sources, blobId);
+    }
+
+    private void composeTo(List<BlobId> sources, BlobId target) {
+      Storage.ComposeRequest.Builder request =
+          Storage.ComposeRequest.newBuilder()
+              .setTarget(BlobInfo.newBuilder(target).build())
+              .setTargetOptions(targetOptions());
+      sources.forEach(source -> request.addSource(source.getName()));
+      storage.compose(request.build());
+    }
+
+    private BlobId temporaryObject(String suffix) {
+      return BlobId.of(
+          blobId.getBucket(), String.format("%s.%s.%s", blobId.getName(), uploadId, suffix));
+    }
+
+    private void deleteTemporaryObjects() {
+      // wait for uploads that are still running so that no part is created after the cleanup
+      CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0]))
+          .exceptionally(e -> null)
+          .join();
+
+      Tasks.foreach(temporaryObjects)
+          .executeWith(executorService)
+          .suppressFailureWhenFinished()
+          .onFailure((part, exc) -> LOG.warn("Failed to delete temporary object {}", part, exc))
+          .run(storage::delete);
+    }
+  }
 }
@@ -27,12 +27,17 @@ import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.contrib.nio.testing.LocalStorageHelper;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import org.apache.iceberg.gcp.GCPProperties;
+import org.apache.iceberg.io.FileRange;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.SeekableInputStream;
 import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.junit.jupiter.api.Test;
 
 public class GCSInputStreamTest {
@@ -144,6 +149,57 @@ public class GCSInputStreamTest {
     }
   }
 
+  @Test
+  public void testRangeRead() throws Exception {
+    BlobId blobId = BlobId.fromGsUtilUri("gs://bucket/path/to/range-read.dat");
+    byte[] data = randomData(1024 * 1024);
+
+    writeGCSData(blobId, data);
+
+    try (GCSInputStream in =
+        new GCSInputStream(storage, blobId, gcpProperties, MetricsContext.nullMetrics())) {
+      byte[] actual = new byte[1024];
+      in.readFully(4096, actual, 0, actual.length);
+      assertThat(actual).isEqualTo(Arrays.copyOfRange(data, 4096, 4096 + actual.length));
+
+      byte[] tail = new byte[512];
+      assertThat(in.readTail(tail, 0, tail.length)).isEqualTo(tail.length);
+      assertThat(tail).isEqualTo(Arrays.copyOfRange(data, data.length - 512, data.length));
+
+      // positional reads do not change the position of the stream
+      assertThat(in.getPos()).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void testVectoredRead() throws Exception {
+    BlobId blobId = BlobId.fromGsUtilUri("gs://bucket/path/to/vectored-read.dat");
+    byte[] data = randomData(1024 * 1024);
+
+    writeGCSData(blobId, data);
+
+    List<FileRange> ranges =
+        ImmutableList.of(
+            new FileRange(512 * 1024, 100),
+            new FileRange(0, 1024),
+            new FileRange(1000, 2048),
+            new FileRange(data.length - 10, 10));
+
+    try (GCSInputStream in =
+        new GCSInputStream(storage, blobId, gcpProperties, MetricsContext.nullMetrics())) {
+      List<CompletableFuture<ByteBuffer>> futures = in.readVectored(ranges);
+      assertThat(futures).hasSize(ranges.size());
+      for (int i = 0; i < ranges.size(); i += 1) {
+        FileRange range = ranges.get(i);
+        ByteBuffer buffer = futures.get(i).get();
+        byte[] actual = new byte[buffer.remaining()];
+        buffer.get(actual);
+        assertThat(actual)
+            .isEqualTo(Arrays.copyOfRange(data, (int) range.offset(), (int) range.end()));
+      }
+    }
+  }
+
   private byte[] randomData(int size) {
     byte[] data = new byte[size];
     random.nextBytes(data);
@@ -19,17 +19,31 @@
 package org.apache.iceberg.gcp.gcs;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobListOption;
+import com.google.cloud.storage.Storage.ComposeRequest;
 import com.google.cloud.storage.contrib.nio.testing.LocalStorageHelper;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.Random;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.iceberg.gcp.GCPProperties;
 import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Streams;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +70,50 @@ public class GCSOutputStreamTest {
             });
   }
 
+  @Test
+  public void testCompositeUpload() throws IOException {
+    Storage spyStorage = spy(storage);
+    // the local storage does not implement compose
+    doAnswer(
+            invocation -> {
+              ComposeRequest request = invocation.getArgument(0);
+              ByteArrayOutputStream out = new ByteArrayOutputStream();
+              for (ComposeRequest.SourceBlob source : request.getSourceBlobs()) {
+                out.write(
+                    spyStorage.readAllBytes(
+                        BlobId.of(request.getTarget().getBucket(), source.getName())));
+              }
+
+              return spyStorage.create(request.getTarget(), out.toByteArray());
+            })
+        .when(spyStorage)
+        .compose(any());
+
+    GCPProperties compositeProperties =
+        new GCPProperties(
+            ImmutableMap.of(
+                GCPProperties.GCS_COMPOSITE_UPLOAD_ENABLED, "true",
+                GCPProperties.GCS_COMPOSITE_UPLOAD_PART_SIZE, "1024",
+                GCPProperties.GCS_COMPOSITE_UPLOAD_MAX_BUFFERED_BYTES, "4096"));
+
+    // a single part is uploaded directly
+    BlobId small = randomBlobId();
+    writeAndVerify(spyStorage, small, randomData(1000), compositeProperties);
+    verify(spyStorage, never()).compose(any());
+
+    // parts are composed into the target, once for each write path
+    BlobId multipart = randomBlobId();
+    writeAndVerify(spyStorage, multipart, randomData(5 * 1024 + 123), compositeProperties);
+    verify(spyStorage, times(2)).compose(any());
+    assertThat(listObjects(spyStorage, multipart)).containsExactly(multipart.getName());
+
+    // more parts than a compose request accepts are composed in two rounds
+    BlobId manyParts = randomBlobId();
+    writeAndVerify(spyStorage, manyParts, randomData(40 * 1024), compositeProperties);
+    verify(spyStorage, times(2 + 2 * 3)).compose(any());
+    assertThat(listObjects(spyStorage, manyParts)).containsExactly(manyParts.getName());
+  }
+
   @Test
   public void testMultipleClose() throws IOException {
     GCSOutputStream stream =
@@ -65,8 +123,20 @@ public class GCSOutputStreamTest {
   }
 
   private void writeAndVerify(Storage client, BlobId uri, byte[] data, boolean arrayWrite) {
+    writeAndVerify(client, uri, data, arrayWrite, properties);
+  }
+
+  private void writeAndVerify(
+      Storage client, BlobId uri, byte[] data, GCPProperties gcpProperties) {
+    // Run tests for both byte and array write paths
+    writeAndVerify(client, uri, data, true, gcpProperties);
+    writeAndVerify(client, uri, data, false, gcpProperties);
+  }
+
+  private void writeAndVerify(
+      Storage client, BlobId uri, byte[] data, boolean arrayWrite, GCPProperties gcpProperties) {
     try (GCSOutputStream stream =
-        new GCSOutputStream(client, uri, properties, MetricsContext.nullMetrics())) {
+        new GCSOutputStream(client, uri, gcpProperties, MetricsContext.nullMetrics())) {
       if (arrayWrite) {
         stream.write(data);
         assertThat(stream.getPos()).isEqualTo(data.length);
@@ -88,6 +158,13 @@ public class GCSOutputStreamTest {
     return storage.get(blobId).getContent();
   }
 
+  private List<String> listObjects(Storage client, BlobId blobId) {
+    return Streams.stream(
+            client.list(blobId.getBucket(), BlobListOption.prefix(blobId.getName())).iterateAll())
+        .map(Blob::getName)
+        .collect(Collectors.toList());
+  }
+
   private byte[] randomData(int size) {
     byte[] result = new byte[size];
     random.nextBytes(result);
@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.parquet;
 
+import java.util.PrimitiveIterator;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.Dictionary;
 import org.apache.parquet.column.page.DataPage;
@@ -39,12 +40,25 @@ public abstract class BaseColumnIterator {
   }
 
   public void setPageSource(PageReader source) {
+    setPageSource(source, null);
+  }
+
+  /**
+   * Sets the pages of a row group to read.
+   *
+   * @param source a page reader for the column chunk
+   * @param rowIndexes indexes of the rows to read when only the pages that contain them were loaded
+   *     (see {@link org.apache.parquet.column.page.PageReadStore#getRowIndexes()}), or null to read
+   *     all rows
+   */
+  public void setPageSource(PageReader source, PrimitiveIterator.OfLong rowIndexes) {
     this.pageSource = source;
     this.triplesCount = source.getTotalValueCount();
     this.triplesRead = 0L;
     this.advanceNextPageCount = 0L;
     BasePageIterator pageIterator = pageIterator();
     pageIterator.reset();
+    pageIterator.setRowIndexes(rowIndexes);
     dictionary = ParquetUtil.readDictionary(desc, pageSource);
     pageIterator.setDictionary(dictionary);
     advance();
@@ -53,7 +67,7 @@ public abstract class BaseColumnIterator {
   protected abstract BasePageIterator pageIterator();
 
   protected void advance() {
-    if (triplesRead >= advanceNextPageCount) {
+    if (triplesRead + pageIterator().triplesSkipped >= advanceNextPageCount) {
       BasePageIterator pageIterator = pageIterator();
       while (!pageIterator.hasNext()) {
         DataPage page = pageSource.readPage();
@@ -68,6 +82,7 @@ public abstract class BaseColumnIterator {
   }
 
   public boolean hasNext() {
-    return triplesRead < triplesCount;
+    // triples of rows that are not selected are skipped by the page iterator
+    return triplesRead + pageIterator().triplesSkipped < triplesCount;
   }
 }
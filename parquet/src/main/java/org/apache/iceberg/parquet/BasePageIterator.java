@@ -19,6 +19,7 @@
 package org.apache.iceberg.parquet;
 
 import java.io.IOException;
+import java.util.PrimitiveIterator;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.parquet.bytes.ByteBufferInputStream;
 import org.apache.parquet.bytes.BytesInput;
@@ -58,6 +59,14 @@ public abstract class BasePageIterator {
   protected IntIterator repetitionLevels = null;
   protected ValuesReader values = null;
 
+  // row synchronization, used when only the pages that contain the rows to read were loaded
+  protected long currentRowIndex = -1L;
+  protected long triplesSkipped = 0L;
+  private PrimitiveIterator.OfLong rowIndexes = null;
+  private long nextSelectedRowIndex = -1L;
+  private long selectedRowsEnd = -1L;
+  private long pendingRowIndex = -1L;
+
   protected BasePageIterator(ColumnDescriptor descriptor, String writerVersion) {
     this.desc = descriptor;
     this.writerVersion = writerVersion;
@@ -69,6 +78,81 @@ public abstract class BasePageIterator {
     this.triplesRead = 0;
     this.repetitionLevels = null;
     this.hasNext = false;
+    this.currentRowIndex = -1L;
+    this.triplesSkipped = 0L;
+    this.rowIndexes = null;
+    this.nextSelectedRowIndex = -1L;
+    this.selectedRowsEnd = -1L;
+    this.pendingRowIndex = -1L;
+  }
+
+  /**
+   * Sets the indexes of the rows to read when the pages of a row group were filtered using the page
+   * index. Rows that are not selected are skipped; pages must then report their first row index.
+   *
+   * @param indexes an iterator of row indexes within the row group, or null to read all rows
+   */
+  public void setRowIndexes(PrimitiveIterator.OfLong indexes) {
+    this.rowIndexes = indexes;
+  }
+
+  protected boolean skipsRows() {
+    return rowIndexes != null;
+  }
+
+  /**
+   * Returns the number of rows to skip, starting at the given row, to reach the next selected row.
+   *
+   * @param rowIndex index of a row in the row group; must not be lower than a previous call
+   * @return the number of unselected rows starting at rowIndex
+   */
+  protected long rowsToSkip(long rowIndex) {
+    while (rowIndex >= selectedRowsEnd) {
+      nextSelectedRange();
+    }
+
+    return Math.max(0L, nextSelectedRowIndex - rowIndex);
+  }
+
+  /**
+   * Returns the number of consecutive selected rows starting at the given row.
+   *
+   * @param rowIndex index of a selected row in the row group
+   * @return the number of selected rows starting at rowIndex
+   */
+  protected long selectedRows(long rowIndex) {
+    Preconditions.checkState(
+        rowsToSkip(rowIndex) == 0, "Row %s is not selected in col %s", rowIndex, desc);
+    return selectedRowsEnd - rowIndex;
+  }
+
+  private void nextSelectedRange() {
+    long first;
+    if (pendingRowIndex >= 0) {
+      first = pendingRowIndex;
+      this.pendingRowIndex = -1L;
+    } else if (rowIndexes.hasNext()) {
+      first = rowIndexes.nextLong();
+    } else {
+      // no more selected rows
+      this.nextSelectedRowIndex = Long.MAX_VALUE;
+      this.selectedRowsEnd = Long.MAX_VALUE;
+      return;
+    }
+
+    long end = first + 1;
+    while (rowIndexes.hasNext()) {
+      long next = rowIndexes.nextLong();
+      if (next == end) {
+        end += 1;
+      } else {
+        this.pendingRowIndex = next;
+        break;
+      }
+    }
+
+    this.nextSelectedRowIndex = first;
+    this.selectedRowsEnd = end;
   }
 
   protected abstract void initDataReader(
@@ -92,6 +176,14 @@ public abstract class BasePageIterator {
   public void setPage(DataPage page) {
     Preconditions.checkNotNull(page, "Cannot read from null page");
     this.page = page;
+    if (skipsRows()) {
+      Preconditions.checkState(
+          page.getFirstRowIndex().isPresent(),
+          "Cannot skip rows in col %s: missing first row index of page",
+          desc);
+      // the index of the last row before the page
+      this.currentRowIndex = page.getFirstRowIndex().get() - 1;
+    }
     this.page.accept(
         new DataPage.Visitor<ValuesReader>() {
           @Override
@@ -100,10 +100,18 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
     }
   }
 
+  private boolean skippingRow = false;
+
   private PageIterator(ColumnDescriptor desc, String writerVersion) {
     super(desc, writerVersion);
   }
 
+  @Override
+  protected void reset() {
+    super.reset();
+    this.skippingRow = false;
+  }
+
   @Override
   public void setPage(DataPage page) {
     super.setPage(page);
@@ -124,62 +132,80 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
 
   @Override
   public boolean nextBoolean() {
-    advance();
+    boolean value;
     try {
-      return values.readBoolean();
+      value = values.readBoolean();
     } catch (RuntimeException e) {
       throw handleRuntimeException(e);
     }
+
+    advance();
+    return value;
   }
 
   @Override
   public int nextInteger() {
-    advance();
+    int value;
     try {
-      return values.readInteger();
+      value = values.readInteger();
     } catch (RuntimeException e) {
       throw handleRuntimeException(e);
     }
+
+    advance();
+    return value;
   }
 
   @Override
   public long nextLong() {
-    advance();
+    long value;
     try {
-      return values.readLong();
+      value = values.readLong();
     } catch (RuntimeException e) {
       throw handleRuntimeException(e);
     }
+
+    advance();
+    return value;
   }
 
   @Override
   public float nextFloat() {
-    advance();
+    float value;
     try {
-      return values.readFloat();
+      value = values.readFloat();
     } catch (RuntimeException e) {
       throw handleRuntimeException(e);
     }
+
+    advance();
+    return value;
   }
 
   @Override
   public double nextDouble() {
-    advance();
+    double value;
     try {
-      return values.readDouble();
+      value = values.readDouble();
     } catch (RuntimeException e) {
       throw handleRuntimeException(e);
     }
+
+    advance();
+    return value;
   }
 
   @Override
   public Binary nextBinary() {
-    advance();
+    Binary value;
     try {
-      return values.readBytes();
+      value = values.readBytes();
     } catch (RuntimeException e) {
       throw handleRuntimeException(e);
     }
+
+    advance();
+    return value;
   }
 
   @Override
@@ -190,16 +216,40 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
   }
 
   private void advance() {
-    if (triplesRead < triplesCount) {
+    while (triplesRead < triplesCount) {
       this.currentDL = definitionLevels.nextInt();
       this.currentRL = repetitionLevels.nextInt();
       this.triplesRead += 1;
       this.hasNext = true;
-    } else {
-      this.currentDL = -1;
-      this.currentRL = -1;
-      this.hasNext = false;
+
+      if (!skipsRows()) {
+        return;
+      }
+
+      if (currentRL == 0) {
+        this.currentRowIndex += 1;
+        this.skippingRow = rowsToSkip(currentRowIndex) > 0;
+      }
+
+      if (!skippingRow) {
+        return;
+      }
+
+      // the row is not selected, consume the value of the triple and move on
+      if (currentDL == desc.getMaxDefinitionLevel()) {
+        try {
+          values.skip();
+        } catch (RuntimeException e) {
+          throw handleRuntimeException(e);
+        }
+      }
+
+      this.triplesSkipped += 1;
     }
+
+    this.currentDL = -1;
+    this.currentRL = -1;
+    this.hasNext = false;
   }
 
   RuntimeException handleRuntimeException(RuntimeException exception) {
@@ -0,0 +1,483 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.BoundReference;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.ExpressionVisitors;
+import org.apache.iceberg.expressions.ExpressionVisitors.BoundExpressionVisitor;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.Literal;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types.StructType;
+import org.apache.iceberg.util.BinaryUtil;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore.MissingOffsetIndexException;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+
+/**
+ * Evaluates an expression against the page index (column indexes and offset indexes) of a row group
+ * to find the rows that may match the expression.
+ *
+ * <p>The result is a set of {@link RowRanges} that covers every page, of any column referenced by
+ * the expression, whose min/max or null statistics do not rule out a match. Readers use the ranges
+ * to load only the pages that contain those rows, see {@code
+ * ParquetFileReader#readFilteredRowGroup(int, RowRanges)}.
+ */
+public class ParquetColumnIndexFilter {
+  private static final int IN_PREDICATE_LIMIT = 200;
+
+  private final Schema schema;
+  private final Expression expr;
+
+  public ParquetColumnIndexFilter(Schema schema, Expression unbound) {
+    this(schema, unbound, true);
+  }
+
+  public ParquetColumnIndexFilter(Schema schema, Expression unbound, boolean caseSensitive) {
+    this.schema = schema;
+    StructType struct = schema.asStruct();
+    this.expr = Binder.bind(struct, Expressions.rewriteNot(unbound), caseSensitive);
+  }
+
+  /**
+   * Calculates the row ranges of a row group that may contain records that match the expression.
+   *
+   * @param fileSchema schema for the Parquet file
+   * @param columnIndexStore column and offset indexes of the row group
+   * @param rowCount number of rows in the row group
+   * @return ranges of rows that may match the expression; all rows if the page index cannot be used
+   */
+  public RowRanges calculateRowRanges(
+      MessageType fileSchema, ColumnIndexStore columnIndexStore, long rowCount) {
+    return new ColumnIndexEvalVisitor(fileSchema, columnIndexStore, rowCount).eval();
+  }
+
+  /** Tests whether a page of a column may contain values that match a predicate. */
+  private interface PageFilter {
+    boolean mightMatch(ColumnIndex columnIndex, int pageIndex);
+  }
+
+  private class ColumnIndexEvalVisitor extends BoundExpressionVisitor<RowRanges> {
+    private final ColumnIndexStore columnIndexStore;
+    private final long rowCount;
+    private final Map<Integer, ColumnDescriptor> columns = Maps.newHashMap();
+    private final Map<Integer, Function<Object, Object>> conversions = Maps.newHashMap();
+
+    private ColumnIndexEvalVisitor(
+        MessageType fileSchema, ColumnIndexStore columnIndexStore, long rowCount) {
+      this.columnIndexStore = columnIndexStore;
+      this.rowCount = rowCount;
+
+      for (ColumnDescriptor desc : fileSchema.getColumns()) {
+        PrimitiveType colType = desc.getPrimitiveType();
+        if (colType.getId() != null) {
+          int id = colType.getId().intValue();
+          Type icebergType = schema.findType(id);
+          columns.put(id, desc);
+          conversions.put(id, ParquetConversions.converterFromParquet(colType, icebergType));
+        }
+      }
+    }
+
+    private RowRanges eval() {
+      if (rowCount <= 0) {
+        return RowRanges.EMPTY;
+      }
+
+      return ExpressionVisitors.visit(expr, this);
+    }
+
+    private RowRanges allRows() {
+      return RowRanges.createSingle(rowCount);
+    }
+
+    @Override
+    public RowRanges alwaysTrue() {
+      return allRows(); // all rows match
+    }
+
+    @Override
+    public RowRanges alwaysFalse() {
+      return RowRanges.EMPTY; // all rows fail
+    }
+
+    @Override
+    public RowRanges not(RowRanges result) {
+      // the expression is rewritten without NOT, and the complement of the pages that may match
+      // is not the set of pages that cannot match
+      return allRows();
+    }
+
+    @Override
+    public RowRanges and(RowRanges leftResult, RowRanges rightResult) {
+      return RowRanges.intersection(leftResult, rightResult);
+    }
+
+    @Override
+    public RowRanges or(RowRanges leftResult, RowRanges rightResult) {
+      return RowRanges.union(leftResult, rightResult);
+    }
+
+    @Override
+    public <T> RowRanges isNull(BoundReference<T> ref) {
+      // no need to check whether the field is required because binding evaluates that case
+      // if the column is not present, it is all nulls
+      return filterPages(ref.fieldId(), allRows(), ParquetColumnIndexFilter::mayContainNull);
+    }
+
+    @Override
+    public <T> RowRanges notNull(BoundReference<T> ref) {
+      int id = ref.fieldId();
+
+      // When filtering nested types notNull() is implicit filter passed even though complex
+      // filters aren't pushed down in Parquet. Leave all nested column type filters to be
+      // evaluated post scan.
+      if (schema.findType(id) instanceof Type.NestedType) {
+        return allRows();
+      }
+
+      return filterPages(id, RowRanges.EMPTY, (index, page) -> !isNullPage(index, page));
+    }
+
+    @Override
+    public <T> RowRanges isNaN(BoundReference<T> ref) {
+      // NaN values are not tracked by the page index, but all-null pages cannot contain NaN
+      return filterPages(ref.fieldId(), RowRanges.EMPTY, (index, page) -> !isNullPage(index, page));
+    }
+
+    @Override
+    public <T> RowRanges notNaN(BoundReference<T> ref) {
+      return allRows();
+    }
+
+    @Override
+    public <T> RowRanges lt(BoundReference<T> ref, Literal<T> lit) {
+      int id = ref.fieldId();
+      return filterPages(
+          id,
+          RowRanges.EMPTY,
+          (index, page) -> {
+            if (isNullPage(index, page)) {
+              return false;
+            }
+
+            T lower = min(index, page, id);
+            return lit.comparator().compare(lower, lit.value()) < 0;
+          });
+    }
+
+    @Override
+    public <T> RowRanges ltEq(BoundReference<T> ref, Literal<T> lit) {
+      int id = ref.fieldId();
+      return filterPages(
+          id,
+          RowRanges.EMPTY,
+          (index, page) -> {
+            if (isNullPage(index, page)) {
+              return false;
+            }
+
+            T lower = min(index, page, id);
+            return lit.comparator().compare(lower, lit.value()) <= 0;
+          });
+    }
+
+    @Override
+    public <T> RowRanges gt(BoundReference<T> ref, Literal<T> lit) {
+      int id = ref.fieldId();
+      return filterPages(
+          id,
+          RowRanges.EMPTY,
+          (index, page) -> {
+            if (isNullPage(index, page)) {
+              return false;
+            }
+
+            T upper = max(index, page, id);
+            return lit.comparator().compare(upper, lit.value()) > 0;
+          });
+    }
+
+    @Override
+    public <T> RowRanges gtEq(BoundReference<T> ref, Literal<T> lit) {
+      int id = ref.fieldId();
+      return filterPages(
+          id,
+          RowRanges.EMPTY,
+          (index, page) -> {
+            if (isNullPage(index, page)) {
+              return false;
+            }
+
+            T upper = max(index, page, id);
+            return lit.comparator().compare(upper, lit.value()) >= 0;
+          });
+    }
+
+    @Override
+    public <T> RowRanges eq(BoundReference<T> ref, Literal<T> lit) {
+      int id = ref.fieldId();
+
+      // When filtering nested types notNull() is implicit filter passed even though complex
+      // filters aren't pushed down in Parquet. Leave all nested column type filters to be
+      // evaluated post scan.
+      if (schema.findType(id) instanceof Type.NestedType) {
+        return allRows();
+      }
+
+      return filterPages(
+          id,
+          RowRanges.EMPTY,
+          (index, page) -> {
+            if (isNullPage(index, page)) {
+              return false;
+            }
+
+            T lower = min(index, page, id);
+            if (lit.comparator().compare(lower, lit.value()) > 0) {
+              return false;
+            }
+
+            T upper = max(index, page, id);
+            return lit.comparator().compare(upper, lit.value()) >= 0;
+          });
+    }
+
+    @Override
+    public <T> RowRanges notEq(BoundReference<T> ref, Literal<T> lit) {
+      // because the bounds are not necessarily a min or max value, this cannot be answered using
+      // them. notEq(col, X) with (X, Y) doesn't guarantee that X is a value in col.
+      return allRows();
+    }
+
+    @Override
+    public <T> RowRanges in(BoundReference<T> ref, Set<T> literalSet) {
+      int id = ref.fieldId();
+
+      // When filtering nested types notNull() is implicit filter passed even though complex
+      // filters aren't pushed down in Parquet. Leave all nested column type filters to be
+      // evaluated post scan.
+      if (schema.findType(id) instanceof Type.NestedType) {
+        return allRows();
+      }
+
+      if (literalSet.size() > IN_PREDICATE_LIMIT) {
+        // skip evaluating the predicate if the number of values is too big
+        return allRows();
+      }
+
+      return filterPages(
+          id,
+          RowRanges.EMPTY,
+          (index, page) -> {
+            if (isNullPage(index, page)) {
+              return false;
+            }
+
+            T lower = min(index, page, id);
+            T upper = max(index, page, id);
+            for (T value : literalSet) {
+              if (ref.comparator().compare(lower, value) <= 0
+                  && ref.comparator().compare(upper, value) >= 0) {
+                return true;
+              }
+            }
+
+            return false;
+          });
+    }
+
+    @Override
+    public <T> RowRanges notIn(BoundReference<T> ref, Set<T> literalSet) {
+      // because the bounds are not necessarily a min or max value, this cannot be answered using
+      // them. notIn(col, {X, ...}) with (X, Y) doesn't guarantee that X is a value in col.
+      return allRows();
+    }
+
+    @Override
+    public <T> RowRanges startsWith(BoundReference<T> ref, Literal<T> lit) {
+      ByteBuffer prefixAsBytes = lit.toByteBuffer();
+      Comparator<ByteBuffer> comparator = Comparators.unsignedBytes();
+
+      return filterPages(
+          ref.fieldId(),
+          RowRanges.EMPTY,
+          (index, page) -> {
+            if (isNullPage(index, page)) {
+              return false;
+            }
+
+            ByteBuffer lower = index.getMinValues().get(page);
+            // truncate lower bound so that its length in bytes is not greater than the length of
+            // prefix
+            int lowerLength = Math.min(prefixAsBytes.remaining(), lower.remaining());
+            int lowerCmp =
+                comparator.compare(BinaryUtil.truncateBinary(lower, lowerLength), prefixAsBytes);
+            if (lowerCmp > 0) {
+              return false;
+            }
+
+            ByteBuffer upper = index.getMaxValues().get(page);
+            // truncate upper bound so that its length in bytes is not greater than the length of
+            // prefix
+            int upperLength = Math.min(prefixAsBytes.remaining(), upper.remaining());
+            int upperCmp =
+                comparator.compare(BinaryUtil.truncateBinary(upper, upperLength), prefixAsBytes);
+            return upperCmp >= 0;
+          });
+    }
+
+    @Override
+    public <T> RowRanges notStartsWith(BoundReference<T> ref, Literal<T> lit) {
+      ByteBuffer prefix = lit.toByteBuffer();
+      Comparator<ByteBuffer> comparator = Comparators.unsignedBytes();
+
+      // notStartsWith will match unless all values must start with the prefix. this happens when
+      // there are no nulls and the lower and upper bounds both start with the prefix.
+      return filterPages(
+          ref.fieldId(),
+          allRows(),
+          (index, page) -> {
+            if (mayContainNull(index, page)) {
+              return true;
+            }
+
+            ByteBuffer lower = index.getMinValues().get(page);
+            ByteBuffer upper = index.getMaxValues().get(page);
+            if (lower.remaining() < prefix.remaining() || upper.remaining() < prefix.remaining()) {
+              return true;
+            }
+
+            return comparator.compare(BinaryUtil.truncateBinary(lower, prefix.remaining()), prefix)
+                    != 0
+                || comparator.compare(BinaryUtil.truncateBinary(upper, prefix.remaining()), prefix)
+                    != 0;
+          });
+    }
+
+    /**
+     * Builds the row ranges for the pages of a column that may match a predicate.
+     *
+     * @param id field id of the column
+     * @param columnMissing the ranges to return if the column is not in the file (all nulls)
+     * @param filter a filter for the pages of the column
+     * @return the row ranges of the pages that may match
+     */
+    private RowRanges filterPages(int id, RowRanges columnMissing, PageFilter filter) {
+      ColumnDescriptor desc = columns.get(id);
+      if (desc == null) {
+        // the column is not present and is all nulls
+        return columnMissing;
+      }
+
+      if (desc.getMaxRepetitionLevel() > 0
+          || desc.getPrimitiveType().getPrimitiveTypeName()
+              == PrimitiveType.PrimitiveTypeName.INT96) {
+        // pages of repeated columns do not align with rows and INT96 values have no defined order
+        return allRows();
+      }
+
+      ColumnPath path = ColumnPath.get(desc.getPath());
+      ColumnIndex columnIndex = columnIndexStore.getColumnIndex(path);
+      if (columnIndex == null) {
+        return allRows();
+      }
+
+      OffsetIndex offsetIndex;
+      try {
+        offsetIndex = columnIndexStore.getOffsetIndex(path);
+      } catch (MissingOffsetIndexException e) {
+        return allRows();
+      }
+
+      int[] matchingPages =
+          IntStream.range(0, columnIndex.getNullPages().size())
+              .filter(page -> filter.mightMatch(columnIndex, page))
+              .toArray();
+
+      return RowRanges.create(rowCount, IntStream.of(matchingPages).iterator(), offsetIndex);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T min(ColumnIndex columnIndex, int pageIndex, int id) {
+      PrimitiveType type = columns.get(id).getPrimitiveType();
+      Object min = fromBytes(type, columnIndex.getMinValues().get(pageIndex));
+      return (T) conversions.get(id).apply(min);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T max(ColumnIndex columnIndex, int pageIndex, int id) {
+      PrimitiveType type = columns.get(id).getPrimitiveType();
+      Object max = fromBytes(type, columnIndex.getMaxValues().get(pageIndex));
+      return (T) conversions.get(id).apply(max);
+    }
+  }
+
+  private static boolean isNullPage(ColumnIndex columnIndex, int pageIndex) {
+    return columnIndex.getNullPages().get(pageIndex);
+  }
+
+  private static boolean mayContainNull(ColumnIndex columnIndex, int pageIndex) {
+    // null counts are optional in the column index
+    List<Long> nullCounts = columnIndex.getNullCounts();
+    return nullCounts == null || nullCounts.get(pageIndex) > 0;
+  }
+
+  /** Decodes a min or max value of the column index, which is stored using plain encoding. */
+  private static Object fromBytes(PrimitiveType type, ByteBuffer buffer) {
+    ByteBuffer bytes = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    switch (type.getPrimitiveTypeName()) {
+      case BOOLEAN:
+        return bytes.get(bytes.position()) != 0;
+      case INT32:
+        return bytes.getInt(bytes.position());
+      case INT64:
+        return bytes.getLong(bytes.position());
+      case FLOAT:
+        return bytes.getFloat(bytes.position());
+      case DOUBLE:
+        return bytes.getDouble(bytes.position());
+      case FIXED_LEN_BYTE_ARRAY:
+      case BINARY:
+        return Binary.fromConstantByteBuffer(bytes);
+      default:
+        throw new UnsupportedOperationException("Unsupported primitive type: " + type);
+    }
+  }
+}
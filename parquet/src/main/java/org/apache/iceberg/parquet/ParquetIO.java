@@ -21,6 +21,10 @@ package org.apache.iceberg.parquet;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
@@ -29,6 +33,9 @@ import org.apache.iceberg.hadoop.HadoopInputFile;
 import org.apache.iceberg.hadoop.HadoopOutputFile;
 import org.apache.iceberg.io.DelegatingInputStream;
 import org.apache.iceberg.io.DelegatingOutputStream;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.RangeReadable;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.parquet.hadoop.util.HadoopStreams;
 import org.apache.parquet.io.DelegatingPositionOutputStream;
 import org.apache.parquet.io.DelegatingSeekableInputStream;
@@ -101,8 +108,17 @@ class ParquetIO {
     return new ParquetOutputStreamAdapter(stream);
   }
 
-  private static class ParquetInputStreamAdapter extends DelegatingSeekableInputStream {
+  /**
+   * Adapts an Iceberg stream to Parquet.
+   *
+   * <p>If the stream is {@link RangeReadable}, byte ranges that will be read soon can be fetched
+   * with a single vectored read using {@link #prefetch(List)}. Later reads that are fully contained
+   * in a prefetched range are served from the fetched bytes.
+   */
+  static class ParquetInputStreamAdapter extends DelegatingSeekableInputStream {
     private final org.apache.iceberg.io.SeekableInputStream delegate;
+    private final List<FileRange> prefetchedRanges = Lists.newArrayList();
+    private final List<CompletableFuture<ByteBuffer>> prefetched = Lists.newArrayList();
 
     private ParquetInputStreamAdapter(org.apache.iceberg.io.SeekableInputStream delegate) {
       super(delegate);
@@ -118,6 +134,96 @@ class ParquetIO {
     public void seek(long newPos) throws IOException {
       delegate.seek(newPos);
     }
+
+    /**
+     * Fetches the given ranges in a vectored read, replacing any ranges that were fetched before.
+     *
+     * @param ranges ranges that will be read soon
+     * @return true if the ranges are fetched, false if the stream does not support range reads
+     */
+    boolean prefetch(List<FileRange> ranges) {
+      prefetchedRanges.clear();
+      prefetched.clear();
+
+      if (!(delegate instanceof RangeReadable)) {
+        return false;
+      }
+
+      prefetchedRanges.addAll(ranges);
+      prefetched.addAll(((RangeReadable) delegate).readVectored(ranges));
+      return true;
+    }
+
+    @Override
+    public void readFully(byte[] bytes) throws IOException {
+      readFully(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void readFully(byte[] bytes, int start, int len) throws IOException {
+      if (!readPrefetched(ByteBuffer.wrap(bytes, start, len))) {
+        super.readFully(bytes, start, len);
+      }
+    }
+
+    @Override
+    public void readFully(ByteBuffer buf) throws IOException {
+      if (!readPrefetched(buf)) {
+        super.readFully(buf);
+      }
+    }
+
+    private boolean readPrefetched(ByteBuffer buf) throws IOException {
+      if (prefetchedRanges.isEmpty()) {
+        return false;
+      }
+
+      long pos = delegate.getPos();
+      int length = buf.remaining();
+      for (int index = 0; index < prefetchedRanges.size(); index += 1) {
+        FileRange range = prefetchedRanges.get(index);
+        if (range.offset() <= pos && pos + length <= range.end()) {
+          ByteBuffer bytes = prefetchedBytes(index).duplicate();
+          int start = (int) (pos - range.offset());
+          bytes.position(bytes.position() + start);
+          bytes.limit(bytes.position() + length);
+          buf.put(bytes);
+          delegate.seek(pos + length);
+
+          if (pos + length == range.end()) {
+            // the range is consumed, release the fetched bytes
+            prefetchedRanges.remove(index);
+            prefetched.remove(index);
+          }
+
+          return true;
+        }
+      }
+
+      return false;
+    }
+
+    private ByteBuffer prefetchedBytes(int index) throws IOException {
+      try {
+        return prefetched.get(index).join();
+      } catch (CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof IOException) {
+          throw (IOException) cause;
+        } else if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+
+        throw new IOException("Failed to read range: " + prefetchedRanges.get(index), cause);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      prefetchedRanges.clear();
+      prefetched.clear();
+      super.close();
+    }
   }
 
   private static class ParquetOutputStreamAdapter extends DelegatingPositionOutputStream {
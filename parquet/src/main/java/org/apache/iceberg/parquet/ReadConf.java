@@ -40,6 +40,10 @@ import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
 import org.apache.parquet.schema.MessageType;
 
 /**
@@ -56,6 +60,7 @@ class ReadConf<T> {
   private final VectorizedReader<T> vectorizedModel;
   private final List<BlockMetaData> rowGroups;
   private final boolean[] shouldSkip;
+  private final RowRanges[] rowRanges;
   private final long totalValues;
   private final boolean reuseContainers;
   private final Integer batchSize;
@@ -95,6 +100,7 @@ class ReadConf<T> {
 
     this.rowGroups = reader.getRowGroups();
     this.shouldSkip = new boolean[rowGroups.size()];
+    this.rowRanges = new RowRanges[rowGroups.size()];
     this.startRowPositions = new long[rowGroups.size()];
 
     // Fetch all row groups starting positions to compute the row offsets of the filtered row groups
@@ -103,10 +109,12 @@ class ReadConf<T> {
     ParquetMetricsRowGroupFilter statsFilter = null;
     ParquetDictionaryRowGroupFilter dictFilter = null;
     ParquetBloomRowGroupFilter bloomFilter = null;
+    ParquetColumnIndexFilter columnIndexFilter = null;
     if (filter != null) {
       statsFilter = new ParquetMetricsRowGroupFilter(expectedSchema, filter, caseSensitive);
       dictFilter = new ParquetDictionaryRowGroupFilter(expectedSchema, filter, caseSensitive);
       bloomFilter = new ParquetBloomRowGroupFilter(expectedSchema, filter, caseSensitive);
+      columnIndexFilter = newColumnIndexFilter(options, expectedSchema, filter, caseSensitive);
     }
 
     long computedTotalValues = 0L;
@@ -123,7 +131,7 @@ class ReadConf<T> {
                       typeWithIds, rowGroup, reader.getBloomFilterDataReader(rowGroup)));
       this.shouldSkip[i] = !shouldRead;
       if (shouldRead) {
-        computedTotalValues += rowGroup.getRowCount();
+        computedTotalValues += selectRows(i, columnIndexFilter, typeWithIds);
       }
     }
 
@@ -150,6 +158,7 @@ class ReadConf<T> {
     this.model = toCopy.model;
     this.rowGroups = toCopy.rowGroups;
     this.shouldSkip = toCopy.shouldSkip;
+    this.rowRanges = toCopy.rowRanges;
     this.totalValues = toCopy.totalValues;
     this.reuseContainers = toCopy.reuseContainers;
     this.batchSize = toCopy.batchSize;
@@ -181,6 +190,67 @@ class ReadConf<T> {
     return shouldSkip;
   }
 
+  /**
+   * Returns the ranges of rows to read for each row group, or null for a row group if all of its
+   * rows are read.
+   */
+  RowRanges[] rowRanges() {
+    return rowRanges;
+  }
+
+  private static ParquetColumnIndexFilter newColumnIndexFilter(
+      ParquetReadOptions options, Schema expectedSchema, Expression filter, boolean caseSensitive) {
+    if (options == null || options.useColumnIndexFilter()) {
+      return new ParquetColumnIndexFilter(expectedSchema, filter, caseSensitive);
+    }
+
+    return null;
+  }
+
+  /**
+   * Selects the rows of a row group that may match the filter using its column and offset indexes.
+   *
+   * <p>Marks the row group as skipped if no rows match and records the row ranges to read if only
+   * some of its pages match.
+   *
+   * @return the number of rows that will be read from the row group
+   */
+  private long selectRows(
+      int rowGroupIndex, ParquetColumnIndexFilter columnIndexFilter, MessageType typeWithIds) {
+    BlockMetaData rowGroup = rowGroups.get(rowGroupIndex);
+    if (columnIndexFilter == null) {
+      return rowGroup.getRowCount();
+    }
+
+    RowRanges ranges =
+        columnIndexFilter.calculateRowRanges(
+            typeWithIds, new LazyColumnIndexStore(reader, rowGroup), rowGroup.getRowCount());
+    if (ranges.rowCount() == 0) {
+      shouldSkip[rowGroupIndex] = true;
+    } else if (ranges.rowCount() < rowGroup.getRowCount() && hasOffsetIndexes(rowGroup)) {
+      // only the pages that contain the selected rows are read
+      rowRanges[rowGroupIndex] = ranges;
+    } else {
+      return rowGroup.getRowCount();
+    }
+
+    return ranges.rowCount();
+  }
+
+  private boolean hasOffsetIndexes(BlockMetaData rowGroup) {
+    // pages can only be filtered if the offset index is present for all projected columns
+    Set<ColumnPath> projectedColumns = projectedColumns();
+    return rowGroup.getColumns().stream()
+        .filter(column -> projectedColumns.contains(column.getPath()))
+        .allMatch(column -> column.getOffsetIndexReference() != null);
+  }
+
+  private Set<ColumnPath> projectedColumns() {
+    return projection.getColumns().stream()
+        .map(columnDescriptor -> ColumnPath.get(columnDescriptor.getPath()))
+        .collect(Collectors.toSet());
+  }
+
   private Map<Long, Long> generateOffsetToStartPos(Schema schema) {
     if (schema.findField(MetadataColumns.ROW_POSITION.fieldId()) == null) {
       return null;
@@ -235,17 +305,14 @@ class ReadConf<T> {
 
   private static ParquetFileReader newReader(InputFile file, ParquetReadOptions options) {
     try {
-      return ParquetFileReader.open(ParquetIO.file(file), options);
+      return new VectoredParquetFileReader(ParquetIO.file(file), options);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to open Parquet file: %s", file.location());
     }
   }
 
   private List<Map<ColumnPath, ColumnChunkMetaData>> getColumnChunkMetadataForRowGroups() {
-    Set<ColumnPath> projectedColumns =
-        projection.getColumns().stream()
-            .map(columnDescriptor -> ColumnPath.get(columnDescriptor.getPath()))
-            .collect(Collectors.toSet());
+    Set<ColumnPath> projectedColumns = projectedColumns();
     ImmutableList.Builder<Map<ColumnPath, ColumnChunkMetaData>> listBuilder =
         ImmutableList.builder();
     for (int i = 0; i < rowGroups.size(); i++) {
@@ -264,4 +331,63 @@ class ReadConf<T> {
     }
     return listBuilder.build();
   }
+
+  /**
+   * A {@link ColumnIndexStore} that reads the indexes of a row group's columns when they are first
+   * used, so that only the indexes of the columns referenced by a filter are read.
+   */
+  private static class LazyColumnIndexStore implements ColumnIndexStore {
+    private final ParquetFileReader reader;
+    private final Map<ColumnPath, ColumnChunkMetaData> columns = Maps.newHashMap();
+    private final Map<ColumnPath, ColumnIndex> columnIndexes = Maps.newHashMap();
+    private final Map<ColumnPath, OffsetIndex> offsetIndexes = Maps.newHashMap();
+
+    private LazyColumnIndexStore(ParquetFileReader reader, BlockMetaData rowGroup) {
+      this.reader = reader;
+      for (ColumnChunkMetaData column : rowGroup.getColumns()) {
+        columns.put(column.getPath(), column);
+      }
+    }
+
+    @Override
+    public ColumnIndex getColumnIndex(ColumnPath column) {
+      ColumnChunkMetaData chunk = columns.get(column);
+      if (chunk == null) {
+        return null;
+      }
+
+      if (!columnIndexes.containsKey(column)) {
+        try {
+          columnIndexes.put(column, reader.readColumnIndex(chunk));
+        } catch (IOException e) {
+          throw new UncheckedIOException("Failed to read column index for column: " + column, e);
+        }
+      }
+
+      return columnIndexes.get(column);
+    }
+
+    @Override
+    public OffsetIndex getOffsetIndex(ColumnPath column) {
+      ColumnChunkMetaData chunk = columns.get(column);
+      if (chunk == null) {
+        throw new MissingOffsetIndexException(column);
+      }
+
+      if (!offsetIndexes.containsKey(column)) {
+        try {
+          offsetIndexes.put(column, reader.readOffsetIndex(chunk));
+        } catch (IOException e) {
+          throw new UncheckedIOException("Failed to read offset index for column: " + column, e);
+        }
+      }
+
+      OffsetIndex offsetIndex = offsetIndexes.get(column);
+      if (offsetIndex == null) {
+        throw new MissingOffsetIndexException(column);
+      }
+
+      return offsetIndex;
+    }
+  }
 }
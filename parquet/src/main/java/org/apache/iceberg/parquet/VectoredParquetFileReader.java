@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.schema.MessageType;
+
+/**
+ * A {@link ParquetFileReader} that fetches all projected column chunks of a row group with one
+ * vectored read before the row group is read.
+ *
+ * <p>Parquet reads the column chunks of a row group one after another and only merges chunks that
+ * are next to each other in the file. For object stores that serve each range with a separate
+ * request, that is one round trip for every projected column. When the file is opened through
+ * {@link ParquetIO} and the stream supports range reads, this reader requests all chunks at once so
+ * that nearby chunks are merged and the requests are issued in parallel.
+ */
+class VectoredParquetFileReader extends ParquetFileReader {
+  private Set<ColumnPath> requestedColumns = null;
+  private int nextRowGroup = 0;
+
+  VectoredParquetFileReader(InputFile file, ParquetReadOptions options) throws IOException {
+    super(file, options);
+  }
+
+  @Override
+  public void setRequestedSchema(MessageType projection) {
+    super.setRequestedSchema(projection);
+    this.requestedColumns =
+        projection.getColumns().stream()
+            .map(column -> ColumnPath.get(column.getPath()))
+            .collect(Collectors.toSet());
+  }
+
+  @Override
+  public PageReadStore readNextRowGroup() throws IOException {
+    // Parquet moves to the next row group once per call, including the calls it makes to itself to
+    // skip empty row groups
+    int rowGroup = nextRowGroup;
+    this.nextRowGroup += 1;
+    prefetch(rowGroup);
+    return super.readNextRowGroup();
+  }
+
+  @Override
+  public boolean skipNextRowGroup() {
+    this.nextRowGroup += 1;
+    return super.skipNextRowGroup();
+  }
+
+  private void prefetch(int rowGroup) {
+    List<BlockMetaData> rowGroups = getRowGroups();
+    if (!(f instanceof ParquetIO.ParquetInputStreamAdapter) || rowGroup >= rowGroups.size()) {
+      return;
+    }
+
+    List<ColumnChunkMetaData> chunks =
+        rowGroups.get(rowGroup).getColumns().stream()
+            .filter(chunk -> requestedColumns == null || requestedColumns.contains(chunk.getPath()))
+            .sorted(Comparator.comparingLong(ColumnChunkMetaData::getStartingPos))
+            .collect(Collectors.toList());
+
+    // Parquet reads chunks that are next to each other with one read, so the prefetched ranges
+    // must cover consecutive chunks in the same way
+    List<FileRange> ranges = Lists.newArrayList();
+    long start = -1L;
+    long end = -1L;
+    for (ColumnChunkMetaData chunk : chunks) {
+      if (chunk.getStartingPos() != end || end + chunk.getTotalSize() - start > Integer.MAX_VALUE) {
+        if (start >= 0) {
+          ranges.add(new FileRange(start, (int) (end - start)));
+        }
+
+        start = chunk.getStartingPos();
+      }
+
+      end = chunk.getStartingPos() + chunk.getTotalSize();
+    }
+
+    if (start >= 0) {
+      ranges.add(new FileRange(start, (int) (end - start)));
+    }
+
+    // a single range would be read with one request anyway
+    if (ranges.size() > 1) {
+      ((ParquetIO.ParquetInputStreamAdapter) f).prefetch(ranges);
+    }
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import static org.apache.iceberg.parquet.ParquetWritingTestUtils.createTempFile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetReaders;
+import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.RangeReadable;
+import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestVectoredParquetFileReader {
+  private static final Schema SCHEMA =
+      new Schema(
+          Types.NestedField.required(1, "id", Types.LongType.get()),
+          Types.NestedField.optional(2, "data", Types.StringType.get()),
+          Types.NestedField.optional(3, "value", Types.DoubleType.get()));
+
+  private static final int NUM_ROWS = 1000;
+
+  @TempDir private Path temp;
+
+  private byte[] fileBytes = null;
+
+  @BeforeEach
+  public void writeTestFile() throws IOException {
+    File file = createTempFile(temp);
+    try (FileAppender<Record> appender =
+        Parquet.write(Files.localOutput(file))
+            .schema(SCHEMA)
+            .createWriterFunc(GenericParquetWriter::buildWriter)
+            .set(TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES, "4096")
+            .set(TableProperties.PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT, "100")
+            .set(TableProperties.PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT, "100")
+            .build()) {
+      for (int i = 0; i < NUM_ROWS; i += 1) {
+        Record record = GenericRecord.create(SCHEMA);
+        record.setField("id", (long) i);
+        record.setField("data", "data-" + i);
+        record.setField("value", i / 2.0);
+        appender.add(record);
+      }
+    }
+
+    this.fileBytes = java.nio.file.Files.readAllBytes(file.toPath());
+  }
+
+  @Test
+  public void testProjectedChunksArePrefetched() throws IOException {
+    Schema projection = SCHEMA.select("id", "value");
+    RangeReadableInputFile inputFile = new RangeReadableInputFile(fileBytes);
+
+    List<Record> rows = read(inputFile, projection);
+    assertThat(rows).hasSize(NUM_ROWS);
+    for (int i = 0; i < NUM_ROWS; i += 1) {
+      assertThat(rows.get(i).getField("id")).isEqualTo((long) i);
+      assertThat(rows.get(i).getField("value")).isEqualTo(i / 2.0);
+    }
+
+    int rowGroups;
+    try (org.apache.parquet.hadoop.ParquetFileReader reader =
+        org.apache.parquet.hadoop.ParquetFileReader.open(ParquetIO.file(inputFile))) {
+      rowGroups = reader.getRowGroups().size();
+    }
+
+    // the id and value chunks are not adjacent, so each row group is fetched with a vectored read
+    // and the stream fails if a prefetched range is read again
+    assertThat(rowGroups).isGreaterThan(1);
+    assertThat(inputFile.vectoredReads).isEqualTo(rowGroups);
+  }
+
+  @Test
+  public void testAdjacentChunksAreNotPrefetched() throws IOException {
+    Schema projection = SCHEMA.select("id", "data");
+    RangeReadableInputFile inputFile = new RangeReadableInputFile(fileBytes);
+
+    List<Record> rows = read(inputFile, projection);
+    assertThat(rows).hasSize(NUM_ROWS);
+    for (int i = 0; i < NUM_ROWS; i += 1) {
+      assertThat(rows.get(i).getField("id")).isEqualTo((long) i);
+      assertThat(rows.get(i).getField("data")).isEqualTo("data-" + i);
+    }
+
+    // adjacent chunks are already read with a single request
+    assertThat(inputFile.vectoredReads).isEqualTo(0);
+  }
+
+  private List<Record> read(InputFile inputFile, Schema projection) throws IOException {
+    try (CloseableIterable<Record> reader =
+        Parquet.read(inputFile)
+            .project(projection)
+            .createReaderFunc(
+                fileSchema -> GenericParquetReaders.buildReader(projection, fileSchema))
+            .build()) {
+      return Lists.newArrayList(reader);
+    }
+  }
+
+  private static class RangeReadableInputFile implements InputFile {
+    private final byte[] data;
+    private int vectoredReads = 0;
+
+    private RangeReadableInputFile(byte[] data) {
+      this.data = data;
+    }
+
+    @Override
+    public long getLength() {
+      return data.length;
+    }
+
+    @Override
+    public SeekableInputStream newStream() {
+      return new RangeReadableStream();
+    }
+
+    @Override
+    public String location() {
+      return "memory://test.parquet";
+    }
+
+    @Override
+    public boolean exists() {
+      return true;
+    }
+
+    private class RangeReadableStream extends SeekableInputStream implements RangeReadable {
+      private long pos = 0L;
+      private List<FileRange> fetched = Lists.newArrayList();
+
+      @Override
+      public long getPos() {
+        return pos;
+      }
+
+      @Override
+      public void seek(long newPos) {
+        this.pos = newPos;
+      }
+
+      @Override
+      public int read() {
+        if (pos >= data.length) {
+          return -1;
+        }
+
+        int value = data[(int) pos] & 0xFF;
+        this.pos += 1;
+        return value;
+      }
+
+      @Override
+      public int read(byte[] bytes, int off, int len) {
+        if (pos >= data.length) {
+          return -1;
+        }
+
+        int toRead = (int) Math.min(len, data.length - pos);
+        for (FileRange range : fetched) {
+          if (range.offset() <= pos && pos + toRead <= range.end()) {
+            throw new IllegalStateException("Prefetched range was read again: " + range);
+          }
+        }
+
+        System.arraycopy(data, (int) pos, bytes, off, toRead);
+        this.pos += toRead;
+        return toRead;
+      }
+
+      @Override
+      public void readFully(long position, byte[] buffer, int offset, int length) {
+        System.arraycopy(data, (int) position, buffer, offset, length);
+      }
+
+      @Override
+      public int readTail(byte[] buffer, int offset, int length) {
+        System.arraycopy(data, data.length - length, buffer, offset, length);
+        return length;
+      }
+
+      @Override
+      public List<CompletableFuture<ByteBuffer>> readVectored(List<FileRange> ranges) {
+        vectoredReads += 1;
+        this.fetched = ranges;
+        return RangeReadable.super.readVectored(ranges);
+      }
+    }
+  }
+}
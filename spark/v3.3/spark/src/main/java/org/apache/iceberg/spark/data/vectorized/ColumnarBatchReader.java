@@ -21,6 +21,7 @@ package org.apache.iceberg.spark.data.vectorized;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PrimitiveIterator;
 import org.apache.iceberg.arrow.vectorized.BaseBatchReader;
 import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader;
 import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader.DeletedVectorReader;
@@ -45,6 +46,8 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
   private final boolean hasIsDeletedColumn;
   private DeleteFilter<InternalRow> deletes = null;
   private long rowStartPosInBatch = 0;
+  private long rowGroupStart = 0;
+  private PrimitiveIterator.OfLong rowIndexes = null;
 
   public ColumnarBatchReader(List<VectorizedReader<?>> readers) {
     super(readers);
@@ -57,6 +60,8 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
       PageReadStore pageStore, Map<ColumnPath, ColumnChunkMetaData> metaData, long rowPosition) {
     super.setRowGroupInfo(pageStore, metaData, rowPosition);
     this.rowStartPosInBatch = rowPosition;
+    this.rowGroupStart = rowPosition;
+    this.rowIndexes = pageStore.getRowIndexes().orElse(null);
   }
 
   public void setDeleteFilter(DeleteFilter<InternalRow> deleteFilter) {
@@ -178,7 +183,12 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
       int originalRowId = 0;
       int currentRowId = 0;
       while (originalRowId < numRowsToRead) {
-        if (!deletedRowPositions.isDeleted(originalRowId + rowStartPosInBatch)) {
+        // rows are not contiguous when only some rows of the row group are read
+        long pos =
+            rowIndexes != null
+                ? rowGroupStart + rowIndexes.nextLong()
+                : rowStartPosInBatch + originalRowId;
+        if (!deletedRowPositions.isDeleted(pos)) {
           posDelRowIdMapping[currentRowId] = originalRowId;
           currentRowId++;
         } else {
@@ -18,25 +18,33 @@
  */
 package org.apache.iceberg.spark.source;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.iceberg.ContentFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.PositionDeletesScanTask;
 import org.apache.iceberg.ScanTaskGroup;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.Table;
+import org.apache.iceberg.deletes.Deletes;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.ExpressionUtil;
+import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.primitives.Ints;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.SnapshotUtil;
 import org.apache.spark.rdd.InputFileBlockHolder;
 import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.catalyst.expressions.GenericInternalRow;
 import org.apache.spark.sql.connector.read.PartitionReader;
+import org.apache.spark.unsafe.types.UTF8String;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -85,6 +93,10 @@ class PositionDeletesRowReader extends BaseRowReader<PositionDeletesScanTask>
 
     // select out constant fields when pushing down filter to row reader
     Map<Integer, ?> idToConstant = constantsMap(task, expectedSchema());
+    if (task.file().format() == FileFormat.PUFFIN) {
+      return newPuffinIterable(inputFile, idToConstant).iterator();
+    }
+
     Set<Integer> nonConstantFieldIds = nonConstantFieldIds(idToConstant);
     Expression residualWithoutConstants =
         ExpressionUtil.extractByIdInclusive(
@@ -101,6 +113,29 @@ class PositionDeletesRowReader extends BaseRowReader<PositionDeletesScanTask>
         .iterator();
   }
 
+  // Puffin delete files store deleted positions as bitmaps, without the deleted rows
+  private CloseableIterable<InternalRow> newPuffinIterable(
+      InputFile inputFile, Map<Integer, ?> idToConstant) {
+    List<Types.NestedField> fields = expectedSchema().columns();
+    GenericInternalRow row = new GenericInternalRow(fields.size());
+    return CloseableIterable.transform(
+        Deletes.readPositionDeletes(inputFile),
+        delete -> {
+          for (int pos = 0; pos < fields.size(); pos += 1) {
+            int id = fields.get(pos).fieldId();
+            if (id == MetadataColumns.DELETE_FILE_PATH.fieldId()) {
+              row.update(pos, UTF8String.fromString(delete.path().toString()));
+            } else if (id == MetadataColumns.DELETE_FILE_POS.fieldId()) {
+              row.update(pos, delete.pos());
+            } else {
+              row.update(pos, idToConstant.get(id));
+            }
+          }
+
+          return row;
+        });
+  }
+
   private Set<Integer> nonConstantFieldIds(Map<Integer, ?> idToConstant) {
     Set<Integer> fields = expectedSchema().idToName().keySet();
     return fields.stream()
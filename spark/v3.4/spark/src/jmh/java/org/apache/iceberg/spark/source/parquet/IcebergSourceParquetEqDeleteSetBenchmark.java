@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.spark.source.parquet;
+
+import java.io.IOException;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.spark.source.IcebergSourceDeleteBenchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * A benchmark that compares the heap and off-heap equality delete sets for the non-vectorized and
+ * vectorized reads in the Spark data source for Iceberg.
+ *
+ * <p>This class uses a dataset with a flat schema. To run this benchmark for spark-3.4: <code>
+ *   ./gradlew -DsparkVersions=3.4 :iceberg-spark:iceberg-spark-3.4_2.12:jmh
+ *       -PjmhIncludeRegex=IcebergSourceParquetEqDeleteSetBenchmark
+ *       -PjmhOutputPath=benchmark/iceberg-source-parquet-eq-delete-set-benchmark-result.txt
+ * </code>
+ */
+public class IcebergSourceParquetEqDeleteSetBenchmark extends IcebergSourceDeleteBenchmark {
+  @Param({"0.05", "0.25", "1"})
+  private double percentDeleteRow;
+
+  @Param({"heap", "off-heap"})
+  private String setType;
+
+  // -1 uses the default budget; 0 places all delete keys in the spill file
+  @Param({"-1", "0"})
+  private long memoryBudgetBytes;
+
+  @Override
+  protected void appendData() throws IOException {
+    table()
+        .updateProperties()
+        .set(TableProperties.EQUALITY_DELETE_SET_TYPE, setType)
+        .set(
+            TableProperties.EQUALITY_DELETE_MEMORY_BUDGET_BYTES,
+            String.valueOf(
+                memoryBudgetBytes < 0
+                    ? TableProperties.EQUALITY_DELETE_MEMORY_BUDGET_BYTES_DEFAULT
+                    : memoryBudgetBytes))
+        .commit();
+
+    for (int fileNum = 1; fileNum <= NUM_FILES; fileNum++) {
+      writeData(fileNum);
+
+      // add equality deletes
+      table().refresh();
+      writeEqDeletes(NUM_ROWS, percentDeleteRow);
+    }
+  }
+
+  @Override
+  protected FileFormat fileFormat() {
+    return FileFormat.PARQUET;
+  }
+}
@@ -49,6 +49,7 @@ import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMapping;
 import org.apache.iceberg.mapping.NameMappingParser;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.spark.SparkSchemaUtil;
 import org.apache.iceberg.types.Type;
@@ -80,6 +81,7 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
   private final ScanTaskGroup<TaskT> taskGroup;
   private final Iterator<TaskT> tasks;
   private final DeleteCounter counter;
+  private final List<DeleteFilter<?>> openDeleteFilters = Lists.newArrayList();
 
   private Map<String, InputFile> lazyInputFiles;
   private CloseableIterator<T> currentIterator;
@@ -136,11 +138,11 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
           this.current = currentIterator.next();
           return true;
         } else if (tasks.hasNext()) {
-          this.currentIterator.close();
+          closeCurrentIterator();
           this.currentTask = tasks.next();
           this.currentIterator = open(currentTask);
         } else {
-          this.currentIterator.close();
+          closeCurrentIterator();
           return false;
         }
       }
@@ -160,12 +162,22 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
     return current;
   }
 
+  private void closeCurrentIterator() throws IOException {
+    try {
+      currentIterator.close();
+    } finally {
+      // release the memory of the delete filters that were used by the closed iterator
+      openDeleteFilters.forEach(DeleteFilter::close);
+      openDeleteFilters.clear();
+    }
+  }
+
   @Override
   public void close() throws IOException {
     InputFileBlockHolder.unset();
 
     // close the current iterator
-    this.currentIterator.close();
+    closeCurrentIterator();
 
     // exhaust the task iterator
     while (tasks.hasNext()) {
@@ -258,8 +270,9 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
     private final InternalRowWrapper asStructLike;
 
     SparkDeleteFilter(String filePath, List<DeleteFile> deletes, DeleteCounter counter) {
-      super(filePath, deletes, tableSchema, expectedSchema, counter);
+      super(filePath, deletes, tableSchema, expectedSchema, counter, table.properties());
       this.asStructLike = new InternalRowWrapper(SparkSchemaUtil.convert(requiredSchema()));
+      openDeleteFilters.add(this);
     }
 
     @Override